@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Exception thrown when a statement was rejected by a client-side concurrency limiter because the concurrency limit
+ * and the queue were exhausted.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see org.springframework.data.cassandra.core.cql.ConcurrencyLimiter
+ */
+public class CassandraConcurrencyLimitExceededException extends TransientDataAccessResourceException {
+
+	/**
+	 * Constructor for {@link CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param message the detail message.
+	 */
+	public CassandraConcurrencyLimitExceededException(String message) {
+		super(message);
+	}
+
+	/**
+	 * Constructor for {@link CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param message the detail message.
+	 * @param cause the root cause.
+	 */
+	public CassandraConcurrencyLimitExceededException(String message, @Nullable Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.data.cassandra.core.StatementFactory;
+import org.springframework.data.cassandra.core.UpdateOptions;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.query.CassandraQueryMethod;
+import org.springframework.data.cassandra.repository.query.StringBasedQuery;
+import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.util.ReflectionUtils;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.querybuilder.condition.Condition;
+import com.datastax.oss.driver.api.querybuilder.delete.Delete;
+import com.datastax.oss.driver.api.querybuilder.insert.Insert;
+import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
+import com.datastax.oss.driver.api.querybuilder.update.Update;
+
+/**
+ * Warm-up of prepared statements during application startup. Prepares the statements that {@link CassandraTemplate}
+ * and repositories issue for mapped table entities so that the first request of each operation does not pay for a
+ * prepare round trip. Statements are derived from the {@link CassandraMappingContext}: insert, update, delete-by-id,
+ * select-by-id and exists-by-id statements are created through the template's {@link StatementFactory} and
+ * {@link org.springframework.data.cassandra.repository.Query string-based repository queries} are collected from
+ * repositories declared in the application context. Derived repository queries are not warmed up because their CQL
+ * depends on the actual method arguments.
+ * <p>
+ * The warm-up runs once all singletons are instantiated, that is after {@link SchemaAction schema actions} have been
+ * applied by {@link SessionFactoryFactoryBean}. All statements are prepared concurrently and application context
+ * startup is blocked until the warm-up completes or the {@link #setTimeout(Duration) timeout} expires so that an
+ * application does not report readiness before its statements are prepared. Failed statements and an expired timeout
+ * are logged and do not fail application startup.
+ * <p>
+ * Statements are prepared through {@link CassandraTemplate#prepareAsync(SimpleStatement)}, that is the same way the
+ * template prepares statements before executing them, so that subsequent executions are served from the driver's
+ * prepared statement cache. The warm-up is effective for templates that
+ * {@link CassandraTemplate#setUsePreparedStatements(boolean) use prepared statements} and is skipped otherwise.
+ * Insert and update statements match entities that are written with all of their properties set using default
+ * {@link InsertOptions} and {@link UpdateOptions}. Inserts are not warmed up for entities with properties that cannot
+ * be populated with a placeholder value as their CQL depends on the properties that are set.
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * PreparedStatementWarmup preparedStatementWarmup(CassandraTemplate template) {
+ *
+ * 	PreparedStatementWarmup warmup = new PreparedStatementWarmup(template);
+ * 	warmup.setTimeout(Duration.ofSeconds(10));
+ * 	return warmup;
+ * }
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class PreparedStatementWarmup implements SmartInitializingSingleton, BeanFactoryAware {
+
+	private static final Log logger = LogFactory.getLog(PreparedStatementWarmup.class);
+
+	private final CassandraTemplate template;
+
+	private final Set<String> statements = new LinkedHashSet<>();
+
+	private @Nullable BeanFactory beanFactory;
+
+	private Duration timeout = Duration.ofSeconds(30);
+
+	private boolean includeRepositoryQueries = true;
+
+	/**
+	 * Create a new {@link PreparedStatementWarmup} for the given {@link CassandraTemplate}.
+	 *
+	 * @param template must not be {@literal null}.
+	 */
+	public PreparedStatementWarmup(CassandraTemplate template) {
+
+		Assert.notNull(template, "CassandraTemplate must not be null");
+
+		this.template = template;
+	}
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Set the maximum time to wait for the warm-up to complete. Defaults to 30 seconds.
+	 *
+	 * @param timeout must not be {@literal null} or negative.
+	 */
+	public void setTimeout(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null");
+		Assert.isTrue(!timeout.isNegative(), "Timeout must not be negative");
+
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return the maximum time to wait for the warm-up to complete.
+	 */
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Configure whether to prepare string-based queries declared on repositories. Enabled by default.
+	 *
+	 * @param includeRepositoryQueries {@literal true} to prepare repository queries.
+	 */
+	public void setIncludeRepositoryQueries(boolean includeRepositoryQueries) {
+		this.includeRepositoryQueries = includeRepositoryQueries;
+	}
+
+	/**
+	 * @return {@literal true} if string-based repository queries are prepared.
+	 */
+	public boolean isIncludeRepositoryQueries() {
+		return this.includeRepositoryQueries;
+	}
+
+	/**
+	 * Add a CQL statement to prepare in addition to statements derived from mapping metadata.
+	 *
+	 * @param cql must not be {@literal null} or empty.
+	 */
+	public void addStatement(String cql) {
+
+		Assert.hasText(cql, "CQL must not be empty");
+
+		this.statements.add(cql);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		warmUp();
+	}
+
+	/**
+	 * Prepare all statements and await completion considering the configured {@link #getTimeout() timeout}.
+	 *
+	 * @return the warm-up result.
+	 */
+	public Result warmUp() {
+
+		if (!this.template.isUsePreparedStatements()) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("CassandraTemplate does not use prepared statements; Skipping prepared statement warm-up");
+			}
+
+			return new Result(0, 0, 0, Duration.ZERO);
+		}
+
+		Map<String, SimpleStatement> statements = collectStatements();
+
+		long start = System.nanoTime();
+		AtomicInteger failed = new AtomicInteger();
+		List<CompletableFuture<?>> futures = new ArrayList<>(statements.size());
+
+		statements.forEach((cql, statement) -> futures.add(prepare(statement).handle((prepared, ex) -> {
+
+			if (ex != null) {
+
+				failed.incrementAndGet();
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Cannot prepare [%s]", cql), ex);
+				}
+			}
+
+			return prepared;
+		})));
+
+		boolean timedOut = false;
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(this.timeout.toNanos(),
+					TimeUnit.NANOSECONDS);
+		} catch (TimeoutException ex) {
+			timedOut = true;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			timedOut = true;
+		} catch (ExecutionException ex) {
+			// failures are counted per statement
+		}
+
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		int completed = (int) futures.stream().filter(CompletableFuture::isDone).count();
+		Result result = new Result(completed - failed.get(), failed.get(), statements.size() - completed, duration);
+
+		if (timedOut) {
+			logger.warn(String.format("Prepared statement warm-up timed out after %d ms: %s", duration.toMillis(), result));
+		} else if (logger.isInfoEnabled()) {
+			logger.info(String.format("Prepared statement warm-up completed in %d ms: %s", duration.toMillis(), result));
+		}
+
+		return result;
+	}
+
+	private CompletableFuture<PreparedStatement> prepare(SimpleStatement statement) {
+
+		try {
+			return this.template.prepareAsync(statement).toCompletableFuture();
+		} catch (RuntimeException ex) {
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	/**
+	 * Return the CQL statements to prepare.
+	 *
+	 * @return the CQL statements to prepare.
+	 */
+	public List<String> getStatements() {
+		return Collections.unmodifiableList(new ArrayList<>(collectStatements().keySet()));
+	}
+
+	/**
+	 * Collect the statements to prepare keyed by their CQL.
+	 */
+	private Map<String, SimpleStatement> collectStatements() {
+
+		Map<String, SimpleStatement> cql = new LinkedHashMap<>();
+
+		CassandraConverter converter = this.template.getConverter();
+		for (CassandraPersistentEntity<?> entity : converter.getMappingContext().getTableEntities()) {
+			collectEntityStatements(entity, cql);
+		}
+
+		if (this.includeRepositoryQueries && this.beanFactory instanceof ListableBeanFactory listableBeanFactory) {
+			collectRepositoryQueries(listableBeanFactory, cql);
+		}
+
+		for (String statement : this.statements) {
+			add(SimpleStatement.newInstance(statement), cql);
+		}
+
+		return cql;
+	}
+
+	private void collectEntityStatements(CassandraPersistentEntity<?> entity, Map<String, SimpleStatement> cql) {
+
+		StatementFactory statementFactory = this.template.getStatementFactory();
+		CassandraConverter converter = this.template.getConverter();
+
+		Object placeholder;
+		try {
+			placeholder = createPlaceholder(entity, converter, false);
+		} catch (RuntimeException ex) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Cannot create placeholder instance for [%s]; Skipping warm-up", entity.getName()),
+						ex);
+			}
+			return;
+		}
+
+		try {
+
+			StatementBuilder<RegularInsert> insert = createInsert(entity, statementFactory, converter);
+			StatementBuilder<Update> update = statementFactory
+					.update(placeholder, UpdateOptions.empty(), entity, entity.getTableName());
+			StatementBuilder<Delete> delete = statementFactory.deleteById(placeholder, entity, entity.getTableName());
+
+			if (entity.hasVersionProperty()) {
+
+				CassandraPersistentProperty versionProperty = entity.getRequiredVersionProperty();
+
+				if (insert != null) {
+					insert.apply(Insert::ifNotExists);
+				}
+				update.bind((statement, factory) -> statement
+						.if_(Condition.column(versionProperty.getRequiredColumnName()).isEqualTo(factory.create(0L))));
+				add(statementFactory.delete(placeholder, QueryOptions.empty(), converter, entity.getTableName())
+						.bind((statement, factory) -> statement
+								.if_(Condition.column(versionProperty.getRequiredColumnName()).isEqualTo(factory.create(0L))))
+						.build(), cql);
+			}
+
+			if (insert != null) {
+				add(insert.build(), cql);
+			}
+			add(update.build(), cql);
+			add(delete.build(), cql);
+			add(statementFactory.selectOneById(placeholder, entity, entity.getTableName()).build(), cql);
+			add(statementFactory.selectExists(placeholder, entity, entity.getTableName()).build(), cql);
+		} catch (RuntimeException ex) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Cannot create statements for [%s]; Skipping warm-up", entity.getName()), ex);
+			}
+		}
+	}
+
+	/**
+	 * Create the insert statement {@link CassandraTemplate} issues with default {@link InsertOptions} for an entity with
+	 * all of its properties set. Columns holding {@literal null} are omitted from such an insert, so the insert is only
+	 * created if all properties can be populated with a placeholder value.
+	 */
+	private static @Nullable StatementBuilder<RegularInsert> createInsert(CassandraPersistentEntity<?> entity,
+			StatementFactory statementFactory, CassandraConverter converter) {
+
+		Object placeholder = createPlaceholder(entity, converter, true);
+
+		Map<CqlIdentifier, @Nullable Object> columns = new LinkedHashMap<>();
+		converter.write(placeholder, columns, entity);
+
+		if (columns.containsValue(null)) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Cannot populate all properties of [%s]; Skipping insert warm-up",
+						entity.getName()));
+			}
+			return null;
+		}
+
+		return statementFactory.insert(placeholder, InsertOptions.empty(), entity, entity.getTableName());
+	}
+
+	private void collectRepositoryQueries(ListableBeanFactory beanFactory, Map<String, SimpleStatement> cql) {
+
+		Repositories repositories = new Repositories(beanFactory);
+		CassandraMappingContext mappingContext = this.template.getConverter().getMappingContext();
+		SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+		for (Class<?> domainType : repositories) {
+
+			RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+
+			for (Method method : information.getQueryMethods()) {
+
+				try {
+
+					CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, information, projectionFactory,
+							mappingContext);
+					String annotatedQuery = queryMethod.getAnnotatedQuery();
+
+					if (annotatedQuery != null) {
+						add(SimpleStatement.newInstance(new StringBasedQuery(annotatedQuery, queryMethod.getParameters(),
+								ValueExpressionParser.create()).getPostProcessedQuery()), cql);
+					}
+				} catch (RuntimeException ex) {
+
+					if (logger.isDebugEnabled()) {
+						logger.debug(String.format("Cannot inspect query method [%s]; Skipping warm-up", method), ex);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Create an instance of the given entity carrying placeholder values for its primary key so that statements can be
+	 * derived through {@link StatementFactory}. Non-key properties are left {@literal null} unless they are required for
+	 * instantiation or {@code populateAll} is set.
+	 */
+	private static Object createPlaceholder(CassandraPersistentEntity<?> entity, CassandraConverter converter,
+			boolean populateAll) {
+
+		CassandraMappingContext mappingContext = converter.getMappingContext();
+		ConversionService conversionService = converter.getConversionService();
+
+		Object instance = new EntityInstantiators().getInstantiatorFor(entity).createInstance(entity,
+				new PlaceholderParameterValueProvider(mappingContext, conversionService));
+
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+		for (CassandraPersistentProperty property : entity) {
+
+			boolean key = property.isIdProperty() || property.isPrimaryKeyColumn() || property.isCompositePrimaryKey();
+
+			if ((!key && !populateAll) || !property.isWritable() || accessor.getProperty(property) != null) {
+				continue;
+			}
+
+			Object value = property.isCompositePrimaryKey()
+					? createPlaceholder(mappingContext.getRequiredPersistentEntity(property), converter, populateAll)
+					: getPlaceholderValue(property.getType(), conversionService);
+
+			if (value != null) {
+				accessor.setProperty(property, value);
+			}
+		}
+
+		return accessor.getBean();
+	}
+
+	private static @Nullable Object getPlaceholderValue(Class<?> type, ConversionService conversionService) {
+
+		if (type.isPrimitive()) {
+			return ReflectionUtils.getPrimitiveDefault(type);
+		}
+
+		if (String.class.equals(type)) {
+			return "";
+		}
+
+		if (UUID.class.equals(type)) {
+			return new UUID(0, 0);
+		}
+
+		if (Boolean.class.equals(type)) {
+			return Boolean.FALSE;
+		}
+
+		if (Number.class.isAssignableFrom(type) && conversionService.canConvert(Integer.class, type)) {
+			return conversionService.convert(0, type);
+		}
+
+		return null;
+	}
+
+	private static void add(SimpleStatement statement, Map<String, SimpleStatement> statements) {
+		statements.putIfAbsent(statement.getQuery(), statement);
+	}
+
+	/**
+	 * {@link ParameterValueProvider} providing placeholder values for constructor parameters.
+	 */
+	private record PlaceholderParameterValueProvider(CassandraMappingContext mappingContext,
+			ConversionService conversionService) implements ParameterValueProvider<CassandraPersistentProperty> {
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> @Nullable T getParameterValue(Parameter<T, CassandraPersistentProperty> parameter) {
+
+			Class<T> type = parameter.getType().getType();
+			CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(type);
+
+			if (entity != null && entity.isCompositePrimaryKey()) {
+				return (T) new EntityInstantiators().getInstantiatorFor(entity).createInstance(entity, this);
+			}
+
+			return (T) getPlaceholderValue(type, conversionService);
+		}
+	}
+
+	/**
+	 * Result of a prepared statement warm-up.
+	 *
+	 * @param prepared number of successfully prepared statements.
+	 * @param failed number of statements that failed to prepare.
+	 * @param pending number of statements that did not complete within the timeout.
+	 * @param duration duration of the warm-up.
+	 */
+	public record Result(int prepared, int failed, int pending, Duration duration) {
+
+		/**
+		 * @return {@literal true} if all statements were prepared successfully.
+		 */
+		public boolean isComplete() {
+			return failed == 0 && pending == 0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d prepared, %d failed, %d pending", prepared, failed, pending);
+		}
+	}
+}
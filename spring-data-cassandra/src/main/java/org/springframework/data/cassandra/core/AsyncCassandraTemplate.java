@@ -179,6 +179,7 @@ public class AsyncCassandraTemplate
 		this.eventDelegate = new EntityLifecycleEventDelegate();
 		this.cqlOperations = asyncCqlTemplate;
 		this.statementFactory = new StatementFactory(converter);
+		this.statementFactory.setStatementOperations(asyncCqlTemplate.getStatementOperations());
 		this.entityOperations = new EntityOperations(converter);
 		this.queryOperations = new QueryOperations(converter, this.statementFactory, this.eventDelegate);
 	}
@@ -522,6 +523,7 @@ public class AsyncCassandraTemplate
 		AdaptibleEntity<T> source = entityOperations.forEntity(maybeCallBeforeConvert(entity, tableName),
 				getConverter().getConversionService());
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 
 		T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : source.getBean();
 
@@ -568,6 +570,7 @@ public class AsyncCassandraTemplate
 
 		AdaptibleEntity<T> source = entityOperations.forEntity(entity, getConverter().getConversionService());
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
 		T entityToUpdate = maybeCallBeforeConvert(entity, tableName);
@@ -615,6 +618,7 @@ public class AsyncCassandraTemplate
 
 		AdaptibleEntity<Object> source = entityOperations.forEntity(entity, getConverter().getConversionService());
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
 		return source.isVersionedEntity() ? doDeleteVersioned(entity, options, source, tableName)
@@ -648,6 +652,7 @@ public class AsyncCassandraTemplate
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		ChunkedPropertyOperations.rejectChunkedProperties(entity);
 		CqlIdentifier tableName = entity.getTableName();
 
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
@@ -667,6 +672,7 @@ public class AsyncCassandraTemplate
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		ChunkedPropertyOperations.rejectChunkedProperties(entity);
 		CqlIdentifier tableName = entity.getTableName();
 
 		Truncate truncate = QueryBuilder.truncate(entity.getKeyspace(), tableName);
@@ -767,6 +773,19 @@ public class AsyncCassandraTemplate
 		});
 	}
 
+	/**
+	 * Obtain the {@link RowMapper} used by {@link #select(Statement, Class)} to map rows into entities of the given
+	 * {@code entityClass}.
+	 *
+	 * @param entityClass the entity type.
+	 * @param statement the statement to resolve the table name from.
+	 * @return the row mapper.
+	 * @since 5.2
+	 */
+	<T> RowMapper<T> getRowMapper(Class<T> entityClass, Statement<?> statement) {
+		return queryOperations.getRowMapper(entityClass, statement);
+	}
+
 	<T> CompletableFuture<List<T>> query(Statement<?> statement, RowMapper<T> rowMapper) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, log)) {
@@ -0,0 +1,752 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Write-behind buffer coalescing inserts, updates and deletes issued through {@link AsyncCassandraOperations}.
+ * Writes are buffered for the {@link #setFlushInterval(Duration) flush interval} and grouped by table, partition key
+ * and write options. Each group is sent as a single {@link BatchType#UNLOGGED unlogged} batch once the flush interval
+ * elapses or once the group reaches {@link #setMaxBatchSize(int) the maximum batch size}, whatever happens first.
+ * Because all statements of a batch target the same partition, the batch is applied by a single replica set without
+ * batchlog overhead.
+ * <p>
+ * Statements of a batch share the batch timestamp and groups are sent concurrently. To retain the order in which
+ * writes were issued, each buffered write is assigned a strictly increasing client-side timestamp
+ * ({@code USING TIMESTAMP}) when it is accepted. A later write to the same row therefore wins over earlier writes
+ * regardless of how writes are grouped and in which order batches are applied. Writes that specify a
+ * {@link WriteOptions#getTimestamp() timestamp} retain their timestamp.
+ * <p>
+ * Each write completes its own {@link CompletableFuture} with the result of the batch that contained the write.
+ * The number of buffered and in-flight writes is limited by {@link #setMaxPendingWrites(int)}. Writes exceeding the
+ * limit wait for capacity without blocking the calling thread and are rejected with
+ * {@link TransientDataAccessResourceException} if they cannot be accepted within {@link #setMaxWait(Duration)}.
+ * {@link #flush()} sends all buffered writes and {@link #destroy()} flushes the buffer and awaits completion of all
+ * pending writes before rejecting further writes.
+ * <p>
+ * Versioned entities, conditional writes ({@code IF NOT EXISTS}, {@code IF EXISTS}, {@code IF} conditions) are not
+ * buffered but passed on to {@link AsyncCassandraOperations} directly as their outcome depends on the individual
+ * statement. Similar to {@link CassandraBatchOperations}, buffered writes do not invoke entity callbacks nor emit
+ * lifecycle events.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see AsyncCassandraOperations
+ */
+public class AsyncWriteBehindBuffer implements DisposableBean {
+
+	private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+	private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+	private static final int DEFAULT_MAX_PENDING_WRITES = 10_000;
+
+	private final AsyncCassandraOperations operations;
+
+	private final StatementFactory statementFactory;
+
+	private final CassandraMappingContext mappingContext;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final boolean ownsScheduler;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong lastTimestamp = new AtomicLong();
+
+	private Map<GroupKey, List<PendingWrite<?>>> groups = new LinkedHashMap<>();
+
+	private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+	private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+	private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+	private int maxPendingWrites = DEFAULT_MAX_PENDING_WRITES;
+
+	private Duration maxWait = Duration.ZERO;
+
+	private @Nullable Semaphore permits;
+
+	private @Nullable ScheduledFuture<?> flushTask;
+
+	private volatile boolean closed;
+
+	/**
+	 * Create a new {@link AsyncWriteBehindBuffer} given {@link AsyncCassandraOperations} using a dedicated scheduler
+	 * thread to flush buffered writes.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public AsyncWriteBehindBuffer(AsyncCassandraOperations operations) {
+		this(operations, Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+			Thread thread = new Thread(runnable, "cassandra-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		}), true);
+	}
+
+	/**
+	 * Create a new {@link AsyncWriteBehindBuffer} given {@link AsyncCassandraOperations} and
+	 * {@link ScheduledExecutorService}. The scheduler is not shut down when this buffer is destroyed.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public AsyncWriteBehindBuffer(AsyncCassandraOperations operations, ScheduledExecutorService scheduler) {
+		this(operations, scheduler, false);
+	}
+
+	private AsyncWriteBehindBuffer(AsyncCassandraOperations operations, ScheduledExecutorService scheduler,
+			boolean ownsScheduler) {
+
+		Assert.notNull(operations, "AsyncCassandraOperations must not be null");
+		Assert.notNull(scheduler, "ScheduledExecutorService must not be null");
+
+		this.operations = operations;
+		this.statementFactory = operations instanceof AsyncCassandraTemplate template ? template.getStatementFactory()
+				: new StatementFactory(operations.getConverter());
+		this.mappingContext = operations.getConverter().getMappingContext();
+		this.scheduler = scheduler;
+		this.ownsScheduler = ownsScheduler;
+	}
+
+	/**
+	 * Set the interval after which buffered writes are flushed. Defaults to 10 milliseconds.
+	 *
+	 * @param flushInterval must not be {@literal null} and must be positive.
+	 */
+	public void setFlushInterval(Duration flushInterval) {
+
+		Assert.notNull(flushInterval, "Flush interval must not be null");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+
+		this.flushInterval = flushInterval;
+	}
+
+	/**
+	 * @return the interval after which buffered writes are flushed.
+	 */
+	public Duration getFlushInterval() {
+		return this.flushInterval;
+	}
+
+	/**
+	 * Set the maximum number of statements per batch. A partition group is flushed immediately once it reaches this
+	 * size. Defaults to 100.
+	 *
+	 * @param maxBatchSize must be greater zero.
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater zero");
+
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * @return the maximum number of statements per batch.
+	 */
+	public int getMaxBatchSize() {
+		return this.maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of buffered and in-flight writes. Defaults to 10000.
+	 *
+	 * @param maxPendingWrites must be greater zero.
+	 */
+	public void setMaxPendingWrites(int maxPendingWrites) {
+
+		Assert.isTrue(maxPendingWrites > 0, "Max pending writes must be greater zero");
+		Assert.state(this.permits == null, "Max pending writes cannot be changed after the first write");
+
+		this.maxPendingWrites = maxPendingWrites;
+	}
+
+	/**
+	 * @return the maximum number of buffered and in-flight writes.
+	 */
+	public int getMaxPendingWrites() {
+		return this.maxPendingWrites;
+	}
+
+	/**
+	 * Set the maximum time a write waits for capacity when {@link #setMaxPendingWrites(int) the buffer is full}. Waiting
+	 * does not block the calling thread: the write is queued and buffered once completed writes release capacity, or
+	 * its future is completed with {@link TransientDataAccessResourceException} once {@code maxWait} elapses. Writes can
+	 * therefore be issued safely from driver threads, such as in completion callbacks of other writes. Defaults to
+	 * {@link Duration#ZERO} rejecting writes immediately if the buffer is full.
+	 *
+	 * @param maxWait must not be {@literal null} or negative.
+	 */
+	public void setMaxWait(Duration maxWait) {
+
+		Assert.notNull(maxWait, "Max wait must not be null");
+		Assert.isTrue(!maxWait.isNegative(), "Max wait must not be negative");
+
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * @return the maximum time a write waits for capacity when the buffer is full.
+	 */
+	public Duration getMaxWait() {
+		return this.maxWait;
+	}
+
+	/**
+	 * Buffer an insert of the given entity.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @return the {@link EntityWriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public <T> CompletableFuture<EntityWriteResult<T>> insert(T entity) {
+		return insert(entity, InsertOptions.empty());
+	}
+
+	/**
+	 * Buffer an insert of the given entity applying {@link InsertOptions}.
+	 *
+	 * @param entity the entity to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link EntityWriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public <T> CompletableFuture<EntityWriteResult<T>> insert(T entity, InsertOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(options, "InsertOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+		if (persistentEntity.hasVersionProperty() || options.isIfNotExists()) {
+			return this.operations.insert(entity, options);
+		}
+
+		InsertOptions optionsToUse = options.getTimestamp() != null ? options
+				: options.mutate().timestamp(nextTimestamp()).build();
+		SimpleStatement statement = this.statementFactory
+				.insert(entity, optionsToUse, persistentEntity, persistentEntity.getTableName()).build();
+
+		return enqueue(entity, options, persistentEntity, statement);
+	}
+
+	/**
+	 * Buffer an update of the given entity.
+	 *
+	 * @param entity the entity to update, must not be {@literal null}.
+	 * @return the {@link EntityWriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public <T> CompletableFuture<EntityWriteResult<T>> update(T entity) {
+		return update(entity, UpdateOptions.empty());
+	}
+
+	/**
+	 * Buffer an update of the given entity applying {@link UpdateOptions}.
+	 *
+	 * @param entity the entity to update, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link EntityWriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public <T> CompletableFuture<EntityWriteResult<T>> update(T entity, UpdateOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(options, "UpdateOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+		if (persistentEntity.hasVersionProperty() || options.isIfExists() || options.getIfCondition() != null) {
+			return this.operations.update(entity, options);
+		}
+
+		UpdateOptions optionsToUse = options.getTimestamp() != null ? options
+				: options.mutate().timestamp(nextTimestamp()).build();
+		SimpleStatement statement = this.statementFactory
+				.update(entity, optionsToUse, persistentEntity, persistentEntity.getTableName()).build();
+
+		return enqueue(entity, options, persistentEntity, statement);
+	}
+
+	/**
+	 * Buffer a delete of the given entity.
+	 *
+	 * @param entity the entity to delete, must not be {@literal null}.
+	 * @return the {@link WriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public CompletableFuture<WriteResult> delete(Object entity) {
+		return delete(entity, DeleteOptions.empty());
+	}
+
+	/**
+	 * Buffer a delete of the given entity applying {@link DeleteOptions}.
+	 *
+	 * @param entity the entity to delete, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link WriteResult} for this operation.
+	 * @throws IllegalStateException if this buffer was destroyed.
+	 */
+	public CompletableFuture<WriteResult> delete(Object entity, DeleteOptions options) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(options, "DeleteOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+		if (persistentEntity.hasVersionProperty() || options.isIfExists() || options.getIfCondition() != null) {
+			return this.operations.delete(entity, options);
+		}
+
+		DeleteOptions optionsToUse = options.getTimestamp() != null ? options
+				: options.mutate().timestamp(nextTimestamp()).build();
+		SimpleStatement statement = this.statementFactory
+				.delete(entity, optionsToUse, this.operations.getConverter(), persistentEntity.getTableName()).build();
+
+		return enqueue(entity, options, persistentEntity, statement).thenApply(it -> it);
+	}
+
+	/**
+	 * Send all buffered writes.
+	 *
+	 * @return a {@link CompletableFuture} that completes once all flushed batches are completed.
+	 */
+	public CompletableFuture<Void> flush() {
+
+		Map<GroupKey, List<PendingWrite<?>>> toFlush;
+
+		this.lock.lock();
+		try {
+			if (this.groups.isEmpty()) {
+				return CompletableFuture.completedFuture(null);
+			}
+
+			toFlush = this.groups;
+			this.groups = new LinkedHashMap<>();
+		} finally {
+			this.lock.unlock();
+		}
+
+		List<CompletableFuture<?>> futures = new ArrayList<>(toFlush.size());
+		toFlush.forEach((key, writes) -> futures.add(execute(key, writes)));
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+	}
+
+	/**
+	 * Flush buffered writes and await completion of all pending writes. Further writes are rejected.
+	 */
+	@Override
+	public void destroy() {
+
+		List<Waiter> waiting;
+
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+
+			this.closed = true;
+
+			if (this.flushTask != null) {
+				this.flushTask.cancel(false);
+				this.flushTask = null;
+			}
+
+			waiting = new ArrayList<>(this.waiters);
+			this.waiters.clear();
+		} finally {
+			this.lock.unlock();
+		}
+
+		for (Waiter waiter : waiting) {
+			waiter.reject(new IllegalStateException("AsyncWriteBehindBuffer is destroyed"));
+		}
+
+		try {
+			flush();
+			CompletableFuture.allOf(this.inFlight.toArray(new CompletableFuture[0])).handle((v, ex) -> null).join();
+		} finally {
+			if (this.ownsScheduler) {
+				this.scheduler.shutdown();
+			}
+		}
+	}
+
+	private <T> CompletableFuture<EntityWriteResult<T>> enqueue(T entity, WriteOptions options,
+			CassandraPersistentEntity<?> persistentEntity, SimpleStatement statement) {
+
+		Assert.state(!this.closed, "AsyncWriteBehindBuffer is already destroyed");
+
+		GroupKey key = new GroupKey(persistentEntity.getTableName(), getPartitionKey(entity, persistentEntity), options);
+		PendingWrite<T> write = new PendingWrite<>(key, entity, statement, new CompletableFuture<>());
+
+		if (!hasWaiters() && getPermits().tryAcquire()) {
+
+			if (!buffer(write)) {
+				throw new IllegalStateException("AsyncWriteBehindBuffer is already destroyed");
+			}
+
+			return write.future();
+		}
+
+		if (this.maxWait.isZero()) {
+			return CompletableFuture.failedFuture(bufferFull());
+		}
+
+		await(write);
+
+		return write.future();
+	}
+
+	/**
+	 * Add a write that holds a permit to its group. Releases the permit if the buffer is destroyed.
+	 *
+	 * @return {@literal true} if the write was buffered; {@literal false} if the buffer is destroyed.
+	 */
+	private boolean buffer(PendingWrite<?> write) {
+
+		GroupKey key = write.key();
+		List<PendingWrite<?>> toExecute = null;
+
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				getPermits().release();
+				return false;
+			}
+
+			List<PendingWrite<?>> writes = this.groups.computeIfAbsent(key, it -> new ArrayList<>());
+			writes.add(write);
+
+			if (writes.size() >= this.maxBatchSize) {
+				toExecute = this.groups.remove(key);
+			}
+
+			if (this.flushTask == null) {
+				long intervalNanos = this.flushInterval.toNanos();
+				this.flushTask = this.scheduler.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos,
+						TimeUnit.NANOSECONDS);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+
+		if (toExecute != null) {
+			execute(key, toExecute);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Queue a write until a permit becomes available or {@link #getMaxWait() max wait} elapses.
+	 */
+	private void await(PendingWrite<?> write) {
+
+		Waiter waiter = new Waiter(write);
+
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				throw new IllegalStateException("AsyncWriteBehindBuffer is already destroyed");
+			}
+
+			this.waiters.add(waiter);
+		} finally {
+			this.lock.unlock();
+		}
+
+		try {
+			waiter.timeout = this.scheduler.schedule(() -> expire(waiter), this.maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException ex) {
+			expire(waiter);
+		}
+
+		// capacity may have been released before the waiter was queued
+		admitWaiters();
+	}
+
+	private void expire(Waiter waiter) {
+
+		boolean removed;
+
+		this.lock.lock();
+		try {
+			removed = this.waiters.remove(waiter);
+		} finally {
+			this.lock.unlock();
+		}
+
+		if (removed) {
+			waiter.reject(bufferFull());
+		}
+	}
+
+	/**
+	 * Buffer queued writes in the order they were queued while permits are available.
+	 */
+	private void admitWaiters() {
+
+		while (true) {
+
+			Waiter waiter;
+
+			this.lock.lock();
+			try {
+				waiter = this.waiters.peek();
+
+				if (waiter == null || !getPermits().tryAcquire()) {
+					return;
+				}
+
+				this.waiters.poll();
+			} finally {
+				this.lock.unlock();
+			}
+
+			waiter.cancelTimeout();
+
+			if (!buffer(waiter.write)) {
+				waiter.reject(new IllegalStateException("AsyncWriteBehindBuffer is destroyed"));
+			}
+		}
+	}
+
+	private boolean hasWaiters() {
+
+		this.lock.lock();
+		try {
+			return !this.waiters.isEmpty();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private TransientDataAccessResourceException bufferFull() {
+		return new TransientDataAccessResourceException(String.format(
+				"Write-behind buffer is full; %d writes are pending. Consider increasing max pending writes or max wait",
+				this.maxPendingWrites));
+	}
+
+	private CompletableFuture<?> execute(GroupKey key, List<PendingWrite<?>> writes) {
+
+		Statement<?> statement;
+
+		if (writes.size() == 1) {
+			statement = writes.get(0).statement();
+		} else {
+
+			List<BatchableStatement<?>> statements = new ArrayList<>(writes.size());
+			for (PendingWrite<?> write : writes) {
+				statements.add(write.statement());
+			}
+
+			statement = BatchStatement.newInstance(BatchType.UNLOGGED, statements);
+		}
+
+		CompletableFuture<AsyncResultSet> future;
+
+		try {
+			future = this.operations.execute(QueryOptionsUtil.addQueryOptions(statement, key.options()));
+		} catch (RuntimeException ex) {
+			future = CompletableFuture.failedFuture(ex);
+		}
+
+		this.inFlight.add(future);
+
+		return future.whenComplete((resultSet, throwable) -> {
+
+			this.inFlight.remove(future);
+			getPermits().release(writes.size());
+
+			for (PendingWrite<?> write : writes) {
+				if (throwable != null) {
+					write.future().completeExceptionally(throwable);
+				} else {
+					write.complete(resultSet);
+				}
+			}
+
+			admitWaiters();
+		});
+	}
+
+	/**
+	 * Obtain the next write timestamp in microseconds. Timestamps are derived from the current time and strictly
+	 * increasing, even if several writes are issued within the same microsecond.
+	 */
+	private long nextTimestamp() {
+
+		long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+		return this.lastTimestamp.updateAndGet(last -> Math.max(now, last + 1));
+	}
+
+	private Semaphore getPermits() {
+
+		Semaphore permits = this.permits;
+
+		if (permits == null) {
+
+			this.lock.lock();
+			try {
+				if (this.permits == null) {
+					this.permits = new Semaphore(this.maxPendingWrites);
+				}
+				permits = this.permits;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		return permits;
+	}
+
+	/**
+	 * Obtain the values of the partition key columns of {@code entity}. Clustering columns are not considered so that
+	 * writes to different rows of the same partition share a group.
+	 */
+	private List<Object> getPartitionKey(Object entity, CassandraPersistentEntity<?> persistentEntity) {
+
+		List<@Nullable Object> values = new ArrayList<>(2);
+		collectPartitionKey(persistentEntity, persistentEntity.getPropertyAccessor(entity), values);
+
+		// do not group writes if the partition cannot be determined
+		return values.isEmpty() ? List.of(new Object()) : Collections.unmodifiableList(values);
+	}
+
+	private void collectPartitionKey(CassandraPersistentEntity<?> persistentEntity,
+			PersistentPropertyAccessor<?> accessor, List<@Nullable Object> values) {
+
+		for (CassandraPersistentProperty property : persistentEntity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				Object value = accessor.getProperty(property);
+
+				if (value != null) {
+					CassandraPersistentEntity<?> keyEntity = this.mappingContext.getRequiredPersistentEntity(property);
+					collectPartitionKey(keyEntity, keyEntity.getPropertyAccessor(value), values);
+				}
+			} else if (property.isPartitionKeyColumn() || (property.isIdProperty() && !property.isPrimaryKeyColumn())) {
+				values.add(accessor.getProperty(property));
+			}
+		}
+	}
+
+	private CassandraPersistentEntity<?> getRequiredPersistentEntity(Class<?> entityType) {
+
+		CassandraPersistentEntity<?> persistentEntity = this.mappingContext
+				.getRequiredPersistentEntity(ClassUtils.getUserClass(entityType));
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
+
+		return persistentEntity;
+	}
+
+	/**
+	 * Statements are grouped by table, partition key and the statement-level options that apply to the batch. Options
+	 * do not contain the generated write timestamp as it is rendered into each statement.
+	 */
+	private record GroupKey(CqlIdentifier tableName, List<Object> partitionKey, WriteOptions options) {
+
+	}
+
+	/**
+	 * Write waiting for capacity.
+	 */
+	private static class Waiter {
+
+		final PendingWrite<?> write;
+
+		volatile @Nullable ScheduledFuture<?> timeout;
+
+		Waiter(PendingWrite<?> write) {
+			this.write = write;
+		}
+
+		void cancelTimeout() {
+
+			ScheduledFuture<?> timeout = this.timeout;
+
+			if (timeout != null) {
+				timeout.cancel(false);
+			}
+		}
+
+		void reject(Throwable cause) {
+
+			cancelTimeout();
+			this.write.future().completeExceptionally(cause);
+		}
+	}
+
+	private record PendingWrite<T>(GroupKey key, T entity, SimpleStatement statement,
+			CompletableFuture<EntityWriteResult<T>> future) {
+
+		void complete(AsyncResultSet resultSet) {
+			future.complete(new EntityWriteResult<>(Collections.singletonList(resultSet.getExecutionInfo()),
+					resultSet.wasApplied(), Collections.emptyList(), entity));
+		}
+	}
+}
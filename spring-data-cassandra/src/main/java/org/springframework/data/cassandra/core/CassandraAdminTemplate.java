@@ -131,6 +131,11 @@ public class CassandraAdminTemplate extends CassandraTemplate implements Cassand
 		}
 
 		getCqlOperations().execute(CqlGenerator.toCql(createTableSpecification));
+
+		for (CreateTableSpecification chunkTable : this.schemaFactory.getCreateChunkTableSpecificationsFor(entity,
+				tableName)) {
+			getCqlOperations().execute(CqlGenerator.toCql(chunkTable.ifNotExists(ifNotExists)));
+		}
 	}
 
 	@Override
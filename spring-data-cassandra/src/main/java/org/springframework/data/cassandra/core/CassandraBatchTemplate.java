@@ -15,8 +15,11 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
@@ -29,6 +32,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
@@ -57,6 +61,14 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final CassandraOperations operations;
 
+	private final List<Object> cachedEntities = new ArrayList<>();
+
+	private final List<Consumer<CassandraTemplate>> chunkWrites = new ArrayList<>();
+
+	private final List<Consumer<CassandraTemplate>> deferredChunkOperations = new ArrayList<>();
+
+	private final boolean nearCacheEnabled;
+
 	private final StatementFactory statementFactory;
 
 	private QueryOptions options = QueryOptions.empty();
@@ -78,6 +90,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		this.converter = operations.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
 		this.statementFactory = operations.getStatementFactory();
+		this.nearCacheEnabled = operations.getNearCache() != null;
 	}
 
 	/**
@@ -117,8 +130,25 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public WriteResult execute() {
 
 		if (this.executed.compareAndSet(false, true)) {
+
 			BatchStatement statement = QueryOptionsUtil.addQueryOptions(batch.build(), this.options);
-			return WriteResult.of(this.operations.getCqlOperations().queryForResultSet(statement));
+
+			try {
+
+				if (this.operations instanceof CassandraTemplate template) {
+					this.chunkWrites.forEach(operation -> operation.accept(template));
+				}
+
+				WriteResult result = WriteResult.of(this.operations.getCqlOperations().queryForResultSet(statement));
+
+				if (result.wasApplied() && this.operations instanceof CassandraTemplate template) {
+					this.deferredChunkOperations.forEach(operation -> operation.accept(template));
+				}
+
+				return result;
+			} finally {
+				invalidateCachedEntities();
+			}
 		}
 
 		throw new IllegalStateException("This Cassandra Batch was already executed");
@@ -215,6 +245,8 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
 			addStatement(insertQuery);
+			rememberCachedEntity(entity);
+			rememberChunkedEntity(entity, persistentEntity, false, CassandraTemplate.isConditional(options));
 		}
 
 		return this;
@@ -252,6 +284,8 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
 			addStatement(update);
+			rememberCachedEntity(entity);
+			rememberChunkedEntity(entity, persistentEntity, false, CassandraTemplate.isConditional(options));
 		}
 
 		return this;
@@ -289,11 +323,52 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 					.delete(entity, options, this.getConverter(), persistentEntity.getTableName()).build();
 
 			addStatement(delete);
+			rememberCachedEntity(entity);
+			rememberChunkedEntity(entity, persistentEntity, true, false);
 		}
 
 		return this;
 	}
 
+	private void rememberCachedEntity(Object entity) {
+
+		if (this.nearCacheEnabled) {
+			this.cachedEntities.add(entity);
+		}
+	}
+
+	/**
+	 * Remember entities declaring {@link org.springframework.data.cassandra.core.mapping.Chunked} properties. Chunks are
+	 * too large to be part of the batch. Chunks of unconditional writes are written before the batch so that the rows
+	 * never reference missing chunks, chunks of conditional writes and deletes are processed once the batch was applied.
+	 */
+	private void rememberChunkedEntity(Object entity, CassandraPersistentEntity<?> persistentEntity, boolean delete,
+			boolean conditional) {
+
+		if (!ChunkedPropertyOperations.hasChunkedProperties(persistentEntity)) {
+			return;
+		}
+
+		CqlIdentifier tableName = persistentEntity.getTableName();
+
+		if (delete) {
+			this.deferredChunkOperations.add(template -> template.maybeDeleteChunks(entity, persistentEntity, tableName));
+		} else if (conditional) {
+			this.deferredChunkOperations.add(template -> template.maybeWriteChunks(entity, tableName));
+		} else {
+			this.chunkWrites.add(template -> template.maybeWriteChunks(entity, tableName));
+		}
+	}
+
+	private void invalidateCachedEntities() {
+
+		if (this.operations instanceof CassandraTemplate template) {
+			this.cachedEntities.forEach(entity -> template.invalidate(entity, entity.getClass()));
+		}
+
+		this.cachedEntities.clear();
+	}
+
 	private void assertNotExecuted() {
 		Assert.state(!this.executed.get(), "This Cassandra Batch was already executed");
 	}
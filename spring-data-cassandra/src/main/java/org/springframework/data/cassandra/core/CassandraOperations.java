@@ -23,6 +23,9 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.cql.ColumnarResult;
+import org.springframework.data.cassandra.core.cql.ColumnarResultSetExtractor;
+import org.springframework.data.cassandra.core.cql.Columns;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
@@ -151,6 +154,22 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	ResultSet execute(Statement<?> statement) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query and read the specified {@link Columns} into a {@link ColumnarResult} without
+	 * converting rows to entities. Column values are decoded directly into column vectors which makes this method
+	 * suitable to read large results for aggregation.
+	 *
+	 * @param statement the CQL statement, must not be {@literal null}.
+	 * @param columns the columns to read, must not be {@literal null} or empty.
+	 * @return the {@link ColumnarResult}.
+	 * @throws DataAccessException if there is any problem executing the query or a column cannot be read.
+	 * @since 5.2
+	 * @see CqlOperations#queryForColumns(Statement, Columns)
+	 */
+	default ColumnarResult queryForColumns(Statement<?> statement, Columns columns) throws DataAccessException {
+		return getCqlOperations().query(statement, new ColumnarResultSetExtractor(columns));
+	}
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting items to a {@link List} of entities.
 	 *
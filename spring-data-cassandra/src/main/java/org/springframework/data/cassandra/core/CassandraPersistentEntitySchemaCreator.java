@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.cassandra.core.convert.SchemaFactory;
 import org.springframework.data.cassandra.core.cql.generator.CqlGenerator;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateIndexSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateTableSpecification;
@@ -98,17 +100,21 @@ public class CassandraPersistentEntitySchemaCreator {
 	}
 
 	/**
-	 * Create {@link List} of {@link CreateTableSpecification}.
+	 * Create {@link List} of {@link CreateTableSpecification} including
+	 * {@link org.springframework.data.cassandra.core.mapping.ChunkTable chunk tables}.
 	 *
 	 * @param ifNotExists {@literal true} to create tables using {@code IF NOT EXISTS}.
 	 * @return {@link List} of {@link CreateTableSpecification}.
 	 */
 	protected List<CreateTableSpecification> createTableSpecifications(boolean ifNotExists) {
 
+		SchemaFactory schemaFactory = cassandraAdminOperations.getSchemaFactory();
+
 		return this.mappingContext.getTableEntities() //
 				.stream() //
-				.map(entity -> cassandraAdminOperations.getSchemaFactory().getCreateTableSpecificationFor(entity)
-						.ifNotExists(ifNotExists)) //
+				.flatMap(entity -> Stream.concat(Stream.of(schemaFactory.getCreateTableSpecificationFor(entity)),
+						schemaFactory.getCreateChunkTableSpecificationsFor(entity).stream())) //
+				.peek(it -> it.ifNotExists(ifNotExists)) //
 				.collect(Collectors.toList());
 	}
 
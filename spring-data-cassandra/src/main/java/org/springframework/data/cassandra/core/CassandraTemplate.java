@@ -15,7 +15,9 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,12 +38,14 @@ import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.Where;
 import org.springframework.data.cassandra.core.cql.*;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertBatchEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterDeleteEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterLoadEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterSaveEvent;
@@ -64,6 +68,7 @@ import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
@@ -116,8 +121,12 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 	private final QueryOperations queryOperations;
 
+	private final ChunkedPropertyOperations chunkedPropertyOperations;
+
 	private @Nullable EntityCallbacks entityCallbacks;
 
+	private @Nullable NearCache nearCache;
+
 	private boolean usePreparedStatements = true;
 
 	/**
@@ -179,8 +188,15 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		this.eventDelegate = new EntityLifecycleEventDelegate();
 		this.cqlOperations = cqlOperations;
 		this.statementFactory = new StatementFactory(converter);
+
+		if (cqlOperations instanceof CassandraAccessor accessor) {
+			this.statementFactory.setStatementOperations(accessor.getStatementOperations());
+		}
+
 		this.entityOperations = new EntityOperations(converter);
 		this.queryOperations = new QueryOperations(converter, this.statementFactory, this.eventDelegate);
+		this.chunkedPropertyOperations = new ChunkedPropertyOperations(converter, cqlOperations);
+		this.queryOperations.setReadCallback(this::maybeReadChunks);
 	}
 
 	@Override
@@ -222,6 +238,46 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure whether to publish an {@link AfterConvertBatchEvent} carrying all entities of a result page in addition
+	 * to per-entity lifecycle events. Batch events are published for {@code select} and {@code slice} operations if
+	 * entity lifecycle events are enabled. Disabled by default.
+	 * <p>
+	 * Batch events are published synchronously and carry the complete result of a {@code select} operation, so enabling
+	 * them for large results holds the full result until all listeners completed. Asynchronous and reactive templates
+	 * do not publish batch events.
+	 *
+	 * @param enabled {@code true} to enable batched lifecycle events; {@code false} to disable batched lifecycle events.
+	 * @since 5.2
+	 * @see AfterConvertBatchEvent
+	 */
+	public void setBatchedEntityLifecycleEventsEnabled(boolean enabled) {
+		this.eventDelegate.setBatchEventsEnabled(enabled);
+	}
+
+	/**
+	 * Configure a {@link NearCache} to cache entities loaded through {@link #selectOneById(Object, Class)}. The cache
+	 * retains the row of an entity and each lookup materializes a new entity instance. The template
+	 * invalidates cached entities when writing or deleting entities, including writes through
+	 * {@link #batchOps(BatchType) batches}. Queries that update or delete entities by a {@link Query} invalidate all
+	 * cached entities of the affected type.
+	 *
+	 * @param nearCache the near cache to use, can be {@literal null} to disable caching.
+	 * @since 5.2
+	 * @see org.springframework.data.cassandra.core.mapping.NearCached
+	 */
+	public void setNearCache(@Nullable NearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * @return the configured {@link NearCache}, can be {@literal null}.
+	 * @since 5.2
+	 */
+	public @Nullable NearCache getNearCache() {
+		return this.nearCache;
+	}
+
 	@Override
 	public CqlOperations getCqlOperations() {
 		return this.cqlOperations;
@@ -269,6 +325,28 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		this.usePreparedStatements = usePreparedStatements;
 	}
 
+	/**
+	 * Prepare the given {@link SimpleStatement} the same way this template prepares statements before executing them.
+	 * The statement is prepared through the {@link #createPreparedStatementHandler(Statement) PreparedStatementHandler}
+	 * so that subsequent executions of the same statement are served from the driver's prepared statement cache.
+	 *
+	 * @param statement the statement to prepare, must not be {@literal null}.
+	 * @return a {@link CompletionStage} completing with the {@link PreparedStatement}.
+	 * @throws IllegalStateException if this template does not {@link #isUsePreparedStatements() use prepared
+	 *           statements}.
+	 * @since 5.2
+	 */
+	public CompletionStage<PreparedStatement> prepareAsync(SimpleStatement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.state(isUsePreparedStatements(), "Template is not configured to use prepared statements");
+
+		PreparedStatementHandler statementHandler = createPreparedStatementHandler(statement);
+
+		return getCqlOperations()
+				.execute((SessionCallback<CompletionStage<PreparedStatement>>) statementHandler::createPreparedStatementAsync);
+	}
+
 	@Override
 	public CqlIdentifier getTableName(Class<?> entityClass) {
 		return queryOperations.getTableName(entityClass);
@@ -316,6 +394,15 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doQueryForResultSet(statement);
 	}
 
+	@Override
+	public ColumnarResult queryForColumns(Statement<?> statement, Columns columns) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(columns, "Columns must not be null");
+
+		return doExecute(statement, new ColumnarResultSetExtractor(columns)::extractData);
+	}
+
 	@Override
 	public <T> List<T> select(Statement<?> statement, Class<T> entityClass) {
 
@@ -323,7 +410,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		RowMapper<T> rowMapper = queryOperations.getRowMapper(entityClass, statement);
-		return doQuery(statement, rowMapper);
+		return doSelect(statement, rowMapper, entityClass);
 	}
 
 	@Override
@@ -340,7 +427,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		RowMapper<T> rowMapper = queryOperations.getRowMapper(entityClass, statement);
-		return doSlice(statement, rowMapper);
+		return doSelectSlice(statement, rowMapper, entityClass);
 	}
 
 	@Override
@@ -363,7 +450,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return queryOperations.select(entityClass).matching(query).select(this::doQuery);
+		return queryOperations.select(entityClass).matching(query)
+				.select((statement, rowMapper) -> doSelect(statement, rowMapper, entityClass));
 	}
 
 	ResultSet doSelectResultSet(Query query, Class<?> entityClass, CqlIdentifier tableName) {
@@ -400,7 +488,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return queryOperations.select(entityClass).matching(query).select(this::doSlice);
+		return queryOperations.select(entityClass).matching(query)
+				.select((statement, rowMapper) -> doSelectSlice(statement, rowMapper, entityClass));
 	}
 
 	@Override
@@ -409,7 +498,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return queryOperations.select(entityClass).matching(query).select(this::doStream);
+		return queryOperations.select(entityClass).matching(query)
+				.select(this::doStream);
 	}
 
 	@Override
@@ -423,7 +513,11 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass));
 
-		return doExecute(updateStatement.build()).wasApplied();
+		try {
+			return doExecute(updateStatement.build()).wasApplied();
+		} finally {
+			invalidateAll(entityClass);
+		}
 	}
 
 	WriteResult doUpdate(Query query, org.springframework.data.cassandra.core.query.Update update, Class<?> entityClass,
@@ -432,7 +526,11 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return doExecute(updateStatement.build());
+		try {
+			return doExecute(updateStatement.build());
+		} finally {
+			invalidateAll(entityClass);
+		}
 	}
 
 	@Override
@@ -454,7 +552,13 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(() -> new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		WriteResult writeResult = doExecute(statement);
+		WriteResult writeResult;
+
+		try {
+			writeResult = doExecute(statement);
+		} finally {
+			invalidateAll(entityClass);
+		}
 
 		maybeEmitEvent(() -> new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -521,7 +625,30 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		List<T> select = queryOperations.select(entityClass).matchingId(id).select(this::doQuery);
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null && nearCache.isCached(entityClass)) {
+
+			Object key = getCacheKey(id, entityClass);
+
+			// cache rows and materialize a new entity per lookup so callers do not share mutable entity instances
+			return queryOperations.select(entityClass).matchingId(id).select((statement, rowMapper) -> {
+
+				RowMapper<Row> rows = (it, rowNum) -> it;
+				Row row = nearCache.get(entityClass, key, () -> DataAccessUtils.singleResult(doQuery(statement, rows)));
+
+				return row != null ? DataAccessUtils.singleResult(doSelect(statement, List.of(row), rowMapper, entityClass))
+						: null;
+			});
+		}
+
+		return doSelectOneById(id, entityClass);
+	}
+
+	private <T> @Nullable T doSelectOneById(Object id, Class<T> entityClass) {
+
+		List<T> select = queryOperations.select(entityClass).matchingId(id)
+				.select((statement, rowMapper) -> doSelect(statement, rowMapper, entityClass));
 
 		return DataAccessUtils.singleResult(select);
 	}
@@ -556,13 +683,13 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 			return doInsertVersioned(builder.build(), entityToUse, source, tableName);
 		}
 
-		return doInsert(builder.build(), entityToUse, tableName);
+		return doInsert(builder.build(), entityToUse, tableName, isConditional(options));
 	}
 
 	private <T> EntityWriteResult<T> doInsertVersioned(SimpleStatement insert, T entity, AdaptibleEntity<T> source,
 			CqlIdentifier tableName) {
 
-		return executeSave(entity, tableName, insert, result -> {
+		return executeSave(entity, tableName, insert, true, result -> {
 
 			if (!result.wasApplied()) {
 				throw OptimisticLockingUtils.insertFailed(source);
@@ -570,8 +697,9 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		});
 	}
 
-	private <T> EntityWriteResult<T> doInsert(SimpleStatement insert, T entity, CqlIdentifier tableName) {
-		return executeSave(entity, tableName, insert);
+	private <T> EntityWriteResult<T> doInsert(SimpleStatement insert, T entity, CqlIdentifier tableName,
+			boolean conditional) {
+		return executeSave(entity, tableName, insert, conditional, ignore -> {});
 	}
 
 	@Override
@@ -606,7 +734,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
 		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
 
-		return executeSave(toSave, tableName, update, result -> {
+		return executeSave(toSave, tableName, update, true, result -> {
 
 			if (!result.wasApplied()) {
 				throw OptimisticLockingUtils.updateFailed(source);
@@ -619,7 +747,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
-		return executeSave(entity, tableName, builder.build());
+		return executeSave(entity, tableName, builder.build(), isConditional(options), ignore -> {});
 	}
 
 	@Override
@@ -673,7 +801,17 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(() -> new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		boolean result = doExecute(statement).wasApplied();
+		boolean result;
+
+		try {
+			result = doExecute(statement).wasApplied();
+
+			if (result) {
+				maybeDeleteChunks(id, entity, tableName);
+			}
+		} finally {
+			invalidate(id, entityClass);
+		}
 
 		maybeEmitEvent(() -> new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -693,7 +831,15 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(() -> new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		doExecute(statement);
+		try {
+			doExecute(statement);
+
+			if (ChunkedPropertyOperations.hasChunkedProperties(entity)) {
+				chunkedPropertyOperations.truncate(entity, tableName);
+			}
+		} finally {
+			invalidateAll(entityClass);
+		}
 
 		maybeEmitEvent(() -> new AfterDeleteEvent<>(statement, entityClass, tableName));
 	}
@@ -782,6 +928,44 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return getCqlOperations().query(statement, rowMapper);
 	}
 
+	<T> List<T> doSelect(Statement<?> statement, RowMapper<T> rowMapper, Class<?> entityClass) {
+
+		List<T> result = doQuery(statement, rowMapper);
+		maybeEmitBatchEvent(result, entityClass, statement);
+
+		return result;
+	}
+
+	private <T> List<T> doSelect(Statement<?> statement, List<Row> rows, RowMapper<T> rowMapper,
+			Class<?> entityClass) {
+
+		List<T> mapped = new ArrayList<>(rows.size());
+
+		for (int i = 0; i < rows.size(); i++) {
+			mapped.add(rowMapper.mapRow(rows.get(i), i));
+		}
+
+		maybeEmitBatchEvent(mapped, entityClass, statement);
+
+		return mapped;
+	}
+
+	<T> Slice<T> doSelectSlice(Statement<?> statement, RowMapper<T> rowMapper, Class<?> entityClass) {
+
+		Slice<T> slice = doSlice(statement, rowMapper);
+		maybeEmitBatchEvent(slice.getContent(), entityClass, statement);
+
+		return slice;
+	}
+
+	private <T> void maybeEmitBatchEvent(List<T> result, Class<?> entityClass, Statement<?> statement) {
+
+		if (!result.isEmpty()) {
+			this.eventDelegate.publishBatchEvent(AfterConvertBatchEvent.class,
+					() -> new AfterConvertBatchEvent<>(result, entityClass, EntityQueryUtils.getTableName(statement)));
+		}
+	}
+
 	<T> Slice<T> doSlice(Statement<?> statement, RowMapper<T> mapper) {
 
 		ResultSet resultSet = doQueryForResultSet(statement);
@@ -799,18 +983,34 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return getCqlOperations().queryForStream(statement, rowMapper);
 	}
 
-	private <T> EntityWriteResult<T> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement) {
-		return executeSave(entity, tableName, statement, ignore -> {});
-	}
-
+	/**
+	 * Execute a save {@code statement}. Chunks of unconditional writes are written before the row referencing them so
+	 * that readers never observe a chunk count without its chunks. Conditional writes defer writing chunks until the
+	 * statement was applied to not overwrite chunks of a row that remains unchanged.
+	 */
 	private <T> EntityWriteResult<T> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement,
-			Consumer<WriteResult> resultConsumer) {
+			boolean conditional, Consumer<WriteResult> resultConsumer) {
 
 		maybeEmitEvent(() -> new BeforeSaveEvent<>(entity, tableName, statement));
 		T entityToSave = maybeCallBeforeSave(entity, tableName, statement);
 
-		WriteResult result = doExecute(statement);
-		resultConsumer.accept(result);
+		WriteResult result;
+
+		try {
+
+			if (!conditional) {
+				maybeWriteChunks(entityToSave, tableName);
+			}
+
+			result = doExecute(statement);
+			resultConsumer.accept(result);
+
+			if (conditional && result.wasApplied()) {
+				maybeWriteChunks(entityToSave, tableName);
+			}
+		} finally {
+			invalidate(entityToSave, entityToSave.getClass());
+		}
 
 		maybeEmitEvent(() -> new AfterSaveEvent<>(entityToSave, tableName));
 
@@ -822,9 +1022,18 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(() -> new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		WriteResult result = doExecute(statement);
+		WriteResult result;
 
-		resultConsumer.accept(result);
+		try {
+			result = doExecute(statement);
+			resultConsumer.accept(result);
+
+			if (result.wasApplied()) {
+				maybeDeleteChunks(entity, getRequiredPersistentEntity(entity.getClass()), tableName);
+			}
+		} finally {
+			invalidate(entity, entity.getClass());
+		}
 
 		maybeEmitEvent(() -> new AfterDeleteEvent<>(statement, entity.getClass(), tableName));
 
@@ -858,6 +1067,103 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return queryOperations.getRequiredPersistentEntity(entityType);
 	}
 
+	/**
+	 * @param options the write options.
+	 * @return {@literal true} if {@code options} turn a write into a lightweight transaction.
+	 */
+	static boolean isConditional(WriteOptions options) {
+		return options instanceof InsertOptions insertOptions && insertOptions.isIfNotExists()
+				|| options instanceof UpdateOptions updateOptions
+						&& (updateOptions.isIfExists() || updateOptions.getIfCondition() != null);
+	}
+
+	/**
+	 * Write the chunks of {@link org.springframework.data.cassandra.core.mapping.Chunked} properties of {@code entity} if
+	 * the entity declares chunked properties.
+	 *
+	 * @param entity the entity.
+	 * @param tableName the table name of the entity.
+	 */
+	void maybeWriteChunks(Object entity, CqlIdentifier tableName) {
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+		if (ChunkedPropertyOperations.hasChunkedProperties(persistentEntity)) {
+			chunkedPropertyOperations.write(entity, persistentEntity, tableName);
+		}
+	}
+
+	/**
+	 * Delete the chunks of {@link org.springframework.data.cassandra.core.mapping.Chunked} properties of the entity
+	 * identified by {@code idOrEntity} if the entity declares chunked properties.
+	 *
+	 * @param idOrEntity the identifier or the entity.
+	 * @param persistentEntity the entity metadata.
+	 * @param tableName the table name of the entity.
+	 */
+	void maybeDeleteChunks(Object idOrEntity, CassandraPersistentEntity<?> persistentEntity,
+			CqlIdentifier tableName) {
+
+		if (ChunkedPropertyOperations.hasChunkedProperties(persistentEntity)) {
+			chunkedPropertyOperations.delete(idOrEntity, persistentEntity, tableName);
+		}
+	}
+
+	/**
+	 * Read the chunks of {@link org.springframework.data.cassandra.core.mapping.Chunked} properties of {@code entity}
+	 * read from {@code row} if the entity declares chunked properties.
+	 *
+	 * @param entity the entity or projection read from {@code row}.
+	 * @param row the row of the entity.
+	 * @param tableName the table name of the entity.
+	 * @return the populated entity.
+	 */
+	private Object maybeReadChunks(Object entity, Row row, CqlIdentifier tableName) {
+
+		CassandraPersistentEntity<?> persistentEntity = getConverter().getMappingContext()
+				.getPersistentEntity(entity.getClass());
+
+		return persistentEntity != null && ChunkedPropertyOperations.hasChunkedProperties(persistentEntity)
+				? chunkedPropertyOperations.read(entity, persistentEntity, tableName, row)
+				: entity;
+	}
+
+	/**
+	 * Invalidate the cached entity identified by {@code idOrEntity} if a {@link NearCache} is configured.
+	 *
+	 * @param idOrEntity the identifier or the entity.
+	 * @param entityClass the entity type.
+	 */
+	void invalidate(Object idOrEntity, Class<?> entityClass) {
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null && nearCache.isCached(entityClass)) {
+			nearCache.invalidate(entityClass, getCacheKey(idOrEntity, entityClass));
+		}
+	}
+
+	private void invalidateAll(Class<?> entityClass) {
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+			nearCache.invalidateAll(entityClass);
+		}
+	}
+
+	/**
+	 * Create a cache key from the primary key columns of an identifier or an entity so that identifiers and entities
+	 * resolve to the same key.
+	 */
+	private Object getCacheKey(Object idOrEntity, Class<?> entityClass) {
+
+		Where where = new Where();
+		getConverter().write(idOrEntity, where, getRequiredPersistentEntity(entityClass));
+
+		return where;
+	}
+
 	/**
 	 * Create a new {@link MappingCassandraConverter} given the {@link CqlSession}.
 	 *
@@ -947,6 +1253,17 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 			return session.prepare(statement.getQuery());
 		}
 
+		/**
+		 * Asynchronously prepare the statement the same way as {@link #createPreparedStatement(CqlSession)}.
+		 *
+		 * @param session the session to prepare the statement with.
+		 * @return a {@link CompletionStage} completing with the {@link PreparedStatement}.
+		 * @since 5.2
+		 */
+		public CompletionStage<PreparedStatement> createPreparedStatementAsync(CqlSession session) {
+			return session.prepareAsync(statement.getQuery());
+		}
+
 		@Override
 		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
 			return PreparedStatementDelegate.bind(statement, ps);
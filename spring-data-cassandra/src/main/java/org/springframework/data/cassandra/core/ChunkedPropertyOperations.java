@@ -0,0 +1,670 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.ChunkTable;
+import org.springframework.data.cassandra.core.mapping.Chunked;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.term.Term;
+
+/**
+ * Operations to write, read and delete {@link Chunked} properties stored in {@link ChunkTable chunk tables}.
+ * <p>
+ * Writes replace all chunks of a value using client-side timestamps: chunks of the previous value are deleted with a
+ * timestamp that precedes the timestamp of the chunk inserts so that chunk statements can be executed in parallel
+ * without ordering constraints. All chunks of a value share the same write timestamp.
+ * <p>
+ * Reads use the chunk count stored in the entity row to fetch ranges of chunks concurrently and verify that the value
+ * is complete: the number of chunks must match the chunk count and all chunks must originate from the same write.
+ * Values that are being written concurrently or whose write did not complete fail to read. The value is allocated once
+ * and chunks are copied into it page by page so that reading a value does not hold its chunks and the reassembled
+ * value in memory at the same time.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class ChunkedPropertyOperations {
+
+	/**
+	 * Number of bytes to fetch per page when reading chunks.
+	 */
+	private static final int READ_PAGE_BYTES = 4 * 1024 * 1024;
+
+	/**
+	 * Maximum length of a reassembled value.
+	 */
+	private static final int MAX_VALUE_LENGTH = Integer.MAX_VALUE - 8;
+
+	private final CassandraConverter converter;
+
+	private final CqlOperations cqlOperations;
+
+	private final AtomicLong lastTimestamp = new AtomicLong();
+
+	private int concurrency = 16;
+
+	ChunkedPropertyOperations(CassandraConverter converter, CqlOperations cqlOperations) {
+
+		this.converter = converter;
+		this.cqlOperations = cqlOperations;
+	}
+
+	/**
+	 * Set the maximum number of chunk statements that are executed concurrently when writing or deleting chunked values.
+	 *
+	 * @param concurrency must be greater than zero.
+	 */
+	void setConcurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * @return {@literal true} if the entity declares {@link Chunked} properties.
+	 */
+	static boolean hasChunkedProperties(CassandraPersistentEntity<?> entity) {
+		return entity.getPersistentProperties(Chunked.class).iterator().hasNext();
+	}
+
+	/**
+	 * Reject entities declaring {@link Chunked} properties in operations that do not read and write chunk tables.
+	 * Writing such an entity would store a chunk count without chunks, reading it would leave chunked properties
+	 * {@literal null}.
+	 *
+	 * @param entity the entity metadata.
+	 * @throws InvalidDataAccessApiUsageException if the entity declares {@link Chunked} properties.
+	 */
+	static void rejectChunkedProperties(CassandraPersistentEntity<?> entity) {
+
+		if (hasChunkedProperties(entity)) {
+			throw new InvalidDataAccessApiUsageException(
+					"Entity %s declares @Chunked properties; chunked properties are supported by CassandraTemplate only"
+							.formatted(entity.getType().getName()));
+		}
+	}
+
+	/**
+	 * Replace the chunks of all {@link Chunked} properties of {@code entity}. Chunks of {@literal null} values are
+	 * deleted.
+	 *
+	 * @param entity the entity to write.
+	 * @param persistentEntity the entity metadata.
+	 * @param tableName the table name of the entity.
+	 */
+	void write(Object entity, CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName) {
+
+		PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(entity);
+		Map<CqlIdentifier, Object> key = getKey(entity, persistentEntity);
+		long timestamp = nextTimestamp();
+
+		List<SimpleStatement> statements = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : persistentEntity.getPersistentProperties(Chunked.class)) {
+
+			CqlIdentifier chunkTable = ChunkTable.getTableName(tableName, property);
+
+			statements.add(delete(persistentEntity.getKeyspace(), chunkTable, key, timestamp));
+
+			ByteBuffer value = toByteBuffer(accessor.getProperty(property));
+
+			if (value == null) {
+				continue;
+			}
+
+			int chunkSize = ChunkTable.getChunkSize(property);
+			int chunkNumber = 0;
+
+			do {
+
+				ByteBuffer chunk = value.slice();
+				chunk.limit(Math.min(chunkSize, value.remaining()));
+				value.position(value.position() + chunk.remaining());
+
+				statements.add(insert(persistentEntity.getKeyspace(), chunkTable, key, chunkNumber++, chunk, timestamp + 1));
+			} while (value.hasRemaining());
+		}
+
+		executeAll(statements);
+	}
+
+	/**
+	 * Read the chunks of all {@link Chunked} properties and set the reassembled values on {@code entity}. Chunks of all
+	 * properties are fetched concurrently. The first and the last chunk of each value are read first to determine the
+	 * length of the value. The remaining chunks are copied into the value page by page as they arrive.
+	 *
+	 * @param entity the entity to populate.
+	 * @param persistentEntity the entity metadata.
+	 * @param tableName the table name of the entity.
+	 * @param row the entity row providing the chunk count of each chunked property.
+	 * @return the populated entity. Can be a new instance if the entity is immutable.
+	 * @throws IncorrectResultSizeDataAccessException if the number of chunks does not match the chunk count.
+	 * @throws ConcurrencyFailureException if the chunks originate from different writes.
+	 */
+	<T> T read(T entity, CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName, Row row) {
+
+		PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+		Map<CqlIdentifier, Object> key = getKey(entity, persistentEntity);
+		List<ChunkedValue> values = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : persistentEntity.getPersistentProperties(Chunked.class)) {
+			values.add(new ChunkedValue(persistentEntity, property, ChunkTable.getTableName(tableName, property),
+					getChunkCount(row, property)));
+		}
+
+		this.cqlOperations.execute((SessionCallback<@Nullable Void>) session -> {
+
+			fetchAll(session, persistentEntity.getKeyspace(), key, values, ChunkedValue::getHeadRanges);
+			values.forEach(ChunkedValue::allocate);
+			fetchAll(session, persistentEntity.getKeyspace(), key, values, ChunkedValue::getRemainingRanges);
+
+			return null;
+		});
+
+		for (ChunkedValue value : values) {
+			accessor.setProperty(value.property, value.getValue());
+		}
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * Delete the chunks of all {@link Chunked} properties of the entity identified by {@code idOrEntity}.
+	 *
+	 * @param idOrEntity the identifier or the entity.
+	 * @param persistentEntity the entity metadata.
+	 * @param tableName the table name of the entity.
+	 */
+	void delete(Object idOrEntity, CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName) {
+
+		Map<CqlIdentifier, Object> key = getKey(idOrEntity, persistentEntity);
+		long timestamp = nextTimestamp();
+
+		List<SimpleStatement> statements = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : persistentEntity.getPersistentProperties(Chunked.class)) {
+			statements.add(delete(persistentEntity.getKeyspace(), ChunkTable.getTableName(tableName, property), key,
+					timestamp));
+		}
+
+		executeAll(statements);
+	}
+
+	/**
+	 * Truncate the chunk tables of all {@link Chunked} properties.
+	 *
+	 * @param persistentEntity the entity metadata.
+	 * @param tableName the table name of the entity.
+	 */
+	void truncate(CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName) {
+
+		for (CassandraPersistentProperty property : persistentEntity.getPersistentProperties(Chunked.class)) {
+			this.cqlOperations.execute(QueryBuilder
+					.truncate(persistentEntity.getKeyspace(), ChunkTable.getTableName(tableName, property)).build());
+		}
+	}
+
+	private Map<CqlIdentifier, Object> getKey(Object idOrEntity, CassandraPersistentEntity<?> persistentEntity) {
+
+		Where where = new Where();
+		this.converter.write(idOrEntity, where, persistentEntity);
+
+		return where;
+	}
+
+	private void executeAll(List<SimpleStatement> statements) {
+
+		if (statements.isEmpty()) {
+			return;
+		}
+
+		this.cqlOperations.execute((SessionCallback<@Nullable Void>) session -> {
+			executeAll(session, statements);
+			return null;
+		});
+	}
+
+	private void executeAll(CqlSession session, List<SimpleStatement> statements) {
+		executeAll(session, statements, Function.identity(),
+				(statement, resultSet) -> CompletableFuture.completedFuture(null));
+	}
+
+	/**
+	 * Execute the statements created for {@code items} concurrently, limited to {@link #setConcurrency(int) concurrency}
+	 * in-flight statements, and apply {@code handler} to each result. Waits for all statements to complete.
+	 */
+	private <S> void executeAll(CqlSession session, List<S> items, Function<S, SimpleStatement> statementFunction,
+			BiFunction<S, AsyncResultSet, CompletionStage<?>> handler) {
+
+		Semaphore permits = new Semaphore(this.concurrency);
+		List<CompletableFuture<?>> futures = new ArrayList<>(items.size());
+
+		try {
+
+			for (S item : items) {
+
+				permits.acquire();
+
+				CompletableFuture<?> future = session.executeAsync(statementFunction.apply(item))
+						.thenCompose(resultSet -> handler.apply(item, resultSet)).toCompletableFuture()
+						.whenComplete((result, throwable) -> permits.release());
+				futures.add(future);
+			}
+
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while executing chunk statements", e);
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw e;
+		}
+	}
+
+	private void fetchAll(CqlSession session, @Nullable CqlIdentifier keyspace, Map<CqlIdentifier, Object> key,
+			List<ChunkedValue> values, Function<ChunkedValue, List<ChunkRange>> rangeFunction) {
+
+		List<ChunkRange> ranges = new ArrayList<>();
+		values.forEach(value -> ranges.addAll(rangeFunction.apply(value)));
+
+		if (!ranges.isEmpty()) {
+			executeAll(session, ranges, range -> range.createStatement(keyspace, key), ChunkRange::read);
+		}
+	}
+
+	private static @Nullable Integer getChunkCount(Row row, CassandraPersistentProperty property) {
+
+		CqlIdentifier column = property.getRequiredColumnName();
+
+		return row.getColumnDefinitions().contains(column) && !row.isNull(column) ? row.getInt(column) : null;
+	}
+
+	private static SimpleStatement select(@Nullable CqlIdentifier keyspace, CqlIdentifier chunkTable,
+			Map<CqlIdentifier, Object> key, @Nullable Integer from, int count) {
+
+		List<Relation> relations = getRelations(key);
+		List<Object> values = new ArrayList<>(key.values());
+
+		if (from != null) {
+
+			relations.add(Relation.column(ChunkTable.CHUNK_NUMBER_COLUMN).isGreaterThanOrEqualTo(QueryBuilder.bindMarker()));
+			relations.add(Relation.column(ChunkTable.CHUNK_NUMBER_COLUMN).isLessThan(QueryBuilder.bindMarker()));
+			values.add(from);
+			values.add(from + count);
+		}
+
+		return QueryBuilder.selectFrom(keyspace, chunkTable) //
+				.column(ChunkTable.CHUNK_NUMBER_COLUMN) //
+				.column(ChunkTable.CHUNK_DATA_COLUMN) //
+				.writeTime(ChunkTable.CHUNK_DATA_COLUMN) //
+				.where(relations) //
+				.build(values.toArray()) //
+				.setPageSize(count);
+	}
+
+	private static SimpleStatement insert(@Nullable CqlIdentifier keyspace, CqlIdentifier chunkTable,
+			Map<CqlIdentifier, Object> key, int chunkNumber, ByteBuffer chunk, long timestamp) {
+
+		List<Object> values = new ArrayList<>(key.values());
+		values.add(chunkNumber);
+		values.add(chunk);
+
+		return QueryBuilder.insertInto(keyspace, chunkTable) //
+				.valuesByIds(getBindMarkers(key)) //
+				.value(ChunkTable.CHUNK_NUMBER_COLUMN, QueryBuilder.bindMarker()) //
+				.value(ChunkTable.CHUNK_DATA_COLUMN, QueryBuilder.bindMarker()) //
+				.usingTimestamp(timestamp) //
+				.build(values.toArray());
+	}
+
+	private static SimpleStatement delete(@Nullable CqlIdentifier keyspace, CqlIdentifier chunkTable,
+			Map<CqlIdentifier, Object> key, long timestamp) {
+
+		return QueryBuilder.deleteFrom(keyspace, chunkTable) //
+				.usingTimestamp(timestamp) //
+				.where(getRelations(key)) //
+				.build(key.values().toArray());
+	}
+
+	private static Map<CqlIdentifier, Term> getBindMarkers(Map<CqlIdentifier, Object> key) {
+
+		Map<CqlIdentifier, Term> bindMarkers = new LinkedHashMap<>(key.size());
+		key.keySet().forEach(column -> bindMarkers.put(column, QueryBuilder.bindMarker()));
+
+		return bindMarkers;
+	}
+
+	private static List<Relation> getRelations(Map<CqlIdentifier, Object> key) {
+
+		List<Relation> relations = new ArrayList<>(key.size());
+		key.keySet().forEach(column -> relations.add(Relation.column(column).isEqualTo(QueryBuilder.bindMarker())));
+
+		return relations;
+	}
+
+	private static @Nullable ByteBuffer toByteBuffer(@Nullable Object value) {
+
+		if (value instanceof ByteBuffer byteBuffer) {
+			return byteBuffer.duplicate();
+		}
+
+		if (value instanceof byte[] bytes) {
+			return ByteBuffer.wrap(bytes);
+		}
+
+		if (value instanceof String string) {
+			return ByteBuffer.wrap(string.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Return a strictly increasing timestamp in microseconds leaving room for the chunk insert timestamp. Consecutive
+	 * writes within the same millisecond must not share timestamps as deletes would not shadow chunks of the previous
+	 * write.
+	 */
+	private long nextTimestamp() {
+
+		long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+
+		return this.lastTimestamp.updateAndGet(last -> Math.max(now, last + 2));
+	}
+
+	/**
+	 * A single chunk read from a chunk table.
+	 *
+	 * @param number the chunk number.
+	 * @param data the chunk contents.
+	 * @param writeTime the write timestamp of the chunk.
+	 */
+	record Chunk(int number, @Nullable ByteBuffer data, long writeTime) {
+
+		int length() {
+			return data != null ? data.remaining() : 0;
+		}
+	}
+
+	/**
+	 * The value of a {@link Chunked} property being reassembled from its chunks. The value is allocated once its length
+	 * is known from the first and the last chunk. Chunks are copied into the value as they arrive so that only the value
+	 * and the pages in flight are held in memory. All chunks except the last one must have the length of the first chunk
+	 * and all chunks must originate from the same write.
+	 */
+	private static class ChunkedValue {
+
+		private final CassandraPersistentEntity<?> entity;
+
+		private final CassandraPersistentProperty property;
+
+		private final CqlIdentifier chunkTable;
+
+		private final @Nullable Integer chunkCount;
+
+		private final int pageSize;
+
+		private final List<ChunkRange> headRanges = new ArrayList<>(2);
+
+		private int count;
+
+		private int chunkLength;
+
+		private long writeTime;
+
+		private byte @Nullable [] bytes;
+
+		ChunkedValue(CassandraPersistentEntity<?> entity, CassandraPersistentProperty property, CqlIdentifier chunkTable,
+				@Nullable Integer chunkCount) {
+
+			this.entity = entity;
+			this.property = property;
+			this.chunkTable = chunkTable;
+			this.chunkCount = chunkCount;
+			this.pageSize = Math.max(1, READ_PAGE_BYTES / ChunkTable.getChunkSize(property));
+
+			if (chunkCount == null) {
+
+				// rows written without chunk count: read all chunks
+				this.headRanges.add(new ChunkRange(this, 0, null));
+			} else if (chunkCount > 0) {
+
+				this.headRanges.add(new ChunkRange(this, 0, Math.min(this.pageSize, chunkCount)));
+
+				if (chunkCount > this.pageSize) {
+					this.headRanges.add(new ChunkRange(this, chunkCount - 1, chunkCount));
+				}
+			}
+		}
+
+		/**
+		 * @return the ranges containing the first and the last chunk.
+		 */
+		List<ChunkRange> getHeadRanges() {
+			return this.headRanges;
+		}
+
+		/**
+		 * @return the ranges between the first page and the last chunk.
+		 */
+		List<ChunkRange> getRemainingRanges() {
+
+			if (this.bytes == null || this.chunkCount == null) {
+				return List.of();
+			}
+
+			List<ChunkRange> ranges = new ArrayList<>();
+
+			for (int from = this.pageSize; from < this.chunkCount - 1; from += this.pageSize) {
+				ranges.add(new ChunkRange(this, from, Math.min(from + this.pageSize, this.chunkCount - 1)));
+			}
+
+			return ranges;
+		}
+
+		/**
+		 * Allocate the value using the length of the first and the last chunk and copy the chunks read so far.
+		 */
+		void allocate() {
+
+			List<Chunk> chunks = new ArrayList<>();
+			this.headRanges.forEach(range -> chunks.addAll(range.chunks));
+
+			this.count = this.chunkCount != null ? this.chunkCount : chunks.size();
+
+			if (this.count == 0) {
+				return;
+			}
+
+			Chunk first = chunks.get(0);
+			Chunk last = chunks.get(chunks.size() - 1);
+			long length = (long) (this.count - 1) * first.length() + last.length();
+
+			if (length > MAX_VALUE_LENGTH) {
+				throw new DataRetrievalFailureException("Chunked property '%s' of %s exceeds the maximum length of %d bytes"
+						.formatted(this.property.getName(), this.entity.getType().getName(), MAX_VALUE_LENGTH));
+			}
+
+			this.chunkLength = first.length();
+			this.writeTime = first.writeTime();
+			this.bytes = new byte[(int) length];
+
+			chunks.forEach(this::copy);
+		}
+
+		/**
+		 * Copy {@code chunk} into the value.
+		 */
+		void copy(Chunk chunk) {
+
+			byte[] bytes = this.bytes;
+			Assert.state(bytes != null, "Value not allocated");
+
+			if (chunk.writeTime() != this.writeTime) {
+				throw new ConcurrencyFailureException(
+						"Chunks of property '%s' of %s originate from different writes; the value may be written concurrently"
+								.formatted(this.property.getName(), this.entity.getType().getName()));
+			}
+
+			int offset = chunk.number() * this.chunkLength;
+			boolean lastChunk = chunk.number() == this.count - 1;
+
+			if ((!lastChunk && chunk.length() != this.chunkLength) || offset + chunk.length() > bytes.length) {
+				throw new DataRetrievalFailureException("Chunk %d of property '%s' of %s has an unexpected length of %d bytes"
+						.formatted(chunk.number(), this.property.getName(), this.entity.getType().getName(), chunk.length()));
+			}
+
+			ByteBuffer data = chunk.data();
+
+			if (data != null) {
+				data.duplicate().get(bytes, offset, chunk.length());
+			}
+		}
+
+		@Nullable
+		Object getValue() {
+
+			byte[] bytes = this.bytes;
+
+			if (bytes == null) {
+				return null;
+			}
+
+			Class<?> type = this.property.getType();
+
+			if (type == String.class) {
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+
+			return type == ByteBuffer.class ? ByteBuffer.wrap(bytes) : bytes;
+		}
+	}
+
+	/**
+	 * A range of chunks {@code [from, to)} of a {@link ChunkedValue} read through a single query. Chunks are verified
+	 * to be consecutive. Chunks read before the value is allocated are retained until
+	 * {@link ChunkedValue#allocate() allocation}, all other chunks are copied into the value right away.
+	 */
+	private static class ChunkRange {
+
+		private final ChunkedValue value;
+
+		private final int from;
+
+		private final @Nullable Integer to;
+
+		private final List<Chunk> chunks = new ArrayList<>();
+
+		private int received;
+
+		ChunkRange(ChunkedValue value, int from, @Nullable Integer to) {
+			this.value = value;
+			this.from = from;
+			this.to = to;
+		}
+
+		SimpleStatement createStatement(@Nullable CqlIdentifier keyspace, Map<CqlIdentifier, Object> key) {
+
+			return this.to != null ? select(keyspace, this.value.chunkTable, key, this.from, this.to - this.from)
+					: select(keyspace, this.value.chunkTable, key, null, this.value.pageSize);
+		}
+
+		CompletionStage<@Nullable Void> read(AsyncResultSet resultSet) {
+
+			for (Row row : resultSet.currentPage()) {
+				accept(new Chunk(row.getInt(0), row.getByteBuffer(1), row.getLong(2)));
+			}
+
+			if (resultSet.hasMorePages()) {
+				return resultSet.fetchNextPage().thenCompose(this::read);
+			}
+
+			if (this.to != null && this.received != this.to - this.from) {
+
+				int expected = this.to - this.from;
+
+				throw new IncorrectResultSizeDataAccessException(
+						("Chunked property '%s' of %s expects %d chunk(s) starting at chunk %d but found %d; "
+								+ "the value may be written concurrently").formatted(this.value.property.getName(),
+										this.value.entity.getType().getName(), expected, this.from, this.received),
+						expected, this.received);
+			}
+
+			return CompletableFuture.completedFuture(null);
+		}
+
+		private void accept(Chunk chunk) {
+
+			int expected = this.from + this.received;
+
+			if (chunk.number() != expected) {
+
+				throw new IncorrectResultSizeDataAccessException("Chunked property '%s' of %s is missing chunk %d"
+						.formatted(this.value.property.getName(), this.value.entity.getType().getName(), expected), expected + 1,
+						this.received);
+			}
+
+			this.received++;
+
+			if (this.value.bytes != null) {
+				this.value.copy(chunk);
+			} else {
+				this.chunks.add(chunk);
+			}
+		}
+	}
+
+}
@@ -15,14 +15,33 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
 
 /**
  * Delegate class to encapsulate lifecycle event configuration and publishing. Event creation is deferred within an
  * event {@link Supplier} to delay the actual event object creation.
+ * <p>
+ * If the publisher is an {@link AbstractApplicationContext}, the delegate detects whether any listener is
+ * registered for a particular event type within the context or its parent contexts and skips event creation and
+ * publishing if there is none. Detection results are cached per event type and discarded when the publishing context
+ * is refreshed. Listeners that are added programmatically after the context was refreshed or that are registered with
+ * a parent context refreshed later on are detected once the publishing context is refreshed. Events are always
+ * published if a context in the hierarchy is not an {@link AbstractApplicationContext} or declares a custom
+ * {@link org.springframework.context.event.ApplicationEventMulticaster} as such multicasters may hold listeners that
+ * cannot be introspected.
  *
  * @author Mark Paluch
  * @since 4.0
@@ -32,9 +51,18 @@ class EntityLifecycleEventDelegate {
 
 	private @Nullable ApplicationEventPublisher publisher;
 	private boolean eventsEnabled = true;
+	private boolean batchEventsEnabled = false;
+
+	private final Map<Class<?>, Boolean> listenerPresence = new ConcurrentHashMap<>();
 
 	public void setPublisher(@Nullable ApplicationEventPublisher publisher) {
+
 		this.publisher = publisher;
+		this.listenerPresence.clear();
+
+		if (publisher instanceof AbstractApplicationContext context) {
+			context.addApplicationListener(new ListenerPresenceReset(this.listenerPresence));
+		}
 	}
 
 	public boolean isEventsEnabled() {
@@ -45,8 +73,16 @@ class EntityLifecycleEventDelegate {
 		this.eventsEnabled = eventsEnabled;
 	}
 
+	public boolean isBatchEventsEnabled() {
+		return batchEventsEnabled;
+	}
+
+	public void setBatchEventsEnabled(boolean batchEventsEnabled) {
+		this.batchEventsEnabled = batchEventsEnabled;
+	}
+
 	/**
-	 * Publish an application event if event publishing is enabled.
+	 * Publish an application event if event publishing is enabled and a listener for the event is registered.
 	 *
 	 * @param eventSupplier the supplier for application events.
 	 */
@@ -54,11 +90,168 @@ class EntityLifecycleEventDelegate {
 	public void publishEvent(Supplier<?> eventSupplier) {
 
 		if (canPublishEvent()) {
+
+			Object event = eventSupplier.get();
+
+			if (hasListener(event.getClass())) {
+				publisher.publishEvent(event);
+			}
+		}
+	}
+
+	/**
+	 * Publish an application event if event publishing is enabled and a listener for {@code eventType} is registered.
+	 * The event is not created if there is no listener for the given event type.
+	 *
+	 * @param eventType the type of the event.
+	 * @param eventSupplier the supplier for application events.
+	 * @since 5.2
+	 */
+	@SuppressWarnings("NullAway")
+	public void publishEvent(Class<?> eventType, Supplier<?> eventSupplier) {
+
+		if (canPublishEvent() && hasListener(eventType)) {
 			publisher.publishEvent(eventSupplier.get());
 		}
 	}
 
-	private boolean canPublishEvent() {
-		return publisher != null && eventsEnabled;
+	/**
+	 * Publish a batch event if batch event publishing is enabled and a listener for {@code eventType} is registered.
+	 *
+	 * @param eventType the type of the event.
+	 * @param eventSupplier the supplier for application events.
+	 * @since 5.2
+	 */
+	public void publishBatchEvent(Class<?> eventType, Supplier<?> eventSupplier) {
+
+		if (batchEventsEnabled) {
+			publishEvent(eventType, eventSupplier);
+		}
+	}
+
+	/**
+	 * Determine whether a listener for the given {@code eventType} is registered. Returns {@literal true} if listener
+	 * presence cannot be determined.
+	 *
+	 * @param eventType the type of the event.
+	 * @return {@literal true} if a listener for the given {@code eventType} is registered or listener presence cannot be
+	 *         determined.
+	 * @since 5.2
+	 */
+	public boolean hasListener(Class<?> eventType) {
+
+		if (!(publisher instanceof AbstractApplicationContext context) || !context.isActive()) {
+			return true;
+		}
+
+		Boolean present = listenerPresence.get(eventType);
+
+		if (present == null) {
+			present = detectListener(context, ResolvableType.forClass(eventType));
+			listenerPresence.put(eventType, present);
+		}
+
+		return present;
+	}
+
+	private static boolean detectListener(AbstractApplicationContext context, ResolvableType eventType) {
+
+		try {
+			for (ApplicationContext current = context; current != null; current = current.getParent()) {
+
+				if (!(current instanceof AbstractApplicationContext candidate) || !candidate.isActive()
+						|| candidate.containsBeanDefinition(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+						|| detectLocalListener(candidate, eventType)) {
+					return true;
+				}
+			}
+		} catch (IllegalStateException e) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean detectLocalListener(AbstractApplicationContext context, ResolvableType eventType) {
+
+		for (ApplicationListener<?> listener : context.getApplicationListeners()) {
+			if (supportsEventType(listener, eventType)) {
+				return true;
+			}
+		}
+
+		for (String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+
+			Class<?> listenerType = context.getType(beanName, false);
+
+			if (listenerType == null) {
+				return true;
+			}
+
+			if (SmartApplicationListener.class.isAssignableFrom(listenerType)
+					|| GenericApplicationListener.class.isAssignableFrom(listenerType)) {
+
+				// smart listeners decide at runtime, consult the listener instance if it was already created
+				Object listener = context.getBeanFactory().getSingleton(beanName);
+
+				if (!(listener instanceof ApplicationListener<?> instance) || supportsEventType(instance, eventType)) {
+					return true;
+				}
+
+				continue;
+			}
+
+			if (supportsEventType(listenerType, eventType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean supportsEventType(ApplicationListener<?> listener, ResolvableType eventType) {
+
+		if (listener instanceof GenericApplicationListener genericListener) {
+			return genericListener.supportsEventType(eventType);
+		}
+
+		if (listener instanceof SmartApplicationListener smartListener) {
+
+			Class<?> eventClass = eventType.resolve();
+			return eventClass == null || !ApplicationEvent.class.isAssignableFrom(eventClass)
+					|| smartListener.supportsEventType(eventClass.asSubclass(ApplicationEvent.class));
+		}
+
+		return supportsEventType(listener.getClass(), eventType);
+	}
+
+	private static boolean supportsEventType(Class<?> listenerType, ResolvableType eventType) {
+
+		ResolvableType declaredEventType = ResolvableType.forClass(listenerType).as(ApplicationListener.class)
+				.getGeneric();
+
+		return declaredEventType.resolve() == null || declaredEventType.isAssignableFrom(eventType);
+	}
+
+	/**
+	 * Listener discarding cached listener detection results when the context is refreshed.
+	 */
+	private static class ListenerPresenceReset implements SmartApplicationListener {
+
+		private final Map<Class<?>, Boolean> listenerPresence;
+
+		ListenerPresenceReset(Map<Class<?>, Boolean> listenerPresence) {
+			this.listenerPresence = listenerPresence;
+		}
+
+		@Override
+		public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+			return ContextRefreshedEvent.class.isAssignableFrom(eventType);
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {
+			listenerPresence.clear();
+		}
 	}
 }
@@ -325,12 +325,14 @@ class ExecutableSelectOperationSupport implements ExecutableSelectOperation {
 
 		@Override
 		public List<T> all() {
-			return prepare(this.query).select(template::doQuery);
+			return prepare(this.query)
+					.select((statement, rowMapper) -> template.doSelect(statement, rowMapper, this.domainType));
 		}
 
 		@Override
 		public Slice<T> slice() {
-			return prepare(this.query).select(template::doSlice);
+			return prepare(this.query)
+					.select((statement, rowMapper) -> template.doSelectSlice(statement, rowMapper, this.domainType));
 		}
 
 		@Override
@@ -0,0 +1,568 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.cassandra.core.mapping.NearCached;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Read-through cache for values of entities loaded by their identifier. Entity types are cached if they are
+ * {@link #register(Class, Duration, int) registered} with the cache or annotated with {@link NearCached @NearCached}.
+ * Each entity type uses its own cache region that evicts a not recently used entry once it exceeds its maximum size and
+ * expires entries after their time to live. Lookups do not lock the region. Hits on entries that are about to expire
+ * can reload the entry asynchronously using the {@link #setRefreshExecutor(Executor) refresh executor}.
+ * <p>
+ * {@link CassandraTemplate} uses a configured near cache for {@link CassandraTemplate#selectOneById(Object, Class)} and
+ * invalidates entries when writing or deleting entities through the template or a batch obtained from the template.
+ * Writes issued through other means, such as other application instances, CQL statements or
+ * {@link CassandraTemplate#update(org.springframework.data.cassandra.core.query.Query, org.springframework.data.cassandra.core.query.Update, Class)
+ * query-based updates} of a different template, become visible once the cached entry expires.
+ * <p>
+ * Cached values are shared between callers. {@link CassandraTemplate} therefore caches the
+ * {@link com.datastax.oss.driver.api.core.cql.Row row} of an entity and materializes a new entity instance for each
+ * lookup, publishing {@link org.springframework.data.cassandra.core.mapping.event.AfterLoadEvent lifecycle events} and
+ * invoking entity callbacks as for uncached reads. Other callers caching values directly must cache immutable values
+ * only.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see NearCached
+ * @see CassandraTemplate#setNearCache(NearCache)
+ */
+public class NearCache {
+
+	private static final Log logger = LogFactory.getLog(NearCache.class);
+
+	private final Map<Class<?>, Optional<Region>> regions = new ConcurrentHashMap<>();
+
+	private Clock clock = Clock.systemUTC();
+
+	private Executor refreshExecutor = createRefreshExecutor();
+
+	/**
+	 * Register {@code type} for caching. Registration takes precedence over the {@link NearCached @NearCached}
+	 * annotation.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param timeToLive time after which a cached entity expires, must not be {@literal null} and must be positive.
+	 * @param maximumSize maximum number of cached entities, must be greater zero.
+	 */
+	public void register(Class<?> type, Duration timeToLive, int maximumSize) {
+		register(type, timeToLive, maximumSize, Duration.ZERO);
+	}
+
+	/**
+	 * Register {@code type} for caching. Registration takes precedence over the {@link NearCached @NearCached}
+	 * annotation.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param timeToLive time after which a cached entity expires, must not be {@literal null} and must be positive.
+	 * @param maximumSize maximum number of cached entities, must be greater zero.
+	 * @param refreshAhead time before expiry within which a cache hit reloads the entity asynchronously, must not be
+	 *          {@literal null}. Use {@link Duration#ZERO} to disable refresh-ahead.
+	 */
+	public void register(Class<?> type, Duration timeToLive, int maximumSize, Duration refreshAhead) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		this.regions.put(ClassUtils.getUserClass(type), Optional.of(new Region(timeToLive, maximumSize, refreshAhead)));
+	}
+
+	/**
+	 * Configure the {@link Clock} used to determine entry expiry. Defaults to {@link Clock#systemUTC()}.
+	 *
+	 * @param clock must not be {@literal null}.
+	 */
+	public void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Configure the {@link Executor} used to reload entries ahead of their expiry. Defaults to a dedicated executor using
+	 * up to two daemon threads that discards refreshes exceeding its queue capacity. Refreshes load entities on the
+	 * calling thread of the executor, so the executor should not be shared with tasks that must not block.
+	 *
+	 * @param refreshExecutor must not be {@literal null}.
+	 */
+	public void setRefreshExecutor(Executor refreshExecutor) {
+
+		Assert.notNull(refreshExecutor, "Refresh Executor must not be null");
+
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * Return whether entities of the given {@code type} are cached.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @return {@literal true} if entities of the given {@code type} are cached.
+	 */
+	public boolean isCached(Class<?> type) {
+		return getRegion(type) != null;
+	}
+
+	/**
+	 * Return the cached value for {@code key} or load it using {@code loader} if the value is not cached or expired.
+	 * Entity types that are not cached are loaded directly. {@literal null} results are not cached. The returned value is
+	 * shared between callers and must not be modified.
+	 *
+	 * @param type the entity type determining the cache region, must not be {@literal null}.
+	 * @param key the cache key identifying the entity, must not be {@literal null}.
+	 * @param loader the loader to load the value, such as the row of the entity.
+	 * @return the cached or loaded value, can be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable T get(Class<?> type, Object key, Supplier<@Nullable T> loader) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		Region region = getRegion(type);
+
+		if (region == null) {
+			return loader.get();
+		}
+
+		Entry entry = region.get(key, this.clock.millis());
+
+		if (entry == null) {
+			region.misses.increment();
+			return load(region, key, loader);
+		}
+
+		region.hits.increment();
+
+		if (this.clock.millis() >= entry.refreshAt && entry.refreshing.compareAndSet(false, true)) {
+			refresh(region, key, entry, loader);
+		}
+
+		return (T) entry.value;
+	}
+
+	/**
+	 * Remove the entity identified by {@code key} from the cache.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param key the cache key identifying the entity, must not be {@literal null}.
+	 */
+	public void invalidate(Class<?> type, Object key) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		Region region = getRegion(type);
+
+		if (region != null) {
+			region.invalidate(key);
+		}
+	}
+
+	/**
+	 * Remove all cached entities of the given {@code type}.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 */
+	public void invalidateAll(Class<?> type) {
+
+		Region region = getRegion(type);
+
+		if (region != null) {
+			region.invalidateAll();
+		}
+	}
+
+	/**
+	 * Remove all cached entities.
+	 */
+	public void clear() {
+		this.regions.values().forEach(it -> it.ifPresent(Region::invalidateAll));
+	}
+
+	/**
+	 * Return {@link Statistics} for the given {@code type}.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @return statistics for the given {@code type}. Types that are not cached report empty statistics.
+	 */
+	public Statistics getStatistics(Class<?> type) {
+
+		Region region = getRegion(type);
+
+		return region != null ? region.getStatistics() : new Statistics(0, 0, 0, 0, 0, Duration.ZERO);
+	}
+
+	private <T> @Nullable T load(Region region, Object key, Supplier<@Nullable T> loader) {
+
+		Object load = region.startLoad(key);
+		long start = System.nanoTime();
+		T value;
+
+		try {
+			value = loader.get();
+		} catch (RuntimeException e) {
+			region.cancelLoad(key, load);
+			region.loadFailures.increment();
+			throw e;
+		} finally {
+			region.loadTime.add(System.nanoTime() - start);
+		}
+
+		region.loads.increment();
+
+		if (value != null) {
+			region.put(key, value, load, this.clock.millis());
+		} else {
+			region.cancelLoad(key, load);
+		}
+
+		return value;
+	}
+
+	private <T> void refresh(Region region, Object key, Entry entry, Supplier<@Nullable T> loader) {
+
+		try {
+			this.refreshExecutor.execute(() -> {
+
+				try {
+					if (load(region, key, loader) == null) {
+						region.invalidate(key);
+					}
+				} catch (RuntimeException e) {
+
+					entry.refreshing.set(false);
+
+					if (logger.isDebugEnabled()) {
+						logger.debug("Cannot refresh cached entity [%s]".formatted(key), e);
+					}
+				}
+			});
+		} catch (RuntimeException e) {
+			entry.refreshing.set(false);
+		}
+	}
+
+	private static Executor createRefreshExecutor() {
+
+		AtomicInteger threads = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1024),
+				runnable -> {
+
+					Thread thread = new Thread(runnable, "cassandra-near-cache-refresh-" + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	private @Nullable Region getRegion(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return this.regions.computeIfAbsent(ClassUtils.getUserClass(type), it -> {
+
+			NearCached annotation = AnnotatedElementUtils.findMergedAnnotation(it, NearCached.class);
+
+			return annotation != null
+					? Optional.of(new Region(Duration.ofMillis(annotation.timeToLiveMs()), annotation.maximumSize(),
+							Duration.ofMillis(annotation.refreshAheadMs())))
+					: Optional.empty();
+		}).orElse(null);
+	}
+
+	/**
+	 * Cache statistics of an entity type.
+	 *
+	 * @param hitCount number of lookups that returned a cached entity.
+	 * @param missCount number of lookups that required loading the entity.
+	 * @param evictionCount number of entries removed due to their size limit or expiry.
+	 * @param loadCount number of successful loads including refresh-ahead loads.
+	 * @param loadFailureCount number of loads that failed with an exception.
+	 * @param totalLoadTime accumulated time spent loading entities.
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount, long loadCount, long loadFailureCount,
+			Duration totalLoadTime) {
+
+		/**
+		 * @return ratio of lookups that returned a cached entity, {@code 0} if there were no lookups.
+		 */
+		public double hitRate() {
+
+			long requests = hitCount + missCount;
+
+			return requests == 0 ? 0 : (double) hitCount / requests;
+		}
+
+		/**
+		 * @return average time spent loading an entity.
+		 */
+		public Duration averageLoadTime() {
+
+			long loads = loadCount + loadFailureCount;
+
+			return loads == 0 ? Duration.ZERO : totalLoadTime.dividedBy(loads);
+		}
+	}
+
+	/**
+	 * Cached entry. The {@code referenced} flag is set on each hit and gives the entry a second chance on eviction.
+	 */
+	static final class Entry {
+
+		final Object key;
+
+		final Object value;
+
+		final long expiresAt;
+
+		final long refreshAt;
+
+		final AtomicBoolean refreshing = new AtomicBoolean();
+
+		volatile boolean referenced;
+
+		Entry(Object key, Object value, long expiresAt, long refreshAt) {
+			this.key = key;
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.refreshAt = refreshAt;
+		}
+	}
+
+	/**
+	 * Cache region of a single entity type. Entries are held in a {@link ConcurrentHashMap} and evicted using the
+	 * second-chance (clock) algorithm approximating least recently used eviction: entries are queued in insertion order
+	 * and a hit marks an entry as referenced so that it is re-queued instead of being evicted once. Only writes that
+	 * exceed the maximum size take the eviction lock.
+	 * <p>
+	 * Loads register a token per key that is removed when the key is invalidated. Loads whose token was removed or
+	 * replaced by a later load do not cache their result so that values loaded before an invalidation are discarded
+	 * without affecting loads of other keys.
+	 */
+	static class Region {
+
+		private final long timeToLive;
+
+		private final long refreshAhead;
+
+		private final int maximumSize;
+
+		private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+		private final Map<Object, Object> pendingLoads = new ConcurrentHashMap<>();
+
+		private final Queue<Entry> evictionQueue = new ConcurrentLinkedQueue<>();
+
+		private final AtomicInteger evictionQueueSize = new AtomicInteger();
+
+		private final ReentrantLock evictionLock = new ReentrantLock();
+
+		final LongAdder hits = new LongAdder();
+
+		final LongAdder misses = new LongAdder();
+
+		final LongAdder evictions = new LongAdder();
+
+		final LongAdder loads = new LongAdder();
+
+		final LongAdder loadFailures = new LongAdder();
+
+		final LongAdder loadTime = new LongAdder();
+
+		Region(Duration timeToLive, int maximumSize, Duration refreshAhead) {
+
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+			Assert.isTrue(maximumSize > 0, "Maximum size must be greater zero");
+			Assert.notNull(refreshAhead, "Refresh ahead must not be null");
+			Assert.isTrue(!refreshAhead.isNegative(), "Refresh ahead must not be negative");
+
+			this.timeToLive = timeToLive.toMillis();
+			this.refreshAhead = refreshAhead.toMillis();
+			this.maximumSize = maximumSize;
+		}
+
+		@Nullable
+		Entry get(Object key, long now) {
+
+			Entry entry = this.entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.expiresAt <= now) {
+
+				if (this.entries.remove(key, entry)) {
+					this.evictions.increment();
+				}
+
+				return null;
+			}
+
+			if (!entry.referenced) {
+				entry.referenced = true;
+			}
+
+			return entry;
+		}
+
+		/**
+		 * Register a load of {@code key}.
+		 *
+		 * @return the load token to pass on to {@link #put(Object, Object, Object, long)}.
+		 */
+		Object startLoad(Object key) {
+
+			Object load = new Object();
+			this.pendingLoads.put(key, load);
+
+			return load;
+		}
+
+		void cancelLoad(Object key, Object load) {
+			this.pendingLoads.remove(key, load);
+		}
+
+		void put(Object key, Object value, Object load, long now) {
+
+			long refreshAt = this.refreshAhead > 0 ? now + this.timeToLive - this.refreshAhead : Long.MAX_VALUE;
+			Entry entry = new Entry(key, value, now + this.timeToLive, refreshAt);
+			AtomicBoolean stored = new AtomicBoolean();
+
+			// the pending load and the entry are updated atomically with invalidations of the same key
+			this.pendingLoads.computeIfPresent(key, (k, pending) -> {
+
+				if (pending != load) {
+					return pending;
+				}
+
+				this.entries.put(key, entry);
+				stored.set(true);
+				return null;
+			});
+
+			if (stored.get()) {
+
+				this.evictionQueue.add(entry);
+				this.evictionQueueSize.incrementAndGet();
+				evict();
+			}
+		}
+
+		void invalidate(Object key) {
+
+			this.pendingLoads.compute(key, (k, pending) -> {
+
+				this.entries.remove(key);
+				return null;
+			});
+		}
+
+		void invalidateAll() {
+
+			this.evictionLock.lock();
+
+			try {
+				this.pendingLoads.clear();
+				this.entries.clear();
+				this.evictionQueue.clear();
+				this.evictionQueueSize.set(0);
+			} finally {
+				this.evictionLock.unlock();
+			}
+		}
+
+		private void evict() {
+
+			if (this.entries.size() <= this.maximumSize && this.evictionQueueSize.get() <= this.maximumSize * 2) {
+				return;
+			}
+
+			this.evictionLock.lock();
+
+			try {
+
+				while (this.entries.size() > this.maximumSize) {
+
+					Entry candidate = this.evictionQueue.poll();
+
+					if (candidate == null) {
+						break;
+					}
+
+					this.evictionQueueSize.decrementAndGet();
+
+					if (this.entries.get(candidate.key) != candidate) {
+						continue;
+					}
+
+					if (candidate.referenced) {
+
+						candidate.referenced = false;
+						this.evictionQueue.add(candidate);
+						this.evictionQueueSize.incrementAndGet();
+						continue;
+					}
+
+					if (this.entries.remove(candidate.key, candidate)) {
+						this.evictions.increment();
+					}
+				}
+
+				// drop queued entries that were invalidated, expired or replaced
+				if (this.evictionQueueSize.get() > this.maximumSize * 2) {
+					this.evictionQueue.removeIf(it -> this.entries.get(it.key) != it);
+					this.evictionQueueSize.set(this.evictionQueue.size());
+				}
+			} finally {
+				this.evictionLock.unlock();
+			}
+		}
+
+		Statistics getStatistics() {
+			return new Statistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.loads.sum(),
+					this.loadFailures.sum(), Duration.ofNanos(this.loadTime.sum()));
+		}
+	}
+}
@@ -19,6 +19,8 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.cql.RowMapper;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
@@ -57,6 +59,8 @@ class QueryOperations {
 
 	private final EntityLifecycleEventDelegate eventDelegate;
 
+	private @Nullable ReadCallback readCallback;
+
 	QueryOperations(CassandraConverter converter, StatementFactory statementFactory,
 			EntityLifecycleEventDelegate eventDelegate) {
 
@@ -66,6 +70,17 @@ class QueryOperations {
 		this.eventDelegate = eventDelegate;
 	}
 
+	/**
+	 * Configure a {@link ReadCallback} to complete entities after they were read from a {@link Row} and before
+	 * {@link AfterConvertEvent} is published.
+	 *
+	 * @param readCallback the callback to apply, can be {@literal null}.
+	 * @since 5.2
+	 */
+	void setReadCallback(@Nullable ReadCallback readCallback) {
+		this.readCallback = readCallback;
+	}
+
 	/**
 	 * Returns the {@link MappingContext} used by this entity data access operations class to access mapping meta-data
 	 * used to store (map) object to Cassandra tables.
@@ -186,27 +201,62 @@ class QueryOperations {
 		return getMapper(statementFactory.getEntityProjection(domainClass), EntityQueryUtils.getTableName(statement));
 	}
 
+	@SuppressWarnings("unchecked")
 	private <T> Function<Row, T> getMapper(EntityProjection<T, ?> projection, CqlIdentifier tableName) {
 
+		ReadCallback readCallback = this.readCallback;
 		Class<T> targetType = projection.getMappedType().getType();
 
+		if (readCallback == null && !projection.isProjection()) {
+
+			CassandraPersistentEntity<?> entity = mappingContext.getPersistentEntity(targetType);
+
+			if (entity != null) {
+				ChunkedPropertyOperations.rejectChunkedProperties(entity);
+			}
+		}
+
 		return row -> {
 
-			maybeEmitEvent(() -> new AfterLoadEvent<>(row, targetType, tableName));
+			maybeEmitEvent(AfterLoadEvent.class, () -> new AfterLoadEvent<>(row, targetType, tableName));
 
-			T result = converter.project(projection, row);
+			T converted = converter.project(projection, row);
+			T result = converted != null && readCallback != null ? (T) readCallback.afterRead(converted, row, tableName)
+					: converted;
 
 			// while it should not be possible, we safe-guard against null results here.
 			if (result != null) {
-				maybeEmitEvent(() -> new AfterConvertEvent<>(row, result, tableName));
+				maybeEmitEvent(AfterConvertEvent.class, () -> new AfterConvertEvent<>(row, result, tableName));
 			}
 
 			return result;
 		};
 	}
 
-	private <E extends CassandraMappingEvent<T>, T> void maybeEmitEvent(Supplier<E> event) {
-		this.eventDelegate.publishEvent(event);
+	@SuppressWarnings("rawtypes")
+	private <E extends CassandraMappingEvent<T>, T> void maybeEmitEvent(Class<? extends CassandraMappingEvent> eventType,
+			Supplier<E> event) {
+		this.eventDelegate.publishEvent(eventType, event);
+	}
+
+	/**
+	 * Callback to complete an object read from a {@link Row}, for example by reading values stored outside the row.
+	 *
+	 * @since 5.2
+	 */
+	@FunctionalInterface
+	interface ReadCallback {
+
+		/**
+		 * Complete the object read from {@code row}.
+		 *
+		 * @param object the object read from {@code row}.
+		 * @param row the row.
+		 * @param tableName the table name in use.
+		 * @return the completed object. Can be a new instance if the object is immutable.
+		 */
+		Object afterRead(Object object, Row row, CqlIdentifier tableName);
+
 	}
 
 	/**
@@ -115,7 +115,12 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 	}
 
 	private CassandraPersistentEntity<?> getRequiredPersistentEntity(Class<?> entityType) {
-		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entityType));
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext()
+				.getRequiredPersistentEntity(ClassUtils.getUserClass(entityType));
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
+
+		return persistentEntity;
 	}
 
 	/**
@@ -253,6 +258,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 			BasicCassandraPersistentEntity<?> persistentEntity = mappingContext
 					.getRequiredPersistentEntity(entity.getClass());
+			ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 
 			SimpleStatement insertQuery = getStatementFactory()
 					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
@@ -186,6 +186,11 @@ public class ReactiveCassandraTemplate
 		this.eventDelegate = new EntityLifecycleEventDelegate();
 		this.cqlOperations = reactiveCqlOperations;
 		this.statementFactory = new StatementFactory(converter);
+
+		if (reactiveCqlOperations instanceof ReactiveCqlTemplate accessor) {
+			this.statementFactory.setStatementOperations(accessor.getStatementOperations());
+		}
+
 		this.entityOperations = new EntityOperations(converter);
 		this.queryOperations = new QueryOperations(converter, this.statementFactory, this.eventDelegate);
 	}
@@ -504,6 +509,7 @@ public class ReactiveCassandraTemplate
 			AdaptibleEntity<T> source = this.entityOperations.forEntity(entityToInsert,
 					getConverter().getConversionService());
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityToInsert.getClass());
+			ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 
 			T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entityToInsert;
 
@@ -548,6 +554,7 @@ public class ReactiveCassandraTemplate
 
 		AdaptibleEntity<T> source = this.entityOperations.forEntity(entity, getConverter().getConversionService());
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
 		return maybeCallBeforeConvert(entity, tableName).flatMap(entityToUpdate -> {
@@ -597,6 +604,7 @@ public class ReactiveCassandraTemplate
 
 		AdaptibleEntity<Object> source = this.entityOperations.forEntity(entity, getConverter().getConversionService());
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+		ChunkedPropertyOperations.rejectChunkedProperties(persistentEntity);
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
 		StatementBuilder<Delete> builder = getStatementFactory().delete(entity, options, getConverter(), tableName);
@@ -629,6 +637,7 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		ChunkedPropertyOperations.rejectChunkedProperties(entity);
 		CqlIdentifier tableName = entity.getTableName();
 
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
@@ -646,6 +655,7 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(entityClass, "Entity type must not be null");
 
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		ChunkedPropertyOperations.rejectChunkedProperties(entity);
 		CqlIdentifier tableName = entity.getTableName();
 
 		Truncate truncate = QueryBuilder.truncate(entity.getKeyspace(), tableName);
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -32,15 +34,19 @@ import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.cql.HedgingSpeculativeExecutionPolicy;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
 import org.springframework.data.cassandra.core.cql.QueryOptionsUtil.CqlStatementOptionsAccessor;
+import org.springframework.data.cassandra.core.cql.StatementOperation;
+import org.springframework.data.cassandra.core.cql.StatementOperations;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.cql.util.TermFactory;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.Hedged;
 import org.springframework.data.cassandra.core.mapping.PersistentPropertyTranslator;
 import org.springframework.data.cassandra.core.query.ColumnName;
 import org.springframework.data.cassandra.core.query.Columns;
@@ -76,6 +82,7 @@ import org.springframework.util.ConcurrentLruCache;
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
 import com.datastax.oss.driver.api.querybuilder.BindMarker;
@@ -125,6 +132,8 @@ public class StatementFactory {
 
 	private ProjectionFunction projectionFunction = ProjectionFunction.projecting();
 
+	private @Nullable StatementOperations statementOperations;
+
 	/**
 	 * Create {@link StatementFactory} given {@link CassandraConverter}.
 	 *
@@ -243,6 +252,26 @@ public class StatementFactory {
 		this.keyspaceProvider = keyspaceProvider;
 	}
 
+	/**
+	 * Set the {@link StatementOperations} registry to register the {@link StatementOperation} of created statements
+	 * with. Templates use the registry of their CQL template so that the operation is attached to statements when
+	 * executing them.
+	 *
+	 * @param statementOperations the registry to use, can be {@literal null} to not register statements.
+	 * @since 5.2
+	 */
+	public void setStatementOperations(@Nullable StatementOperations statementOperations) {
+		this.statementOperations = statementOperations;
+	}
+
+	/**
+	 * @return the {@link StatementOperations} registry, can be {@literal null} if statements are not registered.
+	 * @since 5.2
+	 */
+	public @Nullable StatementOperations getStatementOperations() {
+		return this.statementOperations;
+	}
+
 	/**
 	 * @return the configured projection function.
 	 * @since 5.0
@@ -366,6 +395,9 @@ public class StatementFactory {
 				cassandraConverter.getCodecRegistry());
 
 		builder.bind((statement, factory) -> getSelect(selectors, entity, tableName, factory).limit(1));
+		builder.transform(register(StatementOperation.of(getKeyspace(entity, tableName), tableName, "SELECT")));
+		applySelectSettings(builder, entity);
+
 		return builder.bind((statement, factory) -> statement.where(toRelations(where, factory)));
 	}
 
@@ -494,7 +526,7 @@ public class StatementFactory {
 					RegularInsert afterOptions = (RegularInsert) addInsertOptions(accessor, options);
 
 					return afterOptions.valuesByIds(values);
-				});
+				}).transform(register(StatementOperation.of(getKeyspace(entity, tableName), tableName, "INSERT")));
 
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
@@ -627,7 +659,7 @@ public class StatementFactory {
 
 					return ((UpdateWithAssignments) statementToUse).set(toAssignments(object, factory))
 							.where(toRelations(where, factory));
-				});
+				}).transform(register(StatementOperation.of(getKeyspace(entity, tableName), tableName, "UPDATE")));
 
 		Optional.of(options).filter(UpdateOptions.class::isInstance).map(UpdateOptions.class::cast)
 				.map(UpdateOptions::getIfCondition)
@@ -656,7 +688,8 @@ public class StatementFactory {
 		return StatementBuilder
 				.of(QueryBuilder.deleteFrom(getKeyspace(entity, tableName), tableName).where(),
 						cassandraConverter.getCodecRegistry())
-				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+				.bind((statement, factory) -> statement.where(toRelations(where, factory)))
+				.transform(register(StatementOperation.of(getKeyspace(entity, tableName), tableName, "DELETE")));
 	}
 
 	/**
@@ -744,7 +777,8 @@ public class StatementFactory {
 					}
 
 					return statementToUse.where(toRelations(where, factory));
-				});
+				}).transform(
+						register(StatementOperation.of(getKeyspace(persistentEntity, tableName), tableName, "DELETE")));
 
 		Optional.of(options).filter(DeleteOptions.class::isInstance).map(DeleteOptions.class::cast)
 				.map(DeleteOptions::getIfCondition)
@@ -786,6 +820,8 @@ public class StatementFactory {
 		}
 
 		select.onBuild(statementBuilder -> query.getPagingState().ifPresent(statementBuilder::setPagingState));
+		select.transform(register(StatementOperation.of(getKeyspace(entity, tableName), tableName, "SELECT")));
+		applySelectSettings(select, entity);
 
 		if (query.getLimit() > 0) {
 
@@ -800,10 +836,35 @@ public class StatementFactory {
 		return select;
 	}
 
+	/**
+	 * Mark {@code SELECT} statements as idempotent and apply {@link Hedged hedging} configured on the entity. Both can be
+	 * overridden through {@link QueryOptions} as these are applied after building the statement.
+	 */
+	private static void applySelectSettings(StatementBuilder<Select> select, CassandraPersistentEntity<?> entity) {
+
+		Hedged hedged = entity.findAnnotation(Hedged.class);
+
+		select.onBuild(statementBuilder -> statementBuilder.setIdempotence(true));
+
+		if (hedged != null) {
+
+			Duration delay = Duration.ofMillis(hedged.delayMs());
+			select.transform(statement -> HedgingSpeculativeExecutionPolicy.hedge(statement, delay, hedged.maxExecutions()));
+		}
+	}
+
 	private @Nullable CqlIdentifier getKeyspace(CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
 		return keyspaceProvider.getKeyspace(entity, tableName);
 	}
 
+	private UnaryOperator<SimpleStatement> register(StatementOperation operation) {
+
+		StatementOperations statementOperations = this.statementOperations;
+
+		return statementOperations != null ? statement -> statementOperations.register(statement, operation)
+				: UnaryOperator.identity();
+	}
+
 	private StatementBuilder<Select> createSelectAndOrder(List<Selector> selectors, CassandraPersistentEntity<?> entity,
 			CqlIdentifier from, Filter filter, Sort sort) {
 
@@ -961,7 +1022,7 @@ public class StatementFactory {
 
 				}).bind((statement, factory) -> {
 					return statement.where(getRelations(filter, factory));
-				});
+				}).transform(register(StatementOperation.of(getKeyspace(entity, table), table, "UPDATE")));
 	}
 
 	static Iterable<Relation> toRelations(Where where, TermFactory factory) {
@@ -1113,7 +1174,7 @@ public class StatementFactory {
 			}
 
 			return statementToUse.where(getRelations(filter, factory));
-		});
+		}).transform(register(StatementOperation.of(getKeyspace(entity, from), from, "DELETE")));
 	}
 
 	/**
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link InputStream} reading from a read-only view of a {@link ByteBuffer} without copying its contents. Used to map
+ * {@code blob} columns to {@link InputStream} properties. Writing a {@link ByteBufferInputStream} back to a
+ * {@code blob} column {@link #getByteBuffer() unwraps} the remaining bytes without reading the stream.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	private int mark = -1;
+
+	/**
+	 * Create a new {@link ByteBufferInputStream} reading the remaining bytes of the given {@link ByteBuffer}. The
+	 * position of {@code buffer} is not changed by reading from the stream.
+	 *
+	 * @param buffer must not be {@literal null}.
+	 */
+	public ByteBufferInputStream(ByteBuffer buffer) {
+
+		Assert.notNull(buffer, "ByteBuffer must not be null");
+
+		this.buffer = buffer.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Return a read-only view of the bytes that were not yet read from this stream. The returned buffer shares its
+	 * content with the buffer this stream was created from.
+	 *
+	 * @return a read-only view of the remaining bytes.
+	 */
+	public ByteBuffer getByteBuffer() {
+		return this.buffer.slice();
+	}
+
+	@Override
+	public int read() {
+		return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) {
+
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		if (length == 0) {
+			return 0;
+		}
+
+		if (!this.buffer.hasRemaining()) {
+			return -1;
+		}
+
+		int count = Math.min(length, this.buffer.remaining());
+		this.buffer.get(bytes, offset, count);
+
+		return count;
+	}
+
+	@Override
+	public byte[] readAllBytes() {
+
+		byte[] bytes = new byte[this.buffer.remaining()];
+		this.buffer.get(bytes);
+
+		return bytes;
+	}
+
+	@Override
+	public long skip(long n) {
+
+		if (n <= 0) {
+			return 0;
+		}
+
+		int count = (int) Math.min(n, this.buffer.remaining());
+		this.buffer.position(this.buffer.position() + count);
+
+		return count;
+	}
+
+	@Override
+	public int available() {
+		return this.buffer.remaining();
+	}
+
+	@Override
+	public boolean markSupported() {
+		return true;
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		this.mark = this.buffer.position();
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+
+		if (this.mark == -1) {
+			throw new IOException("Mark not set");
+		}
+
+		this.buffer.position(this.mark);
+	}
+
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+
+		int count = this.buffer.remaining();
+		Channels.newChannel(out).write(this.buffer);
+
+		return count;
+	}
+
+}
@@ -16,7 +16,11 @@
 
 package org.springframework.data.cassandra.core.convert;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -33,6 +37,7 @@ import org.springframework.core.convert.converter.ConverterFactory;
 import org.springframework.data.cassandra.core.cql.converter.RowToListConverter;
 import org.springframework.data.cassandra.core.cql.converter.RowToMapConverter;
 import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.domain.Vector;
 import org.springframework.util.Assert;
 import org.springframework.util.NumberUtils;
@@ -80,6 +85,9 @@ public abstract class CassandraConverters {
 		converters.add(VectorToCqlVectorConverter.INSTANCE);
 		converters.add(CqlVectorToVectorConverter.INSTANCE);
 
+		converters.add(ByteBufferToInputStreamConverter.INSTANCE);
+		converters.add(InputStreamToByteBufferConverter.INSTANCE);
+
 		return converters;
 	}
 
@@ -342,4 +350,62 @@ public abstract class CassandraConverters {
 		}
 	}
 
+	/**
+	 * Converter exposing a {@code blob} value as {@link InputStream} reading from a read-only view of the driver's
+	 * {@link ByteBuffer} without copying its contents.
+	 *
+	 * @since 5.2
+	 */
+	@ReadingConverter
+	public enum ByteBufferToInputStreamConverter implements Converter<ByteBuffer, InputStream> {
+
+		INSTANCE;
+
+		@Override
+		public InputStream convert(ByteBuffer source) {
+			return new ByteBufferInputStream(source);
+		}
+	}
+
+	/**
+	 * Converter writing an {@link InputStream} to a {@code blob} value. {@link ByteBufferInputStream} is unwrapped
+	 * without copying. Streams {@link InputStream#markSupported() supporting mark} are read fully and reset so that the
+	 * same stream can be written again. Other streams can be written only once: they are read fully and closed, writing
+	 * them again fails instead of writing an empty {@code blob}.
+	 *
+	 * @since 5.2
+	 */
+	@WritingConverter
+	public enum InputStreamToByteBufferConverter implements Converter<InputStream, ByteBuffer> {
+
+		INSTANCE;
+
+		@Override
+		public ByteBuffer convert(InputStream source) {
+
+			if (source instanceof ByteBufferInputStream stream) {
+				return stream.getByteBuffer();
+			}
+
+			try {
+
+				if (source.markSupported()) {
+
+					source.mark(Integer.MAX_VALUE);
+
+					byte[] bytes = source.readAllBytes();
+					source.reset();
+
+					return ByteBuffer.wrap(bytes);
+				}
+
+				try (source) {
+					return ByteBuffer.wrap(source.readAllBytes());
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
 }
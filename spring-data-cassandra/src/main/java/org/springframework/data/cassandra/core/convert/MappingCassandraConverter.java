@@ -596,7 +596,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		for (CassandraPersistentProperty property : entity) {
 
-			if (!propertyFilter.test(property)) {
+			if (!propertyFilter.test(property) || property.isChunked()) {
 				continue;
 			}
 
@@ -677,6 +677,16 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				continue;
 			}
 
+			if (property.isChunked()) {
+
+				if (property.isWritable()) {
+					sink.put(property.getRequiredColumnName(),
+							ChunkTable.getChunkCount(property, accessor.getProperty(property)));
+				}
+
+				continue;
+			}
+
 			Object value = getWriteValue(property, accessor);
 
 			if (log.isDebugEnabled()) {
@@ -771,19 +781,19 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		Assert.notNull(id, "MapId must not be null");
 
-		for (Entry<String, Object> entry : id.entrySet()) {
+		id.forEach((name, value) -> {
 
-			CassandraPersistentProperty persistentProperty = entity.getPersistentProperty(entry.getKey());
+			CassandraPersistentProperty persistentProperty = entity.getPersistentProperty(name);
 
 			if (persistentProperty == null) {
 				throw new IllegalArgumentException(String.format(
-						"MapId contains references [%s] that is an unknown property of [%s]", entry.getKey(), entity.getName()));
+						"MapId contains references [%s] that is an unknown property of [%s]", name, entity.getName()));
 			}
 
-			Object writeValue = getWriteValue(entry.getValue(), cassandraTypeResolver.resolve(persistentProperty));
+			Object writeValue = getWriteValue(value, cassandraTypeResolver.resolve(persistentProperty));
 
 			sink.put(persistentProperty.getRequiredColumnName(), writeValue);
-		}
+		});
 	}
 
 	private void writeTupleValue(ConvertingPropertyAccessor<?> propertyAccessor, TupleValue tupleValue,
@@ -1516,6 +1526,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 						name, entity.getType()));
 			}
 
+			if (property.isChunked()) {
+				return null;
+			}
+
 			return (T) getReadValue(context.forProperty(property.getName()), provider, property);
 		}
 
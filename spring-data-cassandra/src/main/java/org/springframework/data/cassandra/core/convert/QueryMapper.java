@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -53,6 +54,7 @@ import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.PropertyValueProvider;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 
@@ -74,17 +76,28 @@ public class QueryMapper {
 
 	private final CassandraMappingContext mappingContext;
 
+	private final ConcurrentLruCache<FieldCacheKey, FieldResolution> fieldResolutions;
+
 	/**
 	 * Creates a new {@link QueryMapper} with the given {@link CassandraConverter}.
 	 *
 	 * @param converter must not be {@literal null}.
 	 */
 	public QueryMapper(CassandraConverter converter) {
+		this(converter, FieldResolution::resolve);
+	}
+
+	/**
+	 * Creates a new {@link QueryMapper} with the given {@link CassandraConverter} resolving uncached fields through
+	 * {@code resolver}.
+	 */
+	QueryMapper(CassandraConverter converter, Function<FieldCacheKey, FieldResolution> resolver) {
 
 		Assert.notNull(converter, "CassandraConverter must not be null");
 
 		this.converter = converter;
 		this.mappingContext = converter.getMappingContext();
+		this.fieldResolutions = new ConcurrentLruCache<>(1024, resolver::apply);
 	}
 
 	/**
@@ -424,7 +437,7 @@ public class QueryMapper {
 			return new Field(key);
 		}
 
-		return MetadataBackedField.of(key, entity, getMappingContext());
+		return MetadataBackedField.of(key, entity, getMappingContext(), this.fieldResolutions::get);
 	}
 
 	ColumnType getColumnType(Field field, @Nullable Object value, ColumnTypeTransformer operator) {
@@ -637,40 +650,28 @@ public class QueryMapper {
 	 */
 	protected static class MetadataBackedField extends Field {
 
+		private static final ConcurrentLruCache<FieldCacheKey, FieldResolution> RESOLUTIONS = new ConcurrentLruCache<>(256,
+				FieldResolution::resolve);
+
 		private final CassandraPersistentEntity<?> entity;
 
 		private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
 
-		private final @Nullable PropertyPath propertyPath;
-
-		private final @Nullable PersistentPropertyPath<CassandraPersistentProperty> path;
-
-		private final @Nullable CassandraPersistentProperty property;
+		private final FieldResolution resolution;
 
 		private MetadataBackedField(ColumnName name, CassandraPersistentEntity<?> entity,
 				MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext,
-				@Nullable PropertyPath propertyPath) {
+				FieldResolution resolution) {
 
 			super(name);
 			this.entity = entity;
 			this.mappingContext = mappingContext;
-			this.propertyPath = propertyPath;
-
-			if (propertyPath != null) {
-
-				PersistentPropertyPath<CassandraPersistentProperty> ppp = mappingContext
-						.getPersistentPropertyPath(propertyPath);
-				this.path = ppp;
-				this.property = ppp.getLeafProperty();
-			} else {
-				this.path = null;
-				this.property = null;
-			}
+			this.resolution = resolution;
 		}
 
 		/**
 		 * Create a new {@link MetadataBackedField} with the given name, {@link CassandraPersistentEntity} and
-		 * {@link MappingContext}.
+		 * {@link MappingContext}. Field resolutions are cached across fields.
 		 *
 		 * @param columnName must not be {@literal null} or empty.
 		 * @param entity must not be {@literal null}.
@@ -678,53 +679,99 @@ public class QueryMapper {
 		 */
 		public static MetadataBackedField of(ColumnName columnName, CassandraPersistentEntity<?> entity,
 				CassandraMappingContext mappingContext) {
-
-			PropertyPath propertyPath;
-			if (columnName.hasPropertyPath()) {
-				propertyPath = columnName.getRequiredPropertyPath();
-
-			} else {
-				propertyPath = getPath(entity, columnName.toCql());
-			}
-
-			return new MetadataBackedField(columnName, entity, mappingContext, propertyPath);
+			return of(columnName, entity, mappingContext, RESOLUTIONS::get);
 		}
 
-		private static @Nullable PropertyPath getPath(PersistentEntity<?, ?> entity, String pathExpression) {
+		static MetadataBackedField of(ColumnName columnName, CassandraPersistentEntity<?> entity,
+				CassandraMappingContext mappingContext, Function<FieldCacheKey, FieldResolution> resolutions) {
 
-			try {
-				return PropertyPath.from(pathExpression.replaceAll("\\.\\d", ""), entity.getTypeInformation());
-			} catch (PropertyReferenceException e) {
-				return null;
-			}
+			Object path = columnName.hasPropertyPath() ? columnName.getRequiredPropertyPath() : columnName.toCql();
+
+			return new MetadataBackedField(columnName, entity, mappingContext,
+					resolutions.apply(new FieldCacheKey(mappingContext, entity, path)));
 		}
 
 		@Override
 		public MetadataBackedField with(ColumnName name) {
-			return new MetadataBackedField(name, entity, mappingContext, propertyPath);
+			return new MetadataBackedField(name, entity, mappingContext, resolution);
 		}
 
 		@Override
 		public boolean hasProperty() {
-			return this.property != null;
+			return this.resolution.property() != null;
 		}
 
 		@Override
 		public CassandraPersistentProperty getProperty() {
 
-			if (this.property == null) {
+			CassandraPersistentProperty property = this.resolution.property();
+
+			if (property == null) {
 				return super.getProperty();
 			}
 
-			return this.property;
+			return property;
 		}
 
 		@Override
-		@SuppressWarnings("NullAway")
 		public ColumnName getMappedKey() {
 
-			if (path == null || path.isEmpty()) {
-				return name;
+			ColumnName mappedKey = this.resolution.mappedKey();
+
+			return mappedKey != null ? mappedKey : name;
+		}
+	}
+
+	/**
+	 * Cache key for {@link FieldResolution}s consisting of the mapping context, the entity and either a
+	 * {@link PropertyPath} or a path expression.
+	 */
+	record FieldCacheKey(CassandraMappingContext mappingContext, CassandraPersistentEntity<?> entity, Object path) {
+
+	}
+
+	/**
+	 * Resolved mapping metadata for a field. Unresolvable path expressions result in a {@link FieldResolution} without a
+	 * property to avoid repeated resolution attempts.
+	 *
+	 * @param property the leaf property, can be {@literal null} if the path cannot be resolved.
+	 * @param mappedKey the mapped column name, can be {@literal null} if the path cannot be resolved.
+	 */
+	record FieldResolution(@Nullable CassandraPersistentProperty property, @Nullable ColumnName mappedKey) {
+
+		private static final FieldResolution UNRESOLVED = new FieldResolution(null, null);
+
+		static FieldResolution resolve(FieldCacheKey key) {
+
+			Object path = key.path();
+			CassandraMappingContext mappingContext = key.mappingContext();
+			PropertyPath propertyPath = path instanceof PropertyPath pp ? pp : getPath(key.entity(), (String) path);
+
+			if (propertyPath == null) {
+				return UNRESOLVED;
+			}
+
+			PersistentPropertyPath<CassandraPersistentProperty> persistentPath = mappingContext
+					.getPersistentPropertyPath(propertyPath);
+
+			return new FieldResolution(persistentPath.getLeafProperty(), getMappedKey(persistentPath, mappingContext));
+		}
+
+		private static @Nullable PropertyPath getPath(PersistentEntity<?, ?> entity, String pathExpression) {
+
+			try {
+				return PropertyPath.from(pathExpression.replaceAll("\\.\\d", ""), entity.getTypeInformation());
+			} catch (PropertyReferenceException e) {
+				return null;
+			}
+		}
+
+		@SuppressWarnings("NullAway")
+		private static @Nullable ColumnName getMappedKey(PersistentPropertyPath<CassandraPersistentProperty> path,
+				MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+			if (path.isEmpty()) {
+				return null;
 			}
 
 			boolean embedded = false;
@@ -20,12 +20,15 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.cassandra.core.cql.Ordering;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateIndexSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateTableSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateUserTypeSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.SpecificationBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.ChunkTable;
+import org.springframework.data.cassandra.core.mapping.Chunked;
 import org.springframework.data.cassandra.core.mapping.EmbeddedEntityOperations;
 import org.springframework.data.cassandra.core.mapping.Indexed;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
@@ -41,6 +44,7 @@ import com.datastax.oss.driver.api.core.data.CqlVector;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 
@@ -172,6 +176,8 @@ public class SchemaFactory {
 					DataType dataType = getDataType(embeddedProperty);
 					specification.column(embeddedProperty.getRequiredColumnName(), dataType);
 				}
+			} else if (property.isChunked()) {
+				specification.column(property.getRequiredColumnName(), DataTypes.INT);
 			} else {
 				DataType type = UserTypeUtil.potentiallyFreeze(getDataType(property));
 
@@ -194,6 +200,79 @@ public class SchemaFactory {
 		return specification;
 	}
 
+	/**
+	 * Returns {@link CreateTableSpecification table specifications} for the {@link ChunkTable chunk tables} of
+	 * {@link Chunked} properties of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the chunk table specifications derived from {@link CassandraPersistentEntity}. Empty if the entity has no
+	 *         chunked properties.
+	 * @since 5.2
+	 */
+	public List<CreateTableSpecification> getCreateChunkTableSpecificationsFor(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		return getCreateChunkTableSpecificationsFor(entity, entity.getTableName());
+	}
+
+	/**
+	 * Returns {@link CreateTableSpecification table specifications} for the {@link ChunkTable chunk tables} of
+	 * {@link Chunked} properties of the given entity stored in {@link CqlIdentifier table name}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @return the chunk table specifications derived from {@link CassandraPersistentEntity}. Empty if the entity has no
+	 *         chunked properties.
+	 * @since 5.2
+	 */
+	public List<CreateTableSpecification> getCreateChunkTableSpecificationsFor(CassandraPersistentEntity<?> entity,
+			CqlIdentifier tableName) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		List<CreateTableSpecification> specifications = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (!property.isChunked()) {
+				continue;
+			}
+
+			CreateTableSpecification specification = SpecificationBuilder.createTable(entity.getKeyspace(),
+					ChunkTable.getTableName(tableName, property));
+
+			for (CassandraPersistentProperty primaryKeyProperty : getPrimaryKeyProperties(entity)) {
+				specification.partitionKeyColumn(primaryKeyProperty.getRequiredColumnName(),
+						UserTypeUtil.potentiallyFreeze(getDataType(primaryKeyProperty)));
+			}
+
+			specification.clusteredKeyColumn(ChunkTable.CHUNK_NUMBER_COLUMN, DataTypes.INT, Ordering.ASCENDING);
+			specification.column(ChunkTable.CHUNK_DATA_COLUMN, DataTypes.BLOB);
+
+			specifications.add(specification);
+		}
+
+		return specifications;
+	}
+
+	private List<CassandraPersistentProperty> getPrimaryKeyProperties(CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+				properties.addAll(getPrimaryKeyProperties(mappingContext.getRequiredPersistentEntity(property.getRawType())));
+			} else if (property.isIdProperty() || property.isPrimaryKeyColumn()) {
+				properties.add(property);
+			}
+		}
+
+		return properties;
+	}
+
 	private DataType getDataType(CassandraPersistentProperty property) {
 
 		try {
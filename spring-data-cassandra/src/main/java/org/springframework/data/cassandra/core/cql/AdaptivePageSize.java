@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive page size configuration. Page sizes are determined per page from observations of the previous page: the
+ * number of bytes per row (estimated from {@link com.datastax.oss.driver.api.core.cql.ExecutionInfo#getResponseSizeInBytes()})
+ * and the time the consumer required to process the page. The next page size is chosen so that a page stays within
+ * the {@link #withTargetBytesPerPage(long) target bytes per page} and is consumed within the
+ * {@link #withTargetPageDuration(Duration) target page duration} while growing at most by a factor of two per page.
+ * Page sizes are always kept within {@code [minPageSize, maxPageSize]}.
+ * <p>
+ * Fetched pages and the chosen page sizes are reported to a {@link PageListener} to expose them as metrics, for
+ * example as Micrometer meters:
+ *
+ * <pre class="code">
+ * DistributionSummary bytesPerPage = DistributionSummary.builder("cassandra.page.bytes").baseUnit("bytes")
+ * 		.register(meterRegistry);
+ * DistributionSummary pageSize = DistributionSummary.builder("cassandra.page.size").baseUnit("rows")
+ * 		.register(meterRegistry);
+ *
+ * AdaptivePageSize adaptivePageSize = AdaptivePageSize.of(100, 5000).withListener(page -&gt; {
+ *
+ * 	if (page.responseSizeInBytes() &gt;= 0) {
+ * 		bytesPerPage.record(page.responseSizeInBytes());
+ * 	}
+ * 	pageSize.record(page.nextPageSize());
+ * });
+ *
+ * cqlTemplate.setAdaptivePageSize(adaptivePageSize);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CqlTemplate#setAdaptivePageSize(AdaptivePageSize)
+ * @see ReactiveCqlTemplate#setAdaptivePageSize(AdaptivePageSize)
+ */
+public final class AdaptivePageSize {
+
+	private static final long DEFAULT_TARGET_BYTES_PER_PAGE = 1024 * 1024;
+
+	private static final Duration DEFAULT_TARGET_PAGE_DURATION = Duration.ofSeconds(1);
+
+	private final int minPageSize;
+
+	private final int maxPageSize;
+
+	private final long targetBytesPerPage;
+
+	private final long targetPageDurationNanos;
+
+	private final PageListener listener;
+
+	private AdaptivePageSize(int minPageSize, int maxPageSize, long targetBytesPerPage, long targetPageDurationNanos,
+			PageListener listener) {
+
+		this.minPageSize = minPageSize;
+		this.maxPageSize = maxPageSize;
+		this.targetBytesPerPage = targetBytesPerPage;
+		this.targetPageDurationNanos = targetPageDurationNanos;
+		this.listener = listener;
+	}
+
+	/**
+	 * Create a new {@link AdaptivePageSize} keeping page sizes within the given bounds. Targets one megabyte per page and
+	 * a page duration of one second.
+	 *
+	 * @param minPageSize the minimum page size, must be greater zero.
+	 * @param maxPageSize the maximum page size, must be greater or equal to {@code minPageSize}.
+	 * @return a new {@link AdaptivePageSize}.
+	 */
+	public static AdaptivePageSize of(int minPageSize, int maxPageSize) {
+
+		Assert.isTrue(minPageSize > 0, "Minimum page size must be greater zero");
+		Assert.isTrue(maxPageSize >= minPageSize, "Maximum page size must be greater or equal to minimum page size");
+
+		return new AdaptivePageSize(minPageSize, maxPageSize, DEFAULT_TARGET_BYTES_PER_PAGE,
+				DEFAULT_TARGET_PAGE_DURATION.toNanos(), page -> {});
+	}
+
+	/**
+	 * Create a new {@link AdaptivePageSize} targeting {@code targetBytesPerPage} bytes per page.
+	 *
+	 * @param targetBytesPerPage the target response size in bytes, must be greater zero.
+	 * @return a new {@link AdaptivePageSize}.
+	 */
+	public AdaptivePageSize withTargetBytesPerPage(long targetBytesPerPage) {
+
+		Assert.isTrue(targetBytesPerPage > 0, "Target bytes per page must be greater zero");
+
+		return new AdaptivePageSize(minPageSize, maxPageSize, targetBytesPerPage, targetPageDurationNanos, listener);
+	}
+
+	/**
+	 * Create a new {@link AdaptivePageSize} targeting the time a consumer requires to process a page.
+	 *
+	 * @param targetPageDuration the target page duration, must not be {@literal null} and must be positive.
+	 * @return a new {@link AdaptivePageSize}.
+	 */
+	public AdaptivePageSize withTargetPageDuration(Duration targetPageDuration) {
+
+		Assert.notNull(targetPageDuration, "Target page duration must not be null");
+		Assert.isTrue(!targetPageDuration.isNegative() && !targetPageDuration.isZero(),
+				"Target page duration must be positive");
+
+		return new AdaptivePageSize(minPageSize, maxPageSize, targetBytesPerPage, targetPageDuration.toNanos(), listener);
+	}
+
+	/**
+	 * Create a new {@link AdaptivePageSize} reporting fetched pages to the given {@link PageListener}.
+	 *
+	 * @param listener the listener, must not be {@literal null}.
+	 * @return a new {@link AdaptivePageSize}.
+	 */
+	public AdaptivePageSize withListener(PageListener listener) {
+
+		Assert.notNull(listener, "PageListener must not be null");
+
+		return new AdaptivePageSize(minPageSize, maxPageSize, targetBytesPerPage, targetPageDurationNanos, listener);
+	}
+
+	/**
+	 * @return the minimum page size.
+	 */
+	public int getMinPageSize() {
+		return this.minPageSize;
+	}
+
+	/**
+	 * @return the maximum page size.
+	 */
+	public int getMaxPageSize() {
+		return this.maxPageSize;
+	}
+
+	/**
+	 * @return the target response size per page in bytes.
+	 */
+	public long getTargetBytesPerPage() {
+		return this.targetBytesPerPage;
+	}
+
+	/**
+	 * @return the target time a consumer requires to process a page.
+	 */
+	public Duration getTargetPageDuration() {
+		return Duration.ofNanos(this.targetPageDurationNanos);
+	}
+
+	/**
+	 * Determine the page size for the first page.
+	 *
+	 * @param requestedPageSize the page size requested by the statement or template. Values less than or equal to zero
+	 *          indicate that no page size was requested.
+	 * @return the page size for the first page.
+	 */
+	public int getInitialPageSize(int requestedPageSize) {
+		return clamp(requestedPageSize > 0 ? requestedPageSize : this.minPageSize);
+	}
+
+	/**
+	 * Determine the page size for the next page from observations of the previous page.
+	 *
+	 * @param pageSize the page size of the previous page.
+	 * @param rows number of rows of the previous page.
+	 * @param responseSizeInBytes response size of the previous page in bytes. Negative if unknown.
+	 * @param consumeNanos time in nanoseconds the consumer required to process the previous page. Negative if unknown.
+	 * @return the page size for the next page.
+	 */
+	public int getNextPageSize(int pageSize, int rows, long responseSizeInBytes, long consumeNanos) {
+
+		if (rows <= 0) {
+			return clamp(pageSize);
+		}
+
+		long candidate = Math.max(pageSize, 1) * 2L;
+
+		if (responseSizeInBytes > 0) {
+			long bytesPerRow = Math.max(responseSizeInBytes / rows, 1);
+			candidate = Math.min(candidate, this.targetBytesPerPage / bytesPerRow);
+		}
+
+		if (consumeNanos > 0) {
+			candidate = Math.min(candidate, (long) (rows * ((double) this.targetPageDurationNanos / consumeNanos)));
+		}
+
+		return clamp(candidate);
+	}
+
+	/**
+	 * Determine the next page size and report the previous page to the {@link PageListener}.
+	 */
+	int nextPage(int pageSize, int rows, long responseSizeInBytes, long consumeNanos) {
+
+		int nextPageSize = getNextPageSize(pageSize, rows, responseSizeInBytes, consumeNanos);
+
+		this.listener.onPage(new Page(pageSize, rows, responseSizeInBytes, consumeNanos, nextPageSize));
+
+		return nextPageSize;
+	}
+
+	private int clamp(long pageSize) {
+		return (int) Math.max(this.minPageSize, Math.min(this.maxPageSize, pageSize));
+	}
+
+	/**
+	 * Observation of a fetched page.
+	 *
+	 * @param pageSize the requested page size.
+	 * @param rows number of rows of the page.
+	 * @param responseSizeInBytes response size in bytes. Negative if unknown.
+	 * @param consumeNanos time in nanoseconds the consumer required to process the page.
+	 * @param nextPageSize the page size chosen for the next page.
+	 */
+	public record Page(int pageSize, int rows, long responseSizeInBytes, long consumeNanos, int nextPageSize) {
+
+	}
+
+	/**
+	 * Listener notified for each fetched page that is followed by another page, typically used to record the bytes per
+	 * page and the chosen page size as metrics.
+	 */
+	@FunctionalInterface
+	public interface PageListener {
+
+		/**
+		 * Callback for a fetched page.
+		 *
+		 * @param page the page observation.
+		 */
+		void onPage(Page page);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.cassandra.ReactiveResultSet;
+import org.springframework.data.cassandra.ReactiveSession;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * {@link ReactiveResultSet} applying {@link AdaptivePageSize adaptive page sizing} to transparent paging. Subsequent
+ * pages are requested by re-executing the statement with the paging state of the previous page and a page size derived
+ * from the previous page's response size and the time it took to drain the page according to the downstream demand.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class AdaptivePagingReactiveResultSet implements ReactiveResultSet {
+
+	private final ReactiveSession session;
+
+	private final Statement<?> statement;
+
+	private final AdaptivePageSize adaptivePageSize;
+
+	private final ReactiveResultSet delegate;
+
+	private final List<ExecutionInfo> executionInfos;
+
+	private final long pageArrival = System.nanoTime();
+
+	private AdaptivePagingReactiveResultSet(ReactiveSession session, Statement<?> statement,
+			AdaptivePageSize adaptivePageSize, ReactiveResultSet delegate, List<ExecutionInfo> executionInfos) {
+
+		this.session = session;
+		this.statement = statement;
+		this.adaptivePageSize = adaptivePageSize;
+		this.delegate = delegate;
+		this.executionInfos = executionInfos;
+		this.executionInfos.add(delegate.getExecutionInfo());
+	}
+
+	/**
+	 * Execute the {@link Statement} using the initial page size determined by {@link AdaptivePageSize}.
+	 *
+	 * @param session the session to use.
+	 * @param statement the statement to execute.
+	 * @param adaptivePageSize the adaptive page size configuration.
+	 * @return the {@link ReactiveResultSet} applying adaptive page sizing.
+	 */
+	static Mono<ReactiveResultSet> execute(ReactiveSession session, Statement<?> statement,
+			AdaptivePageSize adaptivePageSize) {
+
+		Statement<?> statementToUse = statement.setPageSize(adaptivePageSize.getInitialPageSize(statement.getPageSize()));
+
+		return execute(session, statementToUse, adaptivePageSize, new CopyOnWriteArrayList<>());
+	}
+
+	private static Mono<ReactiveResultSet> execute(ReactiveSession session, Statement<?> statement,
+			AdaptivePageSize adaptivePageSize, List<ExecutionInfo> executionInfos) {
+		return session.execute(statement).map(
+				resultSet -> new AdaptivePagingReactiveResultSet(session, statement, adaptivePageSize, resultSet,
+						executionInfos));
+	}
+
+	@Override
+	public Flux<Row> rows() {
+
+		ExecutionInfo executionInfo = this.delegate.getExecutionInfo();
+		ByteBuffer pagingState = executionInfo.getPagingState();
+
+		if (pagingState == null) {
+			return this.delegate.availableRows();
+		}
+
+		AtomicInteger rows = new AtomicInteger();
+
+		return this.delegate.availableRows().doOnNext(row -> rows.incrementAndGet()).concatWith(Flux.defer(() -> {
+
+			int nextPageSize = this.adaptivePageSize.nextPage(this.statement.getPageSize(), rows.get(),
+					executionInfo.getResponseSizeInBytes(), System.nanoTime() - this.pageArrival);
+
+			Statement<?> nextPage = this.statement.setPagingState(pagingState).setPageSize(nextPageSize);
+
+			return execute(this.session, nextPage, this.adaptivePageSize, this.executionInfos)
+					.flatMapMany(ReactiveResultSet::rows);
+		}));
+	}
+
+	@Override
+	public Flux<Row> availableRows() {
+		return this.delegate.availableRows();
+	}
+
+	@Override
+	public ColumnDefinitions getColumnDefinitions() {
+		return this.delegate.getColumnDefinitions();
+	}
+
+	@Override
+	public boolean wasApplied() {
+		return this.delegate.wasApplied();
+	}
+
+	@Override
+	public ExecutionInfo getExecutionInfo() {
+		return this.executionInfos.get(this.executionInfos.size() - 1);
+	}
+
+	@Override
+	public List<ExecutionInfo> getAllExecutionInfo() {
+		return Collections.unmodifiableList(this.executionInfos);
+	}
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.DataAccessException;
@@ -78,6 +79,12 @@ import com.datastax.oss.driver.api.core.cql.Statement;
  */
 public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOperations {
 
+	private @Nullable QueryThresholds queryThresholds;
+
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
+	private RetryPolicyResolver retryPolicyResolver = RetryPolicyResolver.none();
+
 	/**
 	 * Create a new, uninitialized {@link AsyncCqlTemplate}. Note: The {@link SessionFactory} has to be set before using
 	 * the instance.
@@ -113,6 +120,68 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Configure {@link QueryThresholds} to account pages, rows, response bytes and wall time of each statement and to
+	 * report statements exceeding the configured thresholds.
+	 *
+	 * @param queryThresholds the query thresholds, can be {@literal null} to disable accounting.
+	 * @since 5.2
+	 */
+	public void setQueryThresholds(@Nullable QueryThresholds queryThresholds) {
+		this.queryThresholds = queryThresholds;
+	}
+
+	/**
+	 * @return the query thresholds, can be {@literal null} if accounting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable QueryThresholds getQueryThresholds() {
+		return this.queryThresholds;
+	}
+
+	/**
+	 * Configure a {@link ConcurrencyLimiter} to adaptively limit the number of concurrently executing statements.
+	 * Statements exceeding the limit are queued or rejected with
+	 * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param concurrencyLimiter the concurrency limiter, can be {@literal null} to disable limiting.
+	 * @since 5.2
+	 */
+	public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the concurrency limiter, can be {@literal null} if limiting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
+	/**
+	 * Configure the {@link RetryPolicyResolver} to retry idempotent statements failing with transient errors. Retries are
+	 * scheduled without blocking the calling thread.
+	 *
+	 * @param retryPolicyResolver must not be {@literal null}.
+	 * @since 5.2
+	 * @see StatementRetryPolicy
+	 */
+	public void setRetryPolicyResolver(RetryPolicyResolver retryPolicyResolver) {
+
+		Assert.notNull(retryPolicyResolver, "RetryPolicyResolver must not be null");
+
+		this.retryPolicyResolver = retryPolicyResolver;
+	}
+
+	/**
+	 * @return the {@link RetryPolicyResolver} specified for this {@link AsyncCqlTemplate}.
+	 * @since 5.2
+	 */
+	public RetryPolicyResolver getRetryPolicyResolver() {
+		return this.retryPolicyResolver;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.oss.driver.api.core.CqlSession
 	// -------------------------------------------------------------------------
@@ -155,9 +224,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug(String.format("Executing CQL statement [%s]", cql));
 			}
 
-			CompletionStage<T> results = getCurrentSession().executeAsync(applyStatementSettings(newStatement(cql)))
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(Function.identity());
+			CompletionStage<T> results = executeAndExtract(getCurrentSession(), applyStatementSettings(newStatement(cql)),
+					resultSetExtractor);
 
 			return results.exceptionallyCompose(exceptionComposition(ex -> translateExceptionIfPossible("Query", cql, ex)))
 					.toCompletableFuture();
@@ -241,10 +309,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug(String.format("Executing statement [%s]", toCql(statement)));
 			}
 
-			CompletionStage<T> results = getCurrentSession() //
-					.executeAsync(applyStatementSettings(statement)) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(Function.identity());
+			CompletionStage<T> results = executeAndExtract(getCurrentSession(), applyStatementSettings(statement),
+					resultSetExtractor);
 
 			return results
 					.exceptionallyCompose(exceptionComposition(ex -> translateExceptionIfPossible("Query", toCql(statement), ex)))
@@ -423,9 +489,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 					});
 
 			CompletableFuture<T> result = statementFuture.toCompletableFuture() //
-					.thenCompose(session::executeAsync) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(Function.identity());
+					.thenCompose(statement -> executeAndExtract(session, statement, resultSetExtractor));
 
 			return result.exceptionallyCompose(exceptionComposition(this::translateExceptionIfPossible));
 		} catch (DriverException e) {
@@ -617,6 +681,50 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		return new AsyncRowMapperResultSetExtractor<>(rowMapper);
 	}
 
+	private <T extends @Nullable Object> CompletionStage<T> executeAndExtract(CqlSession session, Statement<?> statement,
+			AsyncResultSetExtractor<T> resultSetExtractor) {
+
+		QueryThresholds queryThresholds = this.queryThresholds;
+
+		if (queryThresholds == null) {
+			return executeAsync(session, statement) //
+					.thenApply(resultSetExtractor::extractData) //
+					.thenCompose(Function.identity());
+		}
+
+		QueryAccounting accounting = new QueryAccounting(queryThresholds, statement, getStatementOperations());
+
+		return executeAsync(session, statement) //
+				.thenApply(resultSet -> resultSetExtractor.extractData(accounting.account(resultSet))) //
+				.thenCompose(Function.identity()) //
+				.whenComplete((result, ex) -> accounting
+						.complete(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex));
+	}
+
+	private CompletionStage<AsyncResultSet> executeAsync(CqlSession session, Statement<?> statement) {
+
+		Statement<?> statementToUse = getStatementOperations().attach(statement, session::getContext);
+		Supplier<CompletionStage<AsyncResultSet>> executeAsync = () -> session.executeAsync(statementToUse)
+				.thenApply(resultSet -> {
+
+					HedgingSpeculativeExecutionPolicy.onCompleted(session::getContext, resultSet.getExecutionInfo());
+					return resultSet;
+				});
+
+		ConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+		Supplier<CompletionStage<AsyncResultSet>> execution = concurrencyLimiter != null
+				? () -> concurrencyLimiter.execute(statementToUse, executeAsync)
+				: executeAsync;
+
+		StatementRetryPolicy retryPolicy = this.retryPolicyResolver.resolve(statementToUse);
+
+		if (retryPolicy == null) {
+			return execution.get();
+		}
+
+		return retryPolicy.execute(statementToUse, execution);
+	}
+
 	private CqlSession getCurrentSession() {
 
 		SessionFactory sessionFactory = getSessionFactory();
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Blocking {@link ResultSet} backed by an {@link AsyncResultSet}. Subsequent pages are requested through
+ * {@link AsyncResultSet#fetchNextPage()} and awaited with {@link java.util.concurrent.CompletableFuture#join()}.
+ * Waiting on a {@link java.util.concurrent.CompletableFuture} parks the calling thread without holding monitors so
+ * virtual threads unmount from their carrier thread while a page is being fetched.
+ * <p>
+ * When configured with an {@link AdaptivePageSize}, subsequent pages are requested by re-executing the statement with
+ * the paging state of the previous page and a page size derived from the previous page's response size and the time
+ * the caller spent consuming it.
+ * <p>
+ * Like the driver's {@link ResultSet}, this result set can be iterated only once.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class AsyncPagingResultSet implements ResultSet {
+
+	private final List<ExecutionInfo> executionInfos = new ArrayList<>(1);
+
+	private final ColumnDefinitions columnDefinitions;
+
+	private final RowIterator iterator = new RowIterator();
+
+	private AsyncResultSet current;
+
+	private Iterator<Row> currentPage;
+
+	private final @Nullable AdaptivePageFetcher pageFetcher;
+
+	AsyncPagingResultSet(AsyncResultSet resultSet) {
+		this(resultSet, null);
+	}
+
+	private AsyncPagingResultSet(AsyncResultSet resultSet, @Nullable AdaptivePageFetcher pageFetcher) {
+
+		Assert.notNull(resultSet, "AsyncResultSet must not be null");
+
+		this.columnDefinitions = resultSet.getColumnDefinitions();
+		this.current = resultSet;
+		this.currentPage = resultSet.currentPage().iterator();
+		this.executionInfos.add(resultSet.getExecutionInfo());
+		this.pageFetcher = pageFetcher;
+
+		if (pageFetcher != null) {
+			pageFetcher.onPage(resultSet);
+		}
+	}
+
+	/**
+	 * Execute the {@link Statement} using the async driver API and await the first page.
+	 *
+	 * @param session the session to use.
+	 * @param statement the statement to execute.
+	 * @return the blocking {@link ResultSet}.
+	 */
+	static ResultSet execute(CqlSession session, Statement<?> statement) {
+		return execute(session, statement, null);
+	}
+
+	/**
+	 * Execute the {@link Statement} using the async driver API and await the first page. Subsequent pages are sized
+	 * through {@link AdaptivePageSize} if configured.
+	 *
+	 * @param session the session to use.
+	 * @param statement the statement to execute.
+	 * @param adaptivePageSize the adaptive page size configuration, can be {@literal null}.
+	 * @return the blocking {@link ResultSet}.
+	 */
+	static ResultSet execute(CqlSession session, Statement<?> statement, @Nullable AdaptivePageSize adaptivePageSize) {
+
+		if (adaptivePageSize == null) {
+			return new AsyncPagingResultSet(await(session.executeAsync(statement)));
+		}
+
+		Statement<?> statementToUse = statement.setPageSize(adaptivePageSize.getInitialPageSize(statement.getPageSize()));
+		AdaptivePageFetcher pageFetcher = new AdaptivePageFetcher(session, statementToUse, adaptivePageSize);
+
+		return new AsyncPagingResultSet(await(session.executeAsync(statementToUse)), pageFetcher);
+	}
+
+	@Override
+	public ColumnDefinitions getColumnDefinitions() {
+		return this.columnDefinitions;
+	}
+
+	@Override
+	public List<ExecutionInfo> getExecutionInfos() {
+		return Collections.unmodifiableList(this.executionInfos);
+	}
+
+	@Override
+	public boolean isFullyFetched() {
+		return !this.current.hasMorePages();
+	}
+
+	@Override
+	public int getAvailableWithoutFetching() {
+		return this.current.remaining();
+	}
+
+	@Override
+	public boolean wasApplied() {
+		return this.current.wasApplied();
+	}
+
+	@Override
+	public Iterator<Row> iterator() {
+		return this.iterator;
+	}
+
+	private boolean hasNextRow() {
+
+		while (!this.currentPage.hasNext()) {
+
+			if (!this.current.hasMorePages()) {
+				return false;
+			}
+
+			this.current = await(this.pageFetcher != null ? this.pageFetcher.fetchNextPage(this.current)
+					: this.current.fetchNextPage());
+			this.currentPage = this.current.currentPage().iterator();
+			this.executionInfos.add(this.current.getExecutionInfo());
+
+			if (this.pageFetcher != null) {
+				this.pageFetcher.onPage(this.current);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Await the completion of the given {@link CompletionStage} and unwrap {@link CompletionException}s so that driver
+	 * exceptions can be translated by the caller.
+	 */
+	private static <T> T await(CompletionStage<T> stage) {
+
+		try {
+			return stage.toCompletableFuture().join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+
+			throw e;
+		}
+	}
+
+	private class RowIterator implements Iterator<Row> {
+
+		@Override
+		public boolean hasNext() {
+			return hasNextRow();
+		}
+
+		@Override
+		public Row next() {
+
+			if (!hasNextRow()) {
+				throw new NoSuchElementException();
+			}
+
+			return currentPage.next();
+		}
+	}
+
+	/**
+	 * Fetches subsequent pages by re-executing the statement with the paging state of the previous page and an adapted
+	 * page size.
+	 */
+	private static class AdaptivePageFetcher {
+
+		private final CqlSession session;
+
+		private final AdaptivePageSize adaptivePageSize;
+
+		private Statement<?> statement;
+
+		private int pageRows;
+
+		private long pageArrival;
+
+		AdaptivePageFetcher(CqlSession session, Statement<?> statement, AdaptivePageSize adaptivePageSize) {
+			this.session = session;
+			this.statement = statement;
+			this.adaptivePageSize = adaptivePageSize;
+		}
+
+		void onPage(AsyncResultSet page) {
+			this.pageRows = page.remaining();
+			this.pageArrival = System.nanoTime();
+		}
+
+		CompletionStage<AsyncResultSet> fetchNextPage(AsyncResultSet page) {
+
+			ExecutionInfo executionInfo = page.getExecutionInfo();
+			int nextPageSize = this.adaptivePageSize.nextPage(this.statement.getPageSize(), this.pageRows,
+					executionInfo.getResponseSizeInBytes(), System.nanoTime() - this.pageArrival);
+
+			this.statement = this.statement.setPagingState(executionInfo.getPagingState()).setPageSize(nextPageSize);
+
+			return this.session.executeAsync(this.statement);
+		}
+	}
+}
@@ -61,6 +61,11 @@ public class CassandraAccessor implements InitializingBean {
 	 */
 	private ExecutionProfileResolver executionProfileResolver = ExecutionProfileResolver.none();
 
+	/**
+	 * Registry of {@link StatementOperation}s attached to statements before executing them.
+	 */
+	private StatementOperations statementOperations = new StatementOperations();
+
 	/**
 	 * If this variable is set to a value, it will be used for setting the {@code keyspace} property on statements used
 	 * for query processing.
@@ -174,6 +179,29 @@ public class CassandraAccessor implements InitializingBean {
 		return executionProfileResolver;
 	}
 
+	/**
+	 * Set the {@link StatementOperations} registry for this template. Statement factories register the
+	 * {@link StatementOperation} of statements they create with the registry and the template attaches the registered
+	 * operation to the statement before executing it.
+	 *
+	 * @param statementOperations must not be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setStatementOperations(StatementOperations statementOperations) {
+
+		Assert.notNull(statementOperations, "StatementOperations must not be null");
+
+		this.statementOperations = statementOperations;
+	}
+
+	/**
+	 * @return the {@link StatementOperations} registry of this template.
+	 * @since 5.2
+	 */
+	public StatementOperations getStatementOperations() {
+		return this.statementOperations;
+	}
+
 	/**
 	 * Set the {@link CqlIdentifier keyspace} to be applied on statement-level for this template. If not set, the default
 	 * {@link CqlSession} keyspace will be used.
@@ -74,6 +74,10 @@ public class CassandraExceptionTranslator implements CqlExceptionTranslator {
 	public @Nullable DataAccessException translate(@Nullable String task, @Nullable String cql,
 			RuntimeException exception) {
 
+		if (exception instanceof DataAccessException dataAccessException) {
+			return dataAccessException;
+		}
+
 		String message = buildMessage(task, cql, exception);
 
 		// Remember: subclasses must come before superclasses, otherwise the
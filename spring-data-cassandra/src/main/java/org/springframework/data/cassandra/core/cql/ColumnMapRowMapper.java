@@ -15,10 +15,12 @@
  */
 package org.springframework.data.cassandra.core.cql;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.ReflectionUtils;
 
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
@@ -31,21 +33,38 @@ import com.datastax.oss.driver.api.core.cql.Row;
  * The Map implementation to use and the key to use for each column in the column Map can be customized through
  * overriding {@link #createColumnMap} and {@link #getColumnKey}, respectively.
  * <p>
- * <b>Note:</b> By default, ColumnMapRowMapper will try to build a linked Map with case-insensitive keys, to preserve
- * column order as well as allow any casing to be used for column names. This requires Commons Collections on the
- * classpath (which will be autodetected). Else, the fallback is a standard linked HashMap, which will still preserve
- * column order but requires the application to specify the column names in the same casing as exposed by the driver.
+ * Unless {@link #createColumnMap} is overridden, rows are represented as {@link RowMap lazy views} that preserve column
+ * order and allow any casing to be used for column names. Column values are decoded on first access through
+ * {@link #getColumnValue}. Column keys are computed once per result and shared across its rows. Modifying a column
+ * map copies the row into the Map created by {@link #createColumnMap}. Subclasses overriding {@link #createColumnMap}
+ * receive the Map they create, populated with all columns.
  *
  * @author Mark Paluch
  * @since 2.0
+ * @see RowMap
  * @see ReactiveCqlTemplate#queryForFlux(String)
  * @see ReactiveCqlTemplate#queryForMap(String)
  */
 public class ColumnMapRowMapper implements RowMapper<Map<String, @Nullable Object>> {
 
+	private final boolean useRowMap = isDefaultColumnMap(getClass());
+
+	private volatile RowMap.@Nullable ColumnIndex columnIndex;
+
 	@Override
 	public Map<String, @Nullable Object> mapRow(Row rs, int rowNum) {
 
+		if (!this.useRowMap) {
+			return copyColumns(rs);
+		}
+
+		RowMap.ColumnIndex columnIndex = getColumnIndex(rs.getColumnDefinitions());
+
+		return new RowMap(rs, columnIndex, this::getColumnValue, () -> createColumnMap(columnIndex.size()));
+	}
+
+	private Map<String, @Nullable Object> copyColumns(Row rs) {
+
 		ColumnDefinitions columnDefinitions = rs.getColumnDefinitions();
 		int columnCount = columnDefinitions.size();
 		Map<String, @Nullable Object> mapOfColValues = createColumnMap(columnCount);
@@ -60,8 +79,27 @@ public class ColumnMapRowMapper implements RowMapper<Map<String, @Nullable Objec
 		return mapOfColValues;
 	}
 
+	private static boolean isDefaultColumnMap(Class<?> type) {
+
+		Method method = ReflectionUtils.findMethod(type, "createColumnMap", int.class);
+
+		return method == null || ColumnMapRowMapper.class.equals(method.getDeclaringClass());
+	}
+
+	private RowMap.ColumnIndex getColumnIndex(ColumnDefinitions columnDefinitions) {
+
+		RowMap.ColumnIndex columnIndex = this.columnIndex;
+
+		if (columnIndex == null || !columnIndex.isFor(columnDefinitions)) {
+			columnIndex = RowMap.ColumnIndex.of(columnDefinitions, this::getColumnKey);
+			this.columnIndex = columnIndex;
+		}
+
+		return columnIndex;
+	}
+
 	/**
-	 * Create a {@link Map} instance to be used as column map.
+	 * Create a {@link Map} instance to be used as column map when a column map gets modified.
 	 * <p>
 	 * By default, a linked case-insensitive Map will be created.
 	 *
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Columnar representation of a query result. Each column specified through {@link Columns} is held as a column vector
+ * with one element per row. Numeric columns are represented as primitive arrays, other columns as
+ * {@link BytesVector} holding the serialized values. {@literal null} values are represented as {@code 0} in primitive
+ * arrays and can be detected through {@link #isNull(String, int)}.
+ * <p>
+ * Column vectors are exposed without copying and must not be modified.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see Columns
+ * @see ColumnarResultSetExtractor
+ */
+public final class ColumnarResult {
+
+	private final int size;
+
+	private final Map<String, Object> vectors;
+
+	private final Map<String, BitSet> nulls;
+
+	ColumnarResult(int size, Map<String, Object> vectors, Map<String, BitSet> nulls) {
+		this.size = size;
+		this.vectors = vectors;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * @return the number of rows.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * @return {@literal true} if the result contains no rows.
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Return the {@code long[]} vector of a column specified through {@link Columns#withLongs(String)}.
+	 *
+	 * @param column the column name as specified in {@link Columns}.
+	 * @return the column vector.
+	 * @throws IllegalArgumentException if the column was not specified as {@code long} column.
+	 */
+	public long[] getLongs(String column) {
+		return getVector(column, long[].class);
+	}
+
+	/**
+	 * Return the {@code double[]} vector of a column specified through {@link Columns#withDoubles(String)}.
+	 *
+	 * @param column the column name as specified in {@link Columns}.
+	 * @return the column vector.
+	 * @throws IllegalArgumentException if the column was not specified as {@code double} column.
+	 */
+	public double[] getDoubles(String column) {
+		return getVector(column, double[].class);
+	}
+
+	/**
+	 * Return the {@code int[]} vector of a column specified through {@link Columns#withInts(String)}.
+	 *
+	 * @param column the column name as specified in {@link Columns}.
+	 * @return the column vector.
+	 * @throws IllegalArgumentException if the column was not specified as {@code int} column.
+	 */
+	public int[] getInts(String column) {
+		return getVector(column, int[].class);
+	}
+
+	/**
+	 * Return the {@link BytesVector} of a column specified through {@link Columns#withBytes(String)}.
+	 *
+	 * @param column the column name as specified in {@link Columns}.
+	 * @return the column vector.
+	 * @throws IllegalArgumentException if the column was not specified as bytes column.
+	 */
+	public BytesVector getBytes(String column) {
+		return getVector(column, BytesVector.class);
+	}
+
+	/**
+	 * Check whether the value of {@code column} in the row at {@code index} is {@literal null}.
+	 *
+	 * @param column the column name as specified in {@link Columns}.
+	 * @param index the row index.
+	 * @return {@literal true} if the value is {@literal null}.
+	 */
+	public boolean isNull(String column, int index) {
+
+		BitSet nulls = this.nulls.get(column);
+
+		Assert.notNull(nulls, () -> String.format("Column [%s] not contained in result", column));
+		Assert.isTrue(index >= 0 && index < this.size, () -> String.format("Row index [%d] out of bounds", index));
+
+		return nulls.get(index);
+	}
+
+	private <T> T getVector(String column, Class<T> vectorType) {
+
+		Object vector = this.vectors.get(column);
+
+		Assert.notNull(vector, () -> String.format("Column [%s] not contained in result", column));
+		Assert.isInstanceOf(vectorType, vector, () -> String.format("Column [%s] is not a %s column", column,
+				vectorType.isArray() ? vectorType.getComponentType().getName() : "bytes"));
+
+		return vectorType.cast(vector);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ColumnarResult [size=%d, columns=%s]", this.size, this.vectors.keySet());
+	}
+
+	/**
+	 * Column vector holding serialized values of a column in a single {@link ByteBuffer}.
+	 */
+	public static final class BytesVector {
+
+		private final ByteBuffer buffer;
+
+		private final int[] offsets;
+
+		private final int[] lengths;
+
+		BytesVector(ByteBuffer buffer, int[] offsets, int[] lengths) {
+			this.buffer = buffer;
+			this.offsets = offsets;
+			this.lengths = lengths;
+		}
+
+		/**
+		 * @return the number of values.
+		 */
+		public int size() {
+			return this.offsets.length;
+		}
+
+		/**
+		 * Return the serialized value at {@code index} as read-only {@link ByteBuffer} sharing the content of the vector.
+		 *
+		 * @param index the row index.
+		 * @return the serialized value or {@literal null} if the value is {@literal null}.
+		 */
+		public @Nullable ByteBuffer get(int index) {
+
+			int length = this.lengths[index];
+
+			if (length < 0) {
+				return null;
+			}
+
+			return this.buffer.asReadOnlyBuffer().position(this.offsets[index]).limit(this.offsets[index] + length).slice();
+		}
+
+		/**
+		 * Return the length of the serialized value at {@code index}.
+		 *
+		 * @param index the row index.
+		 * @return the length in bytes or {@code -1} if the value is {@literal null}.
+		 */
+		public int getLength(int index) {
+			return this.lengths[index];
+		}
+
+		/**
+		 * @return the read-only buffer holding all serialized values.
+		 * @see #getOffset(int)
+		 * @see #getLength(int)
+		 */
+		public ByteBuffer getBuffer() {
+			return this.buffer.asReadOnlyBuffer();
+		}
+
+		/**
+		 * Return the offset of the serialized value at {@code index} within {@link #getBuffer()}.
+		 *
+		 * @param index the row index.
+		 * @return the offset.
+		 */
+		public int getOffset(int index) {
+			return this.offsets[index];
+		}
+	}
+}
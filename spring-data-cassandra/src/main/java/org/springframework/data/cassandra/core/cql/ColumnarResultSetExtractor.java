@@ -0,0 +1,395 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+/**
+ * {@link ResultSetExtractor} reading the {@link Columns columns} of a {@link ResultSet} into a {@link ColumnarResult}.
+ * Values are decoded directly into primitive column vectors without creating per-row objects. Non-numeric columns are
+ * copied in their serialized form without decoding. Column vectors grow page by page according to the rows available
+ * without fetching so that paged results are not resized per row.
+ * <p>
+ * This class is stateless and can be reused across queries.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CqlOperations#queryForColumns(String, Columns)
+ */
+public class ColumnarResultSetExtractor implements ResultSetExtractor<ColumnarResult> {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private final Columns columns;
+
+	/**
+	 * Create a new {@link ColumnarResultSetExtractor} for the given {@link Columns}.
+	 *
+	 * @param columns must not be {@literal null} or empty.
+	 */
+	public ColumnarResultSetExtractor(Columns columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+		Assert.isTrue(!columns.isEmpty(), "Columns must not be empty");
+
+		this.columns = columns;
+	}
+
+	@Override
+	public ColumnarResult extractData(ResultSet resultSet) throws DriverException {
+
+		ColumnDefinitions columnDefinitions = resultSet.getColumnDefinitions();
+		List<Columns.Column> columns = this.columns.getColumns();
+
+		int capacity = Math.max(resultSet.getAvailableWithoutFetching(), MIN_CAPACITY);
+		ColumnVector[] vectors = new ColumnVector[columns.size()];
+
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = createVector(columns.get(i), columnDefinitions, capacity);
+		}
+
+		int size = 0;
+		Iterator<Row> iterator = resultSet.iterator();
+
+		while (iterator.hasNext()) {
+
+			Row row = iterator.next();
+
+			if (size == capacity) {
+
+				capacity = Math.max(size + resultSet.getAvailableWithoutFetching() + 1, size + (size >> 1));
+
+				for (ColumnVector vector : vectors) {
+					vector.grow(capacity);
+				}
+			}
+
+			for (ColumnVector vector : vectors) {
+				vector.read(row, size);
+			}
+
+			size++;
+		}
+
+		Map<String, Object> result = new LinkedHashMap<>(vectors.length * 2);
+		Map<String, BitSet> nulls = new LinkedHashMap<>(vectors.length * 2);
+
+		for (int i = 0; i < vectors.length; i++) {
+			result.put(columns.get(i).name(), vectors[i].complete(size));
+			nulls.put(columns.get(i).name(), vectors[i].nulls);
+		}
+
+		return new ColumnarResult(size, result, nulls);
+	}
+
+	private static ColumnVector createVector(Columns.Column column, ColumnDefinitions columnDefinitions,
+			int capacity) {
+
+		int index = columnDefinitions.firstIndexOf(column.name());
+
+		if (index == -1) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Column [%s] not contained in result; Available columns: %s", column.name(),
+							getColumnNames(columnDefinitions)));
+		}
+
+		DataType type = columnDefinitions.get(index).getType();
+
+		return switch (column.type()) {
+			case LONG -> new LongVector(column, index, type, capacity);
+			case DOUBLE -> new DoubleVector(column, index, type, capacity);
+			case INT -> new IntVector(column, index, type, capacity);
+			case BYTES -> new SerializedVector(index, capacity);
+		};
+	}
+
+	private static String getColumnNames(ColumnDefinitions columnDefinitions) {
+
+		StringBuilder names = new StringBuilder("[");
+
+		for (int i = 0; i < columnDefinitions.size(); i++) {
+
+			if (i > 0) {
+				names.append(", ");
+			}
+
+			names.append(columnDefinitions.get(i).getName().asCql(true));
+		}
+
+		return names.append("]").toString();
+	}
+
+	private static TypeMismatchDataAccessException typeMismatch(Columns.Column column, DataType type) {
+		return new TypeMismatchDataAccessException(String.format("Column [%s] of type [%s] cannot be read as %s",
+				column.name(), type.asCql(false, true), column.type()));
+	}
+
+	/**
+	 * Growable column vector.
+	 */
+	private abstract static class ColumnVector {
+
+		final int index;
+
+		final BitSet nulls = new BitSet();
+
+		ColumnVector(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Read the column value of {@code row} into {@code position}.
+		 */
+		abstract void read(Row row, int position);
+
+		/**
+		 * Mark {@code position} as {@literal null} if the column value of {@code row} is {@literal null}.
+		 *
+		 * @return {@literal true} if the column value is {@literal null}.
+		 */
+		boolean readNull(Row row, int position) {
+
+			if (row.isNull(this.index)) {
+				this.nulls.set(position);
+				return true;
+			}
+
+			return false;
+		}
+
+		abstract void grow(int capacity);
+
+		/**
+		 * Complete the vector by trimming it to {@code size}.
+		 */
+		abstract Object complete(int size);
+	}
+
+	private static class LongVector extends ColumnVector {
+
+		private final DataType type;
+
+		private long[] values;
+
+		LongVector(Columns.Column column, int index, DataType type, int capacity) {
+
+			super(index);
+
+			if (!type.equals(DataTypes.BIGINT) && !type.equals(DataTypes.COUNTER) && !type.equals(DataTypes.TIME)
+					&& !IntVector.isIntType(type)) {
+				throw typeMismatch(column, type);
+			}
+
+			this.type = type;
+			this.values = new long[capacity];
+		}
+
+		@Override
+		void read(Row row, int position) {
+
+			if (readNull(row, position)) {
+				return;
+			}
+
+			if (type.equals(DataTypes.INT)) {
+				values[position] = row.getInt(index);
+			} else if (type.equals(DataTypes.SMALLINT)) {
+				values[position] = row.getShort(index);
+			} else if (type.equals(DataTypes.TINYINT)) {
+				values[position] = row.getByte(index);
+			} else {
+				values[position] = row.getLong(index);
+			}
+		}
+
+		@Override
+		void grow(int capacity) {
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+
+		@Override
+		Object complete(int size) {
+			return size == this.values.length ? this.values : Arrays.copyOf(this.values, size);
+		}
+	}
+
+	private static class DoubleVector extends ColumnVector {
+
+		private final boolean isFloat;
+
+		private double[] values;
+
+		DoubleVector(Columns.Column column, int index, DataType type, int capacity) {
+
+			super(index);
+
+			if (!type.equals(DataTypes.DOUBLE) && !type.equals(DataTypes.FLOAT)) {
+				throw typeMismatch(column, type);
+			}
+
+			this.isFloat = type.equals(DataTypes.FLOAT);
+			this.values = new double[capacity];
+		}
+
+		@Override
+		void read(Row row, int position) {
+
+			if (!readNull(row, position)) {
+				values[position] = isFloat ? row.getFloat(index) : row.getDouble(index);
+			}
+		}
+
+		@Override
+		void grow(int capacity) {
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+
+		@Override
+		Object complete(int size) {
+			return size == this.values.length ? this.values : Arrays.copyOf(this.values, size);
+		}
+	}
+
+	private static class IntVector extends ColumnVector {
+
+		private final DataType type;
+
+		private int[] values;
+
+		IntVector(Columns.Column column, int index, DataType type, int capacity) {
+
+			super(index);
+
+			if (!isIntType(type)) {
+				throw typeMismatch(column, type);
+			}
+
+			this.type = type;
+			this.values = new int[capacity];
+		}
+
+		static boolean isIntType(DataType type) {
+			return type.equals(DataTypes.INT) || type.equals(DataTypes.SMALLINT) || type.equals(DataTypes.TINYINT);
+		}
+
+		@Override
+		void read(Row row, int position) {
+
+			if (readNull(row, position)) {
+				return;
+			}
+
+			if (type.equals(DataTypes.SMALLINT)) {
+				values[position] = row.getShort(index);
+			} else if (type.equals(DataTypes.TINYINT)) {
+				values[position] = row.getByte(index);
+			} else {
+				values[position] = row.getInt(index);
+			}
+		}
+
+		@Override
+		void grow(int capacity) {
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+
+		@Override
+		Object complete(int size) {
+			return size == this.values.length ? this.values : Arrays.copyOf(this.values, size);
+		}
+	}
+
+	private static class SerializedVector extends ColumnVector {
+
+		private ByteBuffer buffer;
+
+		private int[] offsets;
+
+		private int[] lengths;
+
+		SerializedVector(int index, int capacity) {
+
+			super(index);
+
+			this.buffer = ByteBuffer.allocate(capacity * MIN_CAPACITY);
+			this.offsets = new int[capacity];
+			this.lengths = new int[capacity];
+		}
+
+		@Override
+		void read(Row row, int position) {
+
+			ByteBuffer value = row.getBytesUnsafe(index);
+
+			if (value == null) {
+				nulls.set(position);
+				offsets[position] = buffer.position();
+				lengths[position] = -1;
+				return;
+			}
+
+			ByteBuffer source = value.duplicate();
+			int length = source.remaining();
+
+			if (buffer.remaining() < length) {
+
+				long required = (long) buffer.position() + length;
+				int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, (long) buffer.capacity() << 1));
+
+				Assert.state(newCapacity >= required, "Column values exceed the maximum vector capacity");
+
+				buffer = ByteBuffer.allocate(newCapacity).put(buffer.flip());
+			}
+
+			offsets[position] = buffer.position();
+			lengths[position] = length;
+			buffer.put(source);
+		}
+
+		@Override
+		void grow(int capacity) {
+			this.offsets = Arrays.copyOf(this.offsets, capacity);
+			this.lengths = Arrays.copyOf(this.lengths, capacity);
+		}
+
+		@Override
+		Object complete(int size) {
+
+			ByteBuffer data = buffer.duplicate().flip();
+
+			return new ColumnarResult.BytesVector(data,
+					size == offsets.length ? offsets : Arrays.copyOf(offsets, size),
+					size == lengths.length ? lengths : Arrays.copyOf(lengths, size));
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Specification of columns to read into a {@link ColumnarResult}. Each column is read into a column vector of a
+ * {@link Type}: primitive arrays for numeric columns and a {@link java.nio.ByteBuffer}-backed vector holding the raw
+ * serialized value for any other column. Columns are identified by their CQL name.
+ * <p>
+ * {@link Columns} is immutable. Use {@link #empty()} and the {@code with…} methods to specify columns:
+ *
+ * <pre class="code">
+ * Columns columns = Columns.empty().withLongs("views").withDoubles("revenue");
+ * ColumnarResult result = cqlOperations.queryForColumns("SELECT views, revenue FROM daily_stats", columns);
+ *
+ * long[] views = result.getLongs("views");
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ColumnarResult
+ * @see ColumnarResultSetExtractor
+ */
+public final class Columns {
+
+	private static final Columns EMPTY = new Columns(Collections.emptyList());
+
+	private final List<Column> columns;
+
+	private Columns(List<Column> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Create an empty {@link Columns} specification.
+	 *
+	 * @return an empty {@link Columns} specification.
+	 */
+	public static Columns empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create new {@link Columns} additionally reading {@code name} into a {@code long[]} vector. Applicable to
+	 * {@code bigint}, {@code counter}, {@code time}, {@code int}, {@code smallint} and {@code tinyint} columns.
+	 *
+	 * @param name the column name, must not be {@literal null} or empty.
+	 * @return new {@link Columns}.
+	 */
+	public Columns withLongs(String name) {
+		return with(name, Type.LONG);
+	}
+
+	/**
+	 * Create new {@link Columns} additionally reading {@code name} into a {@code double[]} vector. Applicable to
+	 * {@code double} and {@code float} columns.
+	 *
+	 * @param name the column name, must not be {@literal null} or empty.
+	 * @return new {@link Columns}.
+	 */
+	public Columns withDoubles(String name) {
+		return with(name, Type.DOUBLE);
+	}
+
+	/**
+	 * Create new {@link Columns} additionally reading {@code name} into an {@code int[]} vector. Applicable to
+	 * {@code int}, {@code smallint} and {@code tinyint} columns.
+	 *
+	 * @param name the column name, must not be {@literal null} or empty.
+	 * @return new {@link Columns}.
+	 */
+	public Columns withInts(String name) {
+		return with(name, Type.INT);
+	}
+
+	/**
+	 * Create new {@link Columns} additionally reading the serialized value of {@code name} into a
+	 * {@link ColumnarResult.BytesVector}. Values are not decoded. Applicable to any column type.
+	 *
+	 * @param name the column name, must not be {@literal null} or empty.
+	 * @return new {@link Columns}.
+	 */
+	public Columns withBytes(String name) {
+		return with(name, Type.BYTES);
+	}
+
+	private Columns with(String name, Type type) {
+
+		Assert.hasText(name, "Column name must not be empty");
+
+		for (Column column : this.columns) {
+			Assert.isTrue(!column.name().equals(name), () -> String.format("Column [%s] already specified", name));
+		}
+
+		List<Column> columns = new ArrayList<>(this.columns.size() + 1);
+		columns.addAll(this.columns);
+		columns.add(new Column(name, type));
+
+		return new Columns(Collections.unmodifiableList(columns));
+	}
+
+	/**
+	 * @return the specified columns in specification order.
+	 */
+	public List<Column> getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * @return {@literal true} if no columns are specified.
+	 */
+	public boolean isEmpty() {
+		return this.columns.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "Columns" + this.columns;
+	}
+
+	/**
+	 * Type of a column vector.
+	 */
+	public enum Type {
+		LONG, DOUBLE, INT, BYTES
+	}
+
+	/**
+	 * A column to read.
+	 *
+	 * @param name the column name.
+	 * @param type the vector type.
+	 */
+	public record Column(String name, Type type) {
+
+		@Override
+		public String toString() {
+			return name + " " + type;
+		}
+	}
+}
@@ -0,0 +1,619 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.RequestThrottlingException;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.connection.BusyConnectionException;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+
+/**
+ * Client-side adaptive concurrency limiter for statement executions. The limiter maintains a concurrency limit per
+ * partition (by default per keyspace) and adjusts it using additive increase, multiplicative decrease (AIMD): The limit
+ * grows by one for each request that completes within the {@link ConcurrencyLimiterBuilder#latencyThreshold(Duration)
+ * latency threshold} while the partition is utilized, and shrinks by the
+ * {@link ConcurrencyLimiterBuilder#backoffRatio(double) backoff ratio} when a request exceeds the latency threshold or
+ * fails with a timeout or overload error. Requests exceeding the limit are queued up to the
+ * {@link ConcurrencyLimiterBuilder#maxQueueDepth(int) queue depth} and rejected with
+ * {@link CassandraConcurrencyLimitExceededException} otherwise so that excess load is shed on the client instead of
+ * filling the driver's in-flight queues.
+ * <p>
+ * A permit is held from submitting a statement until its first page has been received. Current limits, queue depths
+ * and rejection counts are available through {@link #getStatistics()}. {@link ConcurrencyLimiter} is thread-safe and
+ * can be shared across {@link CqlTemplate}, {@link AsyncCqlTemplate} and {@link ReactiveCqlTemplate}:
+ *
+ * <pre class="code">
+ * ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(50).maxLimit(500)
+ * 		.latencyThreshold(Duration.ofMillis(200)).maxQueueDepth(100).build();
+ *
+ * template.setConcurrencyLimiter(limiter);
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CqlTemplate#setConcurrencyLimiter(ConcurrencyLimiter)
+ * @see AsyncCqlTemplate#setConcurrencyLimiter(ConcurrencyLimiter)
+ * @see ReactiveCqlTemplate#setConcurrencyLimiter(ConcurrencyLimiter)
+ */
+public final class ConcurrencyLimiter {
+
+	private static final Log logger = LogFactory.getLog(ConcurrencyLimiter.class);
+
+	private final int initialLimit;
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final int maxQueueDepth;
+
+	private final Duration maxQueueWait;
+
+	private final Function<Statement<?>, String> partitionFunction;
+
+	private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+	private ConcurrencyLimiter(ConcurrencyLimiterBuilder builder) {
+
+		this.initialLimit = builder.initialLimit;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+		this.backoffRatio = builder.backoffRatio;
+		this.maxQueueDepth = builder.maxQueueDepth;
+		this.maxQueueWait = builder.maxQueueWait;
+		this.partitionFunction = builder.partitionFunction;
+	}
+
+	/**
+	 * Create a new {@link ConcurrencyLimiterBuilder} to configure a {@link ConcurrencyLimiter}.
+	 *
+	 * @return a new {@link ConcurrencyLimiterBuilder}.
+	 */
+	public static ConcurrencyLimiterBuilder builder() {
+		return new ConcurrencyLimiterBuilder();
+	}
+
+	/**
+	 * Return a snapshot of the current limit, in-flight requests, queue depth and rejection count of each partition.
+	 *
+	 * @return the statistics of each partition.
+	 */
+	public List<Statistics> getStatistics() {
+
+		List<Statistics> statistics = new ArrayList<>(this.partitions.size());
+
+		for (Partition partition : this.partitions.values()) {
+			statistics.add(partition.getStatistics());
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Return a snapshot of the statistics of the given partition.
+	 *
+	 * @param partition the partition key, such as the keyspace or execution profile name.
+	 * @return the statistics or {@literal null} if no statement was executed for the given partition.
+	 */
+	public @Nullable Statistics getStatistics(String partition) {
+
+		Partition it = this.partitions.get(partition);
+		return it != null ? it.getStatistics() : null;
+	}
+
+	/**
+	 * Acquire a permit for the given {@link Statement} and execute {@code action} once the permit was granted. The
+	 * permit is released when the returned stage completes.
+	 *
+	 * @param statement the statement to execute.
+	 * @param action the action to execute.
+	 * @return the completion stage of {@code action}.
+	 */
+	<T> CompletionStage<T> execute(Statement<?> statement, Supplier<? extends CompletionStage<T>> action) {
+
+		return acquireAsync(statement).thenCompose(permit -> {
+
+			CompletionStage<T> stage;
+
+			try {
+				stage = action.get();
+			} catch (RuntimeException ex) {
+				permit.onError(ex);
+				throw ex;
+			}
+
+			return stage.whenComplete((result, ex) -> {
+
+				if (ex == null) {
+					permit.onSuccess();
+				} else {
+					permit.onError(ex);
+				}
+			});
+		});
+	}
+
+	/**
+	 * Acquire a permit for the given {@link Statement} blocking the calling thread while the request is queued.
+	 *
+	 * @param statement the statement to execute.
+	 * @return the granted permit.
+	 * @throws CassandraConcurrencyLimitExceededException if the request was rejected.
+	 */
+	Permit acquire(Statement<?> statement) {
+
+		CompletableFuture<Permit> future = acquireAsync(statement);
+
+		try {
+			return future.get();
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+
+			if (!future.cancel(false)) {
+				future.thenAccept(Permit::release);
+			}
+
+			throw new CassandraConcurrencyLimitExceededException("Interrupted while waiting for a permit", ex);
+		} catch (ExecutionException ex) {
+
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			throw new CassandraConcurrencyLimitExceededException("Failed to acquire a permit", ex.getCause());
+		}
+	}
+
+	/**
+	 * Acquire a permit for the given {@link Statement}. The returned future completes when the permit was granted or
+	 * fails with {@link CassandraConcurrencyLimitExceededException} if the request was rejected. Cancelling the future
+	 * withdraws a queued request.
+	 *
+	 * @param statement the statement to execute.
+	 * @return the future permit.
+	 */
+	CompletableFuture<Permit> acquireAsync(Statement<?> statement) {
+
+		String key = this.partitionFunction.apply(statement);
+		Partition partition = this.partitions.computeIfAbsent(key, Partition::new);
+		CompletableFuture<Permit> waiter;
+
+		synchronized (partition) {
+
+			if (partition.inFlight < (int) partition.limit) {
+				partition.inFlight++;
+				return CompletableFuture.completedFuture(new Permit(partition));
+			}
+
+			if (partition.queue.size() >= this.maxQueueDepth) {
+				return CompletableFuture.failedFuture(reject(partition, "queue is full"));
+			}
+
+			waiter = new CompletableFuture<>();
+			partition.queue.add(waiter);
+		}
+
+		waiter.whenComplete((permit, ex) -> {
+
+			if (ex != null) {
+				synchronized (partition) {
+					partition.queue.remove(waiter);
+				}
+			}
+		});
+
+		CompletableFuture.delayedExecutor(this.maxQueueWait.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+
+			boolean expired;
+
+			synchronized (partition) {
+				expired = partition.queue.remove(waiter);
+			}
+
+			if (expired) {
+				waiter.completeExceptionally(reject(partition, "timed out waiting in queue"));
+			}
+		});
+
+		return waiter;
+	}
+
+	private CassandraConcurrencyLimitExceededException reject(Partition partition, String reason) {
+
+		partition.rejected.increment();
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Rejecting statement for [%s], %s: %s", partition.key, reason,
+					partition.getStatistics()));
+		}
+
+		return new CassandraConcurrencyLimitExceededException(
+				String.format("Concurrency limit of %d exceeded for [%s]; Request rejected, %s", (int) partition.limit,
+						partition.key, reason));
+	}
+
+	private static boolean isOverloaded(Throwable throwable) {
+
+		Throwable error = throwable;
+
+		while (error instanceof CompletionException && error.getCause() != null) {
+			error = error.getCause();
+		}
+
+		return error instanceof DriverTimeoutException || error instanceof OverloadedException
+				|| error instanceof ReadTimeoutException || error instanceof WriteTimeoutException
+				|| error instanceof BusyConnectionException || error instanceof RequestThrottlingException;
+	}
+
+	private static String getKeyspace(Statement<?> statement) {
+
+		CqlIdentifier keyspace = statement.getKeyspace();
+
+		if (keyspace == null) {
+			keyspace = statement.getRoutingKeyspace();
+		}
+
+		if (keyspace != null) {
+			return keyspace.asInternal();
+		}
+
+		StatementOperation operation = StatementOperation.from(statement);
+
+		return operation != null && operation.getKeyspace() != null ? operation.getKeyspace() : "";
+	}
+
+	private static String getExecutionProfile(Statement<?> statement) {
+
+		DriverExecutionProfile profile = statement.getExecutionProfile();
+
+		if (profile != null) {
+			return profile.getName();
+		}
+
+		String profileName = statement.getExecutionProfileName();
+
+		return profileName != null ? profileName : DriverExecutionProfile.DEFAULT_NAME;
+	}
+
+	/**
+	 * Statistics of a limiter partition.
+	 *
+	 * @param partition the partition key.
+	 * @param limit the current concurrency limit.
+	 * @param inFlight the number of requests currently holding a permit.
+	 * @param queueDepth the number of queued requests.
+	 * @param rejected the total number of rejected requests.
+	 */
+	public record Statistics(String partition, int limit, int inFlight, int queueDepth, long rejected) {
+
+	}
+
+	/**
+	 * Concurrency limit state of a single partition.
+	 */
+	private class Partition {
+
+		private final String key;
+
+		private final ArrayDeque<CompletableFuture<Permit>> queue = new ArrayDeque<>();
+
+		private final LongAdder rejected = new LongAdder();
+
+		private double limit = initialLimit;
+
+		private int inFlight;
+
+		Partition(String key) {
+			this.key = key;
+		}
+
+		void release(long latencyNanos, boolean sample, boolean dropped) {
+
+			List<CompletableFuture<Permit>> granted = null;
+
+			synchronized (this) {
+
+				if (sample) {
+
+					if (dropped || latencyNanos > latencyThresholdNanos) {
+						limit = Math.max(minLimit, limit * backoffRatio);
+					} else if (inFlight * 2 >= limit) {
+						limit = Math.min(maxLimit, limit + 1);
+					}
+				}
+
+				inFlight--;
+
+				while (inFlight < (int) limit && !queue.isEmpty()) {
+
+					if (granted == null) {
+						granted = new ArrayList<>();
+					}
+
+					granted.add(queue.poll());
+					inFlight++;
+				}
+			}
+
+			if (granted != null) {
+				for (CompletableFuture<Permit> waiter : granted) {
+
+					Permit permit = new Permit(this);
+
+					if (!waiter.complete(permit)) {
+						permit.release();
+					}
+				}
+			}
+		}
+
+		synchronized Statistics getStatistics() {
+			return new Statistics(key, (int) limit, inFlight, queue.size(), rejected.sum());
+		}
+	}
+
+	/**
+	 * Permit granting the execution of a single request. A permit must be released exactly once by reporting the
+	 * outcome of the request through {@link #onSuccess()} or {@link #onError(Throwable)} or by releasing it without
+	 * sampling the request through {@link #release()}.
+	 */
+	final class Permit {
+
+		private final Partition partition;
+
+		private final long startNanos = System.nanoTime();
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Permit(Partition partition) {
+			this.partition = partition;
+		}
+
+		/**
+		 * Release the permit after the request completed successfully.
+		 */
+		void onSuccess() {
+			release(true, false);
+		}
+
+		/**
+		 * Release the permit after the request failed with {@code error}.
+		 */
+		void onError(Throwable error) {
+			release(true, isOverloaded(error));
+		}
+
+		/**
+		 * Release the permit without sampling the request, for example if the request was cancelled.
+		 */
+		void release() {
+			release(false, false);
+		}
+
+		private void release(boolean sample, boolean dropped) {
+
+			if (this.released.compareAndSet(false, true)) {
+				this.partition.release(System.nanoTime() - this.startNanos, sample, dropped);
+			}
+		}
+	}
+
+	/**
+	 * Builder for {@link ConcurrencyLimiter}.
+	 */
+	public static class ConcurrencyLimiterBuilder {
+
+		private int initialLimit = 20;
+
+		private int minLimit = 1;
+
+		private int maxLimit = 1000;
+
+		private Duration latencyThreshold = Duration.ofSeconds(1);
+
+		private double backoffRatio = 0.9;
+
+		private int maxQueueDepth = 0;
+
+		private Duration maxQueueWait = Duration.ofSeconds(1);
+
+		private Function<Statement<?>, String> partitionFunction = ConcurrencyLimiter::getKeyspace;
+
+		ConcurrencyLimiterBuilder() {}
+
+		/**
+		 * Set the initial concurrency limit of each partition. Defaults to {@code 20}.
+		 *
+		 * @param initialLimit must be greater than zero.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder initialLimit(int initialLimit) {
+
+			Assert.isTrue(initialLimit > 0, "Initial limit must be greater than zero");
+
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * Set the minimum concurrency limit of each partition. Defaults to {@code 1}.
+		 *
+		 * @param minLimit must be greater than zero.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder minLimit(int minLimit) {
+
+			Assert.isTrue(minLimit > 0, "Min limit must be greater than zero");
+
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * Set the maximum concurrency limit of each partition. Defaults to {@code 1000}.
+		 *
+		 * @param maxLimit must be greater than zero.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder maxLimit(int maxLimit) {
+
+			Assert.isTrue(maxLimit > 0, "Max limit must be greater than zero");
+
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * Set the latency above which a request is considered a sign of overload decreasing the limit. Defaults to one
+		 * second.
+		 *
+		 * @param latencyThreshold must not be {@literal null} or negative.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder latencyThreshold(Duration latencyThreshold) {
+
+			Assert.notNull(latencyThreshold, "Latency threshold must not be null");
+			Assert.isTrue(!latencyThreshold.isNegative(), "Latency threshold must not be negative");
+
+			this.latencyThreshold = latencyThreshold;
+			return this;
+		}
+
+		/**
+		 * Set the factor applied to the limit when overload is detected. Defaults to {@code 0.9}.
+		 *
+		 * @param backoffRatio must be greater than zero and less than one.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder backoffRatio(double backoffRatio) {
+
+			Assert.isTrue(backoffRatio > 0 && backoffRatio < 1, "Backoff ratio must be between 0 and 1");
+
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of requests to queue per partition once the limit is reached. Defaults to {@code 0},
+		 * rejecting excess requests immediately.
+		 *
+		 * @param maxQueueDepth must not be negative.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder maxQueueDepth(int maxQueueDepth) {
+
+			Assert.isTrue(maxQueueDepth >= 0, "Max queue depth must not be negative");
+
+			this.maxQueueDepth = maxQueueDepth;
+			return this;
+		}
+
+		/**
+		 * Set the maximum time a request may be queued before it is rejected. Defaults to one second.
+		 *
+		 * @param maxQueueWait must not be {@literal null} or negative.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder maxQueueWait(Duration maxQueueWait) {
+
+			Assert.notNull(maxQueueWait, "Max queue wait must not be null");
+			Assert.isTrue(!maxQueueWait.isNegative(), "Max queue wait must not be negative");
+
+			this.maxQueueWait = maxQueueWait;
+			return this;
+		}
+
+		/**
+		 * Maintain a limit per keyspace the statement targets. This is the default.
+		 *
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder partitionByKeyspace() {
+			return partitionBy(ConcurrencyLimiter::getKeyspace);
+		}
+
+		/**
+		 * Maintain a limit per execution profile of the statement.
+		 *
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder partitionByExecutionProfile() {
+			return partitionBy(ConcurrencyLimiter::getExecutionProfile);
+		}
+
+		/**
+		 * Maintain a limit per partition key derived from the statement.
+		 *
+		 * @param partitionFunction function deriving the partition key, must not be {@literal null}.
+		 * @return {@code this} {@link ConcurrencyLimiterBuilder}.
+		 */
+		public ConcurrencyLimiterBuilder partitionBy(Function<Statement<?>, String> partitionFunction) {
+
+			Assert.notNull(partitionFunction, "Partition function must not be null");
+
+			this.partitionFunction = partitionFunction;
+			return this;
+		}
+
+		/**
+		 * Build the {@link ConcurrencyLimiter}.
+		 *
+		 * @return the {@link ConcurrencyLimiter}.
+		 */
+		public ConcurrencyLimiter build() {
+
+			Assert.state(this.minLimit <= this.maxLimit, "Min limit must not be greater than max limit");
+			Assert.state(this.initialLimit >= this.minLimit && this.initialLimit <= this.maxLimit,
+					"Initial limit must be between min limit and max limit");
+
+			return new ConcurrencyLimiter(this);
+		}
+	}
+}
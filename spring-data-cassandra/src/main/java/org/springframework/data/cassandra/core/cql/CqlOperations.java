@@ -499,6 +499,23 @@ public interface CqlOperations {
 	 */
 	Iterable<Row> queryForRows(String cql, Object... args) throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL, reading the specified {@link Columns} into a {@link ColumnarResult}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}. Column values are decoded directly into column vectors
+	 * without mapping individual rows which makes this method suitable to read large results for aggregation.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param columns the columns to read, must not be {@literal null} or empty.
+	 * @return the {@link ColumnarResult}.
+	 * @throws DataAccessException if there is any problem executing the query or a column cannot be read.
+	 * @since 5.2
+	 * @see ColumnarResultSetExtractor
+	 */
+	default ColumnarResult queryForColumns(String cql, Columns columns) throws DataAccessException {
+		return query(cql, new ColumnarResultSetExtractor(columns));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.oss.driver.api.core.cql.Statement
 	// -------------------------------------------------------------------------
@@ -698,6 +715,25 @@ public interface CqlOperations {
 	 */
 	Iterable<Row> queryForRows(Statement<?> statement) throws DataAccessException;
 
+	/**
+	 * Execute a query given a CQL {@link Statement}, reading the specified {@link Columns} into a
+	 * {@link ColumnarResult}.
+	 * <p>
+	 * Column values are decoded directly into column vectors without mapping individual rows which makes this method
+	 * suitable to read large results for aggregation. Paged results are fetched page by page while growing the column
+	 * vectors. Use {@link Statement#setPageSize(int)} to control the page size.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param columns the columns to read, must not be {@literal null} or empty.
+	 * @return the {@link ColumnarResult}.
+	 * @throws DataAccessException if there is any problem executing the query or a column cannot be read.
+	 * @since 5.2
+	 * @see ColumnarResultSetExtractor
+	 */
+	default ColumnarResult queryForColumns(Statement<?> statement, Columns columns) throws DataAccessException {
+		return query(statement, new ColumnarResultSetExtractor(columns));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.oss.driver.api.core.cql.PreparedStatement
 	// -------------------------------------------------------------------------
@@ -83,6 +83,16 @@ import com.datastax.oss.driver.api.core.metadata.Node;
  */
 public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
+	private boolean asyncPaging = false;
+
+	private @Nullable AdaptivePageSize adaptivePageSize;
+
+	private @Nullable QueryProfiler queryProfiler;
+
+	private @Nullable QueryThresholds queryThresholds;
+
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
 	/**
 	 * Create a new, uninitialized {@link CqlTemplate}. Note: The {@link SessionFactory} has to be set before using the
 	 * instance.
@@ -117,6 +127,108 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Configure whether to execute statements through the async driver API and to fetch subsequent pages through
+	 * {@link com.datastax.oss.driver.api.core.cql.AsyncResultSet#fetchNextPage()}. Blocking callers then await
+	 * {@link java.util.concurrent.CompletableFuture}s instead of using the driver's blocking execution. This arrangement
+	 * lets virtual threads unmount from their carrier thread while waiting for a response or a page. Defaults to
+	 * {@literal false}.
+	 *
+	 * @param asyncPaging {@literal true} to execute statements and fetch pages through the async driver API.
+	 * @since 5.2
+	 */
+	public void setAsyncPaging(boolean asyncPaging) {
+		this.asyncPaging = asyncPaging;
+	}
+
+	/**
+	 * @return {@literal true} if statements are executed and pages are fetched through the async driver API.
+	 * @since 5.2
+	 */
+	public boolean isAsyncPaging() {
+		return this.asyncPaging;
+	}
+
+	/**
+	 * Configure adaptive page sizing. Page sizes of subsequent pages are derived from the observed bytes per row and the
+	 * time spent consuming the previous page. Statements are executed and pages are fetched through the async driver API
+	 * when adaptive page sizing is enabled.
+	 *
+	 * @param adaptivePageSize the adaptive page size configuration, can be {@literal null} to disable adaptive page
+	 *          sizing.
+	 * @since 5.2
+	 * @see #setAsyncPaging(boolean)
+	 */
+	public void setAdaptivePageSize(@Nullable AdaptivePageSize adaptivePageSize) {
+		this.adaptivePageSize = adaptivePageSize;
+	}
+
+	/**
+	 * @return the adaptive page size configuration, can be {@literal null} if adaptive page sizing is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable AdaptivePageSize getAdaptivePageSize() {
+		return this.adaptivePageSize;
+	}
+
+	/**
+	 * Configure a {@link QueryProfiler} to capture client-side timings and server-side traces of sampled and slow
+	 * statements.
+	 *
+	 * @param queryProfiler the query profiler, can be {@literal null} to disable query profiling.
+	 * @since 5.2
+	 */
+	public void setQueryProfiler(@Nullable QueryProfiler queryProfiler) {
+		this.queryProfiler = queryProfiler;
+	}
+
+	/**
+	 * @return the query profiler, can be {@literal null} if query profiling is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable QueryProfiler getQueryProfiler() {
+		return this.queryProfiler;
+	}
+
+	/**
+	 * Configure {@link QueryThresholds} to account pages, rows, response bytes and wall time of each statement and to
+	 * report statements exceeding the configured thresholds.
+	 *
+	 * @param queryThresholds the query thresholds, can be {@literal null} to disable accounting.
+	 * @since 5.2
+	 */
+	public void setQueryThresholds(@Nullable QueryThresholds queryThresholds) {
+		this.queryThresholds = queryThresholds;
+	}
+
+	/**
+	 * @return the query thresholds, can be {@literal null} if accounting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable QueryThresholds getQueryThresholds() {
+		return this.queryThresholds;
+	}
+
+	/**
+	 * Configure a {@link ConcurrencyLimiter} to adaptively limit the number of concurrently executing statements.
+	 * Statements exceeding the limit are queued or rejected with
+	 * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param concurrencyLimiter the concurrency limiter, can be {@literal null} to disable limiting.
+	 * @since 5.2
+	 */
+	public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the concurrency limiter, can be {@literal null} if limiting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.oss.driver.api.core.CqlSession
 	// -------------------------------------------------------------------------
@@ -159,9 +271,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 			Statement<?> statement = applyStatementSettings(newStatement(cql));
 
-			ResultSet results = getCurrentSession().execute(statement);
-
-			return resultSetExtractor.extractData(results);
+			return executeAndExtract(getCurrentSession(), statement, resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", cql, e);
 		}
@@ -239,7 +349,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logger.debug(String.format("Executing statement [%s]", toCql(statement)));
 			}
 
-			return resultSetExtractor.extractData(getCurrentSession().execute(applyStatementSettings(statement)));
+			return executeAndExtract(getCurrentSession(), applyStatementSettings(statement), resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", toCql(statement), e);
 		}
@@ -400,9 +510,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			Statement<?> boundStatement = applyStatementSettings(
 					psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
 
-			ResultSet results = session.execute(boundStatement);
-
-			return resultSetExtractor.extractData(results);
+			return executeAndExtract(session, boundStatement, resultSetExtractor);
 
 		} catch (DriverException e) {
 			throw translateException("Query", toCql(preparedStatementCreator), e);
@@ -610,6 +718,99 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return resultSet -> new ResultSetSpliterator<>(resultSet, rowMapper).stream();
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T extends @Nullable Object> T executeAndExtract(CqlSession session, Statement<?> statement,
+			ResultSetExtractor<T> resultSetExtractor) {
+
+		QueryProfiler queryProfiler = this.queryProfiler;
+		QueryThresholds queryThresholds = this.queryThresholds;
+
+		if (queryProfiler == null && queryThresholds == null) {
+			return resultSetExtractor.extractData(executeStatement(session, statement));
+		}
+
+		QueryProfiler.Execution execution = queryProfiler != null ? queryProfiler.start(statement) : null;
+		Statement<?> statementToUse = execution != null ? execution.getStatement() : statement;
+		QueryAccounting accounting = queryThresholds != null ? new QueryAccounting(queryThresholds, statementToUse, getStatementOperations()) : null;
+		Consumer<RuntimeException> failure = ex -> {
+
+			if (execution != null) {
+				execution.fail(ex);
+			}
+
+			if (accounting != null) {
+				accounting.complete(ex);
+			}
+		};
+
+		try {
+
+			ResultSet results = executeStatement(session, statementToUse);
+
+			if (execution != null) {
+				execution.executed();
+			}
+
+			T result = resultSetExtractor.extractData(accounting != null ? accounting.account(results) : results);
+			Runnable completion = () -> {
+
+				if (execution != null) {
+					execution.complete(results.getExecutionInfo());
+				}
+
+				if (accounting != null) {
+					accounting.complete();
+				}
+			};
+
+			// lazily consumed streams complete once exhausted or closed
+			if (result instanceof Stream<?> stream) {
+				return (T) CompletingSpliterator.stream(stream, completion, failure);
+			}
+
+			completion.run();
+
+			return result;
+		} catch (RuntimeException ex) {
+			failure.accept(ex);
+			throw ex;
+		}
+	}
+
+	private ResultSet executeStatement(CqlSession session, Statement<?> statement) {
+
+		Statement<?> statementToUse = getStatementOperations().attach(statement, session::getContext);
+		ConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+
+		if (concurrencyLimiter == null) {
+			return doExecuteStatement(session, statementToUse);
+		}
+
+		ConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(statementToUse);
+
+		try {
+
+			ResultSet resultSet = doExecuteStatement(session, statementToUse);
+			permit.onSuccess();
+
+			return resultSet;
+		} catch (RuntimeException ex) {
+			permit.onError(ex);
+			throw ex;
+		}
+	}
+
+	private ResultSet doExecuteStatement(CqlSession session, Statement<?> statement) {
+
+		ResultSet resultSet = this.asyncPaging || this.adaptivePageSize != null
+				? AsyncPagingResultSet.execute(session, statement, this.adaptivePageSize)
+				: session.execute(statement);
+
+		HedgingSpeculativeExecutionPolicy.onCompleted(session::getContext, resultSet.getExecutionInfo());
+
+		return resultSet;
+	}
+
 	private CqlSession getCurrentSession() {
 
 		SessionFactory sessionFactory = getSessionFactory();
@@ -693,4 +894,78 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		}
 	}
 
+	/**
+	 * Spliterator decorator notifying a completion callback once the underlying {@link Stream} is exhausted or closed
+	 * and a failure callback if consuming the stream fails.
+	 *
+	 * @since 5.2
+	 */
+	private static class CompletingSpliterator<T> implements Spliterator<T> {
+
+		private final Spliterator<T> delegate;
+
+		private final Runnable completion;
+
+		private final Consumer<RuntimeException> failure;
+
+		private CompletingSpliterator(Spliterator<T> delegate, Runnable completion, Consumer<RuntimeException> failure) {
+			this.delegate = delegate;
+			this.completion = completion;
+			this.failure = failure;
+		}
+
+		static <T> Stream<T> stream(Stream<T> stream, Runnable completion, Consumer<RuntimeException> failure) {
+
+			CompletingSpliterator<T> spliterator = new CompletingSpliterator<>(stream.spliterator(), completion, failure);
+
+			return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close).onClose(completion);
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+
+			try {
+
+				boolean advanced = this.delegate.tryAdvance(action);
+
+				if (!advanced) {
+					this.completion.run();
+				}
+
+				return advanced;
+			} catch (RuntimeException ex) {
+				this.failure.accept(ex);
+				throw ex;
+			}
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+
+			try {
+				this.delegate.forEachRemaining(action);
+			} catch (RuntimeException ex) {
+				this.failure.accept(ex);
+				throw ex;
+			}
+
+			this.completion.run();
+		}
+
+		@Override
+		public @Nullable Spliterator<T> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return this.delegate.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			return this.delegate.characteristics();
+		}
+	}
+
 }
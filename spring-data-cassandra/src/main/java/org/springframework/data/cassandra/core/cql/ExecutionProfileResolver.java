@@ -50,6 +50,7 @@ public interface ExecutionProfileResolver {
 
 	/**
 	 * Create a {@link ExecutionProfileResolver} from a {@link DriverExecutionProfile} to apply the profile object.
+	 * Hedging settings applied through {@link HedgingSpeculativeExecutionPolicy} are retained.
 	 *
 	 * @param driverExecutionProfile must not be {@literal null}.
 	 * @return a {@link ExecutionProfileResolver} that applies the given {@link DriverExecutionProfile}.
@@ -59,11 +60,12 @@ public interface ExecutionProfileResolver {
 
 		Assert.notNull(driverExecutionProfile, "DriverExecutionProfile must not be null");
 
-		return statement -> statement.setExecutionProfile(driverExecutionProfile);
+		return statement -> StatementExecutionProfile.setExecutionProfile(statement, driverExecutionProfile);
 	}
 
 	/**
-	 * Create a {@link ExecutionProfileResolver} from a {@code profileName}.
+	 * Create a {@link ExecutionProfileResolver} from a {@code profileName}. Hedging settings applied through
+	 * {@link HedgingSpeculativeExecutionPolicy} are retained.
 	 *
 	 * @param profileName must not be {@literal null} or empty.
 	 * @return a {@link ExecutionProfileResolver} that applies the given {@code profileName}.
@@ -73,7 +75,7 @@ public interface ExecutionProfileResolver {
 
 		Assert.hasText(profileName, "DriverExecutionProfile name must not be empty");
 
-		return statement -> statement.setExecutionProfileName(profileName);
+		return statement -> StatementExecutionProfile.setExecutionProfileName(statement, profileName);
 	}
 
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.specex.SpeculativeExecutionPolicy;
+
+/**
+ * {@link SpeculativeExecutionPolicy} hedging requests that carry a hedge delay. Statements are hedged through
+ * {@link QueryOptions.QueryOptionsBuilder#hedge(Duration, int) query options} or the
+ * {@link org.springframework.data.cassandra.core.mapping.Hedged @Hedged} entity annotation. The delay and the maximum
+ * number of executions are carried by the {@link Statement#getExecutionProfile() execution profile} of the statement
+ * overlaying {@code advanced.speculative-execution-policy.delay} and
+ * {@code advanced.speculative-execution-policy.max-executions} on the profile the statement uses otherwise. A single
+ * execution profile can therefore serve queries with different hedging requirements without sending hedging
+ * information to the server. Derived statements, bound statements and subsequent pages retain the execution profile
+ * and thereby the hedging settings. Requests without hedging settings use the delay and the maximum number of
+ * executions of their execution profile, if configured, or are not hedged otherwise.
+ * <p>
+ * Hedging settings are applied before the session is known and are {@link #resolve(Statement, DriverContext)
+ * resolved} against the driver configuration by the CQL templates. Statements that are executed directly on a
+ * {@link com.datastax.oss.driver.api.core.CqlSession} must be resolved before execution. Setting an execution profile
+ * through {@link ExecutionProfileResolver#from(String)} or {@link ExecutionProfileResolver#from(DriverExecutionProfile)}
+ * retains hedging settings, calling {@link Statement#setExecutionProfileName(String)} directly discards them.
+ * <p>
+ * The driver only considers {@link Statement#isIdempotent() idempotent} statements for speculative executions.
+ * Register this policy through the driver configuration:
+ *
+ * <pre class="code">
+ * datastax-java-driver.advanced.speculative-execution-policy.class = org.springframework.data.cassandra.core.cql.HedgingSpeculativeExecutionPolicy
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class HedgingSpeculativeExecutionPolicy implements SpeculativeExecutionPolicy {
+
+	private final long defaultDelayMillis;
+
+	private final int defaultMaxExecutions;
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder hedges = new LongAdder();
+
+	private final LongAdder hedgeWins = new LongAdder();
+
+	/**
+	 * Create a new {@link HedgingSpeculativeExecutionPolicy}. This constructor is invoked by the driver.
+	 *
+	 * @param context the driver context.
+	 * @param profileName the name of the execution profile this policy is configured for.
+	 */
+	public HedgingSpeculativeExecutionPolicy(DriverContext context, String profileName) {
+
+		DriverExecutionProfile profile = context.getConfig().getProfile(profileName);
+
+		this.defaultDelayMillis = profile.isDefined(DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY)
+				? profile.getDuration(DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY).toMillis()
+				: -1;
+		this.defaultMaxExecutions = profile.isDefined(DefaultDriverOption.SPECULATIVE_EXECUTION_MAX)
+				? profile.getInt(DefaultDriverOption.SPECULATIVE_EXECUTION_MAX)
+				: 2;
+	}
+
+	/**
+	 * Apply hedging to the given {@link Statement}. The statement is marked as idempotent and its execution profile is
+	 * replaced with a profile carrying the hedge delay and the maximum number of executions. The previous execution
+	 * profile or execution profile name remains in effect for all other settings.
+	 *
+	 * @param statement the statement to hedge, must not be {@literal null}.
+	 * @param delay delay after which to start another execution, must not be {@literal null} or negative.
+	 * @param maxExecutions maximum number of executions including the initial execution, must be greater one.
+	 * @return the hedged statement.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Statement<?>> T hedge(T statement, Duration delay, int maxExecutions) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(delay, "Delay must not be null");
+		Assert.isTrue(!delay.isNegative(), "Delay must not be negative");
+		Assert.isTrue(maxExecutions > 1, "Max executions must be greater one");
+
+		return StatementExecutionProfile.hedge((T) statement.setIdempotent(true), delay, maxExecutions);
+	}
+
+	/**
+	 * Resolve hedging settings of the given {@link Statement} against the configuration of the {@link DriverContext}
+	 * that is going to execute the statement. Statements without hedging settings are returned as-is.
+	 *
+	 * @param statement the statement to resolve, must not be {@literal null}.
+	 * @param context the driver context of the executing session, must not be {@literal null}.
+	 * @return the resolved statement.
+	 */
+	public static <T extends Statement<?>> T resolve(T statement, DriverContext context) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(context, "DriverContext must not be null");
+
+		return resolve(statement, () -> context);
+	}
+
+	/**
+	 * Resolve hedging settings of the given {@link Statement} obtaining the {@link DriverContext} only if the statement
+	 * carries unresolved hedging settings.
+	 */
+	static <T extends Statement<?>> T resolve(T statement, Supplier<DriverContext> context) {
+
+		if (statement.getExecutionProfile() instanceof StatementExecutionProfile profile && !profile.isResolved()) {
+			return StatementExecutionProfile.resolve(statement, context.get().getConfig());
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Obtain the hedging settings carried by the given {@link Request}.
+	 *
+	 * @param request the request to inspect, must not be {@literal null}.
+	 * @return the hedging settings or {@literal null} if the request is not hedged.
+	 */
+	public static @Nullable Hedge getHedge(Request request) {
+
+		Assert.notNull(request, "Request must not be null");
+
+		return request.getExecutionProfile() instanceof StatementExecutionProfile profile && profile.getDelay() != null
+				? new Hedge(profile.getDelay(), profile.getMaxExecutions())
+				: null;
+	}
+
+	/**
+	 * Record the completion of a request. A request that was answered by a speculative execution, that is an
+	 * execution other than the {@link ExecutionInfo#getSuccessfulExecutionIndex() initial execution}, is counted as
+	 * hedge win of the {@link HedgingSpeculativeExecutionPolicy} of the request's execution profile.
+	 *
+	 * @param context the driver context of the executing session.
+	 * @param executionInfo execution details of the completed request, can be {@literal null}.
+	 */
+	static void onCompleted(Supplier<DriverContext> context, @Nullable ExecutionInfo executionInfo) {
+
+		if (executionInfo == null || executionInfo.getSuccessfulExecutionIndex() < 1) {
+			return;
+		}
+
+		Request request = executionInfo.getRequest();
+		DriverExecutionProfile profile = request.getExecutionProfile();
+		String profileName = profile != null ? profile.getName()
+				: StringUtils.hasText(request.getExecutionProfileName()) ? request.getExecutionProfileName()
+						: DriverExecutionProfile.DEFAULT_NAME;
+
+		if (context.get().getSpeculativeExecutionPolicy(profileName) instanceof HedgingSpeculativeExecutionPolicy policy) {
+			policy.hedgeWins.increment();
+		}
+	}
+
+	@Override
+	public long nextExecution(Node node, @Nullable CqlIdentifier keyspace, Request request, int runningExecutions) {
+
+		long delayMillis = this.defaultDelayMillis;
+		int maxExecutions = this.defaultMaxExecutions;
+
+		if (request.getExecutionProfile() instanceof StatementExecutionProfile profile && profile.getDelay() != null) {
+			delayMillis = profile.getDelay().toMillis();
+			maxExecutions = profile.getMaxExecutions();
+		}
+
+		if (delayMillis < 0) {
+			return -1;
+		}
+
+		if (runningExecutions <= 1) {
+			this.requests.increment();
+		} else {
+			this.hedges.increment();
+		}
+
+		return runningExecutions < maxExecutions ? delayMillis : -1;
+	}
+
+	/**
+	 * @return number of requests considered for hedging.
+	 */
+	public long getRequestCount() {
+		return this.requests.sum();
+	}
+
+	/**
+	 * @return number of hedged executions that were started.
+	 */
+	public long getHedgeCount() {
+		return this.hedges.sum();
+	}
+
+	/**
+	 * @return number of requests executed through the CQL templates that were answered by a speculative execution.
+	 */
+	public long getHedgeWinCount() {
+		return this.hedgeWins.sum();
+	}
+
+	@Override
+	public void close() {
+
+	}
+
+	/**
+	 * Hedging settings carried by a statement.
+	 *
+	 * @param delay delay after which to start another execution.
+	 * @param maxExecutions maximum number of executions including the initial execution.
+	 */
+	public record Hedge(Duration delay, int maxExecutions) {
+
+	}
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.cassandra.ReactiveResultSet;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Client-side accounting of a single statement execution according to {@link QueryThresholds}. Result sets are
+ * decorated to count rows as they are consumed and pages as they arrive. Pages are counted as the result set reports
+ * new {@link ExecutionInfo}s without retaining the {@link ExecutionInfo} of previous pages.
+ * <p>
+ * Accounting callbacks of a single execution are expected to happen sequentially.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class QueryAccounting {
+
+	private static final Log logger = LogFactory.getLog(QueryAccounting.class);
+
+	private final QueryThresholds thresholds;
+
+	private final Statement<?> statement;
+
+	private final StatementOperations operations;
+
+	private final long startNanos = System.nanoTime();
+
+	private final Set<QueryThresholds.Threshold> reported = EnumSet.noneOf(QueryThresholds.Threshold.class);
+
+	private int pages;
+
+	private @Nullable ExecutionInfo currentPage;
+
+	private long rows;
+
+	private long bytes;
+
+	private boolean completed;
+
+	QueryAccounting(QueryThresholds thresholds, Statement<?> statement, StatementOperations operations) {
+		this.thresholds = thresholds;
+		this.statement = statement;
+		this.operations = operations;
+	}
+
+	/**
+	 * Decorate the given {@link ResultSet} to account consumed rows and received pages.
+	 */
+	ResultSet account(ResultSet resultSet) {
+
+		onExecutionInfos(resultSet.getExecutionInfos());
+
+		return new AccountingResultSet(resultSet);
+	}
+
+	/**
+	 * Decorate the given {@link AsyncResultSet} to account received rows and pages.
+	 */
+	AsyncResultSet account(AsyncResultSet resultSet) {
+
+		onPage(resultSet.getExecutionInfo());
+		onRows(resultSet.remaining());
+
+		return new AccountingAsyncResultSet(resultSet);
+	}
+
+	/**
+	 * Decorate the given {@link ReactiveResultSet} to account consumed rows and received pages.
+	 */
+	ReactiveResultSet account(ReactiveResultSet resultSet) {
+
+		onExecutionInfo(resultSet.getExecutionInfo());
+
+		return new AccountingReactiveResultSet(resultSet);
+	}
+
+	/**
+	 * Complete the execution. Reports the duration threshold, if exceeded, and notifies the listener about the completed
+	 * execution. Subsequent calls are ignored.
+	 */
+	void complete() {
+		complete(null);
+	}
+
+	/**
+	 * Complete the execution. Reports the duration threshold, if exceeded, and notifies the listener about the completed
+	 * or, if {@code error} is not {@literal null}, failed execution. Subsequent calls are ignored.
+	 *
+	 * @param error the error that terminated the execution, can be {@literal null} if the execution succeeded.
+	 */
+	void complete(@Nullable Throwable error) {
+
+		if (this.completed) {
+			return;
+		}
+
+		this.completed = true;
+
+		long elapsed = System.nanoTime() - this.startNanos;
+
+		if (this.thresholds.exceedsDuration(elapsed)) {
+			report(QueryThresholds.Threshold.DURATION, elapsed);
+		}
+
+		try {
+
+			if (error != null) {
+				this.thresholds.getListener().onFailed(getStatistics(elapsed), error);
+			} else {
+				this.thresholds.getListener().onCompleted(getStatistics(elapsed));
+			}
+		} catch (RuntimeException ex) {
+			logger.warn("QueryThresholds listener failed to process completed statement", ex);
+		}
+	}
+
+	private void onExecutionInfos(List<ExecutionInfo> executionInfos) {
+
+		for (int i = this.pages; i < executionInfos.size(); i++) {
+			onPage(executionInfos.get(i));
+		}
+	}
+
+	/**
+	 * Account a new page if {@code executionInfo} differs from the {@link ExecutionInfo} of the current page.
+	 */
+	private void onExecutionInfo(ExecutionInfo executionInfo) {
+
+		if (executionInfo != this.currentPage) {
+			onPage(executionInfo);
+		}
+	}
+
+	private void onPage(ExecutionInfo executionInfo) {
+
+		this.pages++;
+		this.currentPage = executionInfo;
+
+		long responseSize = executionInfo.getResponseSizeInBytes();
+		if (responseSize > 0) {
+			this.bytes += responseSize;
+		}
+
+		if (this.thresholds.exceedsPages(this.pages)) {
+			report(QueryThresholds.Threshold.PAGES, System.nanoTime() - this.startNanos);
+		}
+
+		if (this.thresholds.exceedsBytes(this.bytes)) {
+			report(QueryThresholds.Threshold.BYTES, System.nanoTime() - this.startNanos);
+		}
+
+		if (!this.completed && this.thresholds.exceedsDuration(System.nanoTime() - this.startNanos)) {
+			report(QueryThresholds.Threshold.DURATION, System.nanoTime() - this.startNanos);
+		}
+	}
+
+	private void onRows(int count) {
+
+		this.rows += count;
+
+		if (this.thresholds.exceedsRows(this.rows)) {
+			report(QueryThresholds.Threshold.ROWS, System.nanoTime() - this.startNanos);
+		}
+	}
+
+	private void report(QueryThresholds.Threshold threshold, long elapsedNanos) {
+
+		if (!this.reported.add(threshold)) {
+			return;
+		}
+
+		try {
+			this.thresholds.getListener().onThresholdExceeded(threshold, getStatistics(elapsedNanos));
+		} catch (RuntimeException ex) {
+			logger.warn("QueryThresholds listener failed to process exceeded threshold", ex);
+		}
+	}
+
+	private QueryStatistics getStatistics(long elapsedNanos) {
+
+		String cql = QueryExtractorDelegate.getCql(this.statement);
+
+		return new QueryStatistics(cql, this.operations.get(this.statement), this.pages, this.rows, this.bytes,
+				Duration.ofNanos(elapsedNanos));
+	}
+
+	/**
+	 * {@link ResultSet} decorator counting rows on consumption and pages through {@link ResultSet#getExecutionInfos()}.
+	 */
+	private class AccountingResultSet implements ResultSet {
+
+		private final ResultSet delegate;
+
+		AccountingResultSet(ResultSet delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public List<ExecutionInfo> getExecutionInfos() {
+			return this.delegate.getExecutionInfos();
+		}
+
+		@Override
+		public boolean isFullyFetched() {
+			return this.delegate.isFullyFetched();
+		}
+
+		@Override
+		public int getAvailableWithoutFetching() {
+			return this.delegate.getAvailableWithoutFetching();
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+
+		@Override
+		public Iterator<Row> iterator() {
+
+			Iterator<Row> iterator = this.delegate.iterator();
+
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+
+					boolean hasNext = iterator.hasNext();
+					onExecutionInfos(delegate.getExecutionInfos());
+
+					if (!hasNext) {
+						complete();
+					}
+
+					return hasNext;
+				}
+
+				@Override
+				public Row next() {
+
+					Row row = iterator.next();
+					onExecutionInfos(delegate.getExecutionInfos());
+					onRows(1);
+
+					return row;
+				}
+			};
+		}
+	}
+
+	/**
+	 * {@link AsyncResultSet} decorator accounting rows and pages as pages arrive.
+	 */
+	private class AccountingAsyncResultSet implements AsyncResultSet {
+
+		private final AsyncResultSet delegate;
+
+		AccountingAsyncResultSet(AsyncResultSet delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return this.delegate.getExecutionInfo();
+		}
+
+		@Override
+		public int remaining() {
+			return this.delegate.remaining();
+		}
+
+		@Override
+		public Iterable<Row> currentPage() {
+			return this.delegate.currentPage();
+		}
+
+		@Override
+		public boolean hasMorePages() {
+			return this.delegate.hasMorePages();
+		}
+
+		@Override
+		public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+			return this.delegate.fetchNextPage().thenApply(nextPage -> account(nextPage));
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+	}
+
+	/**
+	 * {@link ReactiveResultSet} decorator counting rows on consumption and pages through
+	 * {@link ReactiveResultSet#getExecutionInfo()} of the most recent page.
+	 */
+	private class AccountingReactiveResultSet implements ReactiveResultSet {
+
+		private final ReactiveResultSet delegate;
+
+		AccountingReactiveResultSet(ReactiveResultSet delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Flux<Row> rows() {
+			return this.delegate.rows().doOnNext(row -> {
+				onExecutionInfo(this.delegate.getExecutionInfo());
+				onRows(1);
+			}).doOnComplete(() -> {
+				onExecutionInfo(this.delegate.getExecutionInfo());
+				complete();
+			});
+		}
+
+		@Override
+		public Flux<Row> availableRows() {
+			return this.delegate.availableRows().doOnNext(row -> onRows(1));
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return this.delegate.getExecutionInfo();
+		}
+
+		@Override
+		public List<ExecutionInfo> getAllExecutionInfo() {
+			return this.delegate.getAllExecutionInfo();
+		}
+	}
+}
@@ -60,10 +60,26 @@ public class QueryOptions {
 
 	private final @Nullable Boolean tracing;
 
+	private final @Nullable Duration hedgeDelay;
+
+	private final int hedgeMaxExecutions;
+
 	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
 			@Nullable CqlIdentifier routingKeyspace, @Nullable ByteBuffer routingKey,
 			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, routingKeyspace, routingKey,
+				serialConsistencyLevel, timeout, tracing, null, 0);
+	}
+
+	/**
+	 * @since 5.2
+	 */
+	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable CqlIdentifier routingKeyspace, @Nullable ByteBuffer routingKey,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing,
+			@Nullable Duration hedgeDelay, int hedgeMaxExecutions) {
 
 		this.consistencyLevel = consistencyLevel;
 		this.executionProfileResolver = executionProfileResolver;
@@ -75,6 +91,8 @@ public class QueryOptions {
 		this.serialConsistencyLevel = serialConsistencyLevel;
 		this.timeout = timeout;
 		this.tracing = tracing;
+		this.hedgeDelay = hedgeDelay;
+		this.hedgeMaxExecutions = hedgeMaxExecutions;
 	}
 
 	/**
@@ -200,6 +218,25 @@ public class QueryOptions {
 		return this.tracing;
 	}
 
+	/**
+	 * @return the delay after which a hedged execution is started. May be {@literal null} if not set.
+	 * @since 5.2
+	 * @see HedgingSpeculativeExecutionPolicy
+	 */
+	@Nullable
+	protected Duration getHedgeDelay() {
+		return this.hedgeDelay;
+	}
+
+	/**
+	 * @return the maximum number of executions including the initial execution if {@link #getHedgeDelay() hedging} is
+	 *         set.
+	 * @since 5.2
+	 */
+	protected int getHedgeMaxExecutions() {
+		return this.hedgeMaxExecutions;
+	}
+
 	@Override
 	public boolean equals(@Nullable Object o) {
 
@@ -247,6 +284,14 @@ public class QueryOptions {
 			return false;
 		}
 
+		if (!ObjectUtils.nullSafeEquals(hedgeDelay, options.hedgeDelay)) {
+			return false;
+		}
+
+		if (hedgeMaxExecutions != options.hedgeMaxExecutions) {
+			return false;
+		}
+
 		return ObjectUtils.nullSafeEquals(keyspace, options.keyspace);
 	}
 
@@ -262,6 +307,8 @@ public class QueryOptions {
 		result = 31 * result + ObjectUtils.nullSafeHashCode(serialConsistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(timeout);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(tracing);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(hedgeDelay);
+		result = 31 * result + hedgeMaxExecutions;
 
 		return result;
 	}
@@ -295,6 +342,10 @@ public class QueryOptions {
 
 		protected @Nullable Boolean tracing;
 
+		protected @Nullable Duration hedgeDelay;
+
+		protected int hedgeMaxExecutions;
+
 		QueryOptionsBuilder() {}
 
 		QueryOptionsBuilder(QueryOptions queryOptions) {
@@ -309,6 +360,8 @@ public class QueryOptions {
 			this.serialConsistencyLevel = queryOptions.serialConsistencyLevel;
 			this.timeout = queryOptions.timeout;
 			this.tracing = queryOptions.tracing;
+			this.hedgeDelay = queryOptions.hedgeDelay;
+			this.hedgeMaxExecutions = queryOptions.hedgeMaxExecutions;
 		}
 
 		/**
@@ -368,6 +421,41 @@ public class QueryOptions {
 			return this;
 		}
 
+		/**
+		 * Hedge the query by starting a second execution on another replica if the initial execution did not complete
+		 * within {@code delay}. Hedged queries are marked as idempotent.
+		 *
+		 * @param delay the delay after which to start a hedged execution, must not be {@literal null} or negative.
+		 * @return {@code this} {@link QueryOptionsBuilder}.
+		 * @since 5.2
+		 * @see HedgingSpeculativeExecutionPolicy
+		 */
+		public QueryOptionsBuilder hedge(Duration delay) {
+			return hedge(delay, 2);
+		}
+
+		/**
+		 * Hedge the query by starting additional executions on other replicas every {@code delay} until the query
+		 * completes or {@code maxExecutions} is reached. Hedged queries are marked as idempotent.
+		 *
+		 * @param delay the delay after which to start a hedged execution, must not be {@literal null} or negative.
+		 * @param maxExecutions maximum number of executions including the initial execution, must be greater one.
+		 * @return {@code this} {@link QueryOptionsBuilder}.
+		 * @since 5.2
+		 * @see HedgingSpeculativeExecutionPolicy
+		 */
+		public QueryOptionsBuilder hedge(Duration delay, int maxExecutions) {
+
+			Assert.notNull(delay, "Delay must not be null");
+			Assert.isTrue(!delay.isNegative(), "Delay must not be negative");
+			Assert.isTrue(maxExecutions > 1, "Max executions must be greater one");
+
+			this.hedgeDelay = delay;
+			this.hedgeMaxExecutions = maxExecutions;
+
+			return this;
+		}
+
 		/**
 		 * Sets the {@link CqlIdentifier keyspace} to use. If left unconfigured, then the keyspace set on the statement or
 		 * {@link CqlSession} will be used.
@@ -501,7 +589,7 @@ public class QueryOptions {
 		public QueryOptions build() {
 			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
 					this.pageSize, this.routingKeyspace, this.routingKey, this.serialConsistencyLevel, this.timeout,
-					this.tracing);
+					this.tracing, this.hedgeDelay, this.hedgeMaxExecutions);
 		}
 
 	}
@@ -108,6 +108,11 @@ public abstract class QueryOptionsUtil {
 
 		}
 
+		if (queryOptions.getHedgeDelay() != null) {
+			statementToUse = HedgingSpeculativeExecutionPolicy.hedge(statementToUse, queryOptions.getHedgeDelay(),
+					queryOptions.getHedgeMaxExecutions());
+		}
+
 		return (T) statementToUse;
 	}
 
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.QueryTrace;
+import com.datastax.oss.driver.api.core.cql.TraceEvent;
+
+/**
+ * Profile of a single statement execution captured by {@link QueryProfiler}. Client-side timings are split into the
+ * time until the first page was received ({@code networkTime}) and the time required to extract the result
+ * ({@code mappingTime}). Note that the mapping time includes fetching subsequent pages when consuming a multi-page
+ * result. Profiles of traced executions additionally contain the server-side {@link Trace}. Failed executions are
+ * profiled as well and carry the {@code error} that terminated the execution.
+ *
+ * @param cql the CQL of the statement.
+ * @param reason the reason for profiling the statement.
+ * @param networkTime time from submitting the statement until the first page was received.
+ * @param mappingTime time from receiving the first page until the result was extracted, or until a lazily consumed
+ *          result such as a {@link java.util.stream.Stream} was exhausted or closed.
+ * @param trace the server-side trace, can be {@literal null} if the statement was not traced or if the trace could not
+ *          be retrieved.
+ * @param error the error that terminated the execution, can be {@literal null} if the execution succeeded.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see QueryProfiler
+ */
+public record QueryProfile(String cql, Reason reason, Duration networkTime, Duration mappingTime,
+		@Nullable Trace trace, @Nullable Throwable error) {
+
+	/**
+	 * @return the total client-side time of the execution.
+	 */
+	public Duration totalTime() {
+		return networkTime.plus(mappingTime);
+	}
+
+	/**
+	 * Reason for capturing a {@link QueryProfile}.
+	 */
+	public enum Reason {
+
+		/**
+		 * The statement was sampled for tracing.
+		 */
+		SAMPLED,
+
+		/**
+		 * The statement exceeded the slow query threshold. Executions exceeding the threshold are reported without trace.
+		 * The next execution of the same query is traced.
+		 */
+		SLOW
+	}
+
+	/**
+	 * Server-side trace of a statement execution.
+	 *
+	 * @param tracingId the tracing identifier.
+	 * @param coordinator the address of the coordinator, can be {@literal null} if unknown.
+	 * @param duration the server-side duration of the request.
+	 * @param steps the trace events in the order of their occurrence.
+	 * @param rowsRead number of live rows read across all replicas.
+	 * @param tombstones number of tombstone cells read across all replicas.
+	 */
+	public record Trace(UUID tracingId, @Nullable InetSocketAddress coordinator, Duration duration, List<Step> steps,
+			long rowsRead, long tombstones) {
+
+		private static final Pattern READ_ROWS = Pattern
+				.compile("Read (\\d+) live rows?(?:, \\d+ deleted rows?)? and (\\d+) tombstone cells?");
+
+		/**
+		 * Create a {@link Trace} from a driver {@link QueryTrace}.
+		 *
+		 * @param trace the driver trace.
+		 * @return the {@link Trace}.
+		 */
+		public static Trace from(QueryTrace trace) {
+
+			List<Step> steps = new ArrayList<>(trace.getEvents().size());
+			long rowsRead = 0;
+			long tombstones = 0;
+
+			for (TraceEvent event : trace.getEvents()) {
+
+				String activity = event.getActivity() != null ? event.getActivity() : "";
+				steps.add(new Step(event.getSourceAddress(), activity,
+						Duration.ofNanos(event.getSourceElapsedMicros() * 1000L), event.getThreadName()));
+
+				Matcher matcher = READ_ROWS.matcher(activity);
+				if (matcher.find()) {
+					rowsRead += Long.parseLong(matcher.group(1));
+					tombstones += Long.parseLong(matcher.group(2));
+				}
+			}
+
+			return new Trace(trace.getTracingId(), trace.getCoordinatorAddress(),
+					Duration.ofNanos(trace.getDurationMicros() * 1000L), Collections.unmodifiableList(steps), rowsRead,
+					tombstones);
+		}
+
+		/**
+		 * @return the trace steps grouped by the replica that reported them.
+		 */
+		public Map<@Nullable InetSocketAddress, List<Step>> stepsBySource() {
+
+			Map<@Nullable InetSocketAddress, List<Step>> result = new LinkedHashMap<>();
+
+			for (Step step : steps) {
+				result.computeIfAbsent(step.source(), it -> new ArrayList<>()).add(step);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * A single server-side trace step.
+	 *
+	 * @param source the address of the node reporting the step, can be {@literal null} if unknown.
+	 * @param activity description of the activity.
+	 * @param elapsed time elapsed on the source node since the start of the request.
+	 * @param thread name of the thread that performed the activity, can be {@literal null} if unknown.
+	 */
+	public record Step(@Nullable InetSocketAddress source, String activity, Duration elapsed, @Nullable String thread) {
+
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link QueryProfiler.ProfileListener} retaining the most recent {@link QueryProfile profiles} in a bounded ring
+ * buffer. Older profiles are evicted once the buffer reaches its capacity. Typically registered as bean to inspect
+ * captured profiles through a management endpoint.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public class QueryProfileRingBuffer implements QueryProfiler.ProfileListener {
+
+	private final @Nullable QueryProfile[] profiles;
+
+	private int head;
+
+	private int size;
+
+	/**
+	 * Create a new {@link QueryProfileRingBuffer} retaining up to {@code capacity} profiles.
+	 *
+	 * @param capacity the maximum number of profiles to retain, must be greater than zero.
+	 */
+	public QueryProfileRingBuffer(int capacity) {
+
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero");
+
+		this.profiles = new QueryProfile[capacity];
+	}
+
+	@Override
+	public synchronized void onProfile(QueryProfile profile) {
+
+		this.profiles[(this.head + this.size) % this.profiles.length] = profile;
+
+		if (this.size < this.profiles.length) {
+			this.size++;
+		} else {
+			this.head = (this.head + 1) % this.profiles.length;
+		}
+	}
+
+	/**
+	 * @return a snapshot of the retained profiles, oldest first.
+	 */
+	public synchronized List<QueryProfile> getProfiles() {
+
+		List<QueryProfile> result = new ArrayList<>(this.size);
+
+		for (int i = 0; i < this.size; i++) {
+
+			QueryProfile profile = this.profiles[(this.head + i) % this.profiles.length];
+
+			if (profile != null) {
+				result.add(profile);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the maximum number of profiles to retain.
+	 */
+	public int getCapacity() {
+		return this.profiles.length;
+	}
+
+	/**
+	 * Remove all retained profiles.
+	 */
+	public synchronized void clear() {
+
+		Arrays.fill(this.profiles, null);
+
+		this.head = 0;
+		this.size = 0;
+	}
+}
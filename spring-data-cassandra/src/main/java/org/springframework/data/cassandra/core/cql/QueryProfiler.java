@@ -0,0 +1,315 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Query profiler capturing client-side timings and server-side traces of statements executed through
+ * {@link CqlTemplate} and {@link ReactiveCqlTemplate}. A configurable fraction of statements is
+ * {@link #withSampleRate(double) sampled} and executed with {@link Statement#setTracing(boolean) tracing} enabled.
+ * Executions exceeding the {@link #withSlowQueryThreshold(Duration) slow query threshold} are reported without trace
+ * and the next execution of the same query is traced.
+ * <p>
+ * Traces are fetched asynchronously once the result has been extracted, so retrieving a trace does not delay the
+ * calling thread. Executions that fail are profiled according to the same rules and the resulting profile carries the
+ * error. Captured {@link QueryProfile profiles} are published to a {@link ProfileListener}, for example a
+ * {@link QueryProfileRingBuffer}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CqlTemplate#setQueryProfiler(QueryProfiler)
+ * @see ReactiveCqlTemplate#setQueryProfiler(QueryProfiler)
+ */
+public final class QueryProfiler {
+
+	private static final Log logger = LogFactory.getLog(QueryProfiler.class);
+
+	private static final double DEFAULT_SAMPLE_RATE = 0.01;
+
+	private static final int MAX_SLOW_QUERIES = 1024;
+
+	private final double sampleRate;
+
+	private final long slowQueryThresholdNanos;
+
+	private final ProfileListener listener;
+
+	private final Set<String> slowQueries = ConcurrentHashMap.newKeySet();
+
+	private QueryProfiler(double sampleRate, long slowQueryThresholdNanos, ProfileListener listener) {
+
+		this.sampleRate = sampleRate;
+		this.slowQueryThresholdNanos = slowQueryThresholdNanos;
+		this.listener = listener;
+	}
+
+	/**
+	 * Create a new {@link QueryProfiler} publishing profiles to the given {@link ProfileListener}. Samples one percent of
+	 * all statements and does not consider a slow query threshold.
+	 *
+	 * @param listener the listener, must not be {@literal null}.
+	 * @return a new {@link QueryProfiler}.
+	 */
+	public static QueryProfiler of(ProfileListener listener) {
+
+		Assert.notNull(listener, "ProfileListener must not be null");
+
+		return new QueryProfiler(DEFAULT_SAMPLE_RATE, -1, listener);
+	}
+
+	/**
+	 * Create a new {@link QueryProfiler} sampling the given fraction of statements.
+	 *
+	 * @param sampleRate fraction of statements to trace between {@code 0} (none) and {@code 1} (all).
+	 * @return a new {@link QueryProfiler}.
+	 */
+	public QueryProfiler withSampleRate(double sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be between 0 and 1");
+
+		return new QueryProfiler(sampleRate, slowQueryThresholdNanos, listener);
+	}
+
+	/**
+	 * Create a new {@link QueryProfiler} reporting executions that exceed the given threshold.
+	 *
+	 * @param slowQueryThreshold the threshold, must not be {@literal null} or negative.
+	 * @return a new {@link QueryProfiler}.
+	 */
+	public QueryProfiler withSlowQueryThreshold(Duration slowQueryThreshold) {
+
+		Assert.notNull(slowQueryThreshold, "Slow query threshold must not be null");
+		Assert.isTrue(!slowQueryThreshold.isNegative(), "Slow query threshold must not be negative");
+
+		return new QueryProfiler(sampleRate, slowQueryThreshold.toNanos(), listener);
+	}
+
+	/**
+	 * Create a new {@link QueryProfiler} publishing profiles to the given {@link ProfileListener}.
+	 *
+	 * @param listener the listener, must not be {@literal null}.
+	 * @return a new {@link QueryProfiler}.
+	 */
+	public QueryProfiler withListener(ProfileListener listener) {
+
+		Assert.notNull(listener, "ProfileListener must not be null");
+
+		return new QueryProfiler(sampleRate, slowQueryThresholdNanos, listener);
+	}
+
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	public @Nullable Duration getSlowQueryThreshold() {
+		return this.slowQueryThresholdNanos >= 0 ? Duration.ofNanos(this.slowQueryThresholdNanos) : null;
+	}
+
+	/**
+	 * Start profiling the execution of the given {@link Statement}. Enables tracing if the statement is sampled or if a
+	 * previous execution of the same query exceeded the slow query threshold.
+	 *
+	 * @param statement the statement to execute.
+	 * @return the {@link Execution} to report progress of the execution.
+	 */
+	Execution start(Statement<?> statement) {
+
+		QueryProfile.Reason reason = null;
+
+		if (!this.slowQueries.isEmpty()) {
+
+			String query = getQuery(statement);
+
+			if (query != null && this.slowQueries.remove(query)) {
+				reason = QueryProfile.Reason.SLOW;
+			}
+		}
+
+		if (reason == null && this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate) {
+			reason = QueryProfile.Reason.SAMPLED;
+		}
+
+		Statement<?> statementToUse = reason != null && !statement.isTracing() ? statement.setTracing(true) : statement;
+
+		return new Execution(statementToUse, reason);
+	}
+
+	private void complete(Execution execution, long networkNanos, long mappingNanos,
+			@Nullable ExecutionInfo executionInfo, @Nullable Throwable error) {
+
+		Statement<?> statement = execution.getStatement();
+
+		if (execution.reason != null) {
+
+			QueryProfile.Reason reason = execution.reason;
+
+			if (executionInfo == null || executionInfo.getTracingId() == null) {
+				publish(statement, reason, networkNanos, mappingNanos, null, error);
+				return;
+			}
+
+			executionInfo.getQueryTraceAsync().whenComplete((trace, ex) -> {
+
+				if (ex != null && logger.isDebugEnabled()) {
+					logger.debug("Cannot retrieve query trace for %s".formatted(executionInfo.getTracingId()), ex);
+				}
+
+				publish(statement, reason, networkNanos, mappingNanos, trace != null ? QueryProfile.Trace.from(trace) : null,
+						error);
+			});
+
+			return;
+		}
+
+		if (this.slowQueryThresholdNanos >= 0 && networkNanos + mappingNanos >= this.slowQueryThresholdNanos) {
+
+			String query = getQuery(statement);
+
+			if (query != null && this.slowQueries.size() < MAX_SLOW_QUERIES) {
+				this.slowQueries.add(query);
+			}
+
+			publish(statement, QueryProfile.Reason.SLOW, networkNanos, mappingNanos, null, error);
+		}
+	}
+
+	private void publish(Statement<?> statement, QueryProfile.Reason reason, long networkNanos, long mappingNanos,
+			QueryProfile.@Nullable Trace trace, @Nullable Throwable error) {
+
+		String cql = QueryExtractorDelegate.getCql(statement);
+		QueryProfile profile = new QueryProfile(cql != null ? cql : "", reason, Duration.ofNanos(networkNanos),
+				Duration.ofNanos(mappingNanos), trace, error);
+
+		try {
+			this.listener.onProfile(profile);
+		} catch (RuntimeException ex) {
+			logger.warn("ProfileListener failed to process query profile", ex);
+		}
+	}
+
+	private static @Nullable String getQuery(Statement<?> statement) {
+
+		if (statement instanceof SimpleStatement simpleStatement) {
+			return simpleStatement.getQuery();
+		}
+
+		if (statement instanceof BoundStatement boundStatement) {
+			return boundStatement.getPreparedStatement().getQuery();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Profiled execution of a single statement. The execution is expected to be {@link #executed() executed} once the
+	 * first page was received and {@link #complete(ExecutionInfo) completed} once the result was extracted or
+	 * {@link #fail(Throwable) failed}. Only the first completion is considered.
+	 */
+	final class Execution {
+
+		private final Statement<?> statement;
+
+		private final QueryProfile.@Nullable Reason reason;
+
+		private final long startNanos = System.nanoTime();
+
+		private long executedNanos = -1;
+
+		private boolean completed;
+
+		private Execution(Statement<?> statement, QueryProfile.@Nullable Reason reason) {
+			this.statement = statement;
+			this.reason = reason;
+		}
+
+		/**
+		 * @return the statement to execute, with tracing enabled if the execution is traced.
+		 */
+		Statement<?> getStatement() {
+			return this.statement;
+		}
+
+		/**
+		 * Record that the first page was received.
+		 */
+		void executed() {
+			this.executedNanos = System.nanoTime();
+		}
+
+		/**
+		 * Record that the result was extracted and publish the profile, if applicable.
+		 *
+		 * @param executionInfo execution info of the first page, can be {@literal null} if not available.
+		 */
+		void complete(@Nullable ExecutionInfo executionInfo) {
+			complete(executionInfo, null);
+		}
+
+		/**
+		 * Record that the execution failed and publish the profile, if applicable.
+		 *
+		 * @param error the error that terminated the execution.
+		 */
+		void fail(Throwable error) {
+			complete(error instanceof DriverException ex ? ex.getExecutionInfo() : null, error);
+		}
+
+		private void complete(@Nullable ExecutionInfo executionInfo, @Nullable Throwable error) {
+
+			if (this.completed) {
+				return;
+			}
+
+			this.completed = true;
+
+			long now = System.nanoTime();
+			long executed = this.executedNanos >= 0 ? this.executedNanos : now;
+
+			QueryProfiler.this.complete(this, executed - this.startNanos, now - executed, executionInfo, error);
+		}
+	}
+
+	/**
+	 * Listener notified with captured {@link QueryProfile profiles}. Profiles of traced statements are published from a
+	 * driver thread once the trace has been retrieved.
+	 */
+	@FunctionalInterface
+	public interface ProfileListener {
+
+		/**
+		 * Callback for a captured profile.
+		 *
+		 * @param profile the query profile.
+		 */
+		void onProfile(QueryProfile profile);
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Client-side statistics of a single statement execution accounted through {@link QueryThresholds}. The CQL is the
+ * statement template, for example the query of a prepared statement, and does not contain bound values.
+ *
+ * @param cql the CQL of the statement.
+ * @param operation the {@link StatementOperation} associated with the statement, can be {@literal null}.
+ * @param pages number of pages received so far.
+ * @param rows number of rows received so far.
+ * @param bytes number of response bytes received so far, estimated from
+ *          {@link com.datastax.oss.driver.api.core.cql.ExecutionInfo#getResponseSizeInBytes()}.
+ * @param elapsed wall time since the statement was submitted.
+ * @author Mark Paluch
+ * @since 5.2
+ * @see QueryThresholds
+ */
+public record QueryStatistics(String cql, @Nullable StatementOperation operation, int pages, long rows, long bytes,
+		Duration elapsed) {
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thresholds for client-side accounting of statement executions. Templates configured with {@link QueryThresholds}
+ * account pages, rows, response bytes and wall time of each statement and notify a {@link Listener} when a threshold is
+ * exceeded. Row, page and byte thresholds are checked while the result is consumed so that unbounded scans and large
+ * partitions are reported before the result has been fully read. Each threshold is reported at most once per
+ * execution.
+ * <p>
+ * The default listener logs a warning using the {@code org.springframework.data.cassandra.core.cql.QueryThresholds}
+ * log category. Custom listeners can record metrics tagged with the {@link QueryStatistics#cql() statement template} or
+ * the {@link QueryStatistics#operation() statement operation}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CqlTemplate#setQueryThresholds(QueryThresholds)
+ * @see AsyncCqlTemplate#setQueryThresholds(QueryThresholds)
+ * @see ReactiveCqlTemplate#setQueryThresholds(QueryThresholds)
+ */
+public final class QueryThresholds {
+
+	private static final Log logger = LogFactory.getLog(QueryThresholds.class);
+
+	private static final Listener LOGGING_LISTENER = (threshold, statistics) -> {
+
+		if (logger.isWarnEnabled()) {
+			logger.warn(String.format("Statement [%s] exceeded %s threshold: %d pages, %d rows, %d bytes in %d ms",
+					statistics.cql(), threshold, statistics.pages(), statistics.rows(), statistics.bytes(),
+					statistics.elapsed().toMillis()));
+		}
+	};
+
+	private static final QueryThresholds DISABLED = new QueryThresholds(-1, -1, -1, -1, LOGGING_LISTENER);
+
+	private final long maxRows;
+
+	private final int maxPages;
+
+	private final long maxBytes;
+
+	private final long maxDurationNanos;
+
+	private final Listener listener;
+
+	private QueryThresholds(long maxRows, int maxPages, long maxBytes, long maxDurationNanos, Listener listener) {
+
+		this.maxRows = maxRows;
+		this.maxPages = maxPages;
+		this.maxBytes = maxBytes;
+		this.maxDurationNanos = maxDurationNanos;
+		this.listener = listener;
+	}
+
+	/**
+	 * Create {@link QueryThresholds} without any threshold configured, reporting exceeded thresholds as log warnings.
+	 * Statements are accounted and {@link Listener#onCompleted(QueryStatistics) reported} nonetheless.
+	 *
+	 * @return {@link QueryThresholds} without thresholds.
+	 */
+	public static QueryThresholds create() {
+		return DISABLED;
+	}
+
+	/**
+	 * Create new {@link QueryThresholds} reporting statements that return more than {@code maxRows} rows.
+	 *
+	 * @param maxRows maximum number of rows, must be greater than zero.
+	 * @return new {@link QueryThresholds}.
+	 */
+	public QueryThresholds withMaxRows(long maxRows) {
+
+		Assert.isTrue(maxRows > 0, "Maximum rows must be greater than zero");
+
+		return new QueryThresholds(maxRows, maxPages, maxBytes, maxDurationNanos, listener);
+	}
+
+	/**
+	 * Create new {@link QueryThresholds} reporting statements that fetch more than {@code maxPages} pages.
+	 *
+	 * @param maxPages maximum number of pages, must be greater than zero.
+	 * @return new {@link QueryThresholds}.
+	 */
+	public QueryThresholds withMaxPages(int maxPages) {
+
+		Assert.isTrue(maxPages > 0, "Maximum pages must be greater than zero");
+
+		return new QueryThresholds(maxRows, maxPages, maxBytes, maxDurationNanos, listener);
+	}
+
+	/**
+	 * Create new {@link QueryThresholds} reporting statements that receive more than {@code maxBytes} response bytes.
+	 *
+	 * @param maxBytes maximum number of response bytes, must be greater than zero.
+	 * @return new {@link QueryThresholds}.
+	 */
+	public QueryThresholds withMaxBytes(long maxBytes) {
+
+		Assert.isTrue(maxBytes > 0, "Maximum bytes must be greater than zero");
+
+		return new QueryThresholds(maxRows, maxPages, maxBytes, maxDurationNanos, listener);
+	}
+
+	/**
+	 * Create new {@link QueryThresholds} reporting statements that take longer than {@code maxDuration} from submitting
+	 * the statement until the result was consumed.
+	 *
+	 * @param maxDuration maximum wall time, must not be {@literal null} or negative.
+	 * @return new {@link QueryThresholds}.
+	 */
+	public QueryThresholds withMaxDuration(Duration maxDuration) {
+
+		Assert.notNull(maxDuration, "Maximum duration must not be null");
+		Assert.isTrue(!maxDuration.isNegative(), "Maximum duration must not be negative");
+
+		return new QueryThresholds(maxRows, maxPages, maxBytes, maxDuration.toNanos(), listener);
+	}
+
+	/**
+	 * Create new {@link QueryThresholds} notifying the given {@link Listener}.
+	 *
+	 * @param listener the listener, must not be {@literal null}.
+	 * @return new {@link QueryThresholds}.
+	 */
+	public QueryThresholds withListener(Listener listener) {
+
+		Assert.notNull(listener, "Listener must not be null");
+
+		return new QueryThresholds(maxRows, maxPages, maxBytes, maxDurationNanos, listener);
+	}
+
+	/**
+	 * @return the maximum number of rows or {@code -1} if not configured.
+	 */
+	public long getMaxRows() {
+		return this.maxRows;
+	}
+
+	/**
+	 * @return the maximum number of pages or {@code -1} if not configured.
+	 */
+	public int getMaxPages() {
+		return this.maxPages;
+	}
+
+	/**
+	 * @return the maximum number of response bytes or {@code -1} if not configured.
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return the maximum wall time, can be {@literal null} if not configured.
+	 */
+	public @Nullable Duration getMaxDuration() {
+		return this.maxDurationNanos >= 0 ? Duration.ofNanos(this.maxDurationNanos) : null;
+	}
+
+	Listener getListener() {
+		return this.listener;
+	}
+
+	boolean exceedsRows(long rows) {
+		return this.maxRows > 0 && rows > this.maxRows;
+	}
+
+	boolean exceedsPages(int pages) {
+		return this.maxPages > 0 && pages > this.maxPages;
+	}
+
+	boolean exceedsBytes(long bytes) {
+		return this.maxBytes > 0 && bytes > this.maxBytes;
+	}
+
+	boolean exceedsDuration(long elapsedNanos) {
+		return this.maxDurationNanos >= 0 && elapsedNanos > this.maxDurationNanos;
+	}
+
+	/**
+	 * Type of threshold exceeded by a statement execution.
+	 */
+	public enum Threshold {
+		ROWS, PAGES, BYTES, DURATION
+	}
+
+	/**
+	 * Listener notified about accounted statement executions.
+	 */
+	@FunctionalInterface
+	public interface Listener {
+
+		/**
+		 * Callback for a statement execution that exceeded the given {@link Threshold}.
+		 *
+		 * @param threshold the exceeded threshold.
+		 * @param statistics statistics of the execution at the time the threshold was exceeded.
+		 */
+		void onThresholdExceeded(Threshold threshold, QueryStatistics statistics);
+
+		/**
+		 * Callback for a completed statement execution. An execution completes once its result has been consumed or
+		 * extracted, whichever happens first. Lazily consumed results such as a {@link java.util.stream.Stream} complete
+		 * once they are exhausted or closed.
+		 *
+		 * @param statistics statistics of the execution.
+		 */
+		default void onCompleted(QueryStatistics statistics) {}
+
+		/**
+		 * Callback for a statement execution that failed during execution or while its result was consumed. Defaults to
+		 * {@link #onCompleted(QueryStatistics)}.
+		 *
+		 * @param statistics statistics of the execution at the time it failed.
+		 * @param error the error that terminated the execution.
+		 */
+		default void onFailed(QueryStatistics statistics, Throwable error) {
+			onCompleted(statistics);
+		}
+	}
+}
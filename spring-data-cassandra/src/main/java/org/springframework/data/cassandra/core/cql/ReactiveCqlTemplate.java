@@ -17,8 +17,11 @@ package org.springframework.data.cassandra.core.cql;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.retry.Retry;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -115,6 +118,37 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	private @Nullable ConsistencyLevel serialConsistencyLevel;
 
+	/**
+	 * If this variable is set to a value, it will be used to adapt the page size of subsequent pages during transparent
+	 * paging.
+	 */
+	private @Nullable AdaptivePageSize adaptivePageSize;
+
+	/**
+	 * If this variable is set to a value, it will be used to profile sampled and slow statements.
+	 */
+	private @Nullable QueryProfiler queryProfiler;
+
+	/**
+	 * If this variable is set to a value, it will be used to account statements and to report exceeded thresholds.
+	 */
+	private @Nullable QueryThresholds queryThresholds;
+
+	/**
+	 * Resolver for the retry policy applied to idempotent statements failing with transient errors.
+	 */
+	private RetryPolicyResolver retryPolicyResolver = RetryPolicyResolver.none();
+
+	/**
+	 * If this variable is set to a value, it will be used to limit the number of concurrently executing statements.
+	 */
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
+	/**
+	 * Registry of {@link StatementOperation}s attached to statements before executing them.
+	 */
+	private StatementOperations statementOperations = new StatementOperations();
+
 	/**
 	 * Construct a new {@link ReactiveCqlTemplate}. Note: The {@link ReactiveSessionFactory} has to be set before using
 	 * the instance.
@@ -268,6 +302,131 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return this.serialConsistencyLevel;
 	}
 
+	/**
+	 * Configure adaptive page sizing. Page sizes of subsequent pages are derived from the observed bytes per row and the
+	 * time the downstream consumer required to drain the previous page.
+	 *
+	 * @param adaptivePageSize the adaptive page size configuration, can be {@literal null} to disable adaptive page
+	 *          sizing.
+	 * @since 5.2
+	 * @see ReactiveResultSet#rows()
+	 */
+	public void setAdaptivePageSize(@Nullable AdaptivePageSize adaptivePageSize) {
+		this.adaptivePageSize = adaptivePageSize;
+	}
+
+	/**
+	 * @return the adaptive page size configuration, can be {@literal null} if adaptive page sizing is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable AdaptivePageSize getAdaptivePageSize() {
+		return this.adaptivePageSize;
+	}
+
+	/**
+	 * Configure a {@link QueryProfiler} to capture client-side timings and server-side traces of sampled and slow
+	 * statements. The mapping time of a profile covers the time until the extracted result publisher terminates.
+	 *
+	 * @param queryProfiler the query profiler, can be {@literal null} to disable query profiling.
+	 * @since 5.2
+	 */
+	public void setQueryProfiler(@Nullable QueryProfiler queryProfiler) {
+		this.queryProfiler = queryProfiler;
+	}
+
+	/**
+	 * @return the query profiler, can be {@literal null} if query profiling is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable QueryProfiler getQueryProfiler() {
+		return this.queryProfiler;
+	}
+
+	/**
+	 * Configure {@link QueryThresholds} to account pages, rows, response bytes and wall time of each statement and to
+	 * report statements exceeding the configured thresholds.
+	 *
+	 * @param queryThresholds the query thresholds, can be {@literal null} to disable accounting.
+	 * @since 5.2
+	 */
+	public void setQueryThresholds(@Nullable QueryThresholds queryThresholds) {
+		this.queryThresholds = queryThresholds;
+	}
+
+	/**
+	 * @return the query thresholds, can be {@literal null} if accounting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable QueryThresholds getQueryThresholds() {
+		return this.queryThresholds;
+	}
+
+	/**
+	 * Configure a {@link ConcurrencyLimiter} to adaptively limit the number of concurrently executing statements.
+	 * Statements exceeding the limit are queued or rejected with
+	 * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param concurrencyLimiter the concurrency limiter, can be {@literal null} to disable limiting.
+	 * @since 5.2
+	 */
+	public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the concurrency limiter, can be {@literal null} if limiting is disabled.
+	 * @since 5.2
+	 */
+	public @Nullable ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
+	/**
+	 * Set the {@link StatementOperations} registry for this template. Statement factories register the
+	 * {@link StatementOperation} of statements they create with the registry and the template attaches the registered
+	 * operation to the statement before executing it.
+	 *
+	 * @param statementOperations must not be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setStatementOperations(StatementOperations statementOperations) {
+
+		Assert.notNull(statementOperations, "StatementOperations must not be null");
+
+		this.statementOperations = statementOperations;
+	}
+
+	/**
+	 * @return the {@link StatementOperations} registry of this template.
+	 * @since 5.2
+	 */
+	public StatementOperations getStatementOperations() {
+		return this.statementOperations;
+	}
+
+	/**
+	 * Configure the {@link RetryPolicyResolver} to retry idempotent statements failing with transient errors. Retries are
+	 * delayed without blocking.
+	 *
+	 * @param retryPolicyResolver must not be {@literal null}.
+	 * @since 5.2
+	 * @see StatementRetryPolicy
+	 */
+	public void setRetryPolicyResolver(RetryPolicyResolver retryPolicyResolver) {
+
+		Assert.notNull(retryPolicyResolver, "RetryPolicyResolver must not be null");
+
+		this.retryPolicyResolver = retryPolicyResolver;
+	}
+
+	/**
+	 * @return the {@link RetryPolicyResolver} specified for this {@link ReactiveCqlTemplate}.
+	 * @since 5.2
+	 */
+	public RetryPolicyResolver getRetryPolicyResolver() {
+		return this.retryPolicyResolver;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain org.springframework.data.cassandra.core.cql.ReactiveSession
 	// -------------------------------------------------------------------------
@@ -380,7 +539,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug(String.format("Executing statement [%s]", cql.get()));
 			}
 
-			return session.execute(applyStatementSettings(statement)).flatMapMany(rse::extractData);
+			return executeAndExtract(session, applyStatementSettings(statement), rse::extractData);
 		}).onErrorMap(translateException("Query", cql));
 	}
 
@@ -428,7 +587,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug(String.format("Executing statement [%s]", cql.get()));
 			}
 
-			return session.execute(applyStatementSettings(executedStatement));
+			return Mono.from(executeAndExtract(session, applyStatementSettings(executedStatement), Mono::just));
 		}).onErrorMap(translateException("QueryForResultSet", cql));
 	}
 
@@ -493,8 +652,8 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 					? preparedStatementBinder.bindValues(preparedStatement)
 					: preparedStatement.bind());
 
-			return session.execute(applyStatementSettings(boundStatement));
-		}).flatMap(rse::extractData)).onErrorMap(translateException("Query", () -> toCql(psc)));
+			return executeAndExtract(session, applyStatementSettings(boundStatement), rse::extractData);
+		})).onErrorMap(translateException("Query", () -> toCql(psc)));
 	}
 
 	@Override
@@ -605,7 +764,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 			BoundStatement boundStatement = newArgPreparedStatementBinder(objects).bindValues(ps);
 
-			return session.execute(applyStatementSettings(boundStatement));
+			return executeAndExtract(session, applyStatementSettings(boundStatement), Mono::just);
 
 		}).map(ReactiveResultSet::wasApplied));
 	}
@@ -775,6 +934,124 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return new ArgumentPreparedStatementBinder(args);
 	}
 
+	private <T> Flux<T> executeAndExtract(ReactiveSession session, Statement<?> statement,
+			Function<ReactiveResultSet, ? extends Publisher<T>> extractor) {
+
+		QueryProfiler queryProfiler = this.queryProfiler;
+		QueryThresholds queryThresholds = this.queryThresholds;
+
+		if (queryProfiler == null && queryThresholds == null) {
+			return executeStatement(session, statement).flatMapMany(extractor);
+		}
+
+		return Flux.defer(() -> {
+
+			QueryProfiler.Execution execution = queryProfiler != null ? queryProfiler.start(statement) : null;
+			Statement<?> statementToUse = execution != null ? execution.getStatement() : statement;
+			QueryAccounting accounting = queryThresholds != null
+					? new QueryAccounting(queryThresholds, statementToUse, this.statementOperations)
+					: null;
+
+			return executeStatement(session, statementToUse).flatMapMany(resultSet -> {
+
+				if (execution != null) {
+					execution.executed();
+				}
+
+				return Flux.from(extractor.apply(accounting != null ? accounting.account(resultSet) : resultSet))
+						.doFinally(signal -> {
+
+							if (signal == SignalType.ON_ERROR) {
+								return;
+							}
+
+							if (execution != null) {
+								execution.complete(resultSet.getExecutionInfo());
+							}
+
+							if (accounting != null) {
+								accounting.complete();
+							}
+						});
+			}).doOnError(ex -> {
+
+				if (execution != null) {
+					execution.fail(ex);
+				}
+
+				if (accounting != null) {
+					accounting.complete(ex);
+				}
+			});
+		});
+	}
+
+	private Mono<ReactiveResultSet> executeStatement(ReactiveSession session, Statement<?> statement) {
+
+		AdaptivePageSize adaptivePageSize = this.adaptivePageSize;
+		Statement<?> statementToUse = this.statementOperations.attach(statement, session::getContext);
+
+		Mono<ReactiveResultSet> execution = (adaptivePageSize != null
+				? AdaptivePagingReactiveResultSet.execute(session, statementToUse, adaptivePageSize)
+				: session.execute(statementToUse)).doOnNext(
+						resultSet -> HedgingSpeculativeExecutionPolicy.onCompleted(session::getContext,
+								resultSet.getExecutionInfo()));
+
+		ConcurrencyLimiter concurrencyLimiter = this.concurrencyLimiter;
+
+		if (concurrencyLimiter != null) {
+			execution = limit(concurrencyLimiter, statementToUse, execution);
+		}
+
+		StatementRetryPolicy retryPolicy = this.retryPolicyResolver.resolve(statementToUse);
+
+		if (retryPolicy == null) {
+			return execution;
+		}
+
+		return Mono.defer(() -> {
+
+			retryPolicy.onExecution();
+
+			return execution.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+
+				int retry = (int) signal.totalRetries();
+
+				return retryPolicy.shouldRetry(statementToUse, signal.failure(), retry)
+						? Mono.delay(retryPolicy.getBackoff(retry))
+						: Mono.error(signal.failure());
+			})));
+		});
+	}
+
+	private static Mono<ReactiveResultSet> limit(ConcurrencyLimiter concurrencyLimiter, Statement<?> statement,
+			Mono<ReactiveResultSet> execution) {
+
+		Mono<ConcurrencyLimiter.Permit> permit = Mono.create(sink -> {
+
+			CompletableFuture<ConcurrencyLimiter.Permit> future = concurrencyLimiter.acquireAsync(statement);
+
+			future.whenComplete((it, ex) -> {
+
+				if (ex != null) {
+					sink.error(ex);
+				} else {
+					sink.success(it);
+				}
+			});
+
+			sink.onCancel(() -> {
+				if (!future.cancel(false)) {
+					future.thenAccept(ConcurrencyLimiter.Permit::release);
+				}
+			});
+		});
+
+		return permit.flatMap(it -> execution.doOnSuccess(resultSet -> it.onSuccess()) //
+				.doOnError(it::onError) //
+				.doOnCancel(it::release));
+	}
+
 	private Mono<ReactiveSession> getSession() {
 
 		ReactiveSessionFactory sessionFactory = getSessionFactory();
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Token bucket limiting retries relative to the number of executed statements. Each statement execution deposits
+ * {@code retryRatio} tokens and each retry withdraws one token. Retries are rejected once the bucket is empty so that
+ * retries cannot amplify load beyond {@code retryRatio} during an outage. The bucket holds at most {@code maxTokens}
+ * tokens and starts full to allow an initial burst of retries.
+ * <p>
+ * A {@link RetryBudget} is thread-safe and is typically shared across all statements of a template or an application.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see StatementRetryPolicy#withRetryBudget(RetryBudget)
+ */
+public final class RetryBudget {
+
+	private static final long TOKEN = 1000;
+
+	private final long deposit;
+
+	private final long capacity;
+
+	private final AtomicLong tokens;
+
+	private RetryBudget(double retryRatio, int maxTokens) {
+
+		this.deposit = Math.round(retryRatio * TOKEN);
+		this.capacity = maxTokens * TOKEN;
+		this.tokens = new AtomicLong(this.capacity);
+	}
+
+	/**
+	 * Create a new {@link RetryBudget}.
+	 *
+	 * @param retryRatio ratio of retries to executions, for example {@code 0.1} to allow one retry per ten executions.
+	 *          Must be greater than zero.
+	 * @param maxTokens maximum number of retries that can be accumulated, must be greater than zero.
+	 * @return the new {@link RetryBudget}.
+	 */
+	public static RetryBudget create(double retryRatio, int maxTokens) {
+
+		Assert.isTrue(retryRatio > 0, "Retry ratio must be greater than zero");
+		Assert.isTrue(maxTokens > 0, "Max tokens must be greater than zero");
+
+		return new RetryBudget(retryRatio, maxTokens);
+	}
+
+	/**
+	 * Record a statement execution depositing tokens into the budget.
+	 */
+	public void deposit() {
+
+		long current;
+		long next;
+
+		do {
+			current = this.tokens.get();
+			next = Math.min(this.capacity, current + this.deposit);
+		} while (current != next && !this.tokens.compareAndSet(current, next));
+	}
+
+	/**
+	 * Attempt to withdraw a token for a retry.
+	 *
+	 * @return {@literal true} if the retry is within budget; {@literal false} otherwise.
+	 */
+	public boolean tryWithdraw() {
+
+		long current;
+
+		do {
+			current = this.tokens.get();
+
+			if (current < TOKEN) {
+				return false;
+			}
+		} while (!this.tokens.compareAndSet(current, current - TOKEN));
+
+		return true;
+	}
+
+	/**
+	 * @return the number of retries currently available.
+	 */
+	public int getAvailableRetries() {
+		return (int) (this.tokens.get() / TOKEN);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("RetryBudget [available=%d, capacity=%d]", getAvailableRetries(), this.capacity / TOKEN);
+	}
+}
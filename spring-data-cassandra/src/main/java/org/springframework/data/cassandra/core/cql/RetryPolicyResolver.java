@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Resolver for a {@link StatementRetryPolicy} to apply when executing a {@link Statement}. Statements created through
+ * {@link org.springframework.data.cassandra.core.CassandraTemplate} carry their {@link StatementOperation} so that
+ * policies can be selected per table (entity) and operation:
+ *
+ * <pre class="code">
+ * RetryPolicyResolver resolver = RetryPolicyResolver.none()
+ * 		.forOperation("INSERT", StatementRetryPolicy.exponentialBackoff(3, Duration.ofMillis(20)))
+ * 		.forTable("events", StatementRetryPolicy.exponentialBackoff(5, Duration.ofMillis(50)));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see StatementRetryPolicy
+ * @see StatementOperation
+ */
+@FunctionalInterface
+public interface RetryPolicyResolver {
+
+	/**
+	 * Resolve the {@link StatementRetryPolicy} for the given {@link Statement}.
+	 *
+	 * @param statement the statement to inspect.
+	 * @return the retry policy or {@literal null} to not retry the statement.
+	 */
+	@Nullable
+	StatementRetryPolicy resolve(Statement<?> statement);
+
+	/**
+	 * Create a new {@link RetryPolicyResolver} that applies {@code policy} to statements of the given {@code table}
+	 * and falls back to this resolver for all other statements.
+	 *
+	 * @param table the table name, must not be {@literal null} or empty.
+	 * @param policy must not be {@literal null}.
+	 * @return the composed {@link RetryPolicyResolver}.
+	 */
+	default RetryPolicyResolver forTable(String table, StatementRetryPolicy policy) {
+
+		Assert.hasText(table, "Table must not be empty");
+		Assert.notNull(policy, "StatementRetryPolicy must not be null");
+
+		String tableName = CqlIdentifier.fromCql(table).asInternal();
+
+		return statement -> {
+
+			StatementOperation operation = StatementOperation.from(statement);
+			return operation != null && operation.getTableName().equals(tableName) ? policy : resolve(statement);
+		};
+	}
+
+	/**
+	 * Create a new {@link RetryPolicyResolver} that applies {@code policy} to statements of the given {@code operation}
+	 * (such as {@code INSERT}, {@code UPDATE}, {@code DELETE} or {@code SELECT}) and falls back to this resolver for all
+	 * other statements.
+	 *
+	 * @param operation the operation name, must not be {@literal null} or empty.
+	 * @param policy must not be {@literal null}.
+	 * @return the composed {@link RetryPolicyResolver}.
+	 */
+	default RetryPolicyResolver forOperation(String operation, StatementRetryPolicy policy) {
+
+		Assert.hasText(operation, "Operation must not be empty");
+		Assert.notNull(policy, "StatementRetryPolicy must not be null");
+
+		return statement -> {
+
+			StatementOperation statementOperation = StatementOperation.from(statement);
+			return statementOperation != null && statementOperation.getOperation().equalsIgnoreCase(operation) ? policy
+					: resolve(statement);
+		};
+	}
+
+	/**
+	 * Create a no-op {@link RetryPolicyResolver} that does not retry statements.
+	 *
+	 * @return no-op {@link RetryPolicyResolver}.
+	 */
+	static RetryPolicyResolver none() {
+		return statement -> null;
+	}
+
+	/**
+	 * Create a {@link RetryPolicyResolver} that applies {@code policy} to all statements.
+	 *
+	 * @param policy must not be {@literal null}.
+	 * @return a {@link RetryPolicyResolver} that applies the given {@link StatementRetryPolicy}.
+	 */
+	static RetryPolicyResolver from(StatementRetryPolicy policy) {
+
+		Assert.notNull(policy, "StatementRetryPolicy must not be null");
+
+		return statement -> policy;
+	}
+
+}
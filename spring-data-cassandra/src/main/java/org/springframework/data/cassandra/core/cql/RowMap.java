@@ -0,0 +1,460 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Lazy {@link Map} view over a {@link Row}. Column values are decoded on first access and cached afterwards so that
+ * callers reading only a few columns of a wide row do not pay for decoding the remaining columns. Keys are the column
+ * names in column order. Key lookup is resolved through a {@link ColumnIndex} that is computed once per
+ * {@link ColumnDefinitions} and shared across all rows of a result. Lookup is case-insensitive unless the index was
+ * created {@link ColumnIndex#caseSensitive(ColumnDefinitions) case-sensitive}.
+ * <p>
+ * The view is read-only until it gets modified. The first modification copies all columns into a
+ * {@link LinkedCaseInsensitiveMap} or, for case-sensitive indexes, a {@link LinkedHashMap} (or the map provided through
+ * {@link #RowMap(Row, ColumnIndex, RowValueReader, Supplier)}) that backs the view from then on. Serializing a
+ * {@link RowMap} serializes a copy of its columns.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ColumnMapRowMapper
+ */
+public class RowMap extends AbstractMap<String, @Nullable Object> implements Serializable {
+
+	private static final @Serial long serialVersionUID = 1L;
+
+	private static final Object NOT_DECODED = new Object();
+
+	private final transient Row row;
+
+	private final transient ColumnIndex index;
+
+	private final transient RowValueReader reader;
+
+	private final transient Supplier<Map<String, @Nullable Object>> mapFactory;
+
+	private final transient @Nullable Object[] values;
+
+	private transient @Nullable Map<String, @Nullable Object> materialized;
+
+	private transient @Nullable EntrySet entrySet;
+
+	/**
+	 * Create a new {@link RowMap} for the given {@link Row} decoding values through {@link Row#getObject(int)}.
+	 *
+	 * @param row must not be {@literal null}.
+	 */
+	public RowMap(Row row) {
+		this(row, ColumnIndex.of(row.getColumnDefinitions()));
+	}
+
+	/**
+	 * Create a new {@link RowMap} for the given {@link Row} and a precomputed {@link ColumnIndex} decoding values through
+	 * {@link Row#getObject(int)}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param index must not be {@literal null}.
+	 */
+	public RowMap(Row row, ColumnIndex index) {
+		this(row, index, Row::getObject, () -> index.isCaseSensitive() ? new LinkedHashMap<>(index.size())
+				: new LinkedCaseInsensitiveMap<>(index.size()));
+	}
+
+	/**
+	 * Create a new {@link RowMap}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param index must not be {@literal null}.
+	 * @param reader the value reader, must not be {@literal null}.
+	 * @param mapFactory factory for the map to copy columns into once the view gets modified, must not be
+	 *          {@literal null}.
+	 */
+	public RowMap(Row row, ColumnIndex index, RowValueReader reader, Supplier<Map<String, @Nullable Object>> mapFactory) {
+
+		Assert.notNull(row, "Row must not be null");
+		Assert.notNull(index, "ColumnIndex must not be null");
+		Assert.notNull(reader, "RowValueReader must not be null");
+		Assert.notNull(mapFactory, "Map factory must not be null");
+
+		this.row = row;
+		this.index = index;
+		this.reader = reader;
+		this.mapFactory = mapFactory;
+		this.values = new Object[index.size()];
+		Arrays.fill(this.values, NOT_DECODED);
+	}
+
+	@Override
+	public int size() {
+		return this.materialized != null ? this.materialized.size() : this.index.size();
+	}
+
+	@Override
+	public boolean containsKey(@Nullable Object key) {
+		return this.materialized != null ? this.materialized.containsKey(key) : this.index.indexOf(key) != -1;
+	}
+
+	@Override
+	public @Nullable Object get(@Nullable Object key) {
+
+		if (this.materialized != null) {
+			return this.materialized.get(key);
+		}
+
+		int position = this.index.indexOf(key);
+		return position != -1 ? getValue(position) : null;
+	}
+
+	@Override
+	public @Nullable Object put(String key, @Nullable Object value) {
+		return materialize().put(key, value);
+	}
+
+	@Override
+	public @Nullable Object remove(@Nullable Object key) {
+		return materialize().remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends @Nullable Object> map) {
+		materialize().putAll(map);
+	}
+
+	@Override
+	public void clear() {
+		materialize().clear();
+	}
+
+	@Override
+	public Set<Entry<String, @Nullable Object>> entrySet() {
+
+		if (this.materialized != null) {
+			return this.materialized.entrySet();
+		}
+
+		EntrySet entrySet = this.entrySet;
+		if (entrySet == null) {
+			this.entrySet = entrySet = new EntrySet();
+		}
+
+		return entrySet;
+	}
+
+	private @Nullable Object getValue(int position) {
+
+		Object value = this.values[position];
+
+		if (value == NOT_DECODED) {
+			value = this.reader.getValue(this.row, this.index.getColumnIndex(position));
+			this.values[position] = value;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Serialize a copy of the columns as the underlying {@link Row} is not serializable.
+	 */
+	@Serial
+	private Object writeReplace() {
+
+		Map<String, @Nullable Object> materialized = materialize();
+
+		return materialized instanceof Serializable ? materialized : new LinkedHashMap<>(materialized);
+	}
+
+	private Map<String, @Nullable Object> materialize() {
+
+		Map<String, @Nullable Object> materialized = this.materialized;
+
+		if (materialized == null) {
+
+			materialized = this.mapFactory.get();
+
+			for (int i = 0; i < this.index.size(); i++) {
+				materialized.put(this.index.getKey(i), getValue(i));
+			}
+
+			this.materialized = materialized;
+		}
+
+		return materialized;
+	}
+
+	/**
+	 * Strategy to read the value of a column.
+	 */
+	@FunctionalInterface
+	public interface RowValueReader {
+
+		/**
+		 * Read the value of the column at {@code index}.
+		 *
+		 * @param row the row.
+		 * @param index the column index within the row.
+		 * @return the column value, can be {@literal null}.
+		 */
+		@Nullable
+		Object getValue(Row row, int index);
+	}
+
+	/**
+	 * Precomputed keys of {@link ColumnDefinitions} with a case-insensitive or, if requested, case-sensitive lookup.
+	 * Duplicate column names (in any casing for case-insensitive lookup) are collapsed into a single key that keeps the
+	 * position of its first occurrence and reads the last occurrence, following {@link Map#put(Object, Object)}
+	 * semantics.
+	 */
+	public static final class ColumnIndex {
+
+		private final ColumnDefinitions columnDefinitions;
+
+		private final String[] keys;
+
+		private final int[] columnIndexes;
+
+		private final Map<String, Integer> positions;
+
+		private final boolean caseSensitive;
+
+		private ColumnIndex(ColumnDefinitions columnDefinitions, Function<String, String> keyFunction,
+				boolean caseSensitive) {
+
+			this.caseSensitive = caseSensitive;
+
+			int columnCount = columnDefinitions.size();
+			String[] keys = new String[columnCount];
+			int[] columnIndexes = new int[columnCount];
+			Map<String, Integer> positions = new HashMap<>(columnCount * 2);
+			int size = 0;
+
+			for (int i = 0; i < columnCount; i++) {
+
+				String key = keyFunction.apply(columnDefinitions.get(i).getName().toString());
+				Integer existing = positions.get(toLookupKey(key));
+
+				if (existing != null) {
+					columnIndexes[existing] = i;
+					continue;
+				}
+
+				keys[size] = key;
+				columnIndexes[size] = i;
+				positions.put(toLookupKey(key), size);
+				size++;
+			}
+
+			this.columnDefinitions = columnDefinitions;
+			this.keys = size == columnCount ? keys : Arrays.copyOf(keys, size);
+			this.columnIndexes = size == columnCount ? columnIndexes : Arrays.copyOf(columnIndexes, size);
+			this.positions = positions;
+		}
+
+		/**
+		 * Create a {@link ColumnIndex} for the given {@link ColumnDefinitions} using column names as keys with a
+		 * case-sensitive lookup.
+		 *
+		 * @param columnDefinitions must not be {@literal null}.
+		 * @return the column index.
+		 */
+		public static ColumnIndex caseSensitive(ColumnDefinitions columnDefinitions) {
+
+			Assert.notNull(columnDefinitions, "ColumnDefinitions must not be null");
+
+			return new ColumnIndex(columnDefinitions, Function.identity(), true);
+		}
+
+		/**
+		 * Create a {@link ColumnIndex} for the given {@link ColumnDefinitions} using column names as keys.
+		 *
+		 * @param columnDefinitions must not be {@literal null}.
+		 * @return the column index.
+		 */
+		public static ColumnIndex of(ColumnDefinitions columnDefinitions) {
+			return of(columnDefinitions, Function.identity());
+		}
+
+		/**
+		 * Create a {@link ColumnIndex} for the given {@link ColumnDefinitions} applying {@code keyFunction} to column
+		 * names to determine the key.
+		 *
+		 * @param columnDefinitions must not be {@literal null}.
+		 * @param keyFunction must not be {@literal null}.
+		 * @return the column index.
+		 */
+		public static ColumnIndex of(ColumnDefinitions columnDefinitions, Function<String, String> keyFunction) {
+
+			Assert.notNull(columnDefinitions, "ColumnDefinitions must not be null");
+			Assert.notNull(keyFunction, "Key function must not be null");
+
+			return new ColumnIndex(columnDefinitions, keyFunction, false);
+		}
+
+		/**
+		 * Check whether this index was computed for the given {@link ColumnDefinitions} instance. Rows of the same result
+		 * share their {@link ColumnDefinitions} so that the index can be reused.
+		 *
+		 * @param columnDefinitions the column definitions to check.
+		 * @return {@literal true} if this index was computed from {@code columnDefinitions}.
+		 */
+		public boolean isFor(ColumnDefinitions columnDefinitions) {
+			return this.columnDefinitions == columnDefinitions;
+		}
+
+		/**
+		 * @return {@literal true} if keys are looked up case-sensitive.
+		 */
+		public boolean isCaseSensitive() {
+			return this.caseSensitive;
+		}
+
+		/**
+		 * @return the number of keys.
+		 */
+		public int size() {
+			return this.keys.length;
+		}
+
+		/**
+		 * Return the position of {@code key} or {@code -1} if the key is not contained in this index.
+		 *
+		 * @param key the key to look up.
+		 * @return the position of the key or {@code -1}.
+		 */
+		public int indexOf(@Nullable Object key) {
+
+			if (!(key instanceof String name)) {
+				return -1;
+			}
+
+			Integer position = this.positions.get(toLookupKey(name));
+			return position != null ? position : -1;
+		}
+
+		String getKey(int position) {
+			return this.keys[position];
+		}
+
+		int getColumnIndex(int position) {
+			return this.columnIndexes[position];
+		}
+
+		private String toLookupKey(String key) {
+			return this.caseSensitive ? key : key.toLowerCase(Locale.ROOT);
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, @Nullable Object>> {
+
+		@Override
+		public int size() {
+			return RowMap.this.size();
+		}
+
+		@Override
+		public Iterator<Entry<String, @Nullable Object>> iterator() {
+
+			if (materialized != null) {
+				return materialized.entrySet().iterator();
+			}
+
+			return new Iterator<>() {
+
+				private int position;
+
+				@Override
+				public boolean hasNext() {
+					return position < index.size();
+				}
+
+				@Override
+				public Entry<String, @Nullable Object> next() {
+
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					return new RowEntry(position++);
+				}
+			};
+		}
+	}
+
+	private class RowEntry implements Entry<String, @Nullable Object> {
+
+		private final int position;
+
+		RowEntry(int position) {
+			this.position = position;
+		}
+
+		@Override
+		public String getKey() {
+			return index.getKey(position);
+		}
+
+		@Override
+		public @Nullable Object getValue() {
+			return RowMap.this.getValue(position);
+		}
+
+		@Override
+		public @Nullable Object setValue(@Nullable Object value) {
+			throw new UnsupportedOperationException("RowMap entries are read-only");
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (!(o instanceof Entry<?, ?> entry)) {
+				return false;
+			}
+
+			return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.StringUtils;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.config.DriverOption;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * {@link DriverExecutionProfile} carrying client-side settings of a {@link Statement}: hedging settings and the
+ * {@link StatementOperation} the statement was created for. Hedging settings overlay
+ * {@code advanced.speculative-execution-policy.delay} and {@code advanced.speculative-execution-policy.max-executions}
+ * on the execution profile the statement would use otherwise. Statements retain their execution profile when deriving
+ * statements, binding prepared statements or fetching subsequent pages so that these settings travel with the
+ * statement without sending them to the server.
+ * <p>
+ * Hedging settings are applied before the session is known. The profile therefore starts unresolved, referring to
+ * the statement's execution profile by name, and is {@link #resolve(DriverConfig) resolved} against the driver
+ * configuration by the CQL templates before executing the statement. {@link StatementOperation}s are attached by the
+ * CQL templates to already resolved profiles.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+final class StatementExecutionProfile implements DriverExecutionProfile {
+
+	private final @Nullable DriverExecutionProfile delegate;
+
+	private final @Nullable String profileName;
+
+	private final @Nullable Duration delay;
+
+	private final int maxExecutions;
+
+	private final @Nullable StatementOperation operation;
+
+	private StatementExecutionProfile(@Nullable DriverExecutionProfile delegate, @Nullable String profileName,
+			@Nullable Duration delay, int maxExecutions, @Nullable StatementOperation operation) {
+
+		this.delegate = delegate;
+		this.profileName = profileName;
+		this.delay = delay;
+		this.maxExecutions = maxExecutions;
+		this.operation = operation;
+	}
+
+	/**
+	 * Apply hedging settings to {@code statement} retaining the execution profile or profile name of the statement.
+	 */
+	static <T extends Statement<?>> T hedge(T statement, Duration delay, int maxExecutions) {
+
+		DriverExecutionProfile profile = statement.getExecutionProfile();
+		StatementExecutionProfile hedged = profile instanceof StatementExecutionProfile other
+				? new StatementExecutionProfile(other.delegate, other.profileName, delay, maxExecutions, other.operation)
+				: new StatementExecutionProfile(profile, profile == null ? statement.getExecutionProfileName() : null, delay,
+						maxExecutions, null);
+
+		return withProfile(statement, hedged);
+	}
+
+	/**
+	 * Attach the {@link StatementOperation} to {@code statement} resolving its execution profile against the driver
+	 * configuration.
+	 */
+	static <T extends Statement<?>> T withOperation(T statement, StatementOperation operation, DriverConfig config) {
+
+		DriverExecutionProfile profile = statement.getExecutionProfile();
+
+		if (profile instanceof StatementExecutionProfile other) {
+			return withProfile(statement, new StatementExecutionProfile(other.resolveDelegate(config), null, other.delay,
+					other.maxExecutions, operation));
+		}
+
+		DriverExecutionProfile delegate = profile != null ? profile
+				: resolveProfile(statement.getExecutionProfileName(), config);
+
+		return withProfile(statement, new StatementExecutionProfile(delegate, null, null, 0, operation));
+	}
+
+	/**
+	 * Apply the execution profile {@code profileName} to {@code statement} retaining statement settings.
+	 */
+	static <T extends Statement<?>> T setExecutionProfileName(T statement, String profileName) {
+
+		if (statement.getExecutionProfile() instanceof StatementExecutionProfile other) {
+			return withProfile(statement,
+					new StatementExecutionProfile(null, profileName, other.delay, other.maxExecutions, other.operation));
+		}
+
+		return withName(statement, profileName);
+	}
+
+	/**
+	 * Apply the execution {@code profile} to {@code statement} retaining statement settings.
+	 */
+	static <T extends Statement<?>> T setExecutionProfile(T statement, DriverExecutionProfile profile) {
+
+		if (statement.getExecutionProfile() instanceof StatementExecutionProfile other
+				&& !(profile instanceof StatementExecutionProfile)) {
+			return withProfile(statement,
+					new StatementExecutionProfile(profile, null, other.delay, other.maxExecutions, other.operation));
+		}
+
+		return withProfile(statement, profile);
+	}
+
+	/**
+	 * Resolve the execution profile of {@code statement} against the driver configuration. Statements without statement
+	 * settings and statements that are already resolved are returned as-is.
+	 */
+	static <T extends Statement<?>> T resolve(T statement, DriverConfig config) {
+
+		if (statement.getExecutionProfile() instanceof StatementExecutionProfile profile && !profile.isResolved()) {
+			return withProfile(statement, profile.resolve(config));
+		}
+
+		return statement;
+	}
+
+	StatementExecutionProfile resolve(DriverConfig config) {
+
+		if (this.delegate != null) {
+			return this;
+		}
+
+		return new StatementExecutionProfile(resolveDelegate(config), null, this.delay, this.maxExecutions,
+				this.operation);
+	}
+
+	private DriverExecutionProfile resolveDelegate(DriverConfig config) {
+		return this.delegate != null ? this.delegate : resolveProfile(this.profileName, config);
+	}
+
+	private static DriverExecutionProfile resolveProfile(@Nullable String profileName, DriverConfig config) {
+		return StringUtils.hasText(profileName) ? config.getProfile(profileName) : config.getDefaultProfile();
+	}
+
+	boolean isResolved() {
+		return this.delegate != null;
+	}
+
+	boolean isHedged() {
+		return this.delay != null;
+	}
+
+	@Nullable
+	Duration getDelay() {
+		return this.delay;
+	}
+
+	int getMaxExecutions() {
+		return this.maxExecutions;
+	}
+
+	@Nullable
+	StatementOperation getOperation() {
+		return this.operation;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Statement<?>> T withProfile(T statement, DriverExecutionProfile profile) {
+		return (T) statement.setExecutionProfile(profile);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Statement<?>> T withName(T statement, String profileName) {
+		return (T) statement.setExecutionProfileName(profileName);
+	}
+
+	private DriverExecutionProfile getDelegate() {
+
+		DriverExecutionProfile delegate = this.delegate;
+
+		if (delegate == null) {
+			throw new IllegalStateException(
+					"Statement execution profile is not resolved against a session configuration; execute it through a CQL template or resolve it using HedgingSpeculativeExecutionPolicy.resolve(…)");
+		}
+
+		return delegate;
+	}
+
+	@Override
+	public String getName() {
+
+		if (this.delegate != null) {
+			return this.delegate.getName();
+		}
+
+		return StringUtils.hasText(this.profileName) ? this.profileName : DriverExecutionProfile.DEFAULT_NAME;
+	}
+
+	@Override
+	public boolean isDefined(DriverOption option) {
+		return (isHedged() && isHedgingOption(option)) || getDelegate().isDefined(option);
+	}
+
+	@Override
+	public boolean getBoolean(DriverOption option) {
+		return getDelegate().getBoolean(option);
+	}
+
+	@Override
+	public List<Boolean> getBooleanList(DriverOption option) {
+		return getDelegate().getBooleanList(option);
+	}
+
+	@Override
+	public int getInt(DriverOption option) {
+		return isHedged() && option == DefaultDriverOption.SPECULATIVE_EXECUTION_MAX ? this.maxExecutions
+				: getDelegate().getInt(option);
+	}
+
+	@Override
+	public List<Integer> getIntList(DriverOption option) {
+		return getDelegate().getIntList(option);
+	}
+
+	@Override
+	public long getLong(DriverOption option) {
+		return getDelegate().getLong(option);
+	}
+
+	@Override
+	public List<Long> getLongList(DriverOption option) {
+		return getDelegate().getLongList(option);
+	}
+
+	@Override
+	public double getDouble(DriverOption option) {
+		return getDelegate().getDouble(option);
+	}
+
+	@Override
+	public List<Double> getDoubleList(DriverOption option) {
+		return getDelegate().getDoubleList(option);
+	}
+
+	@Override
+	public String getString(DriverOption option) {
+		return getDelegate().getString(option);
+	}
+
+	@Override
+	public List<String> getStringList(DriverOption option) {
+		return getDelegate().getStringList(option);
+	}
+
+	@Override
+	public Map<String, String> getStringMap(DriverOption option) {
+		return getDelegate().getStringMap(option);
+	}
+
+	@Override
+	public long getBytes(DriverOption option) {
+		return getDelegate().getBytes(option);
+	}
+
+	@Override
+	public List<Long> getBytesList(DriverOption option) {
+		return getDelegate().getBytesList(option);
+	}
+
+	@Override
+	public Duration getDuration(DriverOption option) {
+
+		Duration delay = this.delay;
+
+		return delay != null && option == DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY ? delay
+				: getDelegate().getDuration(option);
+	}
+
+	@Override
+	public List<Duration> getDurationList(DriverOption option) {
+		return getDelegate().getDurationList(option);
+	}
+
+	@Override
+	public SortedSet<Map.Entry<String, Object>> entrySet() {
+		return getDelegate().entrySet();
+	}
+
+	private static boolean isHedgingOption(DriverOption option) {
+		return option == DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY
+				|| option == DefaultDriverOption.SPECULATIVE_EXECUTION_MAX;
+	}
+
+	@Override
+	public String toString() {
+		return "StatementExecutionProfile[profile=%s, delay=%s, maxExecutions=%d, operation=%s]".formatted(getName(),
+				this.delay, this.maxExecutions, this.operation);
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Request;
+
+/**
+ * Describes the keyspace, table and operation a statement was created for. Templates associate statements with their
+ * {@link StatementOperation} so that instrumentation such as observability can derive low-cardinality metadata without
+ * parsing CQL.
+ * <p>
+ * The association is held on the client side and not sent to the server. Statement factories register operations with
+ * the {@link StatementOperations} of a CQL template which attaches the operation to the execution profile of a
+ * statement before executing it. Statements derived from an executed statement, such as statements for subsequent
+ * pages, retain their {@link StatementOperation}.
+ * <p>
+ * Instances are interned: {@link #of(CqlIdentifier, CqlIdentifier, String)} and {@link #from(Request)} return the same
+ * instance for the same keyspace, table and operation, allowing consumers to cache derived data by identity.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class StatementOperation {
+
+	private static final int CACHE_LIMIT = 1024;
+
+	private static final Map<Key, StatementOperation> BY_KEY = new ConcurrentHashMap<>();
+
+	private final @Nullable String keyspace;
+
+	private final String tableName;
+
+	private final String operation;
+
+	private StatementOperation(@Nullable String keyspace, String tableName, String operation) {
+
+		this.keyspace = keyspace;
+		this.tableName = tableName;
+		this.operation = operation;
+	}
+
+	/**
+	 * Obtain a {@link StatementOperation} for the given table and operation.
+	 *
+	 * @param keyspace the keyspace, can be {@literal null} if the statement targets the session keyspace.
+	 * @param tableName the table name, must not be {@literal null}.
+	 * @param operation the operation such as {@code SELECT} or {@code INSERT}, must not be {@literal null} or empty.
+	 * @return the {@link StatementOperation}.
+	 */
+	public static StatementOperation of(@Nullable CqlIdentifier keyspace, CqlIdentifier tableName, String operation) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.hasText(operation, "Operation must not be empty");
+
+		Key key = new Key(keyspace, tableName, operation);
+		StatementOperation statementOperation = BY_KEY.get(key);
+
+		if (statementOperation != null) {
+			return statementOperation;
+		}
+
+		statementOperation = new StatementOperation(keyspace != null ? keyspace.asInternal() : null,
+				tableName.asInternal(), operation);
+
+		if (BY_KEY.size() < CACHE_LIMIT) {
+
+			StatementOperation existing = BY_KEY.putIfAbsent(key, statementOperation);
+
+			if (existing != null) {
+				return existing;
+			}
+		}
+
+		return statementOperation;
+	}
+
+	/**
+	 * Obtain the {@link StatementOperation} attached to the given {@link Request}.
+	 *
+	 * @param request the request to inspect, must not be {@literal null}.
+	 * @return the {@link StatementOperation} or {@literal null} if the request is not associated with a
+	 *         {@link StatementOperation}.
+	 * @see StatementOperations#attach(Statement, com.datastax.oss.driver.api.core.context.DriverContext)
+	 */
+	public static @Nullable StatementOperation from(Request request) {
+
+		Assert.notNull(request, "Request must not be null");
+
+		return request.getExecutionProfile() instanceof StatementExecutionProfile profile ? profile.getOperation() : null;
+	}
+
+	/**
+	 * @return the keyspace name or {@literal null} if the statement targets the session keyspace.
+	 */
+	public @Nullable String getKeyspace() {
+		return this.keyspace;
+	}
+
+	/**
+	 * @return the table name.
+	 */
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * @return the operation, such as {@code SELECT}, {@code INSERT}, {@code UPDATE} or {@code DELETE}.
+	 */
+	public String getOperation() {
+		return this.operation;
+	}
+
+	@Override
+	public String toString() {
+		return this.operation + " " + (this.keyspace != null ? this.keyspace + "." : "") + this.tableName;
+	}
+
+	private record Key(@Nullable CqlIdentifier keyspace, CqlIdentifier tableName, String operation) {
+
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Request;
+
+/**
+ * Registry of {@link StatementOperation}s known to a CQL template. Statement factories
+ * {@link #register(Statement, StatementOperation) register} the operation of statements they create by the CQL text of
+ * the statement. The CQL template {@link #attach(Statement, DriverContext) attaches} the registered operation to the
+ * execution profile of a statement before executing it so that the operation travels with the statement and statements
+ * derived from it, such as statements fetching subsequent pages.
+ * <p>
+ * Registrations are held in a least-recently-used cache to retain a bounded memory footprint. Statements that render
+ * values inline may exceed the cache size and lose their association. Registering a statement whose CQL text is
+ * already associated with the same operation does not modify the registry.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see StatementOperation#from(Request)
+ */
+public class StatementOperations {
+
+	/**
+	 * Default number of CQL texts to retain.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
+
+	private final ConcurrentLruCache<String, AtomicReference<@Nullable StatementOperation>> operations;
+
+	/**
+	 * Create a new {@link StatementOperations} registry retaining {@link #DEFAULT_CACHE_SIZE} CQL texts.
+	 */
+	public StatementOperations() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a new {@link StatementOperations} registry.
+	 *
+	 * @param cacheSize number of CQL texts to retain, must be greater zero.
+	 */
+	public StatementOperations(int cacheSize) {
+
+		Assert.isTrue(cacheSize > 0, "Cache size must be greater zero");
+
+		this.operations = new ConcurrentLruCache<>(cacheSize, query -> new AtomicReference<>());
+	}
+
+	/**
+	 * Register the {@link StatementOperation} of the given {@link Statement}. Only {@link SimpleStatement}s and
+	 * {@link BoundStatement}s can be registered.
+	 *
+	 * @param statement the statement, must not be {@literal null}.
+	 * @param operation the operation the statement was created for, must not be {@literal null}.
+	 * @return the given statement.
+	 */
+	public <T extends Statement<?>> T register(T statement, StatementOperation operation) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(operation, "StatementOperation must not be null");
+
+		String query = getQuery(statement);
+
+		if (query != null) {
+
+			AtomicReference<@Nullable StatementOperation> registration = this.operations.get(query);
+
+			if (registration.get() != operation) {
+				registration.set(operation);
+			}
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Obtain the {@link StatementOperation} of the given {@link Request} considering the operation attached to the
+	 * request before falling back to registered operations.
+	 *
+	 * @param request the request to inspect, must not be {@literal null}.
+	 * @return the {@link StatementOperation} or {@literal null} if the request is not associated with a
+	 *         {@link StatementOperation}.
+	 */
+	public @Nullable StatementOperation get(Request request) {
+
+		Assert.notNull(request, "Request must not be null");
+
+		StatementOperation operation = StatementOperation.from(request);
+
+		if (operation != null) {
+			return operation;
+		}
+
+		String query = getQuery(request);
+
+		return query != null && this.operations.contains(query) ? this.operations.get(query).get() : null;
+	}
+
+	/**
+	 * Attach the registered {@link StatementOperation} to the execution profile of the given {@link Statement} resolving
+	 * statement settings against the configuration of the {@link DriverContext} that is going to execute the statement.
+	 * Statements without a registered operation are returned with their statement settings resolved.
+	 *
+	 * @param statement the statement to execute, must not be {@literal null}.
+	 * @param context the driver context of the executing session, must not be {@literal null}.
+	 * @return the statement to execute.
+	 * @see HedgingSpeculativeExecutionPolicy#resolve(Statement, DriverContext)
+	 */
+	public <T extends Statement<?>> T attach(T statement, DriverContext context) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(context, "DriverContext must not be null");
+
+		return attach(statement, () -> context);
+	}
+
+	/**
+	 * Attach the registered {@link StatementOperation} obtaining the {@link DriverContext} only if the statement requires
+	 * resolution.
+	 */
+	<T extends Statement<?>> T attach(T statement, Supplier<DriverContext> context) {
+
+		if (StatementOperation.from(statement) == null) {
+
+			StatementOperation operation = get(statement);
+
+			if (operation != null) {
+				return StatementExecutionProfile.withOperation(statement, operation, context.get().getConfig());
+			}
+		}
+
+		return HedgingSpeculativeExecutionPolicy.resolve(statement, context);
+	}
+
+	private static @Nullable String getQuery(Request request) {
+
+		if (request instanceof SimpleStatement statement) {
+			return statement.getQuery();
+		}
+
+		if (request instanceof BoundStatement statement) {
+			return statement.getPreparedStatement().getQuery();
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.BootstrappingException;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.UnavailableException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.WriteType;
+
+/**
+ * Template-level retry policy for transient failures using exponential backoff with jitter. Retries are scheduled
+ * without blocking the calling thread and apply to {@link AsyncCqlTemplate} and {@link ReactiveCqlTemplate}.
+ * <p>
+ * A statement is only retried if it is {@link Statement#isIdempotent() explicitly marked as idempotent}, for example
+ * through {@link QueryOptions.QueryOptionsBuilder#idempotent(boolean)}, and if it is not a lightweight transaction
+ * ({@code IF} condition). By default, {@link WriteTimeoutException} (except for {@link WriteType#CAS CAS} writes),
+ * {@link ReadTimeoutException}, {@link UnavailableException}, {@link OverloadedException} and
+ * {@link BootstrappingException} are considered transient. An optional {@link RetryBudget} limits the number of retries
+ * relative to executed statements.
+ * <p>
+ * {@link StatementRetryPolicy} is immutable. Use {@link #exponentialBackoff(int, Duration)} and the {@code with…}
+ * methods to create a policy:
+ *
+ * <pre class="code">
+ * StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(3, Duration.ofMillis(50))
+ * 		.withMaxBackoff(Duration.ofSeconds(1)).withRetryBudget(RetryBudget.create(0.1, 100));
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see RetryPolicyResolver
+ * @see RetryBudget
+ */
+public final class StatementRetryPolicy {
+
+	private static final Log logger = LogFactory.getLog(StatementRetryPolicy.class);
+
+	private static final Pattern LWT_CONDITION = Pattern.compile("\\sIF\\s", Pattern.CASE_INSENSITIVE);
+
+	private static final Predicate<Throwable> TRANSIENT_EXCEPTIONS = StatementRetryPolicy::isTransient;
+
+	private final int maxRetries;
+
+	private final Duration initialBackoff;
+
+	private final Duration maxBackoff;
+
+	private final double jitter;
+
+	private final @Nullable RetryBudget retryBudget;
+
+	private final Predicate<Throwable> retryableExceptions;
+
+	private StatementRetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, double jitter,
+			@Nullable RetryBudget retryBudget, Predicate<Throwable> retryableExceptions) {
+
+		this.maxRetries = maxRetries;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+		this.jitter = jitter;
+		this.retryBudget = retryBudget;
+		this.retryableExceptions = retryableExceptions;
+	}
+
+	/**
+	 * Create a new {@link StatementRetryPolicy} retrying up to {@code maxRetries} times doubling the backoff on each
+	 * retry. The backoff is capped at one second and randomized by 50% by default.
+	 *
+	 * @param maxRetries maximum number of retries, must be greater than zero.
+	 * @param initialBackoff backoff before the first retry, must not be {@literal null} or negative.
+	 * @return the new {@link StatementRetryPolicy}.
+	 */
+	public static StatementRetryPolicy exponentialBackoff(int maxRetries, Duration initialBackoff) {
+
+		Assert.isTrue(maxRetries > 0, "Max retries must be greater than zero");
+		Assert.notNull(initialBackoff, "Initial backoff must not be null");
+		Assert.isTrue(!initialBackoff.isNegative(), "Initial backoff must not be negative");
+
+		Duration maxBackoff = initialBackoff.compareTo(Duration.ofSeconds(1)) > 0 ? initialBackoff : Duration.ofSeconds(1);
+
+		return new StatementRetryPolicy(maxRetries, initialBackoff, maxBackoff, 0.5, null, TRANSIENT_EXCEPTIONS);
+	}
+
+	/**
+	 * Create a new {@link StatementRetryPolicy} capping the backoff at {@code maxBackoff}.
+	 *
+	 * @param maxBackoff must not be {@literal null} or negative.
+	 * @return new {@link StatementRetryPolicy}.
+	 */
+	public StatementRetryPolicy withMaxBackoff(Duration maxBackoff) {
+
+		Assert.notNull(maxBackoff, "Max backoff must not be null");
+		Assert.isTrue(!maxBackoff.isNegative(), "Max backoff must not be negative");
+
+		return new StatementRetryPolicy(maxRetries, initialBackoff, maxBackoff, jitter, retryBudget, retryableExceptions);
+	}
+
+	/**
+	 * Create a new {@link StatementRetryPolicy} randomizing the backoff by {@code jitter}. A jitter of {@code 0.5}
+	 * randomizes the backoff between 50% and 100% of the computed backoff.
+	 *
+	 * @param jitter jitter factor between {@code 0} (no jitter) and {@code 1} (full jitter).
+	 * @return new {@link StatementRetryPolicy}.
+	 */
+	public StatementRetryPolicy withJitter(double jitter) {
+
+		Assert.isTrue(jitter >= 0 && jitter <= 1, "Jitter must be between 0 and 1");
+
+		return new StatementRetryPolicy(maxRetries, initialBackoff, maxBackoff, jitter, retryBudget, retryableExceptions);
+	}
+
+	/**
+	 * Create a new {@link StatementRetryPolicy} limiting retries through the given {@link RetryBudget}.
+	 *
+	 * @param retryBudget must not be {@literal null}.
+	 * @return new {@link StatementRetryPolicy}.
+	 */
+	public StatementRetryPolicy withRetryBudget(RetryBudget retryBudget) {
+
+		Assert.notNull(retryBudget, "RetryBudget must not be null");
+
+		return new StatementRetryPolicy(maxRetries, initialBackoff, maxBackoff, jitter, retryBudget, retryableExceptions);
+	}
+
+	/**
+	 * Create a new {@link StatementRetryPolicy} considering exceptions matching {@code retryableExceptions} as
+	 * transient. Lightweight transactions and statements that are not idempotent are not retried regardless of the
+	 * exception.
+	 *
+	 * @param retryableExceptions must not be {@literal null}.
+	 * @return new {@link StatementRetryPolicy}.
+	 */
+	public StatementRetryPolicy withRetryableExceptions(Predicate<Throwable> retryableExceptions) {
+
+		Assert.notNull(retryableExceptions, "Retryable exceptions predicate must not be null");
+
+		return new StatementRetryPolicy(maxRetries, initialBackoff, maxBackoff, jitter, retryBudget, retryableExceptions);
+	}
+
+	/**
+	 * @return the maximum number of retries.
+	 */
+	public int getMaxRetries() {
+		return this.maxRetries;
+	}
+
+	/**
+	 * @return the backoff before the first retry.
+	 */
+	public Duration getInitialBackoff() {
+		return this.initialBackoff;
+	}
+
+	/**
+	 * @return the maximum backoff.
+	 */
+	public Duration getMaxBackoff() {
+		return this.maxBackoff;
+	}
+
+	/**
+	 * @return the jitter factor.
+	 */
+	public double getJitter() {
+		return this.jitter;
+	}
+
+	/**
+	 * @return the {@link RetryBudget}, can be {@literal null} if retries are not budgeted.
+	 */
+	public @Nullable RetryBudget getRetryBudget() {
+		return this.retryBudget;
+	}
+
+	/**
+	 * Check whether the given {@link Statement} qualifies for retries: It must be explicitly marked as idempotent and
+	 * must not be a lightweight transaction.
+	 *
+	 * @param statement the statement to inspect.
+	 * @return {@literal true} if the statement can be retried.
+	 */
+	public static boolean isRetryable(Statement<?> statement) {
+
+		if (!Boolean.TRUE.equals(statement.isIdempotent())) {
+			return false;
+		}
+
+		String cql = QueryExtractorDelegate.getCql(statement);
+		return cql == null || !LWT_CONDITION.matcher(cql).find();
+	}
+
+	/**
+	 * Record the execution of a statement.
+	 */
+	void onExecution() {
+
+		if (this.retryBudget != null) {
+			this.retryBudget.deposit();
+		}
+	}
+
+	/**
+	 * Determine whether to retry the {@link Statement} after it failed with {@code error}. Withdraws a token from the
+	 * {@link RetryBudget} if the retry is accepted.
+	 *
+	 * @param statement the failed statement.
+	 * @param error the failure.
+	 * @param retry the number of retries performed so far.
+	 * @return {@literal true} to retry the statement.
+	 */
+	boolean shouldRetry(Statement<?> statement, Throwable error, int retry) {
+
+		if (retry >= this.maxRetries || !this.retryableExceptions.test(unwrap(error)) || !isRetryable(statement)) {
+			return false;
+		}
+
+		if (this.retryBudget != null && !this.retryBudget.tryWithdraw()) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Retry budget exhausted; Not retrying [%s]", QueryExtractorDelegate.getCql(statement)));
+			}
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Compute the backoff before the next retry.
+	 *
+	 * @param retry the number of retries performed so far.
+	 * @return the backoff.
+	 */
+	Duration getBackoff(int retry) {
+
+		long initial = this.initialBackoff.toNanos();
+		long max = this.maxBackoff.toNanos();
+		long backoff = retry >= 62 || initial > (max >> Math.min(retry, 62)) ? max : Math.min(max, initial << retry);
+
+		if (this.jitter > 0 && backoff > 0) {
+			backoff -= (long) (backoff * this.jitter * ThreadLocalRandom.current().nextDouble());
+		}
+
+		return Duration.ofNanos(backoff);
+	}
+
+	/**
+	 * Execute {@code action} and retry it according to this policy without blocking the calling thread.
+	 *
+	 * @param statement the statement executed by {@code action}.
+	 * @param action the action to execute.
+	 * @return the completion stage of the first successful attempt or the last failure.
+	 */
+	<T> CompletionStage<T> execute(Statement<?> statement, Supplier<? extends CompletionStage<T>> action) {
+
+		onExecution();
+
+		return attempt(statement, action, 0);
+	}
+
+	private <T> CompletionStage<T> attempt(Statement<?> statement, Supplier<? extends CompletionStage<T>> action,
+			int retry) {
+
+		CompletionStage<T> stage;
+
+		try {
+			stage = action.get();
+		} catch (RuntimeException ex) {
+			stage = CompletableFuture.failedFuture(ex);
+		}
+
+		return stage.handle((result, ex) -> {
+
+			if (ex == null) {
+				return CompletableFuture.completedFuture(result);
+			}
+
+			Throwable error = unwrap(ex);
+
+			if (!shouldRetry(statement, error, retry)) {
+				return CompletableFuture.<T> failedFuture(error);
+			}
+
+			Duration backoff = getBackoff(retry);
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Retrying [%s] in %d ms after %s (retry %d of %d)",
+						QueryExtractorDelegate.getCql(statement), backoff.toMillis(), error, retry + 1, this.maxRetries));
+			}
+
+			Executor delayed = CompletableFuture.delayedExecutor(backoff.toNanos(), TimeUnit.NANOSECONDS);
+
+			return CompletableFuture.runAsync(() -> {}, delayed).thenCompose(it -> attempt(statement, action, retry + 1));
+		}).thenCompose(Function.identity());
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+
+		Throwable error = throwable;
+
+		while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+			error = error.getCause();
+		}
+
+		return error;
+	}
+
+	private static boolean isTransient(Throwable error) {
+
+		if (error instanceof WriteTimeoutException writeTimeout) {
+			return writeTimeout.getWriteType() != WriteType.CAS && writeTimeout.getWriteType() != WriteType.CDC;
+		}
+
+		return error instanceof ReadTimeoutException || error instanceof UnavailableException
+				|| error instanceof OverloadedException || error instanceof BootstrappingException;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("StatementRetryPolicy [maxRetries=%d, initialBackoff=%s, maxBackoff=%s, jitter=%s]", maxRetries,
+				initialBackoff, maxBackoff, jitter);
+	}
+}
@@ -15,19 +15,21 @@
  */
 package org.springframework.data.cassandra.core.cql.converter;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.cassandra.core.cql.RowMap;
 import org.springframework.data.convert.ReadingConverter;
 
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.Row;
 
 /**
- * Converter to convert {@link Row}s to a {@link Map} of {@link String}/{@link Object} representation.
+ * Converter to convert {@link Row}s to a {@link Map} of {@link String}/{@link Object} representation. Rows are
+ * represented as {@link RowMap lazy views} decoding column values on first access. Keys are the column names and are
+ * looked up case-sensitive.
  *
  * @author Matthew T. Adams
  * @author David Webb
@@ -39,18 +41,19 @@ public enum RowToMapConverter implements Converter<Row, Map<String, Object>> {
 
 	INSTANCE;
 
+	private volatile RowMap.@Nullable ColumnIndex columnIndex;
+
 	@Override
 	public Map<String, @Nullable Object> convert(Row row) {
 
-		ColumnDefinitions cols = row.getColumnDefinitions();
-		Map<String, @Nullable Object> map = new HashMap<>(cols.size());
-
-		cols.forEach(columnDefinition -> {
-			map.put(columnDefinition.getName().toString(),
-					row.isNull(columnDefinition.getName()) ? null : row.getObject(columnDefinition.getName()));
+		ColumnDefinitions columnDefinitions = row.getColumnDefinitions();
+		RowMap.ColumnIndex columnIndex = this.columnIndex;
 
-		});
+		if (columnIndex == null || !columnIndex.isFor(columnDefinitions)) {
+			columnIndex = RowMap.ColumnIndex.caseSensitive(columnDefinitions);
+			this.columnIndex = columnIndex;
+		}
 
-		return map;
+		return new RowMap(row, columnIndex);
 	}
 }
@@ -228,9 +228,11 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 		private final AsyncResultSet resultSet;
 		private final boolean wasApplied;
+		private volatile ExecutionInfo executionInfo;
 
 		DefaultReactiveResultSet(AsyncResultSet resultSet) {
 			this.resultSet = resultSet;
+			this.executionInfo = resultSet.getExecutionInfo();
 
 			boolean wasApplied;
 			try {
@@ -247,7 +249,8 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 			return Mono.just(this.resultSet).expand(asyncResultSet -> {
 				if (asyncResultSet.hasMorePages()) {
-					return Mono.fromCompletionStage(asyncResultSet.fetchNextPage());
+					return Mono.fromCompletionStage(asyncResultSet.fetchNextPage())
+							.doOnNext(nextPage -> this.executionInfo = nextPage.getExecutionInfo());
 				}
 				return Mono.empty();
 			}).flatMapIterable(AsyncPagingIterable::currentPage);
@@ -270,7 +273,7 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 		@Override
 		public ExecutionInfo getExecutionInfo() {
-			return this.resultSet.getExecutionInfo();
+			return this.executionInfo;
 		}
 
 		@Override
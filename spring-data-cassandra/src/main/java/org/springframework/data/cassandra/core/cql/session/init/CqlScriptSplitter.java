@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.init;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link Iterator} splitting a CQL script read from a {@link Reader} into statements without reading the whole script
+ * into memory. Statements are parsed following the rules of
+ * {@link ScriptUtils#splitCqlScript(EncodedResource, String, String, String[], String, String, List)}: comments are
+ * omitted and adjacent whitespace is collapsed into a single space.
+ * <p>
+ * If {@code fallbackToNewline} is enabled and the script does not contain the separator at all, the script is split by
+ * {@link ScriptUtils#FALLBACK_STATEMENT_SEPARATOR newlines} instead. Only the text up to the first separator is kept in
+ * memory to support the fallback.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+class CqlScriptSplitter implements Iterator<String> {
+
+	private final @Nullable EncodedResource resource;
+
+	private final Reader reader;
+
+	private final String separator;
+
+	private final String[] commentPrefixes;
+
+	private final String blockCommentStartDelimiter;
+
+	private final String blockCommentEndDelimiter;
+
+	private final char[] buffer;
+
+	private final StringBuilder statement = new StringBuilder();
+
+	private final Deque<String> pending = new ArrayDeque<>();
+
+	private int position;
+
+	private int limit;
+
+	private boolean eof;
+
+	private boolean done;
+
+	private boolean inSingleQuote;
+
+	private boolean inDoubleQuote;
+
+	private boolean inEscape;
+
+	/**
+	 * Statement offsets of newlines encountered before the first separator. {@literal null} once a separator was found
+	 * or if the newline fallback is disabled.
+	 */
+	private @Nullable List<Integer> newlines;
+
+	CqlScriptSplitter(@Nullable EncodedResource resource, Reader reader, String separator, String[] commentPrefixes,
+			String blockCommentStartDelimiter, String blockCommentEndDelimiter, boolean fallbackToNewline) {
+
+		this.resource = resource;
+		this.reader = reader;
+		this.separator = separator;
+		this.commentPrefixes = commentPrefixes;
+		this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+		this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+		this.newlines = fallbackToNewline ? new ArrayList<>() : null;
+
+		int lookahead = Math.max(separator.length(),
+				Math.max(blockCommentStartDelimiter.length(), blockCommentEndDelimiter.length()));
+		for (String commentPrefix : commentPrefixes) {
+			lookahead = Math.max(lookahead, commentPrefix.length());
+		}
+
+		this.buffer = new char[Math.max(8192, lookahead * 2)];
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (this.pending.isEmpty() && !this.done) {
+
+			try {
+				readStatement();
+			} catch (IOException ex) {
+
+				if (this.resource != null) {
+					throw new CannotReadScriptException(this.resource, ex);
+				}
+
+				throw new UncategorizedScriptException("Cannot read CQL script", ex);
+			}
+		}
+
+		return !this.pending.isEmpty();
+	}
+
+	@Override
+	public String next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.pending.removeFirst();
+	}
+
+	private void readStatement() throws IOException {
+
+		StringBuilder sb = this.statement;
+
+		while (ensure(1)) {
+
+			char c = this.buffer[this.position];
+
+			if (this.inEscape) {
+				this.inEscape = false;
+				sb.append(c);
+				this.position++;
+				continue;
+			}
+
+			if (c == '\\') {
+				this.inEscape = true;
+				sb.append(c);
+				this.position++;
+				continue;
+			}
+
+			if (!this.inDoubleQuote && (c == '\'')) {
+				this.inSingleQuote = !this.inSingleQuote;
+			} else if (!this.inSingleQuote && (c == '"')) {
+				this.inDoubleQuote = !this.inDoubleQuote;
+			}
+
+			if (!this.inSingleQuote && !this.inDoubleQuote) {
+
+				if (startsWith(this.separator)) {
+
+					this.position += this.separator.length();
+					this.newlines = null;
+
+					if (sb.length() > 0) {
+						this.pending.add(sb.toString());
+						sb.setLength(0);
+						return;
+					}
+
+					continue;
+				}
+
+				if (startsWithAnyCommentPrefix()) {
+					skipLineComment();
+					continue;
+				}
+
+				if (startsWith(this.blockCommentStartDelimiter)) {
+					skipBlockComment();
+					continue;
+				}
+
+				if (c == ' ' || c == '\r' || c == '\n' || c == '\t') {
+
+					if (c == '\n' && this.newlines != null) {
+						this.newlines.add(sb.length());
+					}
+
+					this.position++;
+
+					// Avoid multiple adjacent whitespace characters
+					if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+						sb.append(' ');
+					}
+
+					continue;
+				}
+			}
+
+			sb.append(c);
+			this.position++;
+		}
+
+		finish();
+	}
+
+	private void finish() {
+
+		this.done = true;
+
+		String remainder = this.statement.toString();
+		this.statement.setLength(0);
+
+		if (this.newlines == null) {
+
+			// separator ends in whitespace and the script ends with the trimmed separator
+			String trimmedSeparator = this.separator.trim();
+			if (trimmedSeparator.length() != this.separator.length() && remainder.endsWith(trimmedSeparator)) {
+				remainder = remainder.substring(0, remainder.length() - trimmedSeparator.length());
+			}
+
+			if (StringUtils.hasText(remainder)) {
+				this.pending.add(remainder);
+			}
+
+			return;
+		}
+
+		// no separator found, split by newlines
+		int start = 0;
+		this.newlines.add(remainder.length());
+
+		for (int end : this.newlines) {
+
+			String candidate = remainder.substring(start, end);
+			start = end;
+
+			if (candidate.startsWith(" ")) {
+				candidate = candidate.substring(1);
+			}
+
+			if (StringUtils.hasText(candidate)) {
+				this.pending.add(candidate);
+			}
+		}
+	}
+
+	private void skipLineComment() throws IOException {
+
+		while (ensure(1)) {
+			if (this.buffer[this.position++] == '\n') {
+				return;
+			}
+		}
+	}
+
+	private void skipBlockComment() throws IOException {
+
+		while (ensure(this.blockCommentEndDelimiter.length())) {
+
+			if (startsWith(this.blockCommentEndDelimiter)) {
+				this.position += this.blockCommentEndDelimiter.length();
+				return;
+			}
+
+			this.position++;
+		}
+
+		throw new ScriptParseException("Missing block comment end delimiter: " + this.blockCommentEndDelimiter,
+				this.resource);
+	}
+
+	private boolean startsWithAnyCommentPrefix() throws IOException {
+
+		for (String commentPrefix : this.commentPrefixes) {
+			if (startsWith(commentPrefix)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean startsWith(String token) throws IOException {
+
+		if (!ensure(token.length())) {
+			return false;
+		}
+
+		for (int i = 0; i < token.length(); i++) {
+			if (this.buffer[this.position + i] != token.charAt(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Ensure that at least {@code count} characters are available in the buffer.
+	 *
+	 * @return {@literal true} if {@code count} characters are available; {@literal false} if the end of the script was
+	 *         reached before.
+	 */
+	private boolean ensure(int count) throws IOException {
+
+		if (this.limit - this.position >= count) {
+			return true;
+		}
+
+		if (this.eof) {
+			return false;
+		}
+
+		int remaining = this.limit - this.position;
+		System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+		this.position = 0;
+		this.limit = remaining;
+
+		while (this.limit < count) {
+
+			int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+
+			if (read == -1) {
+				this.eof = true;
+				return false;
+			}
+
+			this.limit += read;
+		}
+
+		return true;
+	}
+
+}
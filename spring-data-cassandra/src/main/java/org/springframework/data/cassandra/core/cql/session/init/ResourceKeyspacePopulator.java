@@ -60,6 +60,8 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 
 	private boolean ignoreFailedDrops = false;
 
+	private int maxConcurrency = 1;
+
 	/**
 	 * Construct a new {@link ResourceKeyspacePopulator} with default settings.
 	 */
@@ -242,6 +244,22 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 		this.ignoreFailedDrops = ignoreFailedDrops;
 	}
 
+	/**
+	 * Set the maximum number of data manipulation statements ({@code INSERT}, {@code UPDATE}, {@code DELETE}) that may be
+	 * executed concurrently. Schema statements are always executed on their own after all preceding statements have
+	 * completed.
+	 * <p>
+	 * Defaults to {@code 1} executing all statements sequentially in the order of the script.
+	 *
+	 * @param maxConcurrency the maximum number of in-flight statements; must be greater than zero.
+	 * @since 5.2
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+		this.maxConcurrency = maxConcurrency;
+	}
+
 	@Override
 	public void populate(CqlSession session) throws ScriptException {
 
@@ -250,7 +268,8 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 		for (Resource script : this.scripts) {
 			EncodedResource encodedScript = new EncodedResource(script, this.cqlScriptEncoding);
 			ScriptUtils.executeCqlScript(session, encodedScript, this.continueOnError, this.ignoreFailedDrops,
-					this.commentPrefixes, this.separator, this.blockCommentStartDelimiter, this.blockCommentEndDelimiter);
+					this.commentPrefixes, this.separator, this.blockCommentStartDelimiter, this.blockCommentEndDelimiter,
+					this.maxConcurrency);
 		}
 	}
 
@@ -17,8 +17,19 @@ package org.springframework.data.cassandra.core.cql.session.init;
 
 import java.io.IOException;
 import java.io.LineNumberReader;
-import java.util.ArrayList;
+import java.io.Reader;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,6 +40,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 
@@ -261,6 +273,53 @@ public abstract class ScriptUtils {
 		}
 	}
 
+	/**
+	 * Split a CQL script read from the given {@link Reader} into separate statements delimited by the provided separator
+	 * string. Statements are parsed incrementally while consuming the returned {@link Stream} so that the script is not
+	 * required to fit into memory. Parsing rules follow
+	 * {@link #splitCqlScript(EncodedResource, String, String, String[], String, String, List)}.
+	 * <p>
+	 * The caller is responsible for closing the {@link Reader}.
+	 *
+	 * @param resource the resource from which the script is read, used for error reporting; can be {@literal null}.
+	 * @param reader the {@link Reader} providing the CQL script.
+	 * @param separator text separating each statement (typically a ';' or newline character).
+	 * @param commentPrefixes the prefixes that identify CQL line comments (typically "--").
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter; never {@literal null} or empty.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter; never {@literal null} or empty.
+	 * @return a lazily populated {@link Stream} of statements.
+	 * @throws ScriptException if an error occurred while reading or splitting the CQL script.
+	 * @since 5.2
+	 */
+	public static Stream<String> streamCqlScript(@Nullable EncodedResource resource, Reader reader, String separator,
+			String[] commentPrefixes, String blockCommentStartDelimiter, String blockCommentEndDelimiter)
+			throws ScriptException {
+
+		Assert.notNull(reader, "Reader must not be null");
+
+		CqlScriptSplitter splitter = createSplitter(resource, reader, separator, commentPrefixes,
+				blockCommentStartDelimiter, blockCommentEndDelimiter, false);
+
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(splitter, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private static CqlScriptSplitter createSplitter(@Nullable EncodedResource resource, Reader reader, String separator,
+			String[] commentPrefixes, String blockCommentStartDelimiter, String blockCommentEndDelimiter,
+			boolean fallbackToNewline) {
+
+		Assert.hasLength(separator, "'separator' must not be null or empty");
+		Assert.notEmpty(commentPrefixes, "'commentPrefixes' must not be null or empty");
+		for (String commentPrefix : commentPrefixes) {
+			Assert.hasText(commentPrefix, "'commentPrefixes' must not contain null or empty elements");
+		}
+		Assert.hasText(blockCommentStartDelimiter, "'blockCommentStartDelimiter' must not be null or empty");
+		Assert.hasText(blockCommentEndDelimiter, "'blockCommentEndDelimiter' must not be null or empty");
+
+		return new CqlScriptSplitter(resource, reader, separator, commentPrefixes, blockCommentStartDelimiter,
+				blockCommentEndDelimiter, fallbackToNewline);
+	}
+
 	/**
 	 * Read a script from the given resource, using "{@code --}" as the comment prefix and "{@code ;}" as the statement
 	 * separator, and build a String containing the lines.
@@ -505,66 +564,263 @@ public abstract class ScriptUtils {
 			boolean ignoreFailedDrops, String[] commentPrefixes, @Nullable String separator,
 			String blockCommentStartDelimiter, String blockCommentEndDelimiter) throws ScriptException {
 
+		executeCqlScript(session, resource, continueOnError, ignoreFailedDrops, commentPrefixes, separator,
+				blockCommentStartDelimiter, blockCommentEndDelimiter, 1);
+	}
+
+	/**
+	 * Execute the given CQL script.
+	 * <p>
+	 * Statement separators and comments will be removed before executing individual statements within the supplied
+	 * script. The script is parsed incrementally while executing statements. With a {@code maxConcurrency} greater than
+	 * one, consecutive data manipulation statements ({@code INSERT}, {@code UPDATE}, {@code DELETE}, {@code BEGIN BATCH}
+	 * and {@code SELECT}) are executed asynchronously with up to {@code maxConcurrency} requests in flight. Any other
+	 * statement (such as schema statements) awaits completion of all in-flight requests and is executed on its own so
+	 * that statements following a schema change observe its effect. Note that concurrent execution does not retain the
+	 * write order across data manipulation statements.
+	 *
+	 * @param session the CQL {@link CqlSession} to use to execute the script; already configured and ready to use.
+	 * @param resource the resource (potentially associated with a specific encoding) to load the CQL script from.
+	 * @param continueOnError whether or not to continue without throwing an exception in the event of an error.
+	 * @param ignoreFailedDrops whether or not to continue in the event of specifically an error on a {@code DROP}
+	 *          statement.
+	 * @param commentPrefixes the prefixes that identify single-line comments in the CQL script (typically "--").
+	 * @param separator the script statement separator; defaults to {@value #DEFAULT_STATEMENT_SEPARATOR} if not specified
+	 *          and falls back to {@value #FALLBACK_STATEMENT_SEPARATOR} as a last resort; may be set to
+	 *          {@value #EOF_STATEMENT_SEPARATOR} to signal that the script contains a single statement without a
+	 *          separator.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter
+	 * @param maxConcurrency maximum number of data manipulation statements executed concurrently; {@code 1} executes all
+	 *          statements sequentially.
+	 * @throws ScriptException if an error occurred while executing the CQL script
+	 * @since 5.2
+	 * @see #DEFAULT_STATEMENT_SEPARATOR
+	 * @see #FALLBACK_STATEMENT_SEPARATOR
+	 * @see #EOF_STATEMENT_SEPARATOR
+	 */
+	public static void executeCqlScript(CqlSession session, EncodedResource resource, boolean continueOnError,
+			boolean ignoreFailedDrops, String[] commentPrefixes, @Nullable String separator,
+			String blockCommentStartDelimiter, String blockCommentEndDelimiter, int maxConcurrency) throws ScriptException {
+
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than zero");
+
 		try {
 			if (logger.isDebugEnabled()) {
 				logger.debug("Executing CQL script from " + resource);
 			}
 
-			long startTime = System.currentTimeMillis();
+			if (separator == null) {
+				separator = DEFAULT_STATEMENT_SEPARATOR;
+			}
 
-			String script;
-			try {
-				script = readScript(resource, commentPrefixes, separator, blockCommentEndDelimiter);
+			ScriptExecutor executor = new ScriptExecutor(session, resource, continueOnError, ignoreFailedDrops,
+					maxConcurrency);
+
+			try (Reader reader = resource.getReader()) {
+
+				CqlScriptSplitter statements = createSplitter(resource, reader, separator, commentPrefixes,
+						blockCommentStartDelimiter, blockCommentEndDelimiter, !EOF_STATEMENT_SEPARATOR.equals(separator));
+
+				while (statements.hasNext()) {
+					executor.execute(statements.next());
+				}
+
+				executor.complete();
 			} catch (IOException ex) {
 				throw new CannotReadScriptException(resource, ex);
+			} finally {
+				executor.drain();
 			}
-
-			if (separator == null) {
-				separator = DEFAULT_STATEMENT_SEPARATOR;
-			}
-			if (!EOF_STATEMENT_SEPARATOR.equals(separator) && !containsCqlScriptDelimiters(script, separator)) {
-				separator = FALLBACK_STATEMENT_SEPARATOR;
+		} catch (Exception ex) {
+			if (ex instanceof ScriptException) {
+				throw (ScriptException) ex;
 			}
+			throw new UncategorizedScriptException("Failed to execute database script from resource [" + resource + "]", ex);
+		}
+	}
 
-			List<String> statements = new ArrayList<>();
-			splitCqlScript(resource, script, separator, commentPrefixes, blockCommentStartDelimiter, blockCommentEndDelimiter,
-					statements);
+	/**
+	 * Executes statements of a single script either sequentially or, for data manipulation statements, asynchronously
+	 * with a bounded number of in-flight requests. Reports progress and throughput through debug logging.
+	 */
+	private static class ScriptExecutor {
+
+		private static final int PROGRESS_INTERVAL = 10_000;
+
+		private static final Set<String> DATA_MANIPULATION_KEYWORDS = Set.of("INSERT", "UPDATE", "DELETE", "BEGIN",
+				"SELECT");
+
+		private final CqlSession session;
+
+		private final EncodedResource resource;
+
+		private final boolean continueOnError;
+
+		private final boolean ignoreFailedDrops;
+
+		private final int maxConcurrency;
+
+		private final Semaphore permits;
+
+		private final AtomicReference<@Nullable ScriptStatementFailedException> failure = new AtomicReference<>();
+
+		private final long startTime = System.nanoTime();
+
+		private int statementNumber;
+
+		ScriptExecutor(CqlSession session, EncodedResource resource, boolean continueOnError, boolean ignoreFailedDrops,
+				int maxConcurrency) {
+
+			this.session = session;
+			this.resource = resource;
+			this.continueOnError = continueOnError;
+			this.ignoreFailedDrops = ignoreFailedDrops;
+			this.maxConcurrency = maxConcurrency;
+			this.permits = new Semaphore(maxConcurrency);
+		}
+
+		void execute(String statement) {
+
+			throwIfFailed();
+
+			int stmtNumber = ++this.statementNumber;
+
+			if (this.maxConcurrency == 1 || !isDataManipulation(statement)) {
+
+				drain();
+				throwIfFailed();
 
-			int stmtNumber = 0;
-			for (String statement : statements) {
-				stmtNumber++;
 				try {
-					ResultSet result = session.execute(statement);
+					ResultSet result = this.session.execute(statement);
 					if (logger.isDebugEnabled()) {
-
-						ExecutionInfo executionInfo = result.getExecutionInfo();
-						if (executionInfo != null) {
-							for (String warning : executionInfo.getWarnings()) {
-								logger.debug(String.format("CQL warning ignored: [%s]", warning));
-							}
-						}
+						logWarnings(result.getExecutionInfo());
 					}
 				} catch (RuntimeException ex) {
-					boolean dropStatement = StringUtils.startsWithIgnoreCase(statement.trim(), "drop");
-					if (continueOnError || (dropStatement && ignoreFailedDrops)) {
-						if (logger.isDebugEnabled()) {
-							logger.debug(ScriptStatementFailedException.buildErrorMessage(statement, stmtNumber, resource), ex);
-						}
-					} else {
-						throw new ScriptStatementFailedException(statement, stmtNumber, resource, ex);
-					}
+					handleFailure(statement, stmtNumber, ex);
 				}
+			} else {
+				executeAsync(statement, stmtNumber);
+			}
+
+			if (stmtNumber % PROGRESS_INTERVAL == 0 && logger.isDebugEnabled()) {
+				logger.debug(String.format("Executed %d statements from %s (%.0f statements/s)", stmtNumber, this.resource,
+						getThroughput(stmtNumber)));
+			}
+		}
+
+		private void executeAsync(String statement, int stmtNumber) {
+
+			acquire(1);
+
+			CompletionStage<AsyncResultSet> stage;
+			try {
+				stage = this.session.executeAsync(statement);
+			} catch (RuntimeException ex) {
+				this.permits.release();
+				handleFailure(statement, stmtNumber, ex);
+				return;
 			}
 
-			long elapsedTime = System.currentTimeMillis() - startTime;
+			stage.whenComplete((result, ex) -> {
+
+				try {
+					if (ex != null) {
+						handleFailure(statement, stmtNumber,
+								ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+					} else if (logger.isDebugEnabled()) {
+						logWarnings(result.getExecutionInfo());
+					}
+				} catch (ScriptStatementFailedException failed) {
+					this.failure.compareAndSet(null, failed);
+				} finally {
+					this.permits.release();
+				}
+			});
+		}
+
+		/**
+		 * Await completion of all statements and report the first failure, if any.
+		 */
+		void complete() {
+
+			drain();
+			throwIfFailed();
+
 			if (logger.isDebugEnabled()) {
-				logger.debug("Executed CQL script from " + resource + " in " + elapsedTime + " ms");
+				logger.debug(String.format("Executed CQL script from %s in %d ms (%d statements, %.0f statements/s)",
+						this.resource, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.startTime), this.statementNumber,
+						getThroughput(this.statementNumber)));
 			}
-		} catch (Exception ex) {
-			if (ex instanceof ScriptException) {
-				throw (ScriptException) ex;
+		}
+
+		/**
+		 * Await completion of all in-flight statements.
+		 */
+		void drain() {
+
+			if (this.maxConcurrency == 1) {
+				return;
 			}
-			throw new UncategorizedScriptException("Failed to execute database script from resource [" + resource + "]", ex);
+
+			acquire(this.maxConcurrency);
+			this.permits.release(this.maxConcurrency);
+		}
+
+		private void acquire(int count) {
+
+			try {
+				this.permits.acquire(count);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new UncategorizedScriptException("Interrupted while executing CQL script from " + this.resource, ex);
+			}
+		}
+
+		private void handleFailure(String statement, int stmtNumber, Throwable ex) {
+
+			boolean dropStatement = StringUtils.startsWithIgnoreCase(statement.trim(), "drop");
+			if (this.continueOnError || (dropStatement && this.ignoreFailedDrops)) {
+				if (logger.isDebugEnabled()) {
+					logger.debug(ScriptStatementFailedException.buildErrorMessage(statement, stmtNumber, this.resource), ex);
+				}
+			} else {
+				throw new ScriptStatementFailedException(statement, stmtNumber, this.resource, ex);
+			}
+		}
+
+		private void throwIfFailed() {
+
+			ScriptStatementFailedException failed = this.failure.get();
+			if (failed != null) {
+				throw failed;
+			}
+		}
+
+		private double getThroughput(int statements) {
+
+			long elapsed = System.nanoTime() - this.startTime;
+			return elapsed > 0 ? statements * (double) TimeUnit.SECONDS.toNanos(1) / elapsed : 0;
+		}
+
+		private static void logWarnings(@Nullable ExecutionInfo executionInfo) {
+
+			if (executionInfo != null) {
+				for (String warning : executionInfo.getWarnings()) {
+					logger.debug(String.format("CQL warning ignored: [%s]", warning));
+				}
+			}
+		}
+
+		private static boolean isDataManipulation(String statement) {
+
+			String trimmed = statement.trim();
+			int end = 0;
+			while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+				end++;
+			}
+
+			return DATA_MANIPULATION_KEYWORDS.contains(trimmed.substring(0, end).toUpperCase(Locale.ROOT));
 		}
 	}
 
@@ -15,20 +15,37 @@
  */
 package org.springframework.data.cassandra.core.cql.session.lookup;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 
 /**
  * Abstract {@link SessionFactory} implementation that routes {@link #getSession()} calls to one of various target
  * {@link SessionFactory factories} based on a lookup key. The latter is usually (but not necessarily) determined
  * through some thread-bound transaction context.
+ * <p>
+ * Lookup keys without a configured target {@link SessionFactory} can be resolved lazily, either by
+ * {@link #setTargetSessionFactoryProvider(Function) creating a dedicated SessionFactory} on first use or by
+ * {@link #setSharedSessionFactory(SessionFactory) routing requests through a shared session} to the keyspace
+ * {@link #determineKeyspace(Object) derived from the lookup key}. Lazily resolved session factories can be evicted
+ * after an {@link #setIdleTimeout(Duration) idle timeout}.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -37,7 +54,7 @@ import com.datastax.oss.driver.api.core.CqlSession;
  * @see #determineCurrentLookupKey()
  * @see SessionFactoryLookup
  */
-public abstract class AbstractRoutingSessionFactory implements SessionFactory, InitializingBean {
+public abstract class AbstractRoutingSessionFactory implements SessionFactory, InitializingBean, DisposableBean {
 
 	private @Nullable Map<Object, Object> targetSessionFactories;
 
@@ -51,6 +68,18 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 
 	private @Nullable SessionFactory resolvedDefaultSessionFactory;
 
+	private @Nullable Function<Object, ? extends SessionFactory> targetSessionFactoryProvider;
+
+	private @Nullable SessionFactory sharedSessionFactory;
+
+	private @Nullable Duration idleTimeout;
+
+	private final Map<Object, LazySessionFactory> lazySessionFactories = new ConcurrentHashMap<>();
+
+	private volatile long nextIdleCheck = System.nanoTime();
+
+	private volatile boolean destroyed;
+
 	/**
 	 * Specify the map of target session factories, with the lookup key as key.
 	 * <p>
@@ -118,11 +147,103 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 		this.sessionFactoryLookup = (sessionFactoryLookup != null ? sessionFactoryLookup : new MapSessionFactoryLookup());
 	}
 
+	/**
+	 * Specify a provider to lazily create a {@link SessionFactory} for lookup keys that do not have a corresponding entry
+	 * in the {@link #setTargetSessionFactories(Map) target session factories}. The provider may return {@literal null}
+	 * if it cannot create a {@link SessionFactory} for a given lookup key.
+	 * <p>
+	 * {@link SessionFactory session factories} created by the provider are owned by this router: their sessions are
+	 * closed upon {@link #setIdleTimeout(Duration) idle eviction} and on {@link #destroy()}. Owned sessions are handed out
+	 * through a proxy that tracks requests in flight and results that are not yet consumed so that a session is not closed
+	 * while it is in use. Requests issued
+	 * through a proxy whose session was evicted are routed to a newly created session for the same lookup key.
+	 *
+	 * @param targetSessionFactoryProvider the provider function, can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setTargetSessionFactoryProvider(
+			@Nullable Function<Object, ? extends SessionFactory> targetSessionFactoryProvider) {
+		this.targetSessionFactoryProvider = targetSessionFactoryProvider;
+	}
+
+	/**
+	 * Specify a shared {@link SessionFactory} to route requests for lookup keys that do not have a corresponding entry in
+	 * the {@link #setTargetSessionFactories(Map) target session factories}. Requests are routed through the shared
+	 * session using the keyspace {@link #determineKeyspace(Object) derived from the lookup key} instead of opening a
+	 * dedicated session per lookup key. Takes precedence over the
+	 * {@link #setTargetSessionFactoryProvider(Function) target session factory provider}.
+	 *
+	 * @param sharedSessionFactory the shared session factory, can be {@literal null}.
+	 * @since 5.2
+	 * @see KeyspaceRoutingSessionFactory
+	 */
+	public void setSharedSessionFactory(@Nullable SessionFactory sharedSessionFactory) {
+		this.sharedSessionFactory = sharedSessionFactory;
+	}
+
+	/**
+	 * Specify the idle timeout after which lazily resolved session factories are evicted. Idle session factories are
+	 * evicted during session retrieval. Defaults to {@literal null} to retain lazily resolved session factories until
+	 * {@link #destroy()}.
+	 *
+	 * @param idleTimeout the idle timeout, can be {@literal null}.
+	 * @since 5.2
+	 * @see #setTargetSessionFactoryProvider(Function)
+	 * @see #setSharedSessionFactory(SessionFactory)
+	 */
+	public void setIdleTimeout(@Nullable Duration idleTimeout) {
+
+		Assert.isTrue(idleTimeout == null || !idleTimeout.isNegative(), "Idle timeout must not be negative");
+
+		this.idleTimeout = idleTimeout;
+	}
+
 	@Override
 	public CqlSession getSession() {
 		return determineTargetSessionFactory().getSession();
 	}
 
+	/**
+	 * Evict lazily resolved session factories that were not used within the {@link #setIdleTimeout(Duration) idle
+	 * timeout}. Sessions of evicted session factories that were created by the
+	 * {@link #setTargetSessionFactoryProvider(Function) target session factory provider} are closed. Session factories
+	 * with requests in flight or with results that may still fetch pages are not considered idle and are retained.
+	 *
+	 * @since 5.2
+	 */
+	public void evictIdleSessionFactories() {
+
+		if (this.idleTimeout == null) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		long idleNanos = this.idleTimeout.toNanos();
+
+		for (Map.Entry<Object, LazySessionFactory> entry : this.lazySessionFactories.entrySet()) {
+
+			LazySessionFactory lazySessionFactory = entry.getValue();
+
+			if (now - lazySessionFactory.lastAccess >= idleNanos && lazySessionFactory.tryRetire()) {
+				this.lazySessionFactories.remove(entry.getKey(), lazySessionFactory);
+				lazySessionFactory.close();
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		this.destroyed = true;
+
+		for (LazySessionFactory lazySessionFactory : this.lazySessionFactories.values()) {
+			lazySessionFactory.retire();
+			lazySessionFactory.close();
+		}
+
+		this.lazySessionFactories.clear();
+	}
+
 	// -------------------------------------------------------------------------
 	// Implementation hooks and helper methods
 	// -------------------------------------------------------------------------
@@ -130,6 +251,11 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 	@Override
 	public void afterPropertiesSet() {
 
+		if (this.targetSessionFactories == null
+				&& (this.targetSessionFactoryProvider != null || this.sharedSessionFactory != null)) {
+			this.targetSessionFactories = new HashMap<>();
+		}
+
 		Assert.notNull(this.targetSessionFactories, "Property targetSessionFactories is required");
 
 		this.resolvedSessionFactories = new HashMap<>(this.targetSessionFactories.size());
@@ -199,6 +325,10 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 		Object lookupKey = determineCurrentLookupKey();
 		SessionFactory sessionFactory = this.resolvedSessionFactories.get(lookupKey);
 
+		if (sessionFactory == null && lookupKey != null) {
+			sessionFactory = determineLazySessionFactory(lookupKey);
+		}
+
 		if (sessionFactory == null && (this.lenientFallback || lookupKey == null)) {
 			sessionFactory = this.resolvedDefaultSessionFactory;
 		}
@@ -211,6 +341,68 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 		return sessionFactory;
 	}
 
+	private @Nullable LazySessionFactory determineLazySessionFactory(Object lookupKey) {
+
+		if (this.sharedSessionFactory == null && this.targetSessionFactoryProvider == null) {
+			return null;
+		}
+
+		Assert.state(!this.destroyed, "SessionFactory router was destroyed");
+
+		long now = System.nanoTime();
+
+		if (this.idleTimeout != null && now - this.nextIdleCheck >= 0) {
+			this.nextIdleCheck = now + this.idleTimeout.toNanos();
+			evictIdleSessionFactories();
+		}
+
+		LazySessionFactory lazySessionFactory = this.lazySessionFactories.computeIfAbsent(lookupKey,
+				this::createLazySessionFactory);
+
+		while (lazySessionFactory != null && lazySessionFactory.isRetired()) {
+
+			this.lazySessionFactories.remove(lookupKey, lazySessionFactory);
+			lazySessionFactory = this.lazySessionFactories.computeIfAbsent(lookupKey, this::createLazySessionFactory);
+		}
+
+		if (lazySessionFactory == null) {
+			return null;
+		}
+
+		lazySessionFactory.lastAccess = now;
+		return lazySessionFactory;
+	}
+
+	private @Nullable LazySessionFactory createLazySessionFactory(Object lookupKey) {
+
+		if (this.sharedSessionFactory != null) {
+			return new LazySessionFactory(lookupKey,
+					new KeyspaceRoutingSessionFactory(this.sharedSessionFactory.getSession(), determineKeyspace(lookupKey)),
+					false);
+		}
+
+		SessionFactory sessionFactory = this.targetSessionFactoryProvider != null
+				? this.targetSessionFactoryProvider.apply(lookupKey)
+				: null;
+
+		return sessionFactory != null ? new LazySessionFactory(lookupKey, sessionFactory, true) : null;
+	}
+
+	/**
+	 * Determine the keyspace to route requests to for the given lookup key when using a
+	 * {@link #setSharedSessionFactory(SessionFactory) shared session}.
+	 * <p>
+	 * The default implementation uses {@link CqlIdentifier} lookup keys as-is and parses the {@link Object#toString()
+	 * string representation} of other lookup keys as CQL identifier.
+	 *
+	 * @param lookupKey the current lookup key.
+	 * @return the keyspace to use.
+	 * @since 5.2
+	 */
+	protected CqlIdentifier determineKeyspace(Object lookupKey) {
+		return lookupKey instanceof CqlIdentifier keyspace ? keyspace : CqlIdentifier.fromCql(lookupKey.toString());
+	}
+
 	/**
 	 * Determine the current lookup key. This will typically be implemented to check a thread-bound context.
 	 * <p>
@@ -220,4 +412,163 @@ public abstract class AbstractRoutingSessionFactory implements SessionFactory, I
 	 */
 	@Nullable
 	protected abstract Object determineCurrentLookupKey();
+
+	/**
+	 * Lazily resolved {@link SessionFactory} along with its last access time. Owned sessions are exposed through a proxy
+	 * counting requests in flight and unconsumed results (leases) so that the session is only closed once no request is
+	 * outstanding.
+	 */
+	private class LazySessionFactory implements SessionFactory, LeasedResults.Leases {
+
+		private static final int RETIRED = -1;
+
+		private final Object lookupKey;
+
+		private final SessionFactory sessionFactory;
+
+		private final boolean owned;
+
+		private final @Nullable CqlSession session;
+
+		private final AtomicInteger leases = new AtomicInteger();
+
+		private volatile long lastAccess = System.nanoTime();
+
+		LazySessionFactory(Object lookupKey, SessionFactory sessionFactory, boolean owned) {
+
+			this.lookupKey = lookupKey;
+			this.sessionFactory = sessionFactory;
+			this.owned = owned;
+			this.session = owned ? (CqlSession) Proxy.newProxyInstance(ClassUtils.getDefaultClassLoader(),
+					new Class<?>[] { CqlSession.class }, new LeaseTrackingInvocationHandler(this)) : null;
+		}
+
+		@Override
+		public CqlSession getSession() {
+			return this.session != null ? this.session : this.sessionFactory.getSession();
+		}
+
+		/**
+		 * Acquire a lease for a request.
+		 *
+		 * @return {@literal true} if the lease was acquired; {@literal false} if this session factory was retired.
+		 */
+		@Override
+		public boolean tryAcquire() {
+
+			int current;
+
+			do {
+				current = this.leases.get();
+
+				if (current == RETIRED) {
+					return false;
+				}
+			} while (!this.leases.compareAndSet(current, current + 1));
+
+			this.lastAccess = System.nanoTime();
+			return true;
+		}
+
+		@Override
+		public void release() {
+
+			this.lastAccess = System.nanoTime();
+			this.leases.updateAndGet(it -> it > 0 ? it - 1 : it);
+		}
+
+		/**
+		 * Retire this session factory if no lease is outstanding.
+		 *
+		 * @return {@literal true} if this session factory was retired and can be closed.
+		 */
+		boolean tryRetire() {
+			return this.leases.compareAndSet(0, RETIRED);
+		}
+
+		void retire() {
+			this.leases.set(RETIRED);
+		}
+
+		boolean isRetired() {
+			return this.leases.get() == RETIRED;
+		}
+
+		void close() {
+
+			if (this.owned) {
+				this.sessionFactory.getSession().close();
+			}
+		}
+
+		/**
+		 * Resolve the session to use for requests issued through a proxy of a retired session factory.
+		 */
+		CqlSession getReplacementSession() {
+
+			LazySessionFactory replacement = determineLazySessionFactory(this.lookupKey);
+
+			Assert.state(replacement != null,
+					() -> String.format("Cannot determine replacement SessionFactory for lookup key [%s]", this.lookupKey));
+
+			return replacement.getSession();
+		}
+	}
+
+	/**
+	 * {@link InvocationHandler} tracking requests issued through an owned session. Requests hold a lease until their
+	 * result is consumed: until all pages of a result set were fetched, until a reactive result set subscription
+	 * terminates or until the result becomes unreachable.
+	 */
+	private record LeaseTrackingInvocationHandler(LazySessionFactory owner) implements InvocationHandler {
+
+		@Override
+		public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			String name = method.getName();
+
+			if (method.getParameterCount() == 0) {
+				switch (name) {
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return String.format("LeaseTrackingSession [lookupKey: %s, delegate: %s]", owner.lookupKey,
+								owner.sessionFactory);
+				}
+			}
+
+			if (method.getParameterCount() == 1 && name.equals("equals")) {
+				return args != null && proxy == args[0];
+			}
+
+			if (!name.startsWith("execute") && !name.startsWith("prepare")) {
+				return invokeTarget(owner.sessionFactory.getSession(), method, args);
+			}
+
+			if (!owner.tryAcquire()) {
+				return invokeTarget(owner.getReplacementSession(), method, args);
+			}
+
+			Object result;
+
+			try {
+				result = invokeTarget(owner.sessionFactory.getSession(), method, args);
+			} catch (Throwable e) {
+				owner.release();
+				throw e;
+			}
+
+			return LeasedResults.track(result, owner);
+		}
+
+		private static @Nullable Object invokeTarget(CqlSession target, Method method, @Nullable Object[] args)
+				throws Throwable {
+
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
 }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.lookup;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * {@link SessionFactory} that shares a single {@link CqlSession} across multiple keyspaces by routing each request to a
+ * fixed keyspace. {@link SimpleStatement}s and {@link BatchStatement}s that do not specify a keyspace are associated
+ * with the routing keyspace through {@link Statement#setKeyspace(CqlIdentifier)}. CQL strings are turned into
+ * {@link SimpleStatement}s associated with the routing keyspace. Statements are prepared against the routing keyspace
+ * so that prepared statements of different keyspaces do not interfere with each other.
+ * <p>
+ * Closing the routed {@link CqlSession} does not close the shared session. Per-request keyspaces require native
+ * protocol version 5 or newer. Older protocol versions require keyspace-qualified table names.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see AbstractRoutingSessionFactory#setSharedSessionFactory(SessionFactory)
+ */
+public class KeyspaceRoutingSessionFactory implements SessionFactory {
+
+	private final CqlSession session;
+
+	private final CqlIdentifier keyspace;
+
+	/**
+	 * Create a new {@link KeyspaceRoutingSessionFactory} for the given shared {@link CqlSession} and keyspace.
+	 *
+	 * @param session the shared session, must not be {@literal null}.
+	 * @param keyspace the routing keyspace, must not be {@literal null}.
+	 */
+	public KeyspaceRoutingSessionFactory(CqlSession session, CqlIdentifier keyspace) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		this.keyspace = keyspace;
+		this.session = (CqlSession) Proxy.newProxyInstance(ClassUtils.getDefaultClassLoader(),
+				new Class<?>[] { CqlSession.class }, new KeyspaceRoutingInvocationHandler(session, keyspace));
+	}
+
+	@Override
+	public CqlSession getSession() {
+		return this.session;
+	}
+
+	/**
+	 * @return the routing keyspace.
+	 */
+	public CqlIdentifier getKeyspace() {
+		return this.keyspace;
+	}
+
+	/**
+	 * {@link InvocationHandler} applying the routing keyspace to statements before delegating to the shared session.
+	 */
+	private record KeyspaceRoutingInvocationHandler(CqlSession delegate,
+			CqlIdentifier keyspace) implements InvocationHandler {
+
+		@Override
+		public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			String name = method.getName();
+			int parameterCount = method.getParameterCount();
+
+			if (parameterCount == 0) {
+				switch (name) {
+					case "getKeyspace":
+						return Optional.of(keyspace);
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "toString":
+						return String.format("KeyspaceRoutingSession [keyspace: %s, delegate: %s]", keyspace, delegate);
+					case "close":
+						return null;
+					case "closeAsync":
+					case "forceCloseAsync":
+						return CompletableFuture.completedFuture(null);
+				}
+			}
+
+			if (parameterCount == 1 && name.equals("equals")) {
+				return proxy == args[0];
+			}
+
+			if (args != null && args.length > 0 && args[0] instanceof String cql && isStatementMethod(name)) {
+				return invokeDelegate(findStatementMethod(method), createStatement(cql, args).setKeyspace(keyspace));
+			}
+
+			if (args != null) {
+				for (int i = 0; i < args.length; i++) {
+					args[i] = potentiallyApplyKeyspace(args[i]);
+				}
+			}
+
+			return invokeDelegate(method, args);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static SimpleStatement createStatement(String cql, Object[] args) {
+
+			if (args.length > 1 && args[1] instanceof Object[] values) {
+				return SimpleStatement.newInstance(cql, values);
+			}
+
+			if (args.length > 1 && args[1] instanceof Map<?, ?> values) {
+				return SimpleStatement.newInstance(cql, (Map<String, Object>) values);
+			}
+
+			return SimpleStatement.newInstance(cql);
+		}
+
+		private @Nullable Object invokeDelegate(Method method, @Nullable Object... args) throws Throwable {
+
+			try {
+				return method.invoke(delegate, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+
+		private @Nullable Object potentiallyApplyKeyspace(@Nullable Object argument) {
+
+			if (argument instanceof SimpleStatement statement && statement.getKeyspace() == null) {
+				return statement.setKeyspace(keyspace);
+			}
+
+			if (argument instanceof BatchStatement statement && statement.getKeyspace() == null) {
+				return statement.setKeyspace(keyspace);
+			}
+
+			return argument;
+		}
+
+		private static boolean isStatementMethod(String name) {
+			return name.startsWith("execute") || name.startsWith("prepare");
+		}
+
+		private static Method findStatementMethod(Method method) {
+
+			Method statementMethod = ReflectionUtils.findMethod(CqlSession.class, method.getName(), SimpleStatement.class);
+
+			if (statementMethod == null) {
+				statementMethod = ReflectionUtils.findMethod(CqlSession.class, method.getName(), Statement.class);
+			}
+
+			Assert.state(statementMethod != null,
+					() -> String.format("Cannot resolve Statement variant of [%s]", method.toGenericString()));
+
+			return statementMethod;
+		}
+	}
+}
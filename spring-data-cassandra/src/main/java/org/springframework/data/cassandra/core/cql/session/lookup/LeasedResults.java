@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.lookup;
+
+import java.lang.ref.Cleaner;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveResultSet;
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Utility to hold a session lease until a result is consumed. Results that fetch further pages through the session
+ * ({@link ResultSet}, {@link AsyncResultSet} with more pages, {@link ReactiveResultSet}) are wrapped so that the lease
+ * is released once the last page was fetched, the subscription terminates or the result becomes unreachable. Other
+ * results release the lease right away.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+final class LeasedResults {
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private LeasedResults() {}
+
+	/**
+	 * Leases of a session.
+	 */
+	interface Leases {
+
+		/**
+		 * Acquire a lease.
+		 *
+		 * @return {@literal true} if the lease was acquired.
+		 */
+		boolean tryAcquire();
+
+		/**
+		 * Release a previously acquired lease.
+		 */
+		void release();
+	}
+
+	/**
+	 * Track the result of a request that holds a lease. The lease is handed over to the returned result.
+	 *
+	 * @param result the request result.
+	 * @param leases the leases to release.
+	 * @return the result to return to the caller.
+	 */
+	static @Nullable Object track(@Nullable Object result, Leases leases) {
+
+		if (result instanceof CompletionStage<?> stage) {
+			return trackAsync(stage, leases);
+		}
+
+		return adopt(result, leases);
+	}
+
+	private static CompletionStage<?> trackAsync(CompletionStage<?> stage, Leases leases) {
+
+		CompletableFuture<@Nullable Object> tracked = new CompletableFuture<>();
+
+		stage.whenComplete((it, ex) -> {
+
+			if (ex != null) {
+				leases.release();
+				tracked.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+			} else {
+				// results of a cancelled future are unreachable and release their lease upon cleanup
+				tracked.complete(adopt(it, leases));
+			}
+		});
+
+		tracked.whenComplete((it, ex) -> {
+			if (ex instanceof CancellationException) {
+				stage.toCompletableFuture().cancel(false);
+			}
+		});
+
+		return tracked;
+	}
+
+	private static @Nullable Object adopt(@Nullable Object result, Leases leases) {
+
+		if (result instanceof AsyncResultSet resultSet && resultSet.hasMorePages()) {
+			return new LeasedAsyncResultSet(resultSet, leases);
+		}
+
+		if (result instanceof ResultSet resultSet && !resultSet.isFullyFetched()) {
+			return new LeasedResultSet(resultSet, leases);
+		}
+
+		if (result instanceof ReactiveResultSet resultSet) {
+			return new LeasedReactiveResultSet(resultSet, leases);
+		}
+
+		leases.release();
+		return result;
+	}
+
+	/**
+	 * Register {@code holder} to release a lease once it becomes unreachable.
+	 */
+	private static Cleaner.Cleanable register(Object holder, Leases leases) {
+		return CLEANER.register(holder, leases::release);
+	}
+
+	/**
+	 * {@link ResultSet} holding a lease until all pages were fetched.
+	 */
+	static class LeasedResultSet implements ResultSet {
+
+		private final ResultSet delegate;
+
+		private final Cleaner.Cleanable lease;
+
+		LeasedResultSet(ResultSet delegate, Leases leases) {
+			this.delegate = delegate;
+			this.lease = register(this, leases);
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public List<ExecutionInfo> getExecutionInfos() {
+			return this.delegate.getExecutionInfos();
+		}
+
+		@Override
+		public boolean isFullyFetched() {
+			return this.delegate.isFullyFetched();
+		}
+
+		@Override
+		public int getAvailableWithoutFetching() {
+			return this.delegate.getAvailableWithoutFetching();
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+
+		@Override
+		public Iterator<Row> iterator() {
+
+			Iterator<Row> iterator = this.delegate.iterator();
+
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+
+					boolean hasNext = iterator.hasNext();
+
+					if (!hasNext || delegate.isFullyFetched()) {
+						lease.clean();
+					}
+
+					return hasNext;
+				}
+
+				@Override
+				public Row next() {
+					return iterator.next();
+				}
+			};
+		}
+	}
+
+	/**
+	 * {@link AsyncResultSet} holding a lease until the next page was fetched.
+	 */
+	static class LeasedAsyncResultSet implements AsyncResultSet {
+
+		private final AsyncResultSet delegate;
+
+		private final Leases leases;
+
+		private final Cleaner.Cleanable lease;
+
+		LeasedAsyncResultSet(AsyncResultSet delegate, Leases leases) {
+			this.delegate = delegate;
+			this.leases = leases;
+			this.lease = register(this, leases);
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return this.delegate.getExecutionInfo();
+		}
+
+		@Override
+		public int remaining() {
+			return this.delegate.remaining();
+		}
+
+		@Override
+		public Iterable<Row> currentPage() {
+			return this.delegate.currentPage();
+		}
+
+		@Override
+		public boolean hasMorePages() {
+			return this.delegate.hasMorePages();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+
+			if (!this.leases.tryAcquire()) {
+				return this.delegate.fetchNextPage();
+			}
+
+			CompletionStage<AsyncResultSet> nextPage;
+
+			try {
+				nextPage = this.delegate.fetchNextPage();
+			} catch (RuntimeException e) {
+				this.leases.release();
+				throw e;
+			}
+
+			nextPage.whenComplete((it, ex) -> this.lease.clean());
+
+			return (CompletionStage<AsyncResultSet>) trackAsync(nextPage, this.leases);
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return this.delegate.wasApplied();
+		}
+	}
+
+	/**
+	 * {@link ReactiveResultSet} holding a lease until its subscription terminates.
+	 */
+	static class LeasedReactiveResultSet implements ReactiveResultSet {
+
+		private final ReactiveResultSet delegate;
+
+		private final Cleaner.Cleanable lease;
+
+		LeasedReactiveResultSet(ReactiveResultSet delegate, Leases leases) {
+			this.delegate = delegate;
+			this.lease = register(this, leases);
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super ReactiveRow> subscriber) {
+			this.delegate.subscribe(new LeasedSubscriber(subscriber, this.lease));
+		}
+
+		@Override
+		public Publisher<? extends ColumnDefinitions> getColumnDefinitions() {
+			return this.delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public Publisher<? extends ExecutionInfo> getExecutionInfos() {
+			return this.delegate.getExecutionInfos();
+		}
+
+		@Override
+		public Publisher<Boolean> wasApplied() {
+			return this.delegate.wasApplied();
+		}
+	}
+
+	private record LeasedSubscriber(Subscriber<? super ReactiveRow> delegate,
+			Cleaner.Cleanable lease) implements Subscriber<ReactiveRow> {
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+
+			delegate.onSubscribe(new Subscription() {
+
+				@Override
+				public void request(long n) {
+					subscription.request(n);
+				}
+
+				@Override
+				public void cancel() {
+					subscription.cancel();
+					lease.clean();
+				}
+			});
+		}
+
+		@Override
+		public void onNext(ReactiveRow row) {
+			delegate.onNext(row);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			lease.clean();
+			delegate.onError(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			lease.clean();
+			delegate.onComplete();
+		}
+	}
+}
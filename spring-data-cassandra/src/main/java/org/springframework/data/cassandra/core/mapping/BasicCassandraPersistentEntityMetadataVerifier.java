@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core.mapping;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -61,6 +62,11 @@ public class BasicCassandraPersistentEntityMetadataVerifier implements Cassandra
 
 		// Parse entity properties
 		entity.forEach(property -> {
+
+			if (property.isChunked()) {
+				verifyChunkedProperty(property, exceptions);
+			}
+
 			if (property.isIdProperty()) {
 				idProperties.add(property);
 			} else if (property.isClusterKeyColumn()) {
@@ -109,6 +115,27 @@ public class BasicCassandraPersistentEntityMetadataVerifier implements Cassandra
 		}
 	}
 
+	private static void verifyChunkedProperty(CassandraPersistentProperty property, List<MappingException> exceptions) {
+
+		if (property.isIdProperty() || property.isPrimaryKeyColumn() || property.isCompositePrimaryKey()) {
+			exceptions.add(new MappingException(String.format("Primary key property [%s] cannot be @%s",
+					property.getName(), Chunked.class.getSimpleName())));
+		}
+
+		Class<?> type = property.getType();
+
+		if (type != byte[].class && type != ByteBuffer.class && type != String.class) {
+			exceptions.add(new MappingException(String.format(
+					"@%s property [%s] must be of type byte[], ByteBuffer or String", Chunked.class.getSimpleName(),
+					property.getName())));
+		}
+
+		if (ChunkTable.getChunkSize(property) <= 0) {
+			exceptions.add(new MappingException(String.format("Chunk size of property [%s] must be greater than zero",
+					property.getName())));
+		}
+	}
+
 	private static void fail(CassandraPersistentEntity<?> entity, List<MappingException> exceptions) {
 		throw new VerifierMappingExceptions(entity, exceptions);
 	}
@@ -15,23 +15,36 @@
  */
 package org.springframework.data.cassandra.core.mapping;
 
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.ManagedTypes;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.Property;
@@ -39,6 +52,7 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.util.Optionals;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
@@ -56,10 +70,12 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
  */
 public class CassandraMappingContext
 		extends AbstractMappingContext<BasicCassandraPersistentEntity<?>, CassandraPersistentProperty>
-		implements ApplicationContextAware, BeanClassLoaderAware {
+		implements ApplicationContextAware, ApplicationStartupAware, BeanClassLoaderAware {
 
 	private @Nullable ApplicationContext applicationContext;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	private CassandraPersistentEntityMetadataVerifier verifier = new CompositeCassandraPersistentEntityMetadataVerifier();
 
 	private @Nullable ClassLoader beanClassLoader;
@@ -68,6 +84,12 @@ public class CassandraMappingContext
 
 	private @Nullable NamingStrategy namingStrategy;
 
+	private ManagedTypes managedTypes = ManagedTypes.empty();
+
+	private boolean parallelInitialization = false;
+
+	private @Nullable Queue<BasicCassandraPersistentEntity<?>> deferredVerifications;
+
 	// caches
 	private final Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new ConcurrentHashMap<>();
 
@@ -85,11 +107,117 @@ public class CassandraMappingContext
 	@Override
 	public void initialize() {
 
-		super.initialize();
+		if (this.parallelInitialization) {
+			initializeParallel();
+		} else {
+			super.initialize();
+		}
 
 		processMappingOverrides();
 	}
 
+	/**
+	 * Initialize the managed types using the common {@link java.util.concurrent.ForkJoinPool}. Class introspection,
+	 * annotation lookup and resolution of user-defined type dependencies are performed concurrently for all managed
+	 * types before entities are created. Entities are then created in user-defined type dependency order so that
+	 * referenced user-defined types are created before the entities that embed them.
+	 * <p>
+	 * Note that entity creation itself is serial: {@link AbstractMappingContext} guards entity registration with a
+	 * context-wide write lock so creating independent entities concurrently would not progress in parallel. Entity
+	 * metadata verification is deferred until all entities are created and then verified concurrently.
+	 */
+	private void initializeParallel() {
+
+		List<Class<?>> types = new ArrayList<>(this.managedTypes.toList());
+		Map<Class<?>, List<Class<?>>> dependencies = new ConcurrentHashMap<>(types.size());
+
+		types.parallelStream().forEach(type -> dependencies.put(type, introspect(type)));
+
+		Queue<BasicCassandraPersistentEntity<?>> deferred = new ConcurrentLinkedQueue<>();
+		this.deferredVerifications = deferred;
+
+		try {
+
+			Set<Class<?>> visited = new HashSet<>(types.size());
+
+			for (Class<?> type : types) {
+				addInDependencyOrder(type, dependencies, visited);
+			}
+		} finally {
+			this.deferredVerifications = null;
+		}
+
+		Queue<MappingException> failures = new ConcurrentLinkedQueue<>();
+
+		deferred.parallelStream().forEach(entity -> {
+			try {
+				this.verifier.verify(entity);
+			} catch (MappingException e) {
+				failures.add(e);
+			}
+		});
+
+		if (!failures.isEmpty()) {
+
+			MappingException first = failures.remove();
+			MappingException exception = new MappingException(first.getMessage(), first);
+			failures.forEach(exception::addSuppressed);
+
+			throw exception;
+		}
+	}
+
+	/**
+	 * Add the persistent entity for {@code type} after adding the user-defined types it depends on (depth-first).
+	 * Dependencies of types that are not managed types are introspected lazily.
+	 */
+	private void addInDependencyOrder(Class<?> type, Map<Class<?>, List<Class<?>>> dependencies,
+			Set<Class<?>> visited) {
+
+		if (!visited.add(type)) {
+			return;
+		}
+
+		for (Class<?> dependency : dependencies.computeIfAbsent(type, CassandraMappingContext::introspect)) {
+			addInDependencyOrder(dependency, dependencies, visited);
+		}
+
+		addPersistentEntity(type);
+	}
+
+	/**
+	 * Populate Spring's reflection and annotation caches for {@code type} and its fields so that subsequent entity
+	 * creation performs cache lookups.
+	 *
+	 * @return the user-defined types referenced by fields of {@code type}.
+	 */
+	private static List<Class<?>> introspect(Class<?> type) {
+
+		TypeInformation<?> typeInformation = TypeInformation.of(type);
+		List<Class<?>> userDefinedTypes = new ArrayList<>();
+
+		BeanUtils.getPropertyDescriptors(type);
+		MergedAnnotations.from(type, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY).stream().count();
+
+		ReflectionUtils.doWithFields(type, field -> {
+
+			MergedAnnotations.from(field).stream().count();
+			TypeInformation<?> property = typeInformation.getProperty(field.getName());
+			TypeInformation<?> actualTypeInformation = property != null ? property.getActualType() : null;
+
+			if (actualTypeInformation != null) {
+
+				Class<?> actualType = actualTypeInformation.getType();
+
+				if (actualType != type && AnnotatedElementUtils.hasAnnotation(actualType, UserDefinedType.class)) {
+					userDefinedTypes.add(actualType);
+				}
+			}
+		}, field -> !Modifier.isStatic(field.getModifiers()));
+
+		return userDefinedTypes;
+	}
+
 	@SuppressWarnings("all")
 	private void processMappingOverrides() {
 
@@ -140,6 +268,44 @@ public class CassandraMappingContext
 		this.applicationContext = applicationContext;
 	}
 
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+
+		Assert.notNull(applicationStartup, "ApplicationStartup must not be null");
+
+		this.applicationStartup = applicationStartup;
+	}
+
+	@Override
+	public void setManagedTypes(ManagedTypes managedTypes) {
+
+		super.setManagedTypes(managedTypes);
+
+		this.managedTypes = managedTypes;
+	}
+
+	/**
+	 * Configure whether to initialize {@link #setManagedTypes(ManagedTypes) managed types} concurrently. Parallel
+	 * initialization introspects managed types and verifies entity metadata using the common
+	 * {@link java.util.concurrent.ForkJoinPool} and requires a thread-safe
+	 * {@link #setVerifier(CassandraPersistentEntityMetadataVerifier) verifier}. Entities are created serially in
+	 * user-defined type dependency order. Disabled by default.
+	 *
+	 * @param parallelInitialization {@literal true} to enable parallel initialization.
+	 * @since 5.2
+	 */
+	public void setParallelInitialization(boolean parallelInitialization) {
+		this.parallelInitialization = parallelInitialization;
+	}
+
+	/**
+	 * @return {@literal true} if parallel initialization is enabled.
+	 * @since 5.2
+	 */
+	public boolean isParallelInitialization() {
+		return this.parallelInitialization;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader beanClassLoader) {
 		this.beanClassLoader = beanClassLoader;
@@ -207,7 +373,8 @@ public class CassandraMappingContext
 
 		// Prevent conversion types created as CassandraPersistentEntity
 		Optional<BasicCassandraPersistentEntity<?>> optional = shouldCreatePersistentEntityFor(typeInformation)
-				? super.addPersistentEntity(typeInformation)
+				? hasPersistentEntityFor(typeInformation.getType()) ? super.addPersistentEntity(typeInformation)
+						: createPersistentEntityWithStartupStep(typeInformation)
 				: Optional.empty();
 
 		optional.ifPresent(entity -> {
@@ -230,6 +397,23 @@ public class CassandraMappingContext
 		return optional;
 	}
 
+	/**
+	 * Create a new persistent entity and record its creation as {@link StartupStep} to report initialization time per
+	 * entity.
+	 */
+	private Optional<BasicCassandraPersistentEntity<?>> createPersistentEntityWithStartupStep(
+			TypeInformation<?> typeInformation) {
+
+		StartupStep step = this.applicationStartup.start("spring.data.cassandra.mapping-context.entity") //
+				.tag("type", typeInformation.getType().getName());
+
+		try {
+			return super.addPersistentEntity(typeInformation);
+		} finally {
+			step.end();
+		}
+	}
+
 	@Override
 	protected boolean shouldCreatePersistentEntityFor(TypeInformation<?> typeInfo) {
 		return super.shouldCreatePersistentEntityFor(typeInfo);
@@ -238,10 +422,16 @@ public class CassandraMappingContext
 	@Override
 	protected <T> BasicCassandraPersistentEntity<T> createPersistentEntity(TypeInformation<T> typeInformation) {
 
+		Queue<BasicCassandraPersistentEntity<?>> deferred = this.deferredVerifications;
+
+		CassandraPersistentEntityMetadataVerifier verifier = deferred != null
+				? it -> deferred.add((BasicCassandraPersistentEntity<?>) it)
+				: getVerifier();
+
 		BasicCassandraPersistentEntity<T> entity = isUserDefinedType(typeInformation)
-				? new CassandraUserTypePersistentEntity<>(typeInformation, getVerifier())
+				? new CassandraUserTypePersistentEntity<>(typeInformation, verifier)
 				: isTuple(typeInformation) ? new BasicCassandraPersistentTupleEntity<>(typeInformation)
-						: new BasicCassandraPersistentEntity<>(typeInformation, getVerifier());
+						: new BasicCassandraPersistentEntity<>(typeInformation, verifier);
 
 		if (this.namingStrategy != null) {
 			entity.setNamingStrategy(this.namingStrategy);
@@ -169,6 +169,15 @@ public interface CassandraPersistentProperty
 		return findAnnotation(Embedded.class) != null && isEntity();
 	}
 
+	/**
+	 * @return {@literal true} if the property value is stored in a {@link ChunkTable chunk table}.
+	 * @since 5.2
+	 * @see Chunked
+	 */
+	default boolean isChunked() {
+		return isAnnotationPresent(Chunked.class);
+	}
+
 	/**
 	 * Find an {@link AnnotatedType} by {@code annotationType} derived from the property type. Annotated type is looked up
 	 * by introspecting property field/accessors. Collection/Map-like types are introspected for type annotations within
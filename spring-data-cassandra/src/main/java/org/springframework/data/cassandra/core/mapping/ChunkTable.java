@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.nio.ByteBuffer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Layout of the companion table storing a {@link Chunked} property. A chunk table uses the primary key columns of the
+ * entity as partition key, {@link #CHUNK_NUMBER_COLUMN} as clustering column and stores chunk contents in
+ * {@link #CHUNK_DATA_COLUMN}. The entity table stores the {@link #getChunkCount(CassandraPersistentProperty, Object)
+ * number of chunks} in the {@code int} column of the chunked property so that readers can verify that all chunks of
+ * a value are present.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ */
+public final class ChunkTable {
+
+	/**
+	 * Name of the {@code int} clustering column holding the zero-based chunk number.
+	 */
+	public static final CqlIdentifier CHUNK_NUMBER_COLUMN = CqlIdentifier.fromCql("chunk_no");
+
+	/**
+	 * Name of the {@code blob} column holding the chunk contents.
+	 */
+	public static final CqlIdentifier CHUNK_DATA_COLUMN = CqlIdentifier.fromCql("chunk_data");
+
+	private ChunkTable() {}
+
+	/**
+	 * Return the name of the chunk table for a {@link Chunked} property of an entity stored in {@code tableName}.
+	 *
+	 * @param tableName the table name of the entity, must not be {@literal null}.
+	 * @param property the chunked property, must not be {@literal null}.
+	 * @return the chunk table name.
+	 */
+	public static CqlIdentifier getTableName(CqlIdentifier tableName, CassandraPersistentProperty property) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.notNull(property, "CassandraPersistentProperty must not be null");
+
+		Chunked chunked = property.getRequiredAnnotation(Chunked.class);
+
+		if (StringUtils.hasText(chunked.table())) {
+			return CqlIdentifier.fromCql(chunked.table());
+		}
+
+		return CqlIdentifier.fromInternal(
+				"%s_%s_chunks".formatted(tableName.asInternal(), property.getRequiredColumnName().asInternal()));
+	}
+
+	/**
+	 * Return the number of chunks required to store {@code value} in the chunk table of a {@link Chunked} property. Empty
+	 * values are stored as a single empty chunk.
+	 *
+	 * @param property the chunked property, must not be {@literal null}.
+	 * @param value the property value, can be {@literal null}.
+	 * @return the number of chunks. {@code 0} if {@code value} is {@literal null}.
+	 */
+	public static int getChunkCount(CassandraPersistentProperty property, @Nullable Object value) {
+
+		long length = getLength(value);
+
+		if (length == -1) {
+			return 0;
+		}
+
+		int chunkSize = getChunkSize(property);
+
+		return (int) Math.max(1, (length + chunkSize - 1) / chunkSize);
+	}
+
+	private static long getLength(@Nullable Object value) {
+
+		if (value instanceof byte[] bytes) {
+			return bytes.length;
+		}
+
+		if (value instanceof ByteBuffer byteBuffer) {
+			return byteBuffer.remaining();
+		}
+
+		if (value instanceof CharSequence string) {
+
+			long length = 0;
+
+			// UTF-8 encoded length without encoding the string
+			for (int i = 0; i < string.length(); i++) {
+
+				char c = string.charAt(i);
+
+				if (c < 0x80) {
+					length++;
+				} else if (c < 0x800) {
+					length += 2;
+				} else if (Character.isHighSurrogate(c) && i + 1 < string.length()
+						&& Character.isLowSurrogate(string.charAt(i + 1))) {
+					length += 4;
+					i++;
+				} else if (Character.isSurrogate(c)) {
+					length++; // encoded as replacement '?'
+				} else {
+					length += 3;
+				}
+			}
+
+			return length;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Return the chunk size of a {@link Chunked} property.
+	 *
+	 * @param property the chunked property, must not be {@literal null}.
+	 * @return the chunk size in bytes.
+	 */
+	public static int getChunkSize(CassandraPersistentProperty property) {
+
+		Assert.notNull(property, "CassandraPersistentProperty must not be null");
+
+		return property.getRequiredAnnotation(Chunked.class).size();
+	}
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Store the value of the annotated property in a companion chunk table instead of the entity table. The value is
+ * split into chunks of at most {@link #size()} bytes, each stored in its own row keyed by the primary key of the entity
+ * and the chunk number. Chunked properties can be of type {@code byte[]}, {@link java.nio.ByteBuffer} or
+ * {@link String}. Strings are stored using their {@code UTF-8} representation.
+ * <p>
+ * The entity table stores the number of chunks in an {@code int} column named after the property. Unconditional writes
+ * store chunks before the entity row so that a chunk count never references missing chunks, lightweight transactions
+ * store chunks once the row was applied. Reads fetch the first and the last page of chunks to size the value, copy
+ * chunks page by page into a single allocation, verify them against the chunk count and populate the property before
+ * {@link org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent} is published. Chunks are read while
+ * mapping each row and therefore block the mapping thread.
+ * <p>
+ * Chunks are written, read and deleted by {@link org.springframework.data.cassandra.core.CassandraTemplate} and its
+ * batch operations along with the entity. Asynchronous and reactive templates reject entities declaring chunked
+ * properties with {@link org.springframework.dao.InvalidDataAccessApiUsageException}. Chunk tables are created by
+ * schema actions alongside the entity table. Query-based updates and deletes do not modify chunk tables.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see ChunkTable
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD })
+public @interface Chunked {
+
+	/**
+	 * Maximum size of a chunk in bytes. Defaults to {@code 512 KiB}.
+	 */
+	int size() default 512 * 1024;
+
+	/**
+	 * The name of the chunk table; must be a valid CQL identifier or quoted identifier. Defaults to
+	 * {@code <table>_<column>_chunks}.
+	 */
+	String table() default "";
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base class for {@link MapId} implementations generated by {@link MapIdFactory}. Generated subclasses store the
+ * properties of an id interface in fields and implement the id interface's getter and setter methods through direct
+ * field access. Names that do not correspond to a property of the id interface are stored in a regular {@link Map}.
+ * <p>
+ * Like {@link BasicMapId}, the map contains only properties that have been set, including properties explicitly set
+ * to {@literal null}. This class is not intended to be subclassed by application code.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MapIdFactory#id(Class)
+ */
+@SuppressWarnings("serial")
+public abstract class FieldBackedMapId extends AbstractMap<String, @Nullable Object> implements MapId {
+
+	private final String[] names;
+
+	private long present;
+
+	private @Nullable Map<String, @Nullable Object> additional;
+
+	/**
+	 * Create a new {@link FieldBackedMapId} for the given property names. The index of each name corresponds with the
+	 * index used by {@link #getValue(int)} and {@link #setValue(int, Object)}.
+	 *
+	 * @param names the property names.
+	 */
+	protected FieldBackedMapId(String[] names) {
+		this.names = names;
+	}
+
+	/**
+	 * Return the value of the field at {@code index}.
+	 *
+	 * @param index the property index.
+	 * @return the field value.
+	 */
+	protected abstract @Nullable Object getValue(int index);
+
+	/**
+	 * Set the value of the field at {@code index}.
+	 *
+	 * @param index the property index.
+	 * @param value the value to set.
+	 */
+	protected abstract void setValue(int index, @Nullable Object value);
+
+	/**
+	 * Mark the property at {@code index} as present. Called by generated setter methods after assigning the field.
+	 *
+	 * @param index the property index.
+	 */
+	protected final void markPresent(int index) {
+		this.present |= 1L << index;
+	}
+
+	@Override
+	public FieldBackedMapId with(String name, @Nullable Object value) {
+		put(name, value);
+		return this;
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+			return isPresent(index) ? getValue(index) : null;
+		}
+
+		return additional != null ? additional.get(key) : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+			return isPresent(index);
+		}
+
+		return additional != null && additional.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object put(String key, @Nullable Object value) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+
+			Object previous = isPresent(index) ? getValue(index) : null;
+			setValue(index, value);
+			markPresent(index);
+			return previous;
+		}
+
+		if (additional == null) {
+			additional = new HashMap<>();
+		}
+
+		return additional.put(key, value);
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		int index = indexOf(key);
+
+		if (index != -1) {
+
+			if (!isPresent(index)) {
+				return null;
+			}
+
+			Object previous = getValue(index);
+			clear(index);
+			return previous;
+		}
+
+		return additional != null ? additional.remove(key) : null;
+	}
+
+	@Override
+	public void clear() {
+
+		for (int i = 0; i < names.length; i++) {
+			setValue(i, null);
+		}
+
+		present = 0;
+		additional = null;
+	}
+
+	@Override
+	public int size() {
+		return Long.bitCount(present) + (additional != null ? additional.size() : 0);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super @Nullable Object> action) {
+
+		for (int i = 0; i < names.length; i++) {
+			if (isPresent(i)) {
+				action.accept(names[i], getValue(i));
+			}
+		}
+
+		if (additional != null) {
+			additional.forEach(action);
+		}
+	}
+
+	@Override
+	public Set<Entry<String, @Nullable Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder s = new StringBuilder("{ ");
+
+		boolean first = true;
+		for (Map.Entry<String, Object> entry : entrySet()) {
+
+			if (first) {
+				first = false;
+			} else {
+				s.append(", ");
+			}
+
+			s.append(entry.getKey()).append(" : ").append(entry.getValue());
+		}
+
+		return s.append(" }").toString();
+	}
+
+	private boolean isPresent(int index) {
+		return (present & (1L << index)) != 0;
+	}
+
+	private void clear(int index) {
+		setValue(index, null);
+		present &= ~(1L << index);
+	}
+
+	private int indexOf(@Nullable Object key) {
+
+		if (key instanceof String name) {
+			for (int i = 0; i < names.length; i++) {
+				if (names[i].equals(name)) {
+					return i;
+				}
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * {@link Set} view over present properties followed by additional entries.
+	 */
+	private class EntrySet extends AbstractSet<Entry<String, @Nullable Object>> {
+
+		@Override
+		public Iterator<Entry<String, @Nullable Object>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return FieldBackedMapId.this.size();
+		}
+	}
+
+	private class EntryIterator implements Iterator<Entry<String, @Nullable Object>> {
+
+		private int next = advance(0);
+
+		private int current = -1;
+
+		private @Nullable Iterator<Entry<String, @Nullable Object>> additionalIterator;
+
+		@Override
+		public boolean hasNext() {
+
+			if (next < names.length) {
+				return true;
+			}
+
+			if (additionalIterator == null && additional != null) {
+				additionalIterator = additional.entrySet().iterator();
+			}
+
+			return additionalIterator != null && additionalIterator.hasNext();
+		}
+
+		@Override
+		public Entry<String, @Nullable Object> next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			if (next < names.length) {
+
+				current = next;
+				next = advance(next + 1);
+
+				return new PropertyEntry(current);
+			}
+
+			current = -1;
+			return additionalIterator.next();
+		}
+
+		@Override
+		public void remove() {
+
+			if (current != -1) {
+				clear(current);
+				current = -1;
+				return;
+			}
+
+			if (additionalIterator == null) {
+				throw new IllegalStateException();
+			}
+
+			additionalIterator.remove();
+		}
+
+		private int advance(int from) {
+
+			int index = from;
+
+			while (index < names.length && !isPresent(index)) {
+				index++;
+			}
+
+			return index;
+		}
+	}
+
+	private class PropertyEntry implements Entry<String, @Nullable Object> {
+
+		private final int index;
+
+		PropertyEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return names[index];
+		}
+
+		@Override
+		public @Nullable Object getValue() {
+			return FieldBackedMapId.this.getValue(index);
+		}
+
+		@Override
+		public @Nullable Object setValue(@Nullable Object value) {
+
+			Object previous = getValue();
+			FieldBackedMapId.this.setValue(index, value);
+			return previous;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			return o instanceof Map.Entry<?, ?> that && getKey().equals(that.getKey())
+					&& Objects.equals(getValue(), that.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
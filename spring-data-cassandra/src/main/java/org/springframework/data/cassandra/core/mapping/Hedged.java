@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Hedge {@code SELECT} statements for the annotated entity by starting another execution on a different replica if
+ * the initial execution did not complete within {@link #delayMs()}. Hedging requires
+ * {@link org.springframework.data.cassandra.core.cql.HedgingSpeculativeExecutionPolicy} to be configured as the
+ * driver's speculative execution policy. Hedging configured through
+ * {@link org.springframework.data.cassandra.core.cql.QueryOptions} takes precedence over this annotation.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see org.springframework.data.cassandra.core.cql.HedgingSpeculativeExecutionPolicy
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface Hedged {
+
+	/**
+	 * Delay in milliseconds after which to start a hedged execution.
+	 */
+	long delayMs();
+
+	/**
+	 * Maximum number of executions including the initial execution. Defaults to {@code 2}.
+	 */
+	int maxExecutions() default 2;
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.cglib.core.ReflectUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Generates {@link FieldBackedMapId} subclasses implementing an id interface. Each property of the id interface is
+ * backed by a field. Getter methods read the field directly, setter methods assign the field and mark the property as
+ * present. Property names follow the conventions of {@link MapIdProxyDelegate}.
+ * <p>
+ * Generated classes are defined in the package of the id interface to allow implementing non-public id interfaces.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see MapIdFactory
+ */
+class MapIdClassGenerator implements Opcodes {
+
+	private static final String TAG = "_MapId";
+
+	private static final String SUPER_CLASS = Type.getInternalName(FieldBackedMapId.class);
+
+	private static final String OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class);
+
+	/**
+	 * Maximum number of properties, limited by the presence bit mask of {@link FieldBackedMapId}.
+	 */
+	private static final int MAX_PROPERTIES = 64;
+
+	/**
+	 * Generate and define a {@link FieldBackedMapId} subclass for the given id interface.
+	 *
+	 * @param idInterface the id interface, must be validated.
+	 * @return the constructor accepting the property names along with the property names.
+	 * @throws IllegalArgumentException if the id interface cannot be implemented through a generated class.
+	 */
+	static GeneratedMapId generate(Class<?> idInterface) {
+
+		Map<String, Method> methods = collectMethods(idInterface);
+		Set<String> propertyNames = new TreeSet<>();
+
+		for (Method method : methods.values()) {
+			propertyNames.add(getPropertyName(method));
+		}
+
+		if (propertyNames.size() > MAX_PROPERTIES) {
+			throw new IllegalArgumentException(
+					String.format("Id interface [%s] declares more than %d properties", idInterface.getName(), MAX_PROPERTIES));
+		}
+
+		String[] names = propertyNames.toArray(new String[0]);
+		String className = idInterface.getName() + TAG;
+		Class<?> type;
+
+		try {
+			type = ClassUtils.forName(className, idInterface.getClassLoader());
+		} catch (ClassNotFoundException e) {
+
+			type = defineClass(idInterface, className, generateClass(idInterface, className.replace('.', '/'), names,
+					methods.values()));
+		}
+
+		try {
+			return new GeneratedMapId(type.getDeclaredConstructor(String[].class), names);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Class<?> defineClass(Class<?> idInterface, String className, byte[] bytecode) {
+
+		try {
+			return ReflectUtils.defineClass(className, bytecode, idInterface.getClassLoader(),
+					idInterface.getProtectionDomain(), idInterface);
+		} catch (Exception e) {
+			throw new IllegalStateException(String.format("Cannot define class [%s]", className), e);
+		}
+	}
+
+	private static Map<String, Method> collectMethods(Class<?> idInterface) {
+
+		Map<String, Method> methods = new LinkedHashMap<>();
+
+		for (Method method : idInterface.getMethods()) {
+
+			if (Modifier.isStatic(method.getModifiers()) || MapIdProxyDelegate.isMapIdMethod(method)) {
+				continue;
+			}
+
+			for (Class<?> type : method.getParameterTypes()) {
+				assertAccessible(idInterface, type);
+			}
+			assertAccessible(idInterface, method.getReturnType());
+
+			String signature = method.getName() + Type.getMethodDescriptor(Type.VOID_TYPE,
+					Type.getArgumentTypes(method));
+			Method existing = methods.putIfAbsent(signature, method);
+
+			if (existing != null && !existing.getReturnType().equals(method.getReturnType())) {
+				throw new IllegalArgumentException(String.format(
+						"Id interface [%s] declares method [%s] with different return types", idInterface.getName(),
+						method.getName()));
+			}
+		}
+
+		return methods;
+	}
+
+	private static void assertAccessible(Class<?> idInterface, Class<?> type) {
+
+		Class<?> typeToCheck = type.isArray() ? type.getComponentType() : type;
+
+		if (typeToCheck.isPrimitive() || Modifier.isPublic(typeToCheck.getModifiers())
+				|| ClassUtils.getPackageName(typeToCheck).equals(ClassUtils.getPackageName(idInterface))) {
+			return;
+		}
+
+		throw new IllegalArgumentException(
+				String.format("Type [%s] is not accessible from id interface [%s]", type.getName(), idInterface.getName()));
+	}
+
+	static String getPropertyName(Method method) {
+
+		String name = method.getName();
+
+		if (method.getParameterCount() == 0) {
+			return name.startsWith("get") ? StringUtils.uncapitalize(name.substring(3)) : name;
+		}
+
+		if (name.startsWith("set")) {
+			return StringUtils.uncapitalize(name.substring(3));
+		}
+
+		if (name.startsWith("with")) {
+			return StringUtils.uncapitalize(name.substring(4));
+		}
+
+		return name;
+	}
+
+	private static byte[] generateClass(Class<?> idInterface, String internalName, String[] names,
+			Iterable<Method> methods) {
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+
+		cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalName, null, SUPER_CLASS,
+				new String[] { Type.getInternalName(idInterface) });
+
+		for (int i = 0; i < names.length; i++) {
+			cw.visitField(ACC_PRIVATE, fieldName(i), OBJECT_DESCRIPTOR, null, null).visitEnd();
+		}
+
+		visitConstructor(cw);
+		visitGetValue(cw, internalName, names.length);
+		visitSetValue(cw, internalName, names.length);
+
+		List<String> nameList = List.of(names);
+
+		for (Method method : methods) {
+
+			int index = nameList.indexOf(getPropertyName(method));
+
+			if (method.getParameterCount() == 0) {
+				visitGetter(cw, internalName, method, index);
+			} else {
+				visitSetter(cw, internalName, method, index);
+			}
+		}
+
+		cw.visitEnd();
+
+		return cw.toByteArray();
+	}
+
+	private static void visitConstructor(ClassWriter cw) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([Ljava/lang/String;)V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKESPECIAL, SUPER_CLASS, "<init>", "([Ljava/lang/String;)V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void visitGetValue(ClassWriter cw, String internalName, int count) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "getValue", "(I)" + OBJECT_DESCRIPTOR, null, null);
+		mv.visitCode();
+
+		if (count > 0) {
+
+			Label dflt = new Label();
+			Label[] labels = newLabels(count);
+
+			mv.visitVarInsn(ILOAD, 1);
+			mv.visitTableSwitchInsn(0, count - 1, dflt, labels);
+
+			for (int i = 0; i < count; i++) {
+				mv.visitLabel(labels[i]);
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitFieldInsn(GETFIELD, internalName, fieldName(i), OBJECT_DESCRIPTOR);
+				mv.visitInsn(ARETURN);
+			}
+
+			mv.visitLabel(dflt);
+		}
+
+		mv.visitInsn(ACONST_NULL);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void visitSetValue(ClassWriter cw, String internalName, int count) {
+
+		MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "setValue", "(I" + OBJECT_DESCRIPTOR + ")V", null, null);
+		mv.visitCode();
+
+		if (count > 0) {
+
+			Label dflt = new Label();
+			Label[] labels = newLabels(count);
+
+			mv.visitVarInsn(ILOAD, 1);
+			mv.visitTableSwitchInsn(0, count - 1, dflt, labels);
+
+			for (int i = 0; i < count; i++) {
+				mv.visitLabel(labels[i]);
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitFieldInsn(PUTFIELD, internalName, fieldName(i), OBJECT_DESCRIPTOR);
+				mv.visitInsn(RETURN);
+			}
+
+			mv.visitLabel(dflt);
+		}
+
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void visitGetter(ClassWriter cw, String internalName, Method method, int index) {
+
+		Class<?> returnType = method.getReturnType();
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitFieldInsn(GETFIELD, internalName, fieldName(index), OBJECT_DESCRIPTOR);
+
+		if (returnType.isPrimitive()) {
+
+			Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(returnType);
+			String wrapperName = Type.getInternalName(wrapper);
+
+			mv.visitTypeInsn(CHECKCAST, wrapperName);
+			mv.visitMethodInsn(INVOKEVIRTUAL, wrapperName, returnType.getName() + "Value",
+					"()" + Type.getDescriptor(returnType), false);
+		} else if (!Object.class.equals(returnType)) {
+			mv.visitTypeInsn(CHECKCAST, Type.getInternalName(returnType));
+		}
+
+		mv.visitInsn(Type.getType(returnType).getOpcode(IRETURN));
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void visitSetter(ClassWriter cw, String internalName, Method method, int index) {
+
+		Class<?> parameterType = method.getParameterTypes()[0];
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitVarInsn(Type.getType(parameterType).getOpcode(ILOAD), 1);
+
+		if (parameterType.isPrimitive()) {
+
+			Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(parameterType);
+			String wrapperName = Type.getInternalName(wrapper);
+
+			mv.visitMethodInsn(INVOKESTATIC, wrapperName, "valueOf",
+					"(" + Type.getDescriptor(parameterType) + ")" + Type.getDescriptor(wrapper), false);
+		}
+
+		mv.visitFieldInsn(PUTFIELD, internalName, fieldName(index), OBJECT_DESCRIPTOR);
+
+		mv.visitVarInsn(ALOAD, 0);
+		pushInt(mv, index);
+		mv.visitMethodInsn(INVOKEVIRTUAL, internalName, "markPresent", "(I)V", false);
+
+		if (void.class.equals(method.getReturnType())) {
+			mv.visitInsn(RETURN);
+		} else {
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitInsn(ARETURN);
+		}
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	private static void pushInt(MethodVisitor mv, int value) {
+
+		if (value <= 5) {
+			mv.visitInsn(ICONST_0 + value);
+		} else {
+			mv.visitIntInsn(BIPUSH, value);
+		}
+	}
+
+	private static Label[] newLabels(int count) {
+
+		Label[] labels = new Label[count];
+
+		for (int i = 0; i < count; i++) {
+			labels[i] = new Label();
+		}
+
+		return labels;
+	}
+
+	private static String fieldName(int index) {
+		return "p" + index;
+	}
+
+	/**
+	 * Generated {@link FieldBackedMapId} type.
+	 *
+	 * @param constructor constructor accepting the property names.
+	 * @param names property names.
+	 */
+	record GeneratedMapId(Constructor<?> constructor, String[] names) {
+
+		Object newInstance() {
+
+			try {
+				return constructor.newInstance((Object) names);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(String.format("Cannot instantiate [%s]", constructor.getDeclaringClass()), e);
+			}
+		}
+	}
+}
@@ -18,14 +18,25 @@ package org.springframework.data.cassandra.core.mapping;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.NativeDetector;
+import org.springframework.data.cassandra.core.mapping.MapIdClassGenerator.GeneratedMapId;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Factory class for producing implementations of given id interfaces. For restrictions on id interfaces definitions,
  * see {@link IdInterfaceValidator#validate(Class)}.
+ * <p>
+ * Id interfaces are implemented through generated {@link FieldBackedMapId} subclasses that store properties in fields.
+ * The factory falls back to JDK dynamic proxies when running in a native image, when a class loader other than the
+ * id interface's class loader is requested or when the id interface cannot be implemented through a generated class.
  *
  * @see IdInterfaceValidator#validate(Class)
  * @author Matthew T. Adams
@@ -34,6 +45,10 @@ import org.springframework.util.ClassUtils;
 @SuppressWarnings("unchecked")
 public class MapIdFactory {
 
+	private static final Log log = LogFactory.getLog(MapIdFactory.class);
+
+	private static final Map<Class<?>, Optional<GeneratedMapId>> GENERATED = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * Produces an implementation of the given id interface type using the type's class loader. For restrictions on id
 	 * interfaces definitions, see {@link IdInterfaceValidator#validate(Class)}. Returns an implementation of the given
@@ -64,6 +79,15 @@ public class MapIdFactory {
 			return (T) new BasicMapId();
 		}
 
+		if (!NativeDetector.inNativeImage() && loader == idInterface.getClassLoader()) {
+
+			Optional<GeneratedMapId> generated = GENERATED.computeIfAbsent(idInterface, MapIdFactory::generate);
+
+			if (generated.isPresent()) {
+				return (T) generated.get().newInstance();
+			}
+		}
+
 		IdInterfaceValidator.validate(idInterface);
 
 		Class<?>[] idInterfaces = ClassUtils.getAllInterfacesForClass(idInterface);
@@ -75,4 +99,21 @@ public class MapIdFactory {
 		return (T) Proxy.newProxyInstance(loader, proxyInterfaces.toArray(new Class[proxyInterfaces.size()]),
 				new MapIdProxyDelegate(idInterface));
 	}
+
+	private static Optional<GeneratedMapId> generate(Class<?> idInterface) {
+
+		IdInterfaceValidator.validate(idInterface);
+
+		try {
+			return Optional.of(MapIdClassGenerator.generate(idInterface));
+		} catch (RuntimeException | LinkageError e) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format("Cannot generate MapId implementation for [%s]; Falling back to proxies",
+						idInterface.getName()), e);
+			}
+
+			return Optional.empty();
+		}
+	}
 }
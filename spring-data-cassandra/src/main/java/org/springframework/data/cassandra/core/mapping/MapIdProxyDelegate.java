@@ -72,7 +72,7 @@ class MapIdProxyDelegate implements InvocationHandler {
 		return invokeGetter(method);
 	}
 
-	private boolean isMapIdMethod(Method method) {
+	static boolean isMapIdMethod(Method method) {
 		return MAP_ID_SIGNATURES.containsKey(new Signature(method, true));
 	}
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cache entities of the annotated type in the {@link org.springframework.data.cassandra.core.NearCache} of
+ * {@link org.springframework.data.cassandra.core.CassandraTemplate} when loading them by their identifier through
+ * {@code selectOneById} or {@code findById}. Cached entities are shared between callers and should be treated as
+ * immutable. Entries are invalidated by write operations of the template that is configured with the near cache.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see org.springframework.data.cassandra.core.NearCache
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface NearCached {
+
+	/**
+	 * Time in milliseconds after which a cached entity expires.
+	 */
+	long timeToLiveMs();
+
+	/**
+	 * Maximum number of cached entities. The least recently used entity is evicted once the cache exceeds its size.
+	 * Defaults to {@code 10000}.
+	 */
+	int maximumSize() default 10_000;
+
+	/**
+	 * Time in milliseconds before expiry within which a cache hit reloads the entity asynchronously. Defaults to
+	 * {@code 0} to disable refresh-ahead.
+	 */
+	long refreshAheadMs() default 0;
+
+}
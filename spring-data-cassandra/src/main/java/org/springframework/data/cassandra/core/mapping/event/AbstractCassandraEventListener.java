@@ -60,6 +60,15 @@ public abstract class AbstractCassandraEventListener<E> implements ApplicationLi
 			return;
 		}
 
+		if (event instanceof AfterConvertBatchEvent<?> afterConvertBatchEvent) {
+
+			if (domainClass.isAssignableFrom(afterConvertBatchEvent.getType())) {
+				onAfterConvertBatch((AfterConvertBatchEvent<E>) event);
+			}
+
+			return;
+		}
+
 		if (event instanceof AbstractDeleteEvent) {
 
 			Class<?> eventDomainType = ((AbstractDeleteEvent<?>) event).getType();
@@ -157,4 +166,16 @@ public abstract class AbstractCassandraEventListener<E> implements ApplicationLi
 		}
 	}
 
+	/**
+	 * Captures {@link AfterConvertBatchEvent}.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @since 5.2
+	 */
+	public void onAfterConvertBatch(AfterConvertBatchEvent<E> event) {
+		if (log.isDebugEnabled()) {
+			log.debug(String.format("onAfterConvertBatch(%d entities)", event.getSource().size()));
+		}
+	}
+
 }
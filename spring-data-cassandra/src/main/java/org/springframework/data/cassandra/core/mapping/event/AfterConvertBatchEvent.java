@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping.event;
+
+import java.io.Serial;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Event to be triggered after converting a page of {@link com.datastax.oss.driver.api.core.cql.Row}s into entities.
+ * Batch events are opt-in and carry all entities of a page (or of a list result) at once so that listeners can process
+ * loaded entities in bulk instead of handling an {@link AfterConvertEvent} per entity.
+ * <p>
+ * Batch events are subject to the following limitations:
+ * <ul>
+ * <li>Batch events are published by {@link org.springframework.data.cassandra.core.CassandraTemplate} only.
+ * {@link org.springframework.data.cassandra.core.AsyncCassandraTemplate} and
+ * {@link org.springframework.data.cassandra.core.ReactiveCassandraTemplate} publish per-entity events only.</li>
+ * <li>The event source is the complete result of a {@code select} operation, or the content of a single page for
+ * {@code slice} operations. Listeners are invoked synchronously on the calling thread before the result is returned
+ * and the event keeps the entire result reachable until all listeners completed. Listeners should not retain the
+ * event beyond their invocation.</li>
+ * </ul>
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see org.springframework.data.cassandra.core.CassandraTemplate#setBatchedEntityLifecycleEventsEnabled(boolean)
+ */
+public class AfterConvertBatchEvent<E> extends CassandraMappingEvent<List<E>> {
+
+	private static final @Serial long serialVersionUID = 1L;
+
+	private final Class<?> type;
+
+	/**
+	 * Creates a new {@link AfterConvertBatchEvent} for the given converted entities, type and
+	 * {@link CqlIdentifier tableName}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 */
+	public AfterConvertBatchEvent(List<E> source, Class<?> type, CqlIdentifier tableName) {
+
+		super(source, tableName);
+
+		Assert.notNull(type, "Type must not be null");
+		this.type = type;
+	}
+
+	/**
+	 * Returns the type of the loaded entities.
+	 *
+	 * @return the type of the loaded entities.
+	 */
+	public Class<?> getType() {
+		return type;
+	}
+
+}
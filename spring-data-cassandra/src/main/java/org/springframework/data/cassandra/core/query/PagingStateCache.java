@@ -0,0 +1,362 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Bounded cache of {@link ByteBuffer paging states} keyed by a query fingerprint, the page size and the page number.
+ * Cassandra paging is forward-only so reaching page {@code N} requires fetching all preceding pages. This cache records
+ * the paging state of each served page so that subsequent requests for a known page can resume directly. Requests for
+ * an unknown page resume from the closest known preceding page. The number of pages to walk forward is limited by
+ * {@code maxPageWalk} to prevent requests for a distant page from fetching the entire table.
+ * <p>
+ * Entries expire after their {@link Duration time to live} and the least recently used entries are evicted once the
+ * cache exceeds its maximum size. A query fingerprint must capture everything that influences the result order (query
+ * string, keyspace, table, bound values, sort), for example as obtained from {@link #fingerprint(Statement)}.
+ * Fingerprints should be {@link #scope(Object, CqlOperations) scoped} to the session that runs the query if sessions
+ * are routed, for example through a
+ * {@link org.springframework.data.cassandra.core.cql.session.lookup.KeyspaceRoutingSessionFactory}.
+ *
+ * @author Mark Paluch
+ * @since 5.2
+ * @see CassandraPageRequest
+ */
+public class PagingStateCache {
+
+	/**
+	 * Default maximum number of pages to walk forward from the closest known page.
+	 */
+	public static final int DEFAULT_MAX_PAGE_WALK = 100;
+
+	private final int maxSize;
+
+	private final int maxPageWalk;
+
+	private final long timeToLiveMillis;
+
+	private final Clock clock;
+
+	private final Map<CacheKey, CacheEntry> entries;
+
+	/**
+	 * Create a new {@link PagingStateCache} given {@code maxSize} and {@link Duration time to live}.
+	 *
+	 * @param maxSize maximum number of paging states to retain, must be greater zero.
+	 * @param timeToLive time to live of a cached paging state, must not be {@literal null} and must be positive.
+	 */
+	public PagingStateCache(int maxSize, Duration timeToLive) {
+		this(maxSize, timeToLive, DEFAULT_MAX_PAGE_WALK);
+	}
+
+	/**
+	 * Create a new {@link PagingStateCache} given {@code maxSize}, {@link Duration time to live} and the maximum number
+	 * of pages to walk forward from the closest known page.
+	 *
+	 * @param maxSize maximum number of paging states to retain, must be greater zero.
+	 * @param timeToLive time to live of a cached paging state, must not be {@literal null} and must be positive.
+	 * @param maxPageWalk maximum number of pages to fetch to reach a requested page, must be greater zero.
+	 */
+	public PagingStateCache(int maxSize, Duration timeToLive, int maxPageWalk) {
+		this(maxSize, timeToLive, maxPageWalk, Clock.systemUTC());
+	}
+
+	PagingStateCache(int maxSize, Duration timeToLive, Clock clock) {
+		this(maxSize, timeToLive, DEFAULT_MAX_PAGE_WALK, clock);
+	}
+
+	PagingStateCache(int maxSize, Duration timeToLive, int maxPageWalk, Clock clock) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater zero");
+		Assert.isTrue(maxPageWalk > 0, "Max page walk must be greater zero");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.maxSize = maxSize;
+		this.maxPageWalk = maxPageWalk;
+		this.timeToLiveMillis = timeToLive.toMillis();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				return size() > PagingStateCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Compute a fingerprint for the given {@link Statement} that considers the query string, keyspace and bound values.
+	 * Page size and paging state are not part of the fingerprint.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @return the fingerprint or {@literal null} if the statement type does not allow fingerprinting.
+	 */
+	public static @Nullable Object fingerprint(Statement<?> statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		if (statement instanceof SimpleStatement simpleStatement) {
+			return Arrays.asList(simpleStatement.getKeyspace(), simpleStatement.getQuery(),
+					simpleStatement.getPositionalValues(), simpleStatement.getNamedValues());
+		}
+
+		if (statement instanceof BoundStatement boundStatement) {
+			return Arrays.asList(boundStatement.getKeyspace(), boundStatement.getPreparedStatement().getQuery(),
+					boundStatement.getValues());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Scope the given {@code fingerprint} to the session that {@link CqlOperations} currently uses by considering the
+	 * session keyspace. Routing session factories select the session per request so that equal queries may target
+	 * different keyspaces.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @return the scoped fingerprint.
+	 */
+	public static Object scope(Object fingerprint, CqlOperations operations) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null");
+		Assert.notNull(operations, "CqlOperations must not be null");
+
+		Optional<CqlIdentifier> keyspace = operations
+				.execute((SessionCallback<Optional<CqlIdentifier>>) CqlSession::getKeyspace);
+
+		return Arrays.asList(keyspace, fingerprint);
+	}
+
+	/**
+	 * Retrieve the {@link ByteBuffer paging state} to fetch the given {@code page}.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @param pageSize the page size.
+	 * @param page zero-based page index.
+	 * @return the paging state or {@literal null} if the page is not known.
+	 */
+	public @Nullable ByteBuffer get(Object fingerprint, int pageSize, int page) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null");
+
+		CacheKey key = new CacheKey(fingerprint, pageSize, page);
+
+		synchronized (this.entries) {
+
+			CacheEntry entry = this.entries.get(key);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.isExpired(this.clock.millis())) {
+				this.entries.remove(key);
+				return null;
+			}
+
+			return entry.pagingState().duplicate();
+		}
+	}
+
+	/**
+	 * Record the {@link ByteBuffer paging state} that fetches the given {@code page}.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @param pageSize the page size.
+	 * @param page zero-based page index.
+	 * @param pagingState must not be {@literal null}.
+	 */
+	public void put(Object fingerprint, int pageSize, int page, ByteBuffer pagingState) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null");
+		Assert.notNull(pagingState, "PagingState must not be null");
+
+		CacheEntry entry = new CacheEntry(pagingState.asReadOnlyBuffer(), this.clock.millis() + this.timeToLiveMillis);
+
+		synchronized (this.entries) {
+			this.entries.put(new CacheKey(fingerprint, pageSize, page), entry);
+		}
+	}
+
+	/**
+	 * Remove all paging states associated with the given {@code fingerprint}.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 */
+	public void evict(Object fingerprint) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null");
+
+		synchronized (this.entries) {
+			this.entries.keySet().removeIf(key -> key.fingerprint().equals(fingerprint));
+		}
+	}
+
+	/**
+	 * Remove all cached paging states.
+	 */
+	public void clear() {
+
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	/**
+	 * @return the number of cached paging states including expired ones that were not yet evicted.
+	 */
+	public int size() {
+
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Fetch the {@link Slice} for the requested {@link Pageable}. Requests for the first page or for a
+	 * {@link CassandraPageRequest} with a paging state are passed on as-is. Requests for a subsequent page without a
+	 * paging state resume from the closest known page and walk forward until reaching the requested page. Paging states
+	 * of all fetched pages are recorded. Requests for a page that lies more than {@code maxPageWalk} pages beyond the
+	 * closest known page are rejected.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @param sliceFunction function to fetch a single {@link Slice} for a {@link Pageable}, must not be {@literal null}.
+	 * @return the {@link Slice} for the requested page. The slice is empty if the requested page lies beyond the last
+	 *         page.
+	 * @throws InvalidDataAccessApiUsageException if reaching the requested page requires fetching more than
+	 *           {@code maxPageWalk} pages.
+	 */
+	public <T> Slice<T> getSlice(Object fingerprint, Pageable pageable, Function<Pageable, Slice<T>> sliceFunction) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+		Assert.notNull(sliceFunction, "Slice function must not be null");
+
+		if (pageable.isUnpaged()) {
+			return sliceFunction.apply(pageable);
+		}
+
+		int pageSize = pageable.getPageSize();
+		int targetPage = pageable.getPageNumber();
+		Pageable current = pageable;
+
+		if (pageable instanceof CassandraPageRequest pageRequest && pageRequest.getPagingState() != null) {
+			put(fingerprint, pageSize, targetPage, pageRequest.getPagingState());
+		} else if (targetPage > 0) {
+			current = getClosestKnownPage(fingerprint, pageable);
+			int pagesToWalk = targetPage - current.getPageNumber();
+
+			if (pagesToWalk > this.maxPageWalk) {
+				throw new InvalidDataAccessApiUsageException(
+						"Page %d requires fetching %d pages from the closest known page %d; Navigate sequentially or use a CassandraPageRequest with a paging state"
+								.formatted(targetPage, pagesToWalk, current.getPageNumber()));
+			}
+		}
+
+		while (true) {
+
+			int currentPage = current.getPageNumber();
+			Slice<T> slice = sliceFunction.apply(current);
+			ByteBuffer nextPagingState = getNextPagingState(slice);
+
+			if (nextPagingState != null) {
+				put(fingerprint, pageSize, currentPage + 1, nextPagingState);
+			}
+
+			if (currentPage >= targetPage) {
+				return new SliceImpl<>(slice.getContent(), createPageRequest(pageable, currentPage, nextPagingState),
+						nextPagingState != null);
+			}
+
+			if (nextPagingState == null) {
+				return new SliceImpl<>(Collections.emptyList(), createPageRequest(pageable, targetPage, null), false);
+			}
+
+			current = createPageRequest(pageable, currentPage + 1, nextPagingState);
+		}
+	}
+
+	private Pageable getClosestKnownPage(Object fingerprint, Pageable pageable) {
+
+		int pageSize = pageable.getPageSize();
+		int lowestPage = Math.max(1, pageable.getPageNumber() - this.maxPageWalk);
+
+		for (int page = pageable.getPageNumber(); page >= lowestPage; page--) {
+
+			ByteBuffer pagingState = get(fingerprint, pageSize, page);
+
+			if (pagingState != null) {
+				return createPageRequest(pageable, page, pagingState);
+			}
+		}
+
+		return CassandraPageRequest.first(pageSize, pageable.getSort());
+	}
+
+	private static @Nullable ByteBuffer getNextPagingState(Slice<?> slice) {
+
+		if (slice.hasNext() && slice.getPageable() instanceof CassandraPageRequest pageRequest) {
+			return pageRequest.getPagingState();
+		}
+
+		return null;
+	}
+
+	private static CassandraPageRequest createPageRequest(Pageable pageable, int page,
+			@Nullable ByteBuffer pagingState) {
+		return CassandraPageRequest.of(PageRequest.of(page, pageable.getPageSize(), pageable.getSort()), pagingState);
+	}
+
+	private record CacheKey(Object fingerprint, int pageSize, int page) {
+
+	}
+
+	private record CacheEntry(ByteBuffer pagingState, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
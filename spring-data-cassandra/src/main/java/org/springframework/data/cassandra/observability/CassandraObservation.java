@@ -153,6 +153,16 @@ public enum CassandraObservation implements ObservationDocumentation {
 			}
 		},
 
+		/**
+		 * Name of the table the statement was created for by a template.
+		 */
+		TABLE_NAME {
+			@Override
+			public String asString() {
+				return "db.cassandra.table";
+			}
+		},
+
 		COORDINATOR {
 			@Override
 			public String asString() {
@@ -198,6 +208,36 @@ public enum CassandraObservation implements ObservationDocumentation {
 			}
 		},
 
+		/**
+		 * Type of a batch statement.
+		 */
+		BATCH_TYPE {
+			@Override
+			public String asString() {
+				return "db.cassandra.batch.type";
+			}
+		},
+
+		/**
+		 * Number of statements contained in a batch.
+		 */
+		BATCH_SIZE {
+			@Override
+			public String asString() {
+				return "db.cassandra.batch.size";
+			}
+		},
+
+		/**
+		 * Number of distinct queries contained in a batch. Only reported if batch statements are included.
+		 */
+		BATCH_DISTINCT_QUERIES {
+			@Override
+			public String asString() {
+				return "db.cassandra.batch.distinct_queries";
+			}
+		},
+
 		/**
 		 * A tag containing error that occurred for the given node.
 		 */
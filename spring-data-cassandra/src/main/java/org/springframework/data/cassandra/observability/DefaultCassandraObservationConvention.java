@@ -15,15 +15,26 @@
  */
 package org.springframework.data.cassandra.observability;
 
+import io.micrometer.common.KeyValue;
 import io.micrometer.common.KeyValues;
 
 import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.cassandra.core.cql.StatementOperation;
 import org.springframework.data.cassandra.observability.CassandraObservation.HighCardinalityKeyNames;
 import org.springframework.data.cassandra.observability.CassandraObservation.LowCardinalityKeyNames;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.StringUtils;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
@@ -46,16 +57,48 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 
 	public static final CassandraObservationConvention INSTANCE = new DefaultCassandraObservationConvention();
 
+	private static final int CACHE_LIMIT = 1024;
+
+	private final Map<StatementOperation, KeyValues> operationKeyValues = new ConcurrentHashMap<>();
+
+	private final Map<Node, NodeKeyValues> nodeKeyValues = new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+
+	private boolean includeBatchStatements = false;
+
+	/**
+	 * Configure whether to render the CQL of all statements contained in a {@link BatchStatement} as
+	 * {@link HighCardinalityKeyNames#DB_STATEMENT db.statement} along with the number of distinct queries. Batches are
+	 * summarized by their type and number of statements by default as inspecting large batches is expensive.
+	 *
+	 * @param includeBatchStatements {@literal true} to render the CQL of batch statements.
+	 * @since 5.2
+	 */
+	public void setIncludeBatchStatements(boolean includeBatchStatements) {
+		this.includeBatchStatements = includeBatchStatements;
+	}
+
 	@Override
 	public KeyValues getLowCardinalityKeyValues(CassandraObservationContext context) {
 
-		String dbOperation = context.isPrepare() ? "PREPARE" : getOperationName(getCql(context.getStatement()), "");
+		StatementOperation operation = StatementOperation.from(context.getStatement());
 
 		KeyValues keyValues = KeyValues.of(LowCardinalityKeyNames.DATABASE_SYSTEM.withValue("cassandra"),
 				LowCardinalityKeyNames.KEYSPACE_NAME.withValue(context.getKeyspaceName()),
 				LowCardinalityKeyNames.SESSION_NAME.withValue(context.getSessionName()),
-				LowCardinalityKeyNames.METHOD_NAME.withValue(context.getMethodName()),
-				LowCardinalityKeyNames.DB_OPERATION.withValue(dbOperation));
+				LowCardinalityKeyNames.METHOD_NAME.withValue(context.getMethodName()));
+
+		if (operation != null) {
+			keyValues = keyValues.and(getKeyValues(operation));
+		} else {
+			keyValues = keyValues.and(LowCardinalityKeyNames.TABLE_NAME.withValue(KeyValue.NONE_VALUE));
+		}
+
+		if (context.isPrepare()) {
+			keyValues = keyValues.and(LowCardinalityKeyNames.DB_OPERATION.withValue("PREPARE"));
+		} else if (operation == null) {
+			keyValues = keyValues
+					.and(LowCardinalityKeyNames.DB_OPERATION.withValue(getOperationName(context.getStatement())));
+		}
 
 		Node node = context.getNode();
 
@@ -64,21 +107,7 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 		}
 
 		if (node != null) {
-
-			EndPoint endPoint = node.getEndPoint();
-
-			keyValues = keyValues.and(LowCardinalityKeyNames.COORDINATOR.withValue("" + node.getHostId()),
-					LowCardinalityKeyNames.COORDINATOR_DC.withValue("" + node.getDatacenter()));
-
-			keyValues.and(LowCardinalityKeyNames.NET_PEER_NAME.withValue(endPoint.toString()));
-			InetSocketAddress socketAddress = tryGetSocketAddress(endPoint);
-
-			if (socketAddress != null) {
-
-				keyValues = keyValues.and(LowCardinalityKeyNames.NET_TRANSPORT.withValue("IP.TCP"),
-						LowCardinalityKeyNames.NET_SOCK_PEER_ADDR.withValue(socketAddress.getHostString()),
-						LowCardinalityKeyNames.NET_SOCK_PEER_PORT.withValue("" + socketAddress.getPort()));
-			}
+			keyValues = keyValues.and(getKeyValues(node));
 		}
 
 		return keyValues;
@@ -89,8 +118,13 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 
 		Statement<?> statement = context.getStatement();
 
-		KeyValues keyValues = KeyValues.of(HighCardinalityKeyNames.DB_STATEMENT.withValue(getCql(statement)),
-				HighCardinalityKeyNames.PAGE_SIZE.withValue("" + statement.getPageSize()));
+		KeyValues keyValues = KeyValues.of(HighCardinalityKeyNames.PAGE_SIZE.withValue("" + statement.getPageSize()));
+
+		if (statement instanceof BatchStatement batch) {
+			keyValues = keyValues.and(getKeyValues(batch));
+		} else {
+			keyValues = keyValues.and(HighCardinalityKeyNames.DB_STATEMENT.withValue(getCql(statement)));
+		}
 
 		Boolean idempotent = statement.isIdempotent();
 		if (idempotent != null) {
@@ -106,6 +140,100 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 		return keyValues;
 	}
 
+	/**
+	 * Return the key values for a {@link StatementOperation} associated by a template. Key values are computed once per
+	 * {@link StatementOperation} and reused for subsequent observations.
+	 *
+	 * @param operation the statement operation.
+	 * @return the key values describing table, operation and keyspace (if known).
+	 * @since 5.2
+	 */
+	protected KeyValues getKeyValues(StatementOperation operation) {
+
+		KeyValues keyValues = operationKeyValues.get(operation);
+
+		if (keyValues == null) {
+
+			keyValues = KeyValues.of(LowCardinalityKeyNames.TABLE_NAME.withValue(operation.getTableName()),
+					LowCardinalityKeyNames.DB_OPERATION.withValue(operation.getOperation()));
+
+			if (operation.getKeyspace() != null) {
+				keyValues = keyValues.and(LowCardinalityKeyNames.KEYSPACE_NAME.withValue(operation.getKeyspace()));
+			}
+
+			if (operationKeyValues.size() < CACHE_LIMIT) {
+				operationKeyValues.put(operation, keyValues);
+			}
+		}
+
+		return keyValues;
+	}
+
+	/**
+	 * Return the key values describing the coordinator {@link Node}. Key values are cached per {@link Node} and computed
+	 * again only if the node's endpoint, host id or datacenter changes.
+	 *
+	 * @param node the coordinator node.
+	 * @return the key values describing the coordinator.
+	 * @since 5.2
+	 */
+	protected KeyValues getKeyValues(Node node) {
+
+		EndPoint endPoint = node.getEndPoint();
+		UUID hostId = node.getHostId();
+		String datacenter = node.getDatacenter();
+
+		NodeKeyValues cached = nodeKeyValues.get(node);
+
+		if (cached != null && cached.matches(endPoint, hostId, datacenter)) {
+			return cached.keyValues();
+		}
+
+		KeyValues keyValues = KeyValues.of(LowCardinalityKeyNames.COORDINATOR.withValue("" + hostId),
+				LowCardinalityKeyNames.COORDINATOR_DC.withValue("" + datacenter),
+				LowCardinalityKeyNames.NET_PEER_NAME.withValue(endPoint.toString()));
+
+		InetSocketAddress socketAddress = tryGetSocketAddress(endPoint);
+
+		if (socketAddress != null) {
+
+			keyValues = keyValues.and(LowCardinalityKeyNames.NET_TRANSPORT.withValue("IP.TCP"),
+					LowCardinalityKeyNames.NET_SOCK_PEER_ADDR.withValue(socketAddress.getHostString()),
+					LowCardinalityKeyNames.NET_SOCK_PEER_PORT.withValue("" + socketAddress.getPort()));
+		}
+
+		nodeKeyValues.put(node, new NodeKeyValues(endPoint, hostId, datacenter, keyValues));
+
+		return keyValues;
+	}
+
+	/**
+	 * Return the key values summarizing a {@link BatchStatement}. The CQL of the contained statements and the number of
+	 * distinct queries are only computed if {@link #setIncludeBatchStatements(boolean) enabled}.
+	 *
+	 * @param batch the batch statement.
+	 * @return the key values describing the batch.
+	 * @since 5.2
+	 */
+	protected KeyValues getKeyValues(BatchStatement batch) {
+
+		KeyValues keyValues = KeyValues.of(HighCardinalityKeyNames.BATCH_TYPE.withValue("" + batch.getBatchType()),
+				HighCardinalityKeyNames.BATCH_SIZE.withValue("" + batch.size()));
+
+		if (!includeBatchStatements) {
+			return keyValues;
+		}
+
+		Set<String> queries = new HashSet<>();
+
+		for (BatchableStatement<?> statement : batch) {
+			queries.add(getQuery(statement));
+		}
+
+		return keyValues.and(HighCardinalityKeyNames.BATCH_DISTINCT_QUERIES.withValue("" + queries.size()),
+				HighCardinalityKeyNames.DB_STATEMENT.withValue(getCql(batch)));
+	}
+
 	protected @Nullable InetSocketAddress tryGetSocketAddress(EndPoint endPoint) {
 
 		try {
@@ -120,7 +248,11 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 
 	@Override
 	public String getContextualName(CassandraObservationContext context) {
-		return (context.isPrepare() ? "PREPARE: " : "") + getOperationName(getCql(context.getStatement()), "");
+
+		StatementOperation operation = StatementOperation.from(context.getStatement());
+		String operationName = operation != null ? operation.getOperation() : getOperationName(context.getStatement());
+
+		return (context.isPrepare() ? "PREPARE: " : "") + operationName;
 	}
 
 	/**
@@ -138,6 +270,21 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 		return defaultName;
 	}
 
+	/**
+	 * Determine the operation name from the first query of the {@link Statement} without rendering the CQL of all
+	 * statements contained in a {@link BatchStatement}.
+	 */
+	private String getOperationName(Statement<?> statement) {
+
+		if (statement instanceof BatchStatement batch) {
+
+			Iterator<BatchableStatement<?>> iterator = batch.iterator();
+			return iterator.hasNext() ? getOperationName(getQuery(iterator.next()), "") : "";
+		}
+
+		return getOperationName(getQuery(statement), "");
+	}
+
 	/**
 	 * Extract the CQL query from the delegate {@link Statement}.
 	 *
@@ -184,4 +331,13 @@ public class DefaultCassandraObservationConvention implements CassandraObservati
 
 		return "";
 	}
+
+	private record NodeKeyValues(EndPoint endPoint, @Nullable UUID hostId, @Nullable String datacenter,
+			KeyValues keyValues) {
+
+		boolean matches(EndPoint endPoint, @Nullable UUID hostId, @Nullable String datacenter) {
+			return this.endPoint.equals(endPoint) && Objects.equals(this.hostId, hostId)
+					&& Objects.equals(this.datacenter, datacenter);
+		}
+	}
 }
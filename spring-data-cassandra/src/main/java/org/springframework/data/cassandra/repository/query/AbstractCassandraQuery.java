@@ -19,6 +19,7 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.CollectionExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ExistsExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingConverter;
@@ -47,6 +48,8 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 
 	private final CassandraOperations operations;
 
+	private @Nullable PagingStateCache pagingStateCache;
+
 	/**
 	 * Create a new {@link AbstractCassandraQuery} from the given {@link CassandraQueryMethod} and
 	 * {@link CassandraOperations}.
@@ -71,6 +74,17 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 		return this.operations;
 	}
 
+	/**
+	 * Configure a {@link PagingStateCache} to allow random-access page navigation for
+	 * {@link org.springframework.data.domain.Slice} queries.
+	 *
+	 * @param pagingStateCache can be {@literal null} to disable paging state caching.
+	 * @since 5.2
+	 */
+	public void setPagingStateCache(@Nullable PagingStateCache pagingStateCache) {
+		this.pagingStateCache = pagingStateCache;
+	}
+
 	@Override
 	public @Nullable Object execute(Object[] parameters) {
 
@@ -120,7 +134,7 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 			Converter<Object, Object> resultProcessing) {
 
 		if (getQueryMethod().isSliceQuery()) {
-			return new SlicedExecution(getOperations(), parameterAccessor.getPageable());
+			return new SlicedExecution(getOperations(), parameterAccessor.getPageable(), pagingStateCache);
 		} else if (getQueryMethod().isScrollQuery()) {
 			return new WindowExecution(getOperations(), parameterAccessor.getScrollPosition(), parameterAccessor.getLimit());
 		} else if (getQueryMethod().isSearchQuery()) {
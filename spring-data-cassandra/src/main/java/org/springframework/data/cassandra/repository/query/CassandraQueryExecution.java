@@ -26,6 +26,7 @@ import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.cassandra.core.query.CassandraScrollPosition;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.convert.DtoInstantiatingConverter;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
@@ -89,16 +90,38 @@ interface CassandraQueryExecution {
 
 		private final CassandraOperations operations;
 
+		private final Pageable pageable;
+
+		private final @Nullable PagingStateCache pagingStateCache;
+
 		SlicedExecution(CassandraOperations operations, Pageable pageable) {
+			this(operations, pageable, null);
+		}
+
+		SlicedExecution(CassandraOperations operations, Pageable pageable, @Nullable PagingStateCache pagingStateCache) {
 			this.operations = operations;
 			this.pageable = pageable;
+			this.pagingStateCache = pagingStateCache;
 		}
 
-		private final Pageable pageable;
-
 		@Override
+		@SuppressWarnings("unchecked")
 		public Slice<?> execute(Statement<?> statement, Class<?> type) {
 
+			Object fingerprint = pagingStateCache != null ? PagingStateCache.fingerprint(statement) : null;
+
+			if (pagingStateCache != null && fingerprint != null) {
+				Object scopedFingerprint = PagingStateCache.scope(fingerprint, operations.getCqlOperations());
+
+				return pagingStateCache.getSlice(scopedFingerprint, pageable,
+						it -> doExecute(statement, (Class<Object>) type, it));
+			}
+
+			return doExecute(statement, type, pageable);
+		}
+
+		private <T> Slice<T> doExecute(Statement<?> statement, Class<T> type, Pageable pageable) {
+
 			CassandraPageRequest.validatePageable(pageable);
 
 			Statement<?> statementToUse = pageable.isPaged() ? statement.setPageSize(pageable.getPageSize()) : statement;
@@ -107,7 +130,7 @@ interface CassandraQueryExecution {
 				statementToUse = statementToUse.setPagingState(((CassandraPageRequest) pageable).getPagingState());
 			}
 
-			Slice<?> slice = operations.slice(statementToUse, type);
+			Slice<T> slice = operations.slice(statementToUse, type);
 
 			if (pageable.getSort().isUnsorted()) {
 				return slice;
@@ -24,7 +24,9 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.cassandra.repository.CassandraRepository;
+import org.springframework.data.cassandra.repository.query.AbstractCassandraQuery;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.cassandra.repository.query.CassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.PartTreeCassandraQuery;
@@ -61,6 +63,8 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 	private CassandraRepositoryFragmentsContributor fragmentsContributor = CassandraRepositoryFragmentsContributor.DEFAULT;
 
+	private @Nullable PagingStateCache pagingStateCache;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactory} with the given {@link CassandraOperations}.
 	 *
@@ -85,6 +89,18 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		this.fragmentsContributor = fragmentsContributor;
 	}
 
+	/**
+	 * Configures the {@link PagingStateCache} to be used by {@link SimpleCassandraRepository#findAll(org.springframework.data.domain.Pageable)}
+	 * and {@link org.springframework.data.domain.Slice} query methods to allow random-access page navigation. Defaults to
+	 * {@literal null} (no caching).
+	 *
+	 * @param pagingStateCache can be {@literal null}.
+	 * @since 5.2
+	 */
+	public void setPagingStateCache(@Nullable PagingStateCache pagingStateCache) {
+		this.pagingStateCache = pagingStateCache;
+	}
+
 	@Override
 	protected ProjectionFactory getProjectionFactory(@Nullable ClassLoader classLoader,
 			@Nullable BeanFactory beanFactory) {
@@ -101,7 +117,13 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 		CassandraEntityInformation<?, ?> entityInformation = getEntityInformation(information);
 
-		return getTargetRepositoryViaReflection(information, entityInformation, operations);
+		Object repository = getTargetRepositoryViaReflection(information, entityInformation, operations);
+
+		if (repository instanceof SimpleCassandraRepository<?, ?> simpleRepository) {
+			simpleRepository.setPagingStateCache(pagingStateCache);
+		}
+
+		return repository;
 	}
 
 	@Override
@@ -115,7 +137,7 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			ValueExpressionDelegate valueExpressionDelegate) {
 		return Optional.of(new CassandraQueryLookupStrategy(operations,
-				new CachingValueExpressionDelegate(valueExpressionDelegate), mappingContext));
+				new CachingValueExpressionDelegate(valueExpressionDelegate), mappingContext, pagingStateCache));
 	}
 
 	@Override
@@ -138,7 +160,8 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 	private record CassandraQueryLookupStrategy(CassandraOperations operations,
 			ValueExpressionDelegate valueExpressionDelegate,
-			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext)
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext,
+			@Nullable PagingStateCache pagingStateCache)
 			implements
 				QueryLookupStrategy {
 
@@ -146,6 +169,15 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 				NamedQueries namedQueries) {
 
+			AbstractCassandraQuery query = createQuery(method, metadata, factory, namedQueries);
+			query.setPagingStateCache(pagingStateCache);
+
+			return query;
+		}
+
+		private AbstractCassandraQuery createQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+				NamedQueries namedQueries) {
+
 			CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory, mappingContext);
 			String namedQueryName = queryMethod.getNamedQueryName();
 
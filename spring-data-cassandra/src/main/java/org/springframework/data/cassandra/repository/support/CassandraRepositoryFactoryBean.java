@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.repository.support;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
@@ -43,6 +44,8 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private CassandraRepositoryFragmentsContributor repositoryFragmentsContributor = CassandraRepositoryFragmentsContributor.DEFAULT;
 
+	private @Nullable PagingStateCache pagingStateCache;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -59,6 +62,7 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		CassandraRepositoryFactory factory = getFactoryInstance(cassandraOperations);
 		factory.setFragmentsContributor(repositoryFragmentsContributor);
+		factory.setPagingStateCache(pagingStateCache);
 		return factory;
 	}
 
@@ -88,6 +92,17 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		this.repositoryFragmentsContributor = repositoryFragmentsContributor;
 	}
 
+	/**
+	 * Configures the {@link PagingStateCache} to allow random-access page navigation for {@code findAll(Pageable)} and
+	 * {@link org.springframework.data.domain.Slice} query methods.
+	 *
+	 * @param pagingStateCache can be {@literal null} to disable paging state caching.
+	 * @since 5.2
+	 */
+	public void setPagingStateCache(@Nullable PagingStateCache pagingStateCache) {
+		this.pagingStateCache = pagingStateCache;
+	}
+
 	/**
 	 * Configures the {@link CassandraTemplate} used for Cassandra data access operations.
 	 *
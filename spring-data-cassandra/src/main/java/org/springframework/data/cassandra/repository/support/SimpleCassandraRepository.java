@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.repository.support;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,7 @@ import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
@@ -57,6 +59,8 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 	private final CassandraOperations operations;
 
+	private @Nullable PagingStateCache pagingStateCache;
+
 	/**
 	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation} and
 	 * {@link CassandraTemplate}.
@@ -74,6 +78,16 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure a {@link PagingStateCache} to allow random-access page navigation in {@link #findAll(Pageable)}.
+	 *
+	 * @param pagingStateCache can be {@literal null} to disable paging state caching.
+	 * @since 5.2
+	 */
+	public void setPagingStateCache(@Nullable PagingStateCache pagingStateCache) {
+		this.pagingStateCache = pagingStateCache;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from CrudRepository
 	// -------------------------------------------------------------------------
@@ -205,6 +219,18 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
+		if (this.pagingStateCache != null) {
+
+			BasicCassandraPersistentEntity<?> entity = this.mappingContext
+					.getRequiredPersistentEntity(this.entityInformation.getJavaType());
+			Object fingerprint = PagingStateCache.scope(Arrays.asList(this.entityInformation.getJavaType(),
+					entity.getKeyspace(), this.entityInformation.getTableName(), pageable.getSort()),
+					this.operations.getCqlOperations());
+
+			return this.pagingStateCache.getSlice(fingerprint, pageable,
+					it -> this.operations.slice(Query.empty().pageRequest(it), this.entityInformation.getJavaType()));
+		}
+
 		return this.operations.slice(Query.empty().pageRequest(pageable), this.entityInformation.getJavaType());
 	}
 
@@ -15,7 +15,14 @@
  */
 package org.springframework.data.cassandra.core
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet
+import com.datastax.oss.driver.api.core.cql.BatchStatement
+import com.datastax.oss.driver.api.core.cql.BatchType
+import com.datastax.oss.driver.api.core.cql.BatchableStatement
 import com.datastax.oss.driver.api.core.cql.Statement
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.future.await
+import org.springframework.data.cassandra.core.cql.asyncResultSetFlow
 import org.springframework.data.cassandra.core.query.Query
 import org.springframework.data.cassandra.core.query.Update
 import org.springframework.data.domain.Slice
@@ -167,3 +174,80 @@ inline fun <reified T : Any> AsyncCassandraOperations.deleteById(id: Any): Compl
  */
 inline fun <reified T : Any> AsyncCassandraOperations.truncate(): CompletableFuture<Void> =
 	truncate(T::class.java)
+
+// -------------------------------------------------------------------------
+// Coroutines variants
+// -------------------------------------------------------------------------
+
+/**
+ * Coroutines [Flow] variant of [AsyncCassandraOperations.select] leveraging reified type parameters. Entities are
+ * read page by page while suspending on [AsyncResultSet.fetchNextPage] without adapting through Reactor.
+ * [prefetch] controls how many pages are requested ahead of the page that is currently being emitted. Requires
+ * [AsyncCassandraTemplate].
+ */
+inline fun <reified T : Any> AsyncCassandraOperations.flow(statement: Statement<*>, prefetch: Int = 1): Flow<T> =
+	flow(statement, T::class.java, prefetch)
+
+/**
+ * Coroutines [Flow] variant of [AsyncCassandraOperations.select]. Entities are read page by page while suspending
+ * on [AsyncResultSet.fetchNextPage] without adapting through Reactor. [prefetch] controls how many pages are
+ * requested ahead of the page that is currently being emitted. Rows are mapped through the same row mapper as
+ * [AsyncCassandraOperations.select] including projections and lifecycle events. Reading page by page requires
+ * [AsyncCassandraTemplate], other implementations are rejected with [IllegalArgumentException].
+ */
+fun <T : Any> AsyncCassandraOperations.flow(statement: Statement<*>, entityClass: Class<T>, prefetch: Int = 1): Flow<T> {
+
+	require(this is AsyncCassandraTemplate) {
+		"Flow requires AsyncCassandraTemplate to read pages; ${javaClass.name} does not expose its row mapping"
+	}
+
+	val rowMapper = getRowMapper(entityClass, statement)
+
+	return asyncResultSetFlow({ execute(statement) }, prefetch) { row, rowNum -> rowMapper.mapRow(row, rowNum) }
+}
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.execute].
+ */
+suspend fun AsyncCassandraOperations.awaitExecute(statement: Statement<*>): AsyncResultSet =
+	execute(statement).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.insert].
+ */
+suspend fun <T : Any> AsyncCassandraOperations.awaitInsert(entity: T): T? =
+	insert(entity).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.insert].
+ */
+suspend fun <T : Any> AsyncCassandraOperations.awaitInsert(entity: T, options: InsertOptions): EntityWriteResult<T> =
+	insert(entity, options).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.update].
+ */
+suspend fun <T : Any> AsyncCassandraOperations.awaitUpdate(entity: T): T =
+	update(entity).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.update].
+ */
+suspend fun <T : Any> AsyncCassandraOperations.awaitUpdate(entity: T, options: UpdateOptions): EntityWriteResult<T> =
+	update(entity, options).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.delete].
+ */
+suspend fun <T : Any> AsyncCassandraOperations.awaitDelete(entity: T): T =
+	delete(entity).await()
+
+/**
+ * Coroutines variant of [AsyncCassandraOperations.execute] executing [statements] as [BatchStatement] of the given
+ * [batchType].
+ */
+suspend fun AsyncCassandraOperations.awaitBatch(
+	statements: Iterable<BatchableStatement<*>>,
+	batchType: BatchType = BatchType.LOGGED
+): AsyncResultSet =
+	execute(BatchStatement.newInstance(batchType, statements)).await()
@@ -18,7 +18,11 @@ package org.springframework.data.cassandra.core.cql
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet
 import com.datastax.oss.driver.api.core.cql.Row
 import com.datastax.oss.driver.api.core.cql.Statement
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.future.await
 import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionStage
 
 /**
  * Extensions for [AsyncCqlOperations].
@@ -103,3 +107,77 @@ fun <T : Any> AsyncCqlOperations.query(
 	function: (Row, Int) -> T
 ): CompletableFuture<List<T>> =
 	query(cql, RowMapper { row, i -> function(row, i) }, *args)
+
+/**
+ * Coroutines [Flow] variant of [AsyncCqlOperations.queryForResultSet] mapping each row using a RowMapper-like
+ * function. Rows are emitted page by page while suspending on [AsyncResultSet.fetchNextPage] without adapting
+ * through Reactor. [prefetch] controls how many pages are requested ahead of the page that is currently
+ * being emitted (`0` to fetch the next page only after the current page was consumed).
+ */
+fun <T : Any> AsyncCqlOperations.queryForFlow(
+	statement: Statement<*>,
+	prefetch: Int = 1,
+	function: (Row, Int) -> T
+): Flow<T> =
+	asyncResultSetFlow({ queryForResultSet(statement) }, prefetch, function)
+
+/**
+ * Coroutines variant of [AsyncCqlOperations.execute].
+ */
+suspend fun AsyncCqlOperations.awaitExecute(statement: Statement<*>): Boolean =
+	execute(statement).await()
+
+/**
+ * Coroutines variant of [AsyncCqlOperations.execute].
+ */
+suspend fun AsyncCqlOperations.awaitExecute(cql: String, vararg args: Any): Boolean =
+	execute(cql, *args).await()
+
+/**
+ * Create a [Flow] that emits the rows of all pages of an [AsyncResultSet] by suspending on page fetches.
+ */
+internal fun <T : Any> asyncResultSetFlow(
+	resultSet: () -> CompletionStage<AsyncResultSet>,
+	prefetch: Int,
+	function: (Row, Int) -> T
+): Flow<T> {
+
+	require(prefetch >= 0) { "Prefetch must be greater or equal to zero" }
+
+	return flow {
+
+		var tail: CompletableFuture<AsyncResultSet?> = resultSet().toCompletableFuture().thenApply { it }
+		val pages = ArrayDeque<CompletableFuture<AsyncResultSet?>>()
+		var rowNum = 0
+
+		pages.addLast(tail)
+
+		while (true) {
+
+			while (pages.size <= prefetch) {
+				tail = fetchNextPage(tail)
+				pages.addLast(tail)
+			}
+
+			val page = pages.removeFirst().await() ?: break
+
+			for (row in page.currentPage()) {
+				emit(function(row, rowNum++))
+			}
+
+			if (pages.isEmpty()) {
+				tail = fetchNextPage(tail)
+				pages.addLast(tail)
+			}
+		}
+	}
+}
+
+private fun fetchNextPage(previous: CompletableFuture<AsyncResultSet?>): CompletableFuture<AsyncResultSet?> =
+	previous.thenCompose { resultSet ->
+		if (resultSet != null && resultSet.hasMorePages()) {
+			resultSet.fetchNextPage().toCompletableFuture().thenApply<AsyncResultSet?> { it }
+		} else {
+			CompletableFuture.completedFuture<AsyncResultSet?>(null)
+		}
+	}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.domain.VersionedUser;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link PreparedStatementWarmup}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PreparedStatementWarmupUnitTests {
+
+	@Mock CqlSession session;
+	@Mock PreparedStatement preparedStatement;
+
+	CassandraTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.getRequiredPersistentEntity(User.class);
+		mappingContext.getRequiredPersistentEntity(VersionedUser.class);
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		template = new CassandraTemplate(session, converter);
+	}
+
+	@Test
+	void shouldCreateEntityStatements() {
+
+		List<String> statements = new PreparedStatementWarmup(template).getStatements();
+
+		assertThat(statements).anyMatch(it -> it.startsWith("INSERT INTO users"));
+		assertThat(statements).anyMatch(it -> it.startsWith("UPDATE users"));
+		assertThat(statements).anyMatch(it -> it.startsWith("DELETE FROM users"));
+		assertThat(statements).anyMatch(it -> it.startsWith("SELECT") && it.contains("FROM users"));
+		assertThat(statements).anyMatch(it -> it.startsWith("INSERT INTO vusers") && it.endsWith("IF NOT EXISTS"));
+		assertThat(statements).anyMatch(it -> it.startsWith("UPDATE vusers") && it.contains("IF version=?"));
+	}
+
+	@Test
+	void shouldPrepareStatementsConcurrently() {
+
+		when(session.prepareAsync(anyString())).thenReturn(CompletableFuture.completedFuture(preparedStatement));
+		when(session.prepareAsync("SELECT broken")).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup(template);
+		warmup.addStatement("SELECT broken");
+
+		PreparedStatementWarmup.Result result = warmup.warmUp();
+
+		assertThat(result.prepared()).isEqualTo(warmup.getStatements().size() - 1);
+		assertThat(result.failed()).isOne();
+		assertThat(result.isComplete()).isFalse();
+		verify(session, times(warmup.getStatements().size())).prepareAsync(anyString());
+	}
+
+	@Test
+	void shouldReportPendingStatementsOnTimeout() {
+
+		when(session.prepareAsync(anyString())).thenReturn(new CompletableFuture<>());
+
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup(template);
+		warmup.setTimeout(Duration.ofMillis(10));
+
+		PreparedStatementWarmup.Result result = warmup.warmUp();
+
+		assertThat(result.pending()).isEqualTo(warmup.getStatements().size());
+		assertThat(result.prepared()).isZero();
+	}
+
+	@Test
+	void shouldPrepareStatementsUsedByTemplate() {
+
+		Set<String> cache = ConcurrentHashMap.newKeySet();
+		List<String> prepared = new ArrayList<>();
+
+		BoundStatementBuilder builder = mock(BoundStatementBuilder.class, RETURNS_SELF);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+
+		when(session.prepareAsync(anyString())).thenAnswer(it -> {
+
+			String cql = it.getArgument(0);
+			if (cache.add(cql)) {
+				prepared.add(cql);
+			}
+			return CompletableFuture.completedFuture(preparedStatement);
+		});
+		when(session.prepare(anyString())).thenAnswer(it -> {
+
+			String cql = it.getArgument(0);
+			if (cache.add(cql)) {
+				prepared.add(cql);
+			}
+			return preparedStatement;
+		});
+		when(preparedStatement.boundStatementBuilder(any(Object[].class))).thenReturn(builder);
+		when(builder.build()).thenReturn(boundStatement);
+		when(session.execute(any(Statement.class))).thenReturn(mock(ResultSet.class));
+
+		PreparedStatementWarmup warmup = new PreparedStatementWarmup(template);
+		warmup.warmUp();
+
+		List<String> warmedUp = new ArrayList<>(prepared);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+
+		assertThat(prepared).isEqualTo(warmedUp).containsExactlyInAnyOrderElementsOf(warmup.getStatements());
+	}
+
+	@Test
+	void shouldSkipWarmUpIfTemplateDoesNotUsePreparedStatements() {
+
+		template.setUsePreparedStatements(false);
+
+		PreparedStatementWarmup.Result result = new PreparedStatementWarmup(template).warmUp();
+
+		assertThat(result.isComplete()).isTrue();
+		verify(session, never()).prepareAsync(anyString());
+	}
+
+	@Test
+	void shouldCreateDefaultInsertWithAllColumns() {
+
+		List<String> statements = new PreparedStatementWarmup(template).getStatements();
+
+		assertThat(statements).filteredOn(it -> it.startsWith("INSERT INTO users")).singleElement()
+				.satisfies(it -> assertThat(it).contains("firstname", "lastname"));
+	}
+
+	@Test
+	void shouldSkipInsertIfPropertiesCannotBePopulated() {
+
+		template.getConverter().getMappingContext().getRequiredPersistentEntity(WithAttributes.class);
+
+		List<String> statements = new PreparedStatementWarmup(template).getStatements();
+
+		assertThat(statements).noneMatch(it -> it.startsWith("INSERT INTO withattributes"));
+		assertThat(statements).anyMatch(it -> it.startsWith("UPDATE withattributes"));
+	}
+
+	@Table
+	static class WithAttributes {
+
+		@Id String id;
+		Map<String, String> attributes;
+	}
+}
@@ -36,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
@@ -574,6 +575,16 @@ class AsyncCassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("TRUNCATE users");
 	}
 
+	@Test
+	void insertShouldRejectChunkedEntities() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.insert(new CassandraTemplateUnitTests.Document("doc", "0123456789")))
+				.withMessageContaining("@Chunked");
+
+		verifyNoInteractions(session);
+	}
+
 	private static String render(SimpleStatement statement) {
 
 		String query = statement.getQuery();
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.domain.FlatGroup;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.domain.VersionedUser;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link AsyncWriteBehindBuffer}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AsyncWriteBehindBufferUnitTests {
+
+	@Mock AsyncCassandraOperations operations;
+	@Mock AsyncResultSet resultSet;
+
+	@Captor ArgumentCaptor<Statement<?>> statementCaptor;
+
+	private AsyncWriteBehindBuffer buffer;
+
+	@BeforeEach
+	void setUp() {
+
+		when(operations.getConverter()).thenReturn(new MappingCassandraConverter());
+		when(operations.execute(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(resultSet));
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		buffer = new AsyncWriteBehindBuffer(operations);
+		buffer.setFlushInterval(Duration.ofHours(1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		buffer.destroy();
+	}
+
+	@Test
+	void shouldCoalesceWritesToSamePartitionIntoUnloggedBatch() {
+
+		User first = new User("heisenberg", "Walter", "White");
+		User second = new User("heisenberg", "Walter", "Black");
+
+		CompletableFuture<EntityWriteResult<User>> firstResult = buffer.insert(first);
+		CompletableFuture<EntityWriteResult<User>> secondResult = buffer.insert(second);
+
+		assertThat(firstResult).isNotDone();
+		verify(operations, never()).execute(any(Statement.class));
+
+		buffer.flush().join();
+
+		verify(operations).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue()).isInstanceOf(BatchStatement.class);
+
+		BatchStatement batch = (BatchStatement) statementCaptor.getValue();
+		assertThat(batch.getBatchType()).isEqualTo(BatchType.UNLOGGED);
+		assertThat(batch.size()).isEqualTo(2);
+
+		assertThat(firstResult.join().getEntity()).isSameAs(first);
+		assertThat(secondResult.join().getEntity()).isSameAs(second);
+		assertThat(secondResult.join().wasApplied()).isTrue();
+	}
+
+	@Test
+	void shouldRetainWriteOrderWithinPartition() {
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		buffer.insert(user);
+		buffer.update(user);
+		CompletableFuture<WriteResult> deleted = buffer.delete(user);
+
+		buffer.flush().join();
+
+		verify(operations, atLeastOnce()).execute(statementCaptor.capture());
+
+		List<SimpleStatement> statements = new ArrayList<>();
+		for (Statement<?> statement : statementCaptor.getAllValues()) {
+			if (statement instanceof BatchStatement batch) {
+				batch.forEach(it -> statements.add((SimpleStatement) it));
+			} else {
+				statements.add((SimpleStatement) statement);
+			}
+		}
+
+		assertThat(statements).extracting(it -> it.getQuery().substring(0, 6)).containsExactlyInAnyOrder("INSERT",
+				"UPDATE", "DELETE");
+
+		long insert = getTimestamp(statements, "INSERT");
+		long update = getTimestamp(statements, "UPDATE");
+		long delete = getTimestamp(statements, "DELETE");
+
+		assertThat(insert).isLessThan(update);
+		assertThat(update).isLessThan(delete);
+		assertThat(deleted).isCompleted();
+	}
+
+	@Test
+	void shouldRetainProvidedTimestamp() {
+
+		buffer.insert(new User("heisenberg", "Walter", "White"), InsertOptions.builder().timestamp(1234).build());
+
+		buffer.flush().join();
+
+		verify(operations).execute(statementCaptor.capture());
+		assertThat(getTimestamp(List.of((SimpleStatement) statementCaptor.getValue()), "INSERT")).isEqualTo(1234);
+	}
+
+	@Test
+	void shouldSendWritesToDifferentPartitionsSeparately() {
+
+		buffer.insert(new User("heisenberg", "Walter", "White"));
+		buffer.insert(new User("jesse", "Jesse", "Pinkman"));
+
+		buffer.flush().join();
+
+		verify(operations, times(2)).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).allMatch(SimpleStatement.class::isInstance);
+	}
+
+	@Test
+	void shouldCoalesceWritesToDifferentRowsOfSamePartition() {
+
+		buffer.insert(new FlatGroup("breaking-bad", "h", "heisenberg"));
+		buffer.insert(new FlatGroup("breaking-bad", "h", "jesse"));
+		buffer.insert(new FlatGroup("breaking-bad", "j", "jesse"));
+
+		buffer.flush().join();
+
+		verify(operations, times(2)).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).filteredOn(BatchStatement.class::isInstance).singleElement()
+				.satisfies(it -> assertThat(((BatchStatement) it).size()).isEqualTo(2));
+	}
+
+	@Test
+	void shouldFlushGroupOnceMaxBatchSizeIsReached() {
+
+		buffer.setMaxBatchSize(2);
+
+		buffer.insert(new User("heisenberg", "Walter", "White"));
+		verify(operations, never()).execute(any(Statement.class));
+
+		CompletableFuture<EntityWriteResult<User>> result = buffer.insert(new User("heisenberg", "Walter", "Black"));
+
+		verify(operations).execute(any(BatchStatement.class));
+		assertThat(result).isCompleted();
+	}
+
+	@Test
+	void shouldCompleteAllWritesExceptionallyIfBatchFails() {
+
+		IllegalStateException failure = new IllegalStateException("boom");
+		when(operations.execute(any(Statement.class))).thenReturn(CompletableFuture.failedFuture(failure));
+
+		CompletableFuture<EntityWriteResult<User>> first = buffer.insert(new User("heisenberg", "Walter", "White"));
+		CompletableFuture<EntityWriteResult<User>> second = buffer.insert(new User("heisenberg", "Walter", "Black"));
+
+		buffer.flush();
+
+		assertThat(List.of(first, second)).allSatisfy(it -> assertThat(it).isCompletedExceptionally());
+	}
+
+	@Test
+	void shouldRejectWritesIfBufferIsFull() {
+
+		CompletableFuture<AsyncResultSet> pending = new CompletableFuture<>();
+		when(operations.execute(any(Statement.class))).thenReturn(pending);
+
+		buffer.setMaxPendingWrites(1);
+
+		buffer.insert(new User("heisenberg", "Walter", "White"));
+		buffer.flush();
+
+		CompletableFuture<EntityWriteResult<User>> rejected = buffer.insert(new User("jesse", "Jesse", "Pinkman"));
+
+		assertThat(rejected).failsWithin(Duration.ZERO).withThrowableOfType(Exception.class)
+				.withCauseInstanceOf(TransientDataAccessResourceException.class);
+
+		pending.complete(resultSet);
+
+		assertThat(buffer.insert(new User("jesse", "Jesse", "Pinkman"))).isNotDone();
+	}
+
+	@Test
+	void shouldBufferWaitingWritesOnceCapacityIsReleased() {
+
+		CompletableFuture<AsyncResultSet> pending = new CompletableFuture<>();
+		when(operations.execute(any(Statement.class))).thenReturn(pending);
+
+		buffer.setMaxPendingWrites(1);
+		buffer.setMaxWait(Duration.ofHours(1));
+
+		buffer.insert(new User("heisenberg", "Walter", "White"));
+		buffer.flush();
+
+		CompletableFuture<EntityWriteResult<User>> waiting = buffer.insert(new User("jesse", "Jesse", "Pinkman"));
+
+		assertThat(waiting).isNotDone();
+		verify(operations).execute(any(Statement.class));
+
+		when(operations.execute(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(resultSet));
+		pending.complete(resultSet);
+		buffer.flush().join();
+
+		verify(operations, times(2)).execute(any(Statement.class));
+		assertThat(waiting).isCompleted();
+	}
+
+	@Test
+	void shouldRejectWaitingWritesAfterMaxWait() {
+
+		when(operations.execute(any(Statement.class))).thenReturn(new CompletableFuture<>());
+
+		buffer.setMaxPendingWrites(1);
+		buffer.setMaxWait(Duration.ofMillis(10));
+
+		buffer.insert(new User("heisenberg", "Walter", "White"));
+		buffer.flush();
+
+		CompletableFuture<EntityWriteResult<User>> waiting = buffer.insert(new User("jesse", "Jesse", "Pinkman"));
+
+		assertThat(waiting).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(Exception.class)
+				.withCauseInstanceOf(TransientDataAccessResourceException.class);
+	}
+
+	@Test
+	void shouldWriteVersionedEntitiesDirectly() {
+
+		VersionedUser user = new VersionedUser("heisenberg", "Walter", "White");
+		when(operations.insert(any(), any(InsertOptions.class))).thenReturn(new CompletableFuture<>());
+
+		buffer.insert(user);
+
+		verify(operations).insert(user, InsertOptions.empty());
+		verify(operations, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	void destroyShouldFlushAndRejectFurtherWrites() {
+
+		CompletableFuture<EntityWriteResult<User>> result = buffer.insert(new User("heisenberg", "Walter", "White"));
+
+		buffer.destroy();
+
+		assertThat(result).isCompleted();
+		assertThatIllegalStateException().isThrownBy(() -> buffer.insert(new User("jesse", "Jesse", "Pinkman")));
+	}
+
+	private static long getTimestamp(List<SimpleStatement> statements, String operation) {
+
+		SimpleStatement statement = statements.stream().filter(it -> it.getQuery().startsWith(operation)).findFirst()
+				.orElseThrow();
+
+		String query = statement.getQuery();
+		int index = query.indexOf("USING TIMESTAMP ?");
+		assertThat(index).isNotNegative();
+
+		int position = (int) query.substring(0, index).chars().filter(it -> it == '?').count();
+		return (Long) statement.getPositionalValues().get(position);
+	}
+}
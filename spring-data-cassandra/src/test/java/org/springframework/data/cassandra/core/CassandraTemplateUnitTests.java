@@ -20,19 +20,33 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.mapping.Chunked;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertBatchEvent;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.Filter;
@@ -46,6 +60,7 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
@@ -115,6 +130,39 @@ class CassandraTemplateUnitTests {
 		assertThat(template.getConverter()).extracting("userTypeResolver").isNotNull();
 	}
 
+	@Test
+	void selectShouldPublishBatchEventIfEnabled() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		template.setApplicationEventPublisher(publisher);
+		template.setBatchedEntityLifecycleEventsEnabled(true);
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template.select("SELECT * FROM users", User.class);
+
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(publisher, times(3)).publishEvent(captor.capture());
+
+		assertThat(captor.getAllValues()).last().isInstanceOfSatisfying(AfterConvertBatchEvent.class, event -> {
+			assertThat(event.getSource()).containsOnly(new User("myid", "Walter", "White"));
+			assertThat(event.getType()).isEqualTo(User.class);
+			assertThat(event.getTableName()).isEqualTo(CqlIdentifier.fromCql("users"));
+		});
+	}
+
 	@Test // DATACASS-292
 	void selectUsingCqlShouldReturnMappedResults() {
 
@@ -209,6 +257,282 @@ class CassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test
+	void selectOneByIdShouldUseNearCache() {
+
+		mockUserRow();
+
+		NearCache nearCache = new NearCache();
+		nearCache.register(User.class, Duration.ofMinutes(1), 10);
+		template.setNearCache(nearCache);
+
+		User first = template.selectOneById("myid", User.class);
+		User second = template.selectOneById("myid", User.class);
+
+		assertThat(second).isEqualTo(first).isNotSameAs(first);
+		verify(session).execute(any(Statement.class));
+		assertThat(nearCache.getStatistics(User.class).hitCount()).isOne();
+		assertThat(nearCache.getStatistics(User.class).missCount()).isOne();
+	}
+
+	@Test
+	void writesShouldInvalidateNearCache() {
+
+		mockUserRow();
+
+		NearCache nearCache = new NearCache();
+		nearCache.register(User.class, Duration.ofMinutes(1), 10);
+		template.setNearCache(nearCache);
+
+		template.selectOneById("myid", User.class);
+		template.update(new User("myid", "Walter", "White"));
+		template.selectOneById("myid", User.class);
+
+		template.deleteById("myid", User.class);
+		template.selectOneById("myid", User.class);
+
+		verify(session, times(5)).execute(any(Statement.class));
+		assertThat(nearCache.getStatistics(User.class).missCount()).isEqualTo(3);
+	}
+
+	@Test
+	void batchShouldInvalidateNearCache() {
+
+		mockUserRow();
+
+		NearCache nearCache = new NearCache();
+		nearCache.register(User.class, Duration.ofMinutes(1), 10);
+		template.setNearCache(nearCache);
+
+		template.selectOneById("myid", User.class);
+		template.batchOps().insert(new User("myid", "Walter", "White")).execute();
+		template.selectOneById("myid", User.class);
+
+		assertThat(nearCache.getStatistics(User.class).hitCount()).isZero();
+		assertThat(nearCache.getStatistics(User.class).missCount()).isEqualTo(2);
+	}
+
+	@Test
+	void insertShouldWriteChunksInParallel() {
+
+		ArgumentCaptor<SimpleStatement> chunkCaptor = ArgumentCaptor.forClass(SimpleStatement.class);
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(it -> CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		template.insert(new Document("doc", "0123456789"));
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue())).isEqualTo("INSERT INTO document (id,content) VALUES ('doc',3)");
+
+		verify(session, times(4)).executeAsync(chunkCaptor.capture());
+
+		List<SimpleStatement> statements = chunkCaptor.getAllValues();
+		assertThat(statements.get(0).getQuery()).startsWith("DELETE FROM document_content_chunks USING TIMESTAMP")
+				.endsWith("WHERE id=?");
+
+		List<SimpleStatement> inserts = statements.subList(1, 4);
+		assertThat(inserts).extracting(SimpleStatement::getQuery).allMatch(
+				it -> it.startsWith("INSERT INTO document_content_chunks (id,chunk_no,chunk_data) VALUES (?,?,?) USING TIMESTAMP"));
+		assertThat(inserts).extracting(it -> it.getPositionalValues().get(1)).containsExactly(0, 1, 2);
+		assertThat(inserts).extracting(it -> it.getPositionalValues().get(2)).containsExactly(utf8("0123"), utf8("4567"),
+				utf8("89"));
+	}
+
+	@Test
+	void insertShouldWriteChunksBeforeRow() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(it -> CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		template.insert(new Document("doc", "0123456789"));
+
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session, times(4)).executeAsync(any(Statement.class));
+		inOrder.verify(session).execute(any(Statement.class));
+	}
+
+	@Test
+	void conditionalInsertShouldWriteChunksAfterRowWasApplied() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(it -> CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		template.insert(new Document("doc", "0123456789"), InsertOptions.builder().withIfNotExists().build());
+
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session).execute(any(Statement.class));
+		inOrder.verify(session, times(4)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void batchInsertShouldWriteChunksBeforeBatch() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(it -> CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		template.batchOps().insert(new Document("doc", "0123456789")).execute();
+
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session, times(4)).executeAsync(any(Statement.class));
+		inOrder.verify(session).execute(any(Statement.class));
+	}
+
+	@Test
+	void insertShouldNotWriteChunksIfNotApplied() {
+
+		template.insert(new Document("doc", "0123456789"), InsertOptions.builder().withIfNotExists().build());
+
+		verify(session, never()).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void selectOneByIdShouldReassembleChunksBeforeAfterConvert() {
+
+		List<Object> events = new ArrayList<>();
+		template.setApplicationEventPublisher(events::add);
+
+		mockDocumentRow(2);
+		mockChunks(chunk(0, "0123", 42), chunk(1, "45", 42));
+
+		Document document = template.selectOneById("doc", Document.class);
+
+		assertThat(document.content).isEqualTo("012345");
+		assertThat(events).filteredOn(AfterConvertEvent.class::isInstance).singleElement()
+				.satisfies(it -> assertThat(((Document) ((AfterConvertEvent<?>) it).getSource()).content).isEqualTo("012345"));
+
+		verify(session).executeAsync(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo(
+				"SELECT chunk_no,chunk_data,writetime(chunk_data) FROM document_content_chunks WHERE id=? AND chunk_no>=? AND chunk_no<?");
+		assertThat(statementCaptor.getValue().getPositionalValues()).containsExactly("doc", 0, 2);
+	}
+
+	@Test
+	void selectOneByIdShouldNotReadChunksOfNullValues() {
+
+		mockDocumentRow(0);
+
+		Document document = template.selectOneById("doc", Document.class);
+
+		assertThat(document.content).isNull();
+		verify(session, never()).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void selectOneByIdShouldRejectIncompleteChunks() {
+
+		mockDocumentRow(3);
+		mockChunks(chunk(0, "0123", 42), chunk(1, "45", 42));
+
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class)
+				.isThrownBy(() -> template.selectOneById("doc", Document.class));
+	}
+
+	@Test
+	void selectOneByIdShouldRejectChunksOfDifferentWrites() {
+
+		mockDocumentRow(2);
+		mockChunks(chunk(0, "0123", 42), chunk(1, "45", 43));
+
+		assertThatExceptionOfType(ConcurrencyFailureException.class)
+				.isThrownBy(() -> template.selectOneById("doc", Document.class));
+	}
+
+	@Test
+	void selectOneByIdShouldCopyChunksPageByPage() {
+
+		mockDocumentRow(5);
+
+		AsyncResultSet head = mock(AsyncResultSet.class);
+		when(head.currentPage()).thenReturn(List.of(chunk(0, "ab", 42), chunk(1, "cd", 42)));
+		AsyncResultSet last = mock(AsyncResultSet.class);
+		when(last.currentPage()).thenReturn(List.of(chunk(4, "i", 42)));
+		AsyncResultSet remaining = mock(AsyncResultSet.class);
+		when(remaining.currentPage()).thenReturn(List.of(chunk(2, "ef", 42), chunk(3, "gh", 42)));
+
+		when(session.executeAsync(any(Statement.class))).thenAnswer(it -> {
+
+			SimpleStatement statement = it.getArgument(0);
+			Object from = statement.getPositionalValues().get(1);
+
+			return CompletableFuture.completedFuture(from.equals(0) ? head : from.equals(4) ? last : remaining);
+		});
+
+		LargeDocument document = template.selectOneById("doc", LargeDocument.class);
+
+		assertThat(document.content).isEqualTo("abcdefghi");
+
+		verify(session, times(3)).executeAsync(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).extracting(SimpleStatement::getPositionalValues)
+				.containsExactly(List.of("doc", 0, 2), List.of("doc", 4, 5), List.of("doc", 2, 4));
+	}
+
+	private void mockDocumentRow(int chunkCount) {
+
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+		when(row.getObject(0)).thenReturn("doc");
+		when(row.getInt(CqlIdentifier.fromCql("content"))).thenReturn(chunkCount);
+	}
+
+	private void mockChunks(Row... chunks) {
+
+		AsyncResultSet chunkResult = mock(AsyncResultSet.class);
+		when(chunkResult.currentPage()).thenReturn(List.of(chunks));
+		when(session.executeAsync(any(Statement.class))).thenAnswer(it -> CompletableFuture.completedFuture(chunkResult));
+	}
+
+	private static Row chunk(int number, String data, long writeTime) {
+
+		Row chunk = mock(Row.class);
+		when(chunk.getInt(0)).thenReturn(number);
+		when(chunk.getByteBuffer(1)).thenReturn(utf8(data));
+		when(chunk.getLong(2)).thenReturn(writeTime);
+
+		return chunk;
+	}
+
+	@Test
+	void deleteByIdShouldDeleteChunks() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(session.executeAsync(any(Statement.class)))
+				.thenAnswer(it -> CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		template.deleteById("doc", Document.class);
+
+		verify(session).executeAsync(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).startsWith("DELETE FROM document_content_chunks USING TIMESTAMP");
+		assertThat(statementCaptor.getValue().getPositionalValues()).containsExactly("doc");
+	}
+
+	private static ByteBuffer utf8(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void mockUserRow() {
+
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+	}
+
 	@Test // DATACASS-313
 	void selectProjectedOneShouldReturnMappedResults() {
 
@@ -618,4 +942,28 @@ class CassandraTemplateUnitTests {
 	private interface UserProjection {
 		String getFirstname();
 	}
+
+	@Table
+	static class Document {
+
+		@Id String id;
+		@Chunked(size = 4) String content;
+
+		Document(String id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
+
+	@Table
+	static class LargeDocument {
+
+		@Id String id;
+		@Chunked(size = 2 * 1024 * 1024) String content;
+
+		LargeDocument(String id, String content) {
+			this.id = id;
+			this.content = content;
+		}
+	}
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.cassandra.core.mapping.event.AbstractCassandraEventListener;
+import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
+import org.springframework.data.cassandra.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.cassandra.core.mapping.event.BeforeSaveEvent;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link EntityLifecycleEventDelegate}.
+ *
+ * @author Mark Paluch
+ */
+class EntityLifecycleEventDelegateUnitTests {
+
+	@Test
+	void shouldAssumeListenersForPlainPublisher() {
+
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+		delegate.setPublisher(publisher);
+
+		delegate.publishEvent(AfterLoadEvent.class, () -> "event");
+
+		assertThat(delegate.hasListener(AfterLoadEvent.class)).isTrue();
+		verify(publisher).publishEvent("event");
+	}
+
+	@Test
+	void shouldSkipEventCreationWithoutListeners() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			delegate.publishEvent(AfterLoadEvent.class, () -> {
+				throw new IllegalStateException("Event must not be created");
+			});
+
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isFalse();
+		}
+	}
+
+	@Test
+	void shouldDetectTypedListeners() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.registerBean(AfterConvertListener.class);
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isTrue();
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isFalse();
+			assertThat(delegate.hasListener(BeforeSaveEvent.class)).isFalse();
+		}
+	}
+
+	@Test
+	void shouldDetectCassandraEventListeners() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.registerBean(UserListener.class);
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isTrue();
+			assertThat(delegate.hasListener(BeforeSaveEvent.class)).isTrue();
+		}
+	}
+
+	@Test
+	void shouldCacheListenerDetectionUntilContextRefresh() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isFalse();
+
+			AfterConvertListener listener = new AfterConvertListener();
+			context.addApplicationListener(listener);
+
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isFalse();
+
+			context.publishEvent(new ContextRefreshedEvent(context));
+
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isTrue();
+		}
+	}
+
+	@Test
+	void shouldConsultSmartListenerInstances() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.registerBean(AfterLoadSmartListener.class);
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isTrue();
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isFalse();
+		}
+	}
+
+	@Test
+	void shouldDetectListenersInParentContext() {
+
+		try (GenericApplicationContext parent = new GenericApplicationContext();
+				GenericApplicationContext context = new GenericApplicationContext(parent)) {
+
+			parent.registerBean(AfterConvertListener.class);
+			parent.refresh();
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			delegate.publishEvent(AfterConvertEvent.class,
+					() -> new AfterConvertEvent<>(mock(Row.class), new User(), CqlIdentifier.fromCql("users")));
+
+			assertThat(delegate.hasListener(AfterConvertEvent.class)).isTrue();
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isFalse();
+			assertThat(parent.getBean(AfterConvertListener.class).events).hasSize(1);
+		}
+	}
+
+	@Test
+	void shouldAssumeListenersForCustomMulticaster() {
+
+		try (GenericApplicationContext context = new GenericApplicationContext()) {
+
+			context.registerBean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME,
+					SimpleApplicationEventMulticaster.class);
+			context.refresh();
+
+			EntityLifecycleEventDelegate delegate = new EntityLifecycleEventDelegate();
+			delegate.setPublisher(context);
+
+			assertThat(delegate.hasListener(AfterLoadEvent.class)).isTrue();
+		}
+	}
+
+	static class AfterConvertListener implements ApplicationListener<AfterConvertEvent<?>> {
+
+		final List<Object> events = new ArrayList<>();
+
+		@Override
+		public void onApplicationEvent(AfterConvertEvent<?> event) {
+			events.add(event.getSource());
+		}
+	}
+
+	static class UserListener extends AbstractCassandraEventListener<User> {
+
+	}
+
+	static class AfterLoadSmartListener implements SmartApplicationListener {
+
+		@Override
+		public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+			return AfterLoadEvent.class.isAssignableFrom(eventType);
+		}
+
+		@Override
+		public void onApplicationEvent(ApplicationEvent event) {}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.mapping.NearCached;
+
+/**
+ * Unit tests for {@link NearCache}.
+ *
+ * @author Mark Paluch
+ */
+class NearCacheUnitTests {
+
+	private final MutableClock clock = new MutableClock();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private NearCache nearCache;
+
+	@BeforeEach
+	void setUp() {
+
+		nearCache = new NearCache();
+		nearCache.setClock(clock);
+		nearCache.setRefreshExecutor(Runnable::run);
+	}
+
+	@Test
+	void shouldLoadUncachedTypesDirectly() {
+
+		assertThat(nearCache.isCached(String.class)).isFalse();
+
+		nearCache.get(String.class, "key", this::load);
+		nearCache.get(String.class, "key", this::load);
+
+		assertThat(loads).hasValue(2);
+		assertThat(nearCache.getStatistics(String.class).missCount()).isZero();
+	}
+
+	@Test
+	void shouldCacheAnnotatedTypes() {
+
+		assertThat(nearCache.isCached(CachedEntity.class)).isTrue();
+
+		CachedEntity first = nearCache.get(CachedEntity.class, "key", () -> new CachedEntity(loads.incrementAndGet()));
+		CachedEntity second = nearCache.get(CachedEntity.class, "key", () -> new CachedEntity(loads.incrementAndGet()));
+
+		assertThat(second).isSameAs(first);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void shouldExpireEntries() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		nearCache.get(String.class, "key", this::load);
+		clock.advance(Duration.ofSeconds(9));
+		nearCache.get(String.class, "key", this::load);
+		clock.advance(Duration.ofSeconds(1));
+
+		assertThat(nearCache.get(String.class, "key", this::load)).isEqualTo("value-2");
+
+		NearCache.Statistics statistics = nearCache.getStatistics(String.class);
+		assertThat(statistics.hitCount()).isOne();
+		assertThat(statistics.missCount()).isEqualTo(2);
+		assertThat(statistics.evictionCount()).isOne();
+		assertThat(statistics.hitRate()).isEqualTo(1d / 3);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntries() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 2);
+
+		nearCache.get(String.class, "a", this::load);
+		nearCache.get(String.class, "b", this::load);
+		nearCache.get(String.class, "a", this::load);
+		nearCache.get(String.class, "c", this::load);
+
+		assertThat(nearCache.getStatistics(String.class).evictionCount()).isOne();
+
+		nearCache.get(String.class, "a", this::load);
+		assertThat(loads).hasValue(3);
+
+		nearCache.get(String.class, "b", this::load);
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void shouldNotCacheNullResults() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		nearCache.get(String.class, "key", () -> null);
+
+		assertThat(nearCache.get(String.class, "key", this::load)).isEqualTo("value-1");
+	}
+
+	@Test
+	void shouldInvalidateEntries() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		nearCache.get(String.class, "a", this::load);
+		nearCache.get(String.class, "b", this::load);
+
+		nearCache.invalidate(String.class, "a");
+		nearCache.get(String.class, "a", this::load);
+		nearCache.get(String.class, "b", this::load);
+		assertThat(loads).hasValue(3);
+
+		nearCache.invalidateAll(String.class);
+		nearCache.get(String.class, "b", this::load);
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void shouldDiscardLoadsConcurrentWithInvalidation() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		nearCache.get(String.class, "key", () -> {
+			nearCache.invalidate(String.class, "key");
+			return load();
+		});
+
+		assertThat(nearCache.get(String.class, "key", this::load)).isEqualTo("value-2");
+	}
+
+	@Test
+	void shouldRetainLoadsOfOtherKeysConcurrentWithInvalidation() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		nearCache.get(String.class, "a", () -> {
+			nearCache.invalidate(String.class, "b");
+			return load();
+		});
+
+		assertThat(nearCache.get(String.class, "a", this::load)).isEqualTo("value-1");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void shouldRefreshAheadOfExpiry() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10, Duration.ofSeconds(2));
+
+		nearCache.get(String.class, "key", this::load);
+		clock.advance(Duration.ofSeconds(8));
+
+		assertThat(nearCache.get(String.class, "key", this::load)).isEqualTo("value-1");
+		assertThat(loads).hasValue(2);
+
+		clock.advance(Duration.ofSeconds(5));
+
+		assertThat(nearCache.get(String.class, "key", this::load)).isEqualTo("value-2");
+		assertThat(nearCache.getStatistics(String.class).loadCount()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRefreshUsingDedicatedExecutorByDefault() throws InterruptedException {
+
+		NearCache nearCache = new NearCache();
+		nearCache.setClock(clock);
+		nearCache.register(String.class, Duration.ofSeconds(10), 10, Duration.ofSeconds(2));
+
+		nearCache.get(String.class, "key", this::load);
+		clock.advance(Duration.ofSeconds(8));
+
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		nearCache.get(String.class, "key", () -> {
+
+			threadName.set(Thread.currentThread().getName());
+			latch.countDown();
+			return load();
+		});
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(threadName.get()).startsWith("cassandra-near-cache-refresh-");
+	}
+
+	@Test
+	void shouldRecordLoadFailures() {
+
+		nearCache.register(String.class, Duration.ofSeconds(10), 10);
+
+		assertThatIllegalStateException().isThrownBy(() -> nearCache.get(String.class, "key", () -> {
+			throw new IllegalStateException();
+		}));
+
+		assertThat(nearCache.getStatistics(String.class).loadFailureCount()).isOne();
+	}
+
+	private String load() {
+		return "value-" + loads.incrementAndGet();
+	}
+
+	@NearCached(timeToLiveMs = 1000)
+	record CachedEntity(int value) {
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
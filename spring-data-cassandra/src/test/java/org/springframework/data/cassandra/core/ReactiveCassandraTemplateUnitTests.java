@@ -35,6 +35,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.core.mapping.event.ReactiveBeforeConvertCallback;
@@ -495,6 +496,15 @@ class ReactiveCassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("TRUNCATE users");
 	}
 
+	@Test
+	void insertShouldRejectChunkedEntities() {
+
+		template.insert(new CassandraTemplateUnitTests.Document("doc", "0123456789")).as(StepVerifier::create)
+				.verifyError(InvalidDataAccessApiUsageException.class);
+
+		verify(session, never()).execute(any(Statement.class));
+	}
+
 	private static String render(SimpleStatement statement) {
 
 		String query = statement.getQuery();
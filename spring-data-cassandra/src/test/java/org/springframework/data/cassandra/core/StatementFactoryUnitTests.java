@@ -32,12 +32,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.HedgingSpeculativeExecutionPolicy;
+import org.springframework.data.cassandra.core.cql.StatementOperation;
+import org.springframework.data.cassandra.core.cql.StatementOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.Hedged;
 import org.springframework.data.cassandra.core.mapping.VectorType;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Query;
@@ -143,6 +147,104 @@ class StatementFactoryUnitTests {
 		assertThat(statement.getSerialConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.QUORUM);
 	}
 
+	@Test
+	void selectShouldBeIdempotent() {
+
+		SimpleStatement select = statementFactory.select(Query.empty(), groupEntity).build();
+		SimpleStatement selectOneById = statementFactory
+				.selectOneById("foo", personEntity, personEntity.getTableName()).build();
+		SimpleStatement count = statementFactory.count(Query.empty(), groupEntity).build();
+
+		assertThat(select.isIdempotent()).isTrue();
+		assertThat(selectOneById.isIdempotent()).isTrue();
+		assertThat(count.isIdempotent()).isTrue();
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(select)).isNull();
+	}
+
+	@Test
+	void statementsShouldRegisterStatementOperation() {
+
+		StatementOperations operations = new StatementOperations();
+		statementFactory.setStatementOperations(operations);
+
+		SimpleStatement select = statementFactory.select(Query.empty(), groupEntity).build();
+		SimpleStatement count = statementFactory.count(Query.empty(), groupEntity).build();
+		SimpleStatement deleteById = statementFactory.deleteById("foo", personEntity, personEntity.getTableName())
+				.build();
+
+		assertThat(operations.get(select)).isSameAs(operations.get(count))
+				.isSameAs(StatementOperation.of(null, groupEntity.getTableName(), "SELECT"));
+		assertThat(operations.get(deleteById)).isNotNull().satisfies(it -> {
+			assertThat(it.getTableName()).isEqualTo(personEntity.getTableName().asInternal());
+			assertThat(it.getOperation()).isEqualTo("DELETE");
+		});
+		assertThat(select.getExecutionProfile()).isNull();
+	}
+
+	@Test
+	void statementsShouldNotRegisterStatementOperationWithoutRegistry() {
+
+		SimpleStatement select = statementFactory.select(Query.empty(), groupEntity).build();
+
+		assertThat(StatementOperation.from(select)).isNull();
+		assertThat(select.getExecutionProfile()).isNull();
+	}
+
+	@Test
+	void selectOneByIdShouldCarryKeyspace() {
+
+		StatementOperations operations = new StatementOperations();
+		statementFactory.setStatementOperations(operations);
+		statementFactory.setKeyspaceProvider((entity, tableName) -> CqlIdentifier.fromCql("ks_" + tableName));
+
+		SimpleStatement selectOneById = statementFactory
+				.selectOneById("foo", personEntity, personEntity.getTableName()).build();
+
+		assertThat(operations.get(selectOneById)).isNotNull().satisfies(it -> {
+			assertThat(it.getKeyspace()).isEqualTo("ks_person");
+			assertThat(it.getOperation()).isEqualTo("SELECT");
+		});
+		assertThat(selectOneById.getCustomPayload()).isEmpty();
+	}
+
+	@Test
+	void selectShouldConsiderIdempotencyFromQueryOptions() {
+
+		QueryOptions queryOptions = QueryOptions.builder().idempotent(false).build();
+
+		SimpleStatement select = statementFactory.select(Query.empty().queryOptions(queryOptions), groupEntity).build();
+
+		assertThat(select.isIdempotent()).isFalse();
+	}
+
+	@Test
+	void selectShouldApplyEntityHedging() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(HedgedPerson.class);
+
+		SimpleStatement select = statementFactory.select(Query.empty(), entity).build();
+		SimpleStatement selectOneById = statementFactory.selectOneById("foo", entity, entity.getTableName()).build();
+
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(select))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(25), 3));
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(selectOneById))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(25), 3));
+		assertThat(select.getCustomPayload()).isEmpty();
+	}
+
+	@Test
+	void selectShouldPreferQueryHedgingOverEntityHedging() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(HedgedPerson.class);
+		QueryOptions queryOptions = QueryOptions.builder().hedge(Duration.ofMillis(5)).build();
+
+		SimpleStatement select = statementFactory.select(Query.empty().queryOptions(queryOptions), entity).build();
+
+		assertThat(select.isIdempotent()).isTrue();
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(select))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(5), 2));
+	}
+
 	@Test // DATACASS-343
 	void shouldMapSelectQueryWithColumnsAndCriteria() {
 
@@ -1088,6 +1190,12 @@ class StatementFactoryUnitTests {
 		@Column("first_name") private String firstName;
 	}
 
+	@Hedged(delayMs = 25, maxExecutions = 3)
+	static class HedgedPerson {
+
+		@Id String id;
+	}
+
 	record MyString(String value) {
 
 	}
@@ -23,12 +23,18 @@ import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -408,6 +414,99 @@ public class MappingCassandraConverterUnitTests {
 		assertThat(getValues(insert)).contains(LocalDate.of(now.getYear(), now.getMonthValue(), now.getDayOfMonth()));
 	}
 
+	@Test
+	void shouldReadBlobAsInputStreamWithoutCopying() throws IOException {
+
+		ByteBuffer blob = ByteBuffer.wrap("hello".getBytes(StandardCharsets.US_ASCII));
+		rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataTypes.ASCII), column("data", blob, DataTypes.BLOB),
+				column("buffer", blob, DataTypes.BLOB));
+
+		TypeWithBlobs result = converter.readRow(TypeWithBlobs.class, rowMock);
+
+		assertThat(result.data).isInstanceOf(ByteBufferInputStream.class);
+		assertThat(((ByteBufferInputStream) result.data).getByteBuffer().isReadOnly()).isTrue();
+		assertThat(result.data.readAllBytes()).isEqualTo("hello".getBytes(StandardCharsets.US_ASCII));
+		assertThat(blob.position()).isZero();
+	}
+
+	@Test
+	void shouldWriteInputStreamAsBlob() {
+
+		ByteBuffer blob = ByteBuffer.wrap("hello".getBytes(StandardCharsets.US_ASCII));
+
+		TypeWithBlobs withStream = new TypeWithBlobs();
+		withStream.id = "my-id";
+		withStream.data = new ByteBufferInputStream(blob);
+
+		TypeWithBlobs withArbitraryStream = new TypeWithBlobs();
+		withArbitraryStream.id = "my-id";
+		withArbitraryStream.data = new ByteArrayInputStream("hello".getBytes(StandardCharsets.US_ASCII));
+
+		Map<CqlIdentifier, Object> insert = new LinkedHashMap<>();
+		converter.write(withStream, insert);
+
+		Map<CqlIdentifier, Object> arbitraryInsert = new LinkedHashMap<>();
+		converter.write(withArbitraryStream, arbitraryInsert);
+
+		assertThat(insert.get(CqlIdentifier.fromCql("data"))).isEqualTo(blob);
+		assertThat(arbitraryInsert.get(CqlIdentifier.fromCql("data"))).isEqualTo(blob);
+	}
+
+	@Test
+	void shouldWriteResettableInputStreamRepeatedly() {
+
+		ByteBuffer blob = ByteBuffer.wrap("hello".getBytes(StandardCharsets.US_ASCII));
+
+		TypeWithBlobs entity = new TypeWithBlobs();
+		entity.id = "my-id";
+		entity.data = new ByteArrayInputStream("hello".getBytes(StandardCharsets.US_ASCII));
+
+		Map<CqlIdentifier, Object> first = new LinkedHashMap<>();
+		converter.write(entity, first);
+
+		Map<CqlIdentifier, Object> second = new LinkedHashMap<>();
+		converter.write(entity, second);
+
+		assertThat(first.get(CqlIdentifier.fromCql("data"))).isEqualTo(blob);
+		assertThat(second.get(CqlIdentifier.fromCql("data"))).isEqualTo(blob);
+	}
+
+	@Test
+	void shouldRejectRepeatedWriteOfNonResettableInputStream() throws IOException {
+
+		Path file = Files.createTempFile("blob", ".bin");
+		Files.write(file, "hello".getBytes(StandardCharsets.US_ASCII));
+
+		try {
+
+			TypeWithBlobs entity = new TypeWithBlobs();
+			entity.id = "my-id";
+			entity.data = Files.newInputStream(file);
+
+			Map<CqlIdentifier, Object> first = new LinkedHashMap<>();
+			converter.write(entity, first);
+
+			assertThat(first.get(CqlIdentifier.fromCql("data")))
+					.isEqualTo(ByteBuffer.wrap("hello".getBytes(StandardCharsets.US_ASCII)));
+			assertThatThrownBy(() -> converter.write(entity, new LinkedHashMap<>())).hasRootCauseInstanceOf(IOException.class);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	void shouldPassThroughDirectByteBuffers() {
+
+		TypeWithBlobs entity = new TypeWithBlobs();
+		entity.id = "my-id";
+		entity.buffer = ByteBuffer.allocateDirect(16);
+
+		Map<CqlIdentifier, Object> insert = new LinkedHashMap<>();
+		converter.write(entity, insert);
+
+		assertThat(insert.get(CqlIdentifier.fromCql("buffer"))).isSameAs(entity.buffer);
+	}
+
 	@Test // DATACASS-296
 	void shouldCreateUpdateWithLocalDateCorrectly() {
 
@@ -1148,6 +1247,14 @@ public class MappingCassandraConverterUnitTests {
 		return update.values();
 	}
 
+	@Table
+	private static class TypeWithBlobs {
+
+		@Id String id;
+		InputStream data;
+		ByteBuffer buffer;
+	}
+
 	@Table
 	private static class EnumToOrdinalMapping {
 
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -287,6 +288,42 @@ public class QueryMapperUnitTests {
 		assertThat(mappedCriteriaDefinition.getColumnName().toString()).isEqualTo("first_name");
 	}
 
+	@Test
+	void shouldReuseCachedFieldResolution() {
+
+		AtomicInteger resolutions = new AtomicInteger();
+		QueryMapper queryMapper = new QueryMapper(cassandraConverter, key -> {
+			resolutions.incrementAndGet();
+			return QueryMapper.FieldResolution.resolve(key);
+		});
+
+		QueryMapper.Field first = queryMapper.createPropertyField(entity, "firstName");
+		QueryMapper.Field second = queryMapper.createPropertyField(entity, "firstName");
+
+		assertThat(resolutions).hasValue(1);
+		assertThat(first.getMappedKey()).isEqualTo(ColumnName.from(CqlIdentifier.fromCql("first_name")));
+		assertThat(((QueryMapper.MetadataBackedField) second).getProperty())
+				.isSameAs(((QueryMapper.MetadataBackedField) first).getProperty());
+	}
+
+	@Test
+	void shouldCacheUnresolvableColumnNames() {
+
+		AtomicInteger resolutions = new AtomicInteger();
+		QueryMapper queryMapper = new QueryMapper(cassandraConverter, key -> {
+			resolutions.incrementAndGet();
+			return QueryMapper.FieldResolution.resolve(key);
+		});
+
+		QueryMapper.Field first = queryMapper.createPropertyField(entity, "unknown_column");
+		QueryMapper.Field second = queryMapper.createPropertyField(entity, "unknown_column");
+
+		assertThat(resolutions).hasValue(1);
+		assertThat(first.hasProperty()).isFalse();
+		assertThat(second.hasProperty()).isFalse();
+		assertThat(second.getMappedKey()).isEqualTo(ColumnName.from("unknown_column"));
+	}
+
 	@Test // GH-1449
 	void shouldConsiderPropertyValueConverter() {
 
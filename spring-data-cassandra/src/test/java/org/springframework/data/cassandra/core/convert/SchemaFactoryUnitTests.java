@@ -1001,6 +1001,50 @@ public class SchemaFactoryUnitTests {
 				.withMessageContaining("@VectorType");
 	}
 
+	@Test
+	void shouldCreateChunkTableSpecifications() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(TypeWithChunkedContent.class);
+
+		CreateTableSpecification table = schemaFactory.getCreateTableSpecificationFor(entity);
+
+		assertThat(table.getColumns()).extracting(ColumnSpecification::getName).containsExactly(CqlIdentifier.fromCql("id"),
+				CqlIdentifier.fromCql("version"), CqlIdentifier.fromCql("content"), CqlIdentifier.fromCql("name"));
+		assertThat(table.getColumns()).filteredOn(it -> it.getName().equals(CqlIdentifier.fromCql("content")))
+				.extracting(ColumnSpecification::getType).containsExactly(DataTypes.INT);
+
+		List<CreateTableSpecification> chunkTables = schemaFactory.getCreateChunkTableSpecificationsFor(entity);
+
+		assertThat(chunkTables).hasSize(1);
+
+		CreateTableSpecification chunkTable = chunkTables.get(0);
+
+		assertThat(chunkTable.getName()).isEqualTo(CqlIdentifier.fromCql("typewithchunkedcontent_content_chunks"));
+		assertThat(chunkTable.getPartitionKeyColumns()).extracting(ColumnSpecification::getName)
+				.containsExactly(CqlIdentifier.fromCql("id"), CqlIdentifier.fromCql("version"));
+		assertThat(chunkTable.getClusteredKeyColumns()).extracting(ColumnSpecification::getName)
+				.containsExactly(ChunkTable.CHUNK_NUMBER_COLUMN);
+		assertThat(chunkTable.getNonKeyColumns()).extracting(ColumnSpecification::getType).containsExactly(DataTypes.BLOB);
+	}
+
+	@Test
+	void shouldNotCreateChunkTableSpecificationsForUnchunkedEntities() {
+
+		CassandraPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(TypeWithVector.class);
+
+		assertThat(schemaFactory.getCreateChunkTableSpecificationsFor(entity)).isEmpty();
+	}
+
+	@Table
+	private static class TypeWithChunkedContent {
+
+		@PrimaryKeyColumn(ordinal = 0, type = PrimaryKeyType.PARTITIONED) String id;
+		@PrimaryKeyColumn(ordinal = 1, type = PrimaryKeyType.CLUSTERED) String version;
+
+		@Chunked byte[] content;
+		String name;
+	}
+
 	@Table
 	private static class TypeWithVector {
 		@Id String id;
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptivePageSize}.
+ *
+ * @author Mark Paluch
+ */
+class AdaptivePageSizeUnitTests {
+
+	private final AdaptivePageSize adaptivePageSize = AdaptivePageSize.of(10, 1000).withTargetBytesPerPage(10_000)
+			.withTargetPageDuration(Duration.ofMillis(100));
+
+	@Test
+	void shouldRejectInvalidBounds() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> AdaptivePageSize.of(0, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> AdaptivePageSize.of(10, 5));
+	}
+
+	@Test
+	void shouldClampInitialPageSize() {
+
+		assertThat(adaptivePageSize.getInitialPageSize(-1)).isEqualTo(10);
+		assertThat(adaptivePageSize.getInitialPageSize(5)).isEqualTo(10);
+		assertThat(adaptivePageSize.getInitialPageSize(100)).isEqualTo(100);
+		assertThat(adaptivePageSize.getInitialPageSize(5000)).isEqualTo(1000);
+	}
+
+	@Test
+	void shouldGrowAtMostByFactorOfTwo() {
+		assertThat(adaptivePageSize.getNextPageSize(100, 100, 100, -1)).isEqualTo(200);
+	}
+
+	@Test
+	void shouldShrinkForLargeRows() {
+		assertThat(adaptivePageSize.getNextPageSize(100, 100, 100_000, -1)).isEqualTo(10);
+		assertThat(adaptivePageSize.getNextPageSize(100, 100, 20_000, -1)).isEqualTo(50);
+	}
+
+	@Test
+	void shouldShrinkForSlowConsumers() {
+		assertThat(adaptivePageSize.getNextPageSize(100, 100, -1, Duration.ofMillis(400).toNanos())).isEqualTo(25);
+	}
+
+	@Test
+	void shouldRetainPageSizeForEmptyPages() {
+		assertThat(adaptivePageSize.getNextPageSize(100, 0, 0, 0)).isEqualTo(100);
+	}
+
+	@Test
+	void shouldStayWithinBounds() {
+
+		assertThat(adaptivePageSize.getNextPageSize(800, 800, 1, 1)).isEqualTo(1000);
+		assertThat(adaptivePageSize.getNextPageSize(100, 100, 10_000_000, -1)).isEqualTo(10);
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+/**
+ * Unit tests for {@link ColumnarResultSetExtractor}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ColumnarResultSetExtractorUnitTests {
+
+	@Mock ResultSet resultSet;
+	@Mock ColumnDefinitions columnDefinitions;
+
+	@BeforeEach
+	void setUp() {
+
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(4);
+		when(columnDefinitions.firstIndexOf(anyString())).thenReturn(-1);
+
+		mockColumn(0, "views", DataTypes.BIGINT);
+		mockColumn(1, "revenue", DataTypes.FLOAT);
+		mockColumn(2, "visits", DataTypes.INT);
+		mockColumn(3, "name", DataTypes.TEXT);
+	}
+
+	@Test
+	void shouldReadColumnsIntoVectors() {
+
+		List<Row> rows = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			rows.add(mockRow(i, i % 10 == 0 ? null : "row-" + i));
+		}
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+		when(resultSet.iterator()).thenReturn(rows.iterator());
+
+		ColumnarResult result = new ColumnarResultSetExtractor(
+				Columns.empty().withLongs("views").withDoubles("revenue").withLongs("visits").withBytes("name"))
+				.extractData(resultSet);
+
+		assertThat(result.size()).isEqualTo(40);
+		assertThat(result.getLongs("views")).hasSize(40).startsWith(0L, 1000L, 2000L);
+		assertThat(result.getDoubles("revenue")).hasSize(40).startsWith(0d, 0.5d, 1d);
+		assertThat(result.getLongs("visits")).hasSize(40).endsWith(39L);
+
+		ColumnarResult.BytesVector names = result.getBytes("name");
+		assertThat(names.size()).isEqualTo(40);
+		assertThat(names.get(0)).isNull();
+		assertThat(result.isNull("name", 10)).isTrue();
+		assertThat(result.isNull("name", 11)).isFalse();
+		assertThat(StandardCharsets.UTF_8.decode(names.get(39)).toString()).isEqualTo("row-39");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> result.getInts("views"));
+	}
+
+	@Test
+	void shouldRejectUnknownColumn() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> new ColumnarResultSetExtractor(Columns.empty().withLongs("unknown")).extractData(resultSet))
+				.withMessageContaining("views");
+	}
+
+	@Test
+	void shouldRejectIncompatibleColumnType() {
+
+		assertThatExceptionOfType(TypeMismatchDataAccessException.class)
+				.isThrownBy(() -> new ColumnarResultSetExtractor(Columns.empty().withInts("views")).extractData(resultSet));
+	}
+
+	@Test
+	void shouldRejectDuplicateColumns() {
+		assertThatIllegalArgumentException().isThrownBy(() -> Columns.empty().withLongs("views").withBytes("views"));
+	}
+
+	private void mockColumn(int index, String name, DataType type) {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(columnDefinition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+		when(columnDefinition.getType()).thenReturn(type);
+		when(columnDefinitions.get(index)).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf(name)).thenReturn(index);
+	}
+
+	private Row mockRow(int value, String name) {
+
+		Row row = mock(Row.class);
+		when(row.getLong(0)).thenReturn(value * 1000L);
+		when(row.getFloat(1)).thenReturn(value / 2f);
+		when(row.getInt(2)).thenReturn(value);
+		when(row.getBytesUnsafe(3)).thenReturn(name != null ? ByteBuffer.wrap(name.getBytes(StandardCharsets.UTF_8)) : null);
+		return row;
+	}
+}
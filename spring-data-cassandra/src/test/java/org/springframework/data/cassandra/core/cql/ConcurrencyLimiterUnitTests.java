@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiter}.
+ *
+ * @author Mark Paluch
+ */
+class ConcurrencyLimiterUnitTests {
+
+	SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person").setKeyspace("ks");
+
+	@Test
+	void shouldRejectRequestsExceedingLimit() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(2).minLimit(1).build();
+
+		ConcurrencyLimiter.Permit first = limiter.acquire(statement);
+		limiter.acquire(statement);
+
+		assertThatExceptionOfType(CassandraConcurrencyLimitExceededException.class)
+				.isThrownBy(() -> limiter.acquire(statement));
+
+		assertThat(limiter.getStatistics("ks")).isEqualTo(new ConcurrencyLimiter.Statistics("ks", 2, 2, 0, 1));
+
+		first.release();
+
+		assertThat(limiter.getStatistics("ks").inFlight()).isOne();
+	}
+
+	@Test
+	void shouldQueueRequestsExceedingLimit() throws Exception {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxQueueDepth(1)
+				.maxQueueWait(Duration.ofSeconds(10)).build();
+
+		ConcurrencyLimiter.Permit permit = limiter.acquire(statement);
+		CompletableFuture<ConcurrencyLimiter.Permit> queued = limiter.acquireAsync(statement);
+
+		assertThat(queued).isNotDone();
+		assertThat(limiter.getStatistics("ks").queueDepth()).isOne();
+		assertThat(limiter.acquireAsync(statement)).isCompletedExceptionally();
+
+		permit.release();
+
+		assertThat(queued.get(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(limiter.getStatistics("ks").queueDepth()).isZero();
+		assertThat(limiter.getStatistics("ks").inFlight()).isOne();
+	}
+
+	@Test
+	void shouldRejectQueuedRequestsAfterTimeout() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).maxQueueDepth(1)
+				.maxQueueWait(Duration.ofMillis(10)).build();
+
+		limiter.acquire(statement);
+
+		assertThatExceptionOfType(CassandraConcurrencyLimitExceededException.class)
+				.isThrownBy(() -> limiter.acquire(statement));
+		assertThat(limiter.getStatistics("ks").queueDepth()).isZero();
+		assertThat(limiter.getStatistics("ks").rejected()).isOne();
+	}
+
+	@Test
+	void shouldAdaptLimit() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(2).minLimit(1).maxLimit(3)
+				.backoffRatio(0.5).build();
+
+		for (int i = 0; i < 5; i++) {
+			ConcurrencyLimiter.Permit first = limiter.acquire(statement);
+			limiter.acquire(statement).onSuccess();
+			first.onSuccess();
+		}
+
+		assertThat(limiter.getStatistics("ks").limit()).isEqualTo(3);
+
+		limiter.acquire(statement).onError(new OverloadedException(mock(Node.class)));
+
+		assertThat(limiter.getStatistics("ks").limit()).isOne();
+	}
+
+	@Test
+	void shouldPartitionByExecutionProfile() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).partitionByExecutionProfile().build();
+
+		limiter.acquire(statement);
+		limiter.acquire(statement.setExecutionProfileName("olap"));
+
+		assertThat(limiter.getStatistics()).extracting(ConcurrencyLimiter.Statistics::partition)
+				.containsExactlyInAnyOrder("default", "olap");
+	}
+
+	@Test
+	void shouldReleasePermitOnCompletion() throws Exception {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimiter.builder().initialLimit(1).build();
+		CompletableFuture<String> result = new CompletableFuture<>();
+
+		CompletionStage<String> execution = limiter.execute(statement, () -> result);
+
+		assertThat(limiter.getStatistics("ks").inFlight()).isOne();
+
+		result.complete("ok");
+
+		assertThat(execution.toCompletableFuture().get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+		assertThat(limiter.getStatistics("ks").inFlight()).isZero();
+	}
+}
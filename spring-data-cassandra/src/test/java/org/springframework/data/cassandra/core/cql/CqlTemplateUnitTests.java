@@ -19,10 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,8 +50,10 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -112,6 +118,214 @@ class CqlTemplateUnitTests {
 		}
 	}
 
+	@Test
+	void asyncPagingShouldFetchPagesThroughAsyncApi() {
+
+		AsyncResultSet firstPage = mock(AsyncResultSet.class);
+		AsyncResultSet secondPage = mock(AsyncResultSet.class);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(firstPage));
+		when(firstPage.currentPage()).thenReturn(Collections.singletonList(row));
+		when(firstPage.hasMorePages()).thenReturn(true);
+		when(firstPage.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(secondPage));
+		when(secondPage.currentPage()).thenReturn(Collections.singletonList(row));
+		when(row.getString(0)).thenReturn("Walter", "White");
+
+		template.setAsyncPaging(true);
+
+		List<String> result = template.query("SELECT * from USERS", (row, index) -> row.getString(0));
+
+		assertThat(result).containsExactly("Walter", "White");
+		verify(session, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	void asyncPagingShouldTranslateExceptions() {
+
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(CompletableFuture.failedFuture(new NoNodeAvailableException()));
+
+		template.setAsyncPaging(true);
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class)
+				.isThrownBy(() -> template.execute("UPDATE user SET a = 'b';"));
+	}
+
+	@Test
+	void adaptivePageSizeShouldResizeSubsequentPages() {
+
+		AsyncResultSet firstPage = mock(AsyncResultSet.class);
+		AsyncResultSet secondPage = mock(AsyncResultSet.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		ByteBuffer pagingState = ByteBuffer.wrap(new byte[] { 1 });
+		List<AdaptivePageSize.Page> pages = new ArrayList<>();
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(CompletableFuture.completedFuture(firstPage),
+				CompletableFuture.completedFuture(secondPage));
+		when(firstPage.currentPage()).thenReturn(Collections.singletonList(row));
+		when(firstPage.remaining()).thenReturn(1);
+		when(firstPage.hasMorePages()).thenReturn(true);
+		when(firstPage.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+		when(executionInfo.getResponseSizeInBytes()).thenReturn(100L);
+		when(secondPage.currentPage()).thenReturn(Collections.singletonList(row));
+		when(row.getString(0)).thenReturn("Walter", "White");
+
+		template.setAdaptivePageSize(AdaptivePageSize.of(10, 1000).withTargetBytesPerPage(2000).withListener(pages::add));
+
+		List<String> result = template.query("SELECT * from USERS", (row, index) -> row.getString(0));
+
+		assertThat(result).containsExactly("Walter", "White");
+
+		ArgumentCaptor<Statement<?>> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(session, times(2)).executeAsync(captor.capture());
+		verify(firstPage, never()).fetchNextPage();
+
+		assertThat(captor.getAllValues().get(0).getPageSize()).isEqualTo(10);
+		assertThat(captor.getAllValues().get(1).getPageSize()).isEqualTo(20);
+		assertThat(captor.getAllValues().get(1).getPagingState()).isEqualTo(pagingState);
+		assertThat(pages).extracting(AdaptivePageSize.Page::nextPageSize).containsExactly(20);
+	}
+
+	@Test
+	void queryProfilerShouldTraceSlowStatementsOnNextExecution() {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		List<QueryProfile> profiles = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singletonList(row).iterator());
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(row.getString(0)).thenReturn("Walter");
+
+		template.setQueryProfiler(
+				QueryProfiler.of(profiles::add).withSampleRate(0).withSlowQueryThreshold(Duration.ZERO));
+
+		List<String> result = template.query("SELECT * from USERS", (row, index) -> row.getString(0));
+		template.query("SELECT * from USERS", (row, index) -> row.getString(0));
+
+		assertThat(result).containsExactly("Walter");
+		assertThat(profiles).extracting(QueryProfile::cql).contains("SELECT * from USERS");
+		assertThat(profiles).extracting(QueryProfile::reason).containsOnly(QueryProfile.Reason.SLOW);
+
+		ArgumentCaptor<Statement<?>> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(session, times(2)).execute(captor.capture());
+
+		assertThat(captor.getAllValues().get(0).isTracing()).isFalse();
+		assertThat(captor.getAllValues().get(1).isTracing()).isTrue();
+	}
+
+	@Test
+	void queryProfilerShouldProfileFailedStatements() {
+
+		List<QueryProfile> profiles = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenThrow(new InvalidQueryException(null, "wrong query"));
+
+		template.setQueryProfiler(QueryProfiler.of(profiles::add).withSampleRate(1));
+
+		assertThatExceptionOfType(CassandraInvalidQueryException.class)
+				.isThrownBy(() -> template.query("SELECT * from USERS", (row, index) -> row.getString(0)));
+
+		assertThat(profiles).hasSize(1);
+		assertThat(profiles.get(0).reason()).isEqualTo(QueryProfile.Reason.SAMPLED);
+		assertThat(profiles.get(0).error()).isInstanceOf(InvalidQueryException.class);
+	}
+
+	@Test
+	void queryProfilerShouldCompleteStreamsOnClose() {
+
+		List<QueryProfile> profiles = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.spliterator()).thenAnswer(it -> List.of(row, row).spliterator());
+		when(row.getString(0)).thenReturn("Walter");
+
+		template.setQueryProfiler(QueryProfiler.of(profiles::add).withSampleRate(0).withSlowQueryThreshold(Duration.ZERO));
+
+		Stream<String> stream = template.queryForStream("SELECT * from USERS", (row, index) -> row.getString(0));
+
+		assertThat(profiles).isEmpty();
+
+		assertThat(stream.iterator().next()).isEqualTo("Walter");
+		assertThat(profiles).isEmpty();
+
+		stream.close();
+		stream.close();
+
+		assertThat(profiles).hasSize(1);
+	}
+
+	@Test
+	void queryProfilerShouldCompleteExhaustedStreams() {
+
+		List<QueryProfile> profiles = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.spliterator()).thenAnswer(it -> List.of(row, row).spliterator());
+		when(row.getString(0)).thenReturn("Walter");
+
+		template.setQueryProfiler(QueryProfiler.of(profiles::add).withSampleRate(0).withSlowQueryThreshold(Duration.ZERO));
+
+		assertThat(template.queryForStream("SELECT * from USERS", (row, index) -> row.getString(0))).hasSize(2);
+		assertThat(profiles).hasSize(1);
+	}
+
+	@Test
+	void queryThresholdsShouldCompleteStreamsOnClose() {
+
+		List<QueryStatistics> completed = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getExecutionInfos()).thenReturn(Collections.emptyList());
+		when(resultSet.iterator()).thenAnswer(it -> List.of(row, row).iterator());
+		when(row.getString(0)).thenReturn("Walter");
+
+		template.setQueryThresholds(QueryThresholds.create().withListener(new QueryThresholds.Listener() {
+
+			@Override
+			public void onThresholdExceeded(QueryThresholds.Threshold threshold, QueryStatistics statistics) {}
+
+			@Override
+			public void onCompleted(QueryStatistics statistics) {
+				completed.add(statistics);
+			}
+		}));
+
+		Stream<String> stream = template.queryForStream("SELECT * from USERS", (row, index) -> row.getString(0));
+		assertThat(stream.iterator().next()).isEqualTo("Walter");
+
+		assertThat(completed).isEmpty();
+
+		stream.close();
+
+		assertThat(completed).extracting(QueryStatistics::rows).containsExactly(1L);
+	}
+
+	@Test
+	void queryThresholdsShouldReportFailedStatements() {
+
+		List<Throwable> failed = new ArrayList<>();
+
+		when(session.execute(any(Statement.class))).thenThrow(new InvalidQueryException(null, "wrong query"));
+
+		template.setQueryThresholds(QueryThresholds.create().withListener(new QueryThresholds.Listener() {
+
+			@Override
+			public void onThresholdExceeded(QueryThresholds.Threshold threshold, QueryStatistics statistics) {}
+
+			@Override
+			public void onFailed(QueryStatistics statistics, Throwable error) {
+				failed.add(error);
+			}
+		}));
+
+		assertThatExceptionOfType(CassandraInvalidQueryException.class)
+				.isThrownBy(() -> template.query("SELECT * from USERS", (row, index) -> row.getString(0)));
+
+		assertThat(failed).hasOnlyElementsOfType(InvalidQueryException.class).hasSize(1);
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests dealing with static CQL
 	// -------------------------------------------------------------------------
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+
+/**
+ * Unit tests for {@link HedgingSpeculativeExecutionPolicy}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HedgingSpeculativeExecutionPolicyUnitTests {
+
+	@Mock DriverContext context;
+	@Mock DriverConfig config;
+	@Mock DriverExecutionProfile profile;
+	@Mock DriverExecutionProfile olap;
+	@Mock Node initial;
+	@Mock Node hedge;
+
+	private HedgingSpeculativeExecutionPolicy policy;
+
+	@BeforeEach
+	void setUp() {
+
+		when(context.getConfig()).thenReturn(config);
+		when(config.getProfile("default")).thenReturn(profile);
+		when(config.getDefaultProfile()).thenReturn(profile);
+		when(config.getProfile("olap")).thenReturn(olap);
+		when(profile.getName()).thenReturn("default");
+		when(olap.getName()).thenReturn("olap");
+
+		policy = new HedgingSpeculativeExecutionPolicy(context, "default");
+
+		when(context.getSpeculativeExecutionPolicy("default")).thenReturn(policy);
+	}
+
+	@Test
+	void shouldNotHedgeStatementsWithoutHedgingSettings() {
+
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person").setIdempotent(true);
+
+		assertThat(policy.nextExecution(initial, null, statement, 1)).isEqualTo(-1);
+		assertThat(policy.getRequestCount()).isZero();
+	}
+
+	@Test
+	void shouldApplyProfileDefaults() {
+
+		when(profile.isDefined(DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY)).thenReturn(true);
+		when(profile.getDuration(DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY)).thenReturn(Duration.ofMillis(100));
+
+		policy = new HedgingSpeculativeExecutionPolicy(context, "default");
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person");
+
+		assertThat(policy.nextExecution(initial, null, statement, 1)).isEqualTo(100);
+		assertThat(policy.nextExecution(hedge, null, statement, 2)).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldHedgeUsingStatementSettings() {
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy
+				.hedge(SimpleStatement.newInstance("SELECT * FROM person"), Duration.ofMillis(20), 3);
+
+		assertThat(statement.isIdempotent()).isTrue();
+		assertThat(policy.nextExecution(initial, null, statement, 1)).isEqualTo(20);
+		assertThat(policy.nextExecution(hedge, null, statement, 2)).isEqualTo(20);
+		assertThat(policy.nextExecution(hedge, null, statement, 3)).isEqualTo(-1);
+
+		assertThat(policy.getRequestCount()).isOne();
+		assertThat(policy.getHedgeCount()).isEqualTo(2);
+		assertThat(statement.getCustomPayload()).isEmpty();
+	}
+
+	@Test
+	void shouldRetainHedgingSettingsForDerivedStatements() {
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy
+				.hedge(SimpleStatement.newInstance("SELECT * FROM person"), Duration.ofMillis(20), 3);
+		SimpleStatement derived = statement.setPageSize(10).setTracing(true);
+
+		assertThat(policy.nextExecution(initial, null, derived, 1)).isEqualTo(20);
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(derived))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(20), 3));
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(SimpleStatement.newInstance("SELECT * FROM person")))
+				.isNull();
+	}
+
+	@Test
+	void shouldResolveHedgedProfileAgainstDefaultProfile() {
+
+		when(profile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT)).thenReturn(Duration.ofSeconds(2));
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy
+				.hedge(SimpleStatement.newInstance("SELECT * FROM person"), Duration.ofMillis(20), 3);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> statement.getExecutionProfile().getDuration(DefaultDriverOption.REQUEST_TIMEOUT));
+
+		SimpleStatement resolved = HedgingSpeculativeExecutionPolicy.resolve(statement, context);
+		DriverExecutionProfile executionProfile = resolved.getExecutionProfile();
+
+		assertThat(executionProfile.getName()).isEqualTo("default");
+		assertThat(executionProfile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(executionProfile.getDuration(DefaultDriverOption.SPECULATIVE_EXECUTION_DELAY))
+				.isEqualTo(Duration.ofMillis(20));
+		assertThat(executionProfile.getInt(DefaultDriverOption.SPECULATIVE_EXECUTION_MAX)).isEqualTo(3);
+		assertThat(HedgingSpeculativeExecutionPolicy.resolve(resolved, context)).isSameAs(resolved);
+	}
+
+	@Test
+	void shouldResolveHedgedProfileAgainstNamedProfile() {
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy.hedge(
+				SimpleStatement.newInstance("SELECT * FROM person").setExecutionProfileName("olap"), Duration.ofMillis(20), 3);
+
+		SimpleStatement resolved = HedgingSpeculativeExecutionPolicy.resolve(statement, context);
+
+		assertThat(resolved.getExecutionProfile().getName()).isEqualTo("olap");
+		verify(config).getProfile("olap");
+	}
+
+	@Test
+	void executionProfileResolverShouldRetainHedgingSettings() {
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy
+				.hedge(SimpleStatement.newInstance("SELECT * FROM person"), Duration.ofMillis(20), 3);
+
+		SimpleStatement named = (SimpleStatement) ExecutionProfileResolver.from("olap").apply(statement);
+		SimpleStatement withProfile = (SimpleStatement) ExecutionProfileResolver.from(olap).apply(statement);
+
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(named)).isNotNull();
+		assertThat(named.getExecutionProfile().getName()).isEqualTo("olap");
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(withProfile)).isNotNull();
+		assertThat(withProfile.getExecutionProfile().getName()).isEqualTo("olap");
+	}
+
+	@Test
+	void shouldCountHedgeWinsBySpeculativeExecutionIndex() {
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy.resolve(HedgingSpeculativeExecutionPolicy
+				.hedge(SimpleStatement.newInstance("SELECT * FROM person"), Duration.ofMillis(20), 2), context);
+
+		HedgingSpeculativeExecutionPolicy.onCompleted(() -> context, executionInfo(statement, 1));
+		HedgingSpeculativeExecutionPolicy.onCompleted(() -> context, executionInfo(statement, 0));
+		HedgingSpeculativeExecutionPolicy.onCompleted(() -> context, null);
+
+		assertThat(policy.getHedgeWinCount()).isOne();
+	}
+
+	@Test
+	void shouldNotObtainContextForInitialExecutions() {
+
+		DriverContext context = mock(DriverContext.class);
+
+		HedgingSpeculativeExecutionPolicy.onCompleted(() -> context,
+				executionInfo(SimpleStatement.newInstance("SELECT * FROM person"), 0));
+
+		verifyNoInteractions(context);
+	}
+
+	private static ExecutionInfo executionInfo(SimpleStatement statement, int successfulExecutionIndex) {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(statement).when(executionInfo).getRequest();
+		when(executionInfo.getSuccessfulExecutionIndex()).thenReturn(successfulExecutionIndex);
+
+		return executionInfo;
+	}
+}
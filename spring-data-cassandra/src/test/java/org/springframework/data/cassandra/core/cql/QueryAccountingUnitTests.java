@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.ReactiveResultSet;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link QueryAccounting}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryAccountingUnitTests {
+
+	@Mock ExecutionInfo firstPage;
+	@Mock ExecutionInfo secondPage;
+	@Mock Row row;
+
+	RecordingListener listener = new RecordingListener();
+
+	StatementOperations operations = new StatementOperations();
+
+	Statement<?> statement = operations.register(SimpleStatement.newInstance("SELECT * FROM person WHERE id = ?", 42),
+			StatementOperation.of(null, CqlIdentifier.fromCql("person"), "SELECT"));
+
+	@Test
+	void shouldAccountResultSetOnConsumption() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		List<ExecutionInfo> executionInfos = new ArrayList<>(List.of(firstPage));
+
+		when(firstPage.getResponseSizeInBytes()).thenReturn(100L);
+		when(secondPage.getResponseSizeInBytes()).thenReturn(150L);
+		when(resultSet.getExecutionInfos()).thenReturn(executionInfos);
+		when(resultSet.iterator()).thenReturn(new PagingIterator(executionInfos, secondPage, row, row, row));
+
+		QueryAccounting accounting = new QueryAccounting(
+				QueryThresholds.create().withMaxRows(2).withMaxBytes(200).withListener(listener), statement, operations);
+
+		ResultSet accounted = accounting.account(resultSet);
+		assertThat(accounted.all()).hasSize(3);
+
+		assertThat(listener.exceeded).containsExactly(QueryThresholds.Threshold.BYTES, QueryThresholds.Threshold.ROWS);
+		assertThat(listener.completed).hasSize(1);
+
+		QueryStatistics statistics = listener.completed.get(0);
+		assertThat(statistics.cql()).isEqualTo("SELECT * FROM person WHERE id = ?");
+		assertThat(statistics.operation()).isNotNull();
+		assertThat(statistics.operation().getTableName()).isEqualTo("person");
+		assertThat(statistics.pages()).isEqualTo(2);
+		assertThat(statistics.rows()).isEqualTo(3);
+		assertThat(statistics.bytes()).isEqualTo(250);
+	}
+
+	@Test
+	void shouldReportThresholdsOnlyOnce() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(resultSet.getExecutionInfos()).thenReturn(List.of(firstPage));
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row, row).iterator());
+
+		QueryAccounting accounting = new QueryAccounting(QueryThresholds.create().withMaxRows(1).withListener(listener),
+				statement, operations);
+
+		accounting.account(resultSet).all();
+		accounting.complete();
+
+		assertThat(listener.exceeded).containsExactly(QueryThresholds.Threshold.ROWS);
+		assertThat(listener.completed).hasSize(1);
+	}
+
+	@Test
+	void shouldAccountAsyncResultSetPages() {
+
+		AsyncResultSet first = mock(AsyncResultSet.class);
+		AsyncResultSet second = mock(AsyncResultSet.class);
+
+		when(first.getExecutionInfo()).thenReturn(firstPage);
+		when(first.remaining()).thenReturn(2);
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(second));
+		when(second.getExecutionInfo()).thenReturn(secondPage);
+		when(second.remaining()).thenReturn(1);
+
+		QueryAccounting accounting = new QueryAccounting(QueryThresholds.create().withMaxPages(1).withListener(listener),
+				statement, operations);
+
+		accounting.account(first).fetchNextPage().toCompletableFuture().join();
+		accounting.complete();
+
+		assertThat(listener.exceeded).containsExactly(QueryThresholds.Threshold.PAGES);
+		assertThat(listener.completed.get(0).pages()).isEqualTo(2);
+		assertThat(listener.completed.get(0).rows()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldAccountReactiveResultSetOnCompletion() {
+
+		ReactiveResultSet resultSet = mock(ReactiveResultSet.class);
+
+		when(resultSet.getExecutionInfo()).thenReturn(firstPage, firstPage, secondPage);
+		when(resultSet.rows()).thenReturn(Flux.just(row, row));
+
+		QueryAccounting accounting = new QueryAccounting(
+				QueryThresholds.create().withMaxDuration(Duration.ZERO).withListener(listener), statement, operations);
+
+		accounting.account(resultSet).rows().as(StepVerifier::create).expectNextCount(2).verifyComplete();
+
+		assertThat(listener.exceeded).contains(QueryThresholds.Threshold.DURATION);
+		assertThat(listener.completed.get(0).pages()).isEqualTo(2);
+		assertThat(listener.completed.get(0).rows()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldReportFailedExecution() {
+
+		IllegalStateException error = new IllegalStateException("Boom");
+
+		QueryAccounting accounting = new QueryAccounting(QueryThresholds.create().withListener(listener), statement,
+				operations);
+
+		accounting.complete(error);
+		accounting.complete();
+
+		assertThat(listener.failed).containsExactly(error);
+		assertThat(listener.completed).isEmpty();
+	}
+
+	/**
+	 * Iterator simulating a driver result set that fetches its second page once the first page was consumed.
+	 */
+	static class PagingIterator implements Iterator<Row> {
+
+		private final List<ExecutionInfo> executionInfos;
+
+		private final ExecutionInfo nextPage;
+
+		private final Iterator<Row> rows;
+
+		private int consumed;
+
+		PagingIterator(List<ExecutionInfo> executionInfos, ExecutionInfo nextPage, Row... rows) {
+			this.executionInfos = executionInfos;
+			this.nextPage = nextPage;
+			this.rows = Arrays.asList(rows).iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return rows.hasNext();
+		}
+
+		@Override
+		public Row next() {
+
+			if (++consumed == 2) {
+				executionInfos.add(nextPage);
+			}
+
+			return rows.next();
+		}
+	}
+
+	static class RecordingListener implements QueryThresholds.Listener {
+
+		List<QueryThresholds.Threshold> exceeded = new ArrayList<>();
+
+		List<QueryStatistics> completed = new ArrayList<>();
+
+		List<Throwable> failed = new ArrayList<>();
+
+		@Override
+		public void onThresholdExceeded(QueryThresholds.Threshold threshold, QueryStatistics statistics) {
+			exceeded.add(threshold);
+		}
+
+		@Override
+		public void onCompleted(QueryStatistics statistics) {
+			completed.add(statistics);
+		}
+
+		@Override
+		public void onFailed(QueryStatistics statistics, Throwable error) {
+			failed.add(error);
+		}
+	}
+}
@@ -88,6 +88,18 @@ class QueryOptionsUnitTests {
 		assertThat(mutated.getRoutingKey()).isEqualTo(ByteBuffer.allocate(1));
 	}
 
+	@Test
+	void buildHedgedQueryOptions() {
+
+		QueryOptions queryOptions = QueryOptions.builder().hedge(Duration.ofMillis(20), 3).build();
+
+		assertThat(queryOptions.getHedgeDelay()).isEqualTo(Duration.ofMillis(20));
+		assertThat(queryOptions.getHedgeMaxExecutions()).isEqualTo(3);
+		assertThat(queryOptions.mutate().build()).isEqualTo(queryOptions);
+		assertThat(queryOptions).isNotEqualTo(QueryOptions.builder().hedge(Duration.ofMillis(20)).build());
+		assertThatIllegalArgumentException().isThrownBy(() -> QueryOptions.builder().hedge(Duration.ofMillis(20), 1));
+	}
+
 	@Test // GH-1494
 	void buildZeroDurationTimeoutQueryOptions() {
 
@@ -142,4 +142,33 @@ class QueryOptionsUtilUnitTests {
 				.isInstanceOf(IllegalArgumentException.class)
 				.hasMessageContaining("Keyspace cannot be set for a BoundStatement");
 	}
+
+	@Test
+	void addQueryOptionsShouldRetainHedging() {
+
+		SimpleStatement hedged = HedgingSpeculativeExecutionPolicy.hedge(SimpleStatement.newInstance("SELECT * FROM person"),
+				Duration.ofMillis(10), 2);
+
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(hedged,
+				QueryOptions.builder().consistencyLevel(DefaultConsistencyLevel.ONE).build());
+
+		assertThat(statement).isNotSameAs(hedged);
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(statement))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(10), 2));
+	}
+
+	@Test
+	void addQueryOptionsShouldRetainHedgingWhenApplyingExecutionProfile() {
+
+		SimpleStatement hedged = HedgingSpeculativeExecutionPolicy.hedge(SimpleStatement.newInstance("SELECT * FROM person"),
+				Duration.ofMillis(10), 2);
+
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(hedged,
+				QueryOptions.builder().executionProfile("olap").build());
+
+		assertThat(statement.getExecutionProfile().getName()).isEqualTo("olap");
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(statement))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(10), 2));
+		assertThat(statement.getCustomPayload()).isEmpty();
+	}
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.QueryTrace;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.TraceEvent;
+
+/**
+ * Unit tests for {@link QueryProfiler}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryProfilerUnitTests {
+
+	@Mock ExecutionInfo executionInfo;
+	@Mock QueryTrace queryTrace;
+	@Mock TraceEvent readEvent;
+
+	QueryProfileRingBuffer buffer = new QueryProfileRingBuffer(10);
+
+	@Test
+	void shouldNotTraceUnsampledStatements() {
+
+		QueryProfiler profiler = QueryProfiler.of(buffer).withSampleRate(0);
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person");
+
+		QueryProfiler.Execution execution = profiler.start(statement);
+		execution.executed();
+		execution.complete(executionInfo);
+
+		assertThat(execution.getStatement()).isSameAs(statement);
+		assertThat(buffer.getProfiles()).isEmpty();
+	}
+
+	@Test
+	void shouldPublishTraceOfSampledStatement() {
+
+		UUID tracingId = UUID.randomUUID();
+		InetSocketAddress replica = InetSocketAddress.createUnresolved("10.0.0.2", 9042);
+
+		when(readEvent.getActivity()).thenReturn("Read 12 live rows and 3 tombstone cells");
+		when(readEvent.getSourceAddress()).thenReturn(replica);
+		when(readEvent.getSourceElapsedMicros()).thenReturn(150);
+		when(readEvent.getThreadName()).thenReturn("ReadStage-1");
+		when(queryTrace.getTracingId()).thenReturn(tracingId);
+		when(queryTrace.getDurationMicros()).thenReturn(2000);
+		when(queryTrace.getEvents()).thenReturn(List.of(readEvent));
+		when(executionInfo.getTracingId()).thenReturn(tracingId);
+		when(executionInfo.getQueryTraceAsync()).thenReturn(CompletableFuture.completedFuture(queryTrace));
+
+		QueryProfiler profiler = QueryProfiler.of(buffer).withSampleRate(1);
+
+		QueryProfiler.Execution execution = profiler.start(SimpleStatement.newInstance("SELECT * FROM person"));
+		execution.executed();
+		execution.complete(executionInfo);
+
+		assertThat(execution.getStatement().isTracing()).isTrue();
+		assertThat(buffer.getProfiles()).hasSize(1);
+
+		QueryProfile profile = buffer.getProfiles().get(0);
+		assertThat(profile.cql()).isEqualTo("SELECT * FROM person");
+		assertThat(profile.reason()).isEqualTo(QueryProfile.Reason.SAMPLED);
+		assertThat(profile.trace()).isNotNull();
+		assertThat(profile.trace().tracingId()).isEqualTo(tracingId);
+		assertThat(profile.trace().duration()).isEqualTo(Duration.ofMillis(2));
+		assertThat(profile.trace().rowsRead()).isEqualTo(12);
+		assertThat(profile.trace().tombstones()).isEqualTo(3);
+		assertThat(profile.trace().stepsBySource()).containsOnlyKeys(replica);
+	}
+
+	@Test
+	void shouldPublishProfileWithoutTraceIfTraceCannotBeRetrieved() {
+
+		when(executionInfo.getTracingId()).thenReturn(UUID.randomUUID());
+		when(executionInfo.getQueryTraceAsync())
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Trace not available")));
+
+		QueryProfiler profiler = QueryProfiler.of(buffer).withSampleRate(1);
+
+		QueryProfiler.Execution execution = profiler.start(SimpleStatement.newInstance("SELECT * FROM person"));
+		execution.complete(executionInfo);
+
+		assertThat(buffer.getProfiles()).hasSize(1);
+		assertThat(buffer.getProfiles().get(0).trace()).isNull();
+	}
+
+	@Test
+	void shouldReportSlowStatementAndTraceNextExecution() {
+
+		QueryProfiler profiler = QueryProfiler.of(buffer).withSampleRate(0).withSlowQueryThreshold(Duration.ZERO);
+
+		QueryProfiler.Execution execution = profiler.start(SimpleStatement.newInstance("SELECT * FROM person"));
+		execution.executed();
+		execution.complete(executionInfo);
+
+		assertThat(execution.getStatement().isTracing()).isFalse();
+		assertThat(buffer.getProfiles()).hasSize(1);
+		assertThat(buffer.getProfiles().get(0).reason()).isEqualTo(QueryProfile.Reason.SLOW);
+		assertThat(buffer.getProfiles().get(0).trace()).isNull();
+
+		assertThat(profiler.start(SimpleStatement.newInstance("SELECT * FROM person")).getStatement().isTracing())
+				.isTrue();
+		assertThat(profiler.start(SimpleStatement.newInstance("SELECT * FROM person")).getStatement().isTracing())
+				.isFalse();
+	}
+
+	@Test
+	void shouldPublishProfileOfFailedExecutionOnce() {
+
+		QueryProfiler profiler = QueryProfiler.of(buffer).withSampleRate(1);
+		IllegalStateException error = new IllegalStateException("Boom");
+
+		QueryProfiler.Execution execution = profiler.start(SimpleStatement.newInstance("SELECT * FROM person"));
+		execution.fail(error);
+		execution.complete(executionInfo);
+
+		assertThat(buffer.getProfiles()).hasSize(1);
+		assertThat(buffer.getProfiles().get(0).reason()).isEqualTo(QueryProfile.Reason.SAMPLED);
+		assertThat(buffer.getProfiles().get(0).error()).isSameAs(error);
+		assertThat(buffer.getProfiles().get(0).trace()).isNull();
+	}
+
+	@Test
+	void ringBufferShouldRetainMostRecentProfiles() {
+
+		QueryProfileRingBuffer buffer = new QueryProfileRingBuffer(2);
+
+		for (int i = 0; i < 3; i++) {
+			buffer.onProfile(
+					new QueryProfile("SELECT " + i, QueryProfile.Reason.SLOW, Duration.ZERO, Duration.ZERO, null, null));
+		}
+
+		assertThat(buffer.getProfiles()).extracting(QueryProfile::cql).containsExactly("SELECT 1", "SELECT 2");
+
+		buffer.clear();
+
+		assertThat(buffer.getProfiles()).isEmpty();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.core.cql.converter.RowToMapConverter;
+import org.springframework.util.SerializationUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link RowMap} and {@link ColumnMapRowMapper}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RowMapUnitTests {
+
+	@Mock Row row;
+	@Mock ColumnDefinitions columnDefinitions;
+
+	@BeforeEach
+	void setUp() {
+
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(3);
+
+		mockColumn(0, "id", "WHITE");
+		mockColumn(1, "firstName", "Walter");
+		mockColumn(2, "lastname", null);
+	}
+
+	@Test
+	void shouldDecodeColumnsOnFirstAccess() {
+
+		RowMap map = new RowMap(row);
+
+		assertThat(map.get("FIRSTNAME")).isEqualTo("Walter");
+		assertThat(map.get("firstname")).isEqualTo("Walter");
+		assertThat(map.get("unknown")).isNull();
+
+		verify(row, times(1)).getObject(1);
+		verify(row, never()).getObject(0);
+		verify(row, never()).getObject(2);
+	}
+
+	@Test
+	void shouldExposeColumnsInOrder() {
+
+		RowMap map = new RowMap(row);
+
+		assertThat(map).hasSize(3).containsKeys("ID", "firstname", "LastName");
+		assertThat(map.keySet()).containsExactly("id", "firstName", "lastname");
+		assertThat(map.values()).containsExactly("WHITE", "Walter", null);
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put("id", "WHITE");
+		expected.put("firstName", "Walter");
+		expected.put("lastname", null);
+
+		assertThat(map).isEqualTo(expected);
+		assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+	}
+
+	@Test
+	void shouldCopyRowOnModification() {
+
+		RowMap map = new RowMap(row);
+
+		map.put("age", 50);
+		map.remove("ID");
+
+		assertThat(map).hasSize(3).containsEntry("AGE", 50).doesNotContainKey("id");
+		assertThat(map.keySet()).containsExactly("firstName", "lastname", "age");
+	}
+
+	@Test
+	void columnMapRowMapperShouldShareColumnIndexAcrossRows() {
+
+		ColumnMapRowMapper rowMapper = new ColumnMapRowMapper() {
+
+			@Override
+			protected String getColumnKey(String columnName) {
+				return columnName.toUpperCase();
+			}
+		};
+
+		Map<String, Object> first = rowMapper.mapRow(row, 0);
+		Map<String, Object> second = rowMapper.mapRow(row, 1);
+
+		assertThat(first.keySet()).containsExactly("ID", "FIRSTNAME", "LASTNAME");
+		assertThat(second.get("firstname")).isEqualTo("Walter");
+		verify(columnDefinitions, times(1)).get(1);
+	}
+
+	@Test
+	void columnMapRowMapperShouldUseOverriddenColumnMap() {
+
+		ColumnMapRowMapper rowMapper = new ColumnMapRowMapper() {
+
+			@Override
+			protected Map<String, Object> createColumnMap(int columnCount) {
+				return new TreeMap<>();
+			}
+		};
+
+		Map<String, Object> map = rowMapper.mapRow(row, 0);
+
+		assertThat(map).isInstanceOf(TreeMap.class);
+		assertThat(map.keySet()).containsExactly("firstName", "id", "lastname");
+		assertThat(map).containsEntry("id", "WHITE");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldSerializeCopyOfColumns() {
+
+		Map<String, Object> map = new ColumnMapRowMapper().mapRow(row, 0);
+
+		Map<String, Object> copy = (Map<String, Object>) SerializationUtils.clone((Serializable) map);
+
+		assertThat(copy).isEqualTo(map);
+		assertThat(copy.keySet()).containsExactly("id", "firstName", "lastname");
+		assertThat(copy.get("FIRSTNAME")).isEqualTo("Walter");
+	}
+
+	@Test
+	void rowToMapConverterShouldLookUpKeysCaseSensitive() {
+
+		Map<String, Object> map = RowToMapConverter.INSTANCE.convert(row);
+
+		assertThat(map.get("firstName")).isEqualTo("Walter");
+		assertThat(map.get("FIRSTNAME")).isNull();
+		assertThat(map).doesNotContainKey("ID");
+
+		map.put("age", 50);
+
+		assertThat(map).containsEntry("age", 50).doesNotContainKey("AGE");
+	}
+
+	private void mockColumn(int index, String name, Object value) {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(columnDefinition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+		when(columnDefinitions.get(index)).thenReturn(columnDefinition);
+		when(row.getObject(index)).thenReturn(value);
+	}
+}
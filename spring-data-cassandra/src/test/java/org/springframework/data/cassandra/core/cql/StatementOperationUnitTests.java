@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link StatementOperation} and {@link StatementOperations}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class StatementOperationUnitTests {
+
+	@Mock DriverContext context;
+	@Mock DriverConfig config;
+	@Mock DriverExecutionProfile profile;
+
+	@BeforeEach
+	void setUp() {
+
+		when(context.getConfig()).thenReturn(config);
+		when(config.getDefaultProfile()).thenReturn(profile);
+		when(profile.getName()).thenReturn(DriverExecutionProfile.DEFAULT_NAME);
+		when(profile.getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).thenReturn(5000);
+	}
+
+	@Test
+	void shouldInternOperations() {
+
+		StatementOperation operation = StatementOperation.of(CqlIdentifier.fromCql("ks"), CqlIdentifier.fromCql("users"),
+				"SELECT");
+
+		assertThat(StatementOperation.of(CqlIdentifier.fromCql("ks"), CqlIdentifier.fromCql("users"), "SELECT"))
+				.isSameAs(operation);
+		assertThat(StatementOperation.of(null, CqlIdentifier.fromCql("users"), "SELECT")).isNotSameAs(operation);
+		assertThat(operation.getKeyspace()).isEqualTo("ks");
+		assertThat(operation.getTableName()).isEqualTo("users");
+		assertThat(operation.getOperation()).isEqualTo("SELECT");
+	}
+
+	@Test
+	void shouldAttachRegisteredOperation() {
+
+		StatementOperations operations = new StatementOperations();
+		StatementOperation operation = StatementOperation.of(null, CqlIdentifier.fromInternal("UserTable"), "INSERT");
+
+		SimpleStatement statement = operations.register(SimpleStatement.newInstance("INSERT INTO \"UserTable\" ..."),
+				operation);
+		SimpleStatement attached = operations.attach(statement, context);
+
+		assertThat(StatementOperation.from(statement)).isNull();
+		assertThat(StatementOperation.from(attached)).isSameAs(operation);
+		assertThat(attached.getExecutionProfile().getName()).isEqualTo(DriverExecutionProfile.DEFAULT_NAME);
+		assertThat(attached.getExecutionProfile().getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).isEqualTo(5000);
+		assertThat(operations.get(statement)).isSameAs(operation);
+		assertThat(operations.get(SimpleStatement.newInstance("SELECT 1"))).isNull();
+		assertThat(operations.attach(SimpleStatement.newInstance("SELECT 1"), context).getExecutionProfile()).isNull();
+	}
+
+	@Test
+	void shouldRetainOperationForDerivedStatements() {
+
+		StatementOperations operations = new StatementOperations();
+		StatementOperation operation = StatementOperation.of(CqlIdentifier.fromCql("ks"), CqlIdentifier.fromCql("orders"),
+				"DELETE");
+
+		SimpleStatement registered = operations.register(SimpleStatement.newInstance("DELETE FROM ks.orders WHERE id = ?"),
+				operation);
+		SimpleStatement statement = operations.attach(registered, context);
+		SimpleStatement nextPage = statement.setPageSize(10).setConsistencyLevel(DefaultConsistencyLevel.QUORUM);
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(preparedStatement.getQuery()).thenReturn("DELETE FROM ks.orders WHERE id = ?");
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		when(boundStatement.getPreparedStatement()).thenReturn(preparedStatement);
+
+		assertThat(StatementOperation.from(nextPage)).isSameAs(operation);
+		assertThat(operations.get(boundStatement)).isSameAs(operation);
+		assertThat(statement.getCustomPayload()).isEmpty();
+	}
+
+	@Test
+	void shouldRetainHedgingSettingsWhenAttachingOperation() {
+
+		StatementOperations operations = new StatementOperations();
+		StatementOperation operation = StatementOperation.of(null, CqlIdentifier.fromCql("users"), "SELECT");
+
+		SimpleStatement statement = HedgingSpeculativeExecutionPolicy.hedge(
+				operations.register(SimpleStatement.newInstance("SELECT * FROM users"), operation), Duration.ofMillis(20), 3);
+		SimpleStatement attached = operations.attach(statement, context);
+
+		assertThat(StatementOperation.from(attached)).isSameAs(operation);
+		assertThat(HedgingSpeculativeExecutionPolicy.getHedge(attached))
+				.isEqualTo(new HedgingSpeculativeExecutionPolicy.Hedge(Duration.ofMillis(20), 3));
+		assertThat(attached.getExecutionProfile().getInt(DefaultDriverOption.REQUEST_PAGE_SIZE)).isEqualTo(5000);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedRegistrations() {
+
+		StatementOperations operations = new StatementOperations(1);
+		StatementOperation operation = StatementOperation.of(null, CqlIdentifier.fromCql("users"), "SELECT");
+
+		SimpleStatement first = operations.register(SimpleStatement.newInstance("SELECT * FROM users"), operation);
+		SimpleStatement second = operations.register(SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?"),
+				operation);
+
+		assertThat(operations.get(first)).isNull();
+		assertThat(operations.get(second)).isSameAs(operation);
+	}
+}
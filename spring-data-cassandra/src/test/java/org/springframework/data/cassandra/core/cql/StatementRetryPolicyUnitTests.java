@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.WriteType;
+
+/**
+ * Unit tests for {@link StatementRetryPolicy} and {@link RetryBudget}.
+ *
+ * @author Mark Paluch
+ */
+class StatementRetryPolicyUnitTests {
+
+	Node node = mock(Node.class);
+
+	SimpleStatement idempotentInsert = SimpleStatement.newInstance("INSERT INTO person (id) VALUES (?)")
+			.setIdempotent(true);
+
+	@Test
+	void shouldRetryIdempotentStatementsOnTransientErrors() {
+
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(2, Duration.ZERO);
+
+		assertThat(policy.shouldRetry(idempotentInsert, writeTimeout(WriteType.SIMPLE), 0)).isTrue();
+		assertThat(policy.shouldRetry(idempotentInsert, writeTimeout(WriteType.SIMPLE), 2)).isFalse();
+		assertThat(policy.shouldRetry(idempotentInsert, new InvalidQueryException(node, "invalid"), 0)).isFalse();
+	}
+
+	@Test
+	void shouldNotRetryNonIdempotentOrConditionalStatements() {
+
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(2, Duration.ZERO);
+
+		assertThat(policy.shouldRetry(idempotentInsert.setIdempotent(null), writeTimeout(WriteType.SIMPLE), 0)).isFalse();
+		assertThat(policy.shouldRetry(idempotentInsert.setIdempotent(false), writeTimeout(WriteType.SIMPLE), 0)).isFalse();
+		assertThat(policy.shouldRetry(idempotentInsert, writeTimeout(WriteType.CAS), 0)).isFalse();
+		assertThat(StatementRetryPolicy.isRetryable(
+				SimpleStatement.newInstance("INSERT INTO person (id) VALUES (?) IF NOT EXISTS").setIdempotent(true)))
+				.isFalse();
+		assertThat(StatementRetryPolicy
+				.isRetryable(SimpleStatement.newInstance("UPDATE person SET name = ? WHERE id = ? if name = ?").setIdempotent(true)))
+				.isFalse();
+	}
+
+	@Test
+	void shouldComputeExponentialBackoff() {
+
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(10, Duration.ofMillis(10))
+				.withMaxBackoff(Duration.ofMillis(100)).withJitter(0);
+
+		assertThat(policy.getBackoff(0)).isEqualTo(Duration.ofMillis(10));
+		assertThat(policy.getBackoff(2)).isEqualTo(Duration.ofMillis(40));
+		assertThat(policy.getBackoff(4)).isEqualTo(Duration.ofMillis(100));
+		assertThat(policy.getBackoff(100)).isEqualTo(Duration.ofMillis(100));
+
+		StatementRetryPolicy jittered = policy.withJitter(0.5);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(jittered.getBackoff(2)).isBetween(Duration.ofMillis(20), Duration.ofMillis(40));
+		}
+	}
+
+	@Test
+	void shouldLimitRetriesThroughBudget() {
+
+		RetryBudget budget = RetryBudget.create(0.5, 1);
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(3, Duration.ZERO).withRetryBudget(budget);
+
+		assertThat(policy.shouldRetry(idempotentInsert, writeTimeout(WriteType.SIMPLE), 0)).isTrue();
+		assertThat(policy.shouldRetry(idempotentInsert, writeTimeout(WriteType.SIMPLE), 0)).isFalse();
+
+		policy.onExecution();
+		assertThat(budget.getAvailableRetries()).isZero();
+
+		policy.onExecution();
+		assertThat(budget.getAvailableRetries()).isOne();
+
+		policy.onExecution();
+		assertThat(budget.getAvailableRetries()).isOne();
+	}
+
+	@Test
+	void shouldRetryAsynchronouslyUntilSuccess() throws Exception {
+
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(3, Duration.ofMillis(1));
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletionStage<String> result = policy.execute(idempotentInsert, () -> attempts.incrementAndGet() < 3
+				? CompletableFuture.failedFuture(writeTimeout(WriteType.SIMPLE))
+				: CompletableFuture.completedFuture("ok"));
+
+		assertThat(result.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldPropagateLastFailure() {
+
+		StatementRetryPolicy policy = StatementRetryPolicy.exponentialBackoff(1, Duration.ofMillis(1));
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletionStage<String> result = policy.execute(idempotentInsert, () -> {
+			attempts.incrementAndGet();
+			return CompletableFuture.failedFuture(writeTimeout(WriteType.SIMPLE));
+		});
+
+		assertThatThrownBy(() -> result.toCompletableFuture().get(5, TimeUnit.SECONDS))
+				.hasCauseInstanceOf(WriteTimeoutException.class);
+		assertThat(attempts).hasValue(2);
+	}
+
+	@Test
+	void shouldResolvePolicyByTableAndOperation() {
+
+		StatementRetryPolicy inserts = StatementRetryPolicy.exponentialBackoff(1, Duration.ZERO);
+		StatementRetryPolicy events = StatementRetryPolicy.exponentialBackoff(2, Duration.ZERO);
+
+		RetryPolicyResolver resolver = RetryPolicyResolver.none().forOperation("INSERT", inserts).forTable("events",
+				events);
+
+		assertThat(resolver.resolve(attach(StatementOperation.of(null, CqlIdentifier.fromCql("person"), "INSERT"),
+				SimpleStatement.newInstance("INSERT INTO person (id) VALUES (1)")))).isSameAs(inserts);
+		assertThat(resolver.resolve(attach(StatementOperation.of(null, CqlIdentifier.fromCql("events"), "INSERT"),
+				SimpleStatement.newInstance("INSERT INTO events (id) VALUES (1)")))).isSameAs(events);
+		assertThat(resolver.resolve(attach(StatementOperation.of(null, CqlIdentifier.fromCql("person"), "DELETE"),
+				SimpleStatement.newInstance("DELETE FROM person WHERE id = 1")))).isNull();
+		assertThat(resolver.resolve(idempotentInsert)).isNull();
+	}
+
+	private WriteTimeoutException writeTimeout(WriteType writeType) {
+		return new WriteTimeoutException(node, ConsistencyLevel.QUORUM, 1, 2, writeType);
+	}
+
+	private static SimpleStatement attach(StatementOperation operation, SimpleStatement statement) {
+
+		DriverContext context = mock(DriverContext.class);
+		DriverConfig config = mock(DriverConfig.class);
+		when(context.getConfig()).thenReturn(config);
+		when(config.getDefaultProfile()).thenReturn(mock(DriverExecutionProfile.class));
+
+		StatementOperations operations = new StatementOperations();
+
+		return operations.attach(operations.register(statement, operation), context);
+	}
+}
@@ -19,20 +19,39 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
 
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
 import org.springframework.data.cassandra.core.cql.session.lookup.AbstractRoutingSessionFactory;
+import org.springframework.data.cassandra.core.cql.session.lookup.KeyspaceRoutingSessionFactory;
 import org.springframework.data.cassandra.core.cql.session.lookup.MapSessionFactoryLookup;
 import org.springframework.data.cassandra.core.cql.session.lookup.SessionFactoryLookupFailureException;
 
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveResultSet;
+import com.datastax.dse.driver.api.core.cql.reactive.ReactiveRow;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
  * Unit tests for {@link AbstractRoutingSessionFactory}.
@@ -155,6 +174,228 @@ class AbstractRoutingSessionFactoryUnitTests {
 		assertThat(sut.getSession()).isSameAs(routedSession);
 	}
 
+	@Test
+	void shouldRouteThroughSharedSession() {
+
+		sut.setSharedSessionFactory(new DefaultSessionFactory(routedSession));
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		CqlSession session = sut.getSession();
+		session.execute("SELECT * FROM person");
+		session.execute(SimpleStatement.newInstance("SELECT * FROM person").setKeyspace("other"));
+
+		assertThat(session.getKeyspace()).contains(CqlIdentifier.fromCql("tenant1"));
+		assertThat(sut.getSession()).isSameAs(session);
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(routedSession, times(2)).execute(captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(SimpleStatement::getKeyspace)
+				.containsExactly(CqlIdentifier.fromCql("tenant1"), CqlIdentifier.fromCql("other"));
+
+		session.close();
+		verify(routedSession, never()).close();
+	}
+
+	@Test
+	void shouldPreferTargetSessionFactoriesOverSharedSession() {
+
+		sut.setTargetSessionFactories(Collections.singletonMap("key", new DefaultSessionFactory(routedSession)));
+		sut.setSharedSessionFactory(new DefaultSessionFactory(defaultSession));
+		sut.afterPropertiesSet();
+		sut.setLookupKey("key");
+
+		assertThat(sut.getSession()).isSameAs(routedSession);
+
+		sut.setLookupKey("tenant1");
+
+		assertThat(sut.getSession()).isNotSameAs(defaultSession).isNotSameAs(routedSession);
+	}
+
+	@Test
+	void shouldCreateSessionFactoriesLazily() {
+
+		sut.setTargetSessionFactoryProvider(key -> "tenant1".equals(key) ? new DefaultSessionFactory(routedSession) : null);
+		sut.afterPropertiesSet();
+
+		sut.setLookupKey("tenant1");
+		sut.getSession().execute("SELECT * FROM person");
+
+		verify(routedSession).execute("SELECT * FROM person");
+
+		sut.setLookupKey("unknown");
+		assertThat(sut.getSession()).isSameAs(defaultSession);
+	}
+
+	@Test
+	void shouldEvictIdleSessionFactories() {
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().execute("SELECT * FROM person");
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession).close();
+	}
+
+	@Test
+	void shouldNotEvictSessionFactoriesWithRequestsInFlight() {
+
+		CompletableFuture<AsyncResultSet> result = new CompletableFuture<>();
+		when(routedSession.executeAsync("SELECT * FROM person")).thenReturn(result);
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().executeAsync("SELECT * FROM person");
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession, never()).close();
+
+		result.complete(mock(AsyncResultSet.class));
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession).close();
+	}
+
+	@Test
+	void shouldNotEvictSessionFactoriesWhileResultSetIsPaging() {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Iterator<Row> rows = List.of(mock(Row.class)).iterator();
+		when(resultSet.iterator()).thenReturn(rows);
+		when(resultSet.isFullyFetched()).thenAnswer(invocation -> !rows.hasNext());
+		when(routedSession.execute("SELECT * FROM person")).thenReturn(resultSet);
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		ResultSet result = sut.getSession().execute("SELECT * FROM person");
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession, never()).close();
+
+		assertThat(result.all()).hasSize(1);
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession).close();
+	}
+
+	@Test
+	void shouldNotEvictSessionFactoriesWhileAsyncResultSetIsPaging() {
+
+		AsyncResultSet firstPage = mock(AsyncResultSet.class);
+		AsyncResultSet lastPage = mock(AsyncResultSet.class);
+		CompletableFuture<AsyncResultSet> nextPage = new CompletableFuture<>();
+		when(firstPage.hasMorePages()).thenReturn(true);
+		when(firstPage.fetchNextPage()).thenReturn(nextPage);
+		when(routedSession.executeAsync("SELECT * FROM person"))
+				.thenReturn(CompletableFuture.completedFuture(firstPage));
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		AsyncResultSet result = sut.getSession().executeAsync("SELECT * FROM person").toCompletableFuture().join();
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession, never()).close();
+
+		result.fetchNextPage();
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession, never()).close();
+
+		nextPage.complete(lastPage);
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession).close();
+	}
+
+	@Test
+	void shouldNotEvictSessionFactoriesWhileReactiveResultSetIsSubscribed() {
+
+		ReactiveResultSet resultSet = mock(ReactiveResultSet.class);
+		when(routedSession.executeReactive("SELECT * FROM person")).thenReturn(resultSet);
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().executeReactive("SELECT * FROM person").subscribe(mock(Subscriber.class));
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession, never()).close();
+
+		ArgumentCaptor<Subscriber<ReactiveRow>> captor = ArgumentCaptor.forClass(Subscriber.class);
+		verify(resultSet).subscribe(captor.capture());
+		captor.getValue().onSubscribe(mock(Subscription.class));
+		captor.getValue().onComplete();
+		sut.evictIdleSessionFactories();
+
+		verify(routedSession).close();
+	}
+
+	@Test
+	void shouldRouteRequestsOfEvictedSessionToNewSession() {
+
+		CqlSession replacementSession = mock(CqlSession.class);
+		Queue<CqlSession> sessions = new ArrayDeque<>(List.of(routedSession, replacementSession));
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(sessions.poll()));
+		sut.setIdleTimeout(Duration.ZERO);
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+
+		CqlSession session = sut.getSession();
+		sut.evictIdleSessionFactories();
+
+		session.execute("SELECT * FROM person");
+
+		verify(routedSession).close();
+		verify(routedSession, never()).execute(anyString());
+		verify(replacementSession).execute("SELECT * FROM person");
+	}
+
+	@Test
+	void destroyShouldCloseLazilyCreatedSessions() {
+
+		sut.setTargetSessionFactoryProvider(key -> new DefaultSessionFactory(routedSession));
+		sut.afterPropertiesSet();
+		sut.setLookupKey("tenant1");
+		sut.getSession();
+
+		sut.destroy();
+
+		verify(routedSession).close();
+		verify(defaultSession, never()).close();
+	}
+
+	@Test
+	void keyspaceRoutingSessionShouldPrepareAgainstKeyspace() {
+
+		KeyspaceRoutingSessionFactory factory = new KeyspaceRoutingSessionFactory(routedSession,
+				CqlIdentifier.fromCql("tenant1"));
+
+		factory.getSession().prepare("SELECT * FROM person");
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(routedSession).prepare(captor.capture());
+
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person");
+		assertThat(captor.getValue().getKeyspace()).isEqualTo(CqlIdentifier.fromCql("tenant1"));
+	}
+
 	static class StubbedRoutingSessionFactory extends AbstractRoutingSessionFactory {
 
 		private String lookupKey;
@@ -18,11 +18,15 @@ package org.springframework.data.cassandra.core.cql.session.init;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 
 /**
@@ -142,6 +146,64 @@ class ResourceKeyspacePopulatorUnitTests {
 		verify(sessionMock).execute("create table");
 	}
 
+	@Test
+	void shouldExecuteDataManipulationConcurrently() {
+
+		ResourceKeyspacePopulator keyspacePopulator = new ResourceKeyspacePopulator();
+		keyspacePopulator.setMaxConcurrency(4);
+		keyspacePopulator.setScripts(
+				new ByteArrayResource("create table t;insert into t 1;insert into t 2;drop table t;".getBytes()));
+
+		CqlSession sessionMock = mock(CqlSession.class);
+		CompletableFuture<AsyncResultSet> first = new CompletableFuture<>();
+		CompletableFuture<AsyncResultSet> second = new CompletableFuture<>();
+		when(sessionMock.executeAsync("insert into t 1")).thenReturn(first);
+		when(sessionMock.executeAsync("insert into t 2")).thenAnswer(invocation -> {
+
+			// both inserts are in flight before any completes
+			CompletableFuture.runAsync(() -> {
+				first.complete(mock(AsyncResultSet.class));
+				second.complete(mock(AsyncResultSet.class));
+			});
+			return second;
+		});
+
+		keyspacePopulator.populate(sessionMock);
+
+		InOrder inOrder = inOrder(sessionMock);
+		inOrder.verify(sessionMock).execute("create table t");
+		inOrder.verify(sessionMock).executeAsync("insert into t 1");
+		inOrder.verify(sessionMock).executeAsync("insert into t 2");
+		inOrder.verify(sessionMock).execute("drop table t");
+		verifyNoMoreInteractions(sessionMock);
+	}
+
+	@Test
+	void shouldFailOnConcurrentError() {
+
+		ResourceKeyspacePopulator keyspacePopulator = new ResourceKeyspacePopulator();
+		keyspacePopulator.setMaxConcurrency(4);
+		keyspacePopulator.setScripts(new ByteArrayResource("insert into t 1;create table t;".getBytes()));
+
+		CqlSession sessionMock = mock(CqlSession.class);
+		when(sessionMock.executeAsync("insert into t 1"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Boom")));
+
+		assertThatExceptionOfType(ScriptStatementFailedException.class)
+				.isThrownBy(() -> keyspacePopulator.populate(sessionMock)).withMessageContaining("insert into t 1");
+
+		verify(sessionMock).executeAsync("insert into t 1");
+		verifyNoMoreInteractions(sessionMock);
+	}
+
+	@Test
+	void shouldRejectInvalidMaxConcurrency() {
+
+		ResourceKeyspacePopulator keyspacePopulator = new ResourceKeyspacePopulator();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> keyspacePopulator.setMaxConcurrency(0));
+	}
+
 	@Test
 	void setScriptsAndThenAddScript() {
 
@@ -18,8 +18,11 @@ package org.springframework.data.cassandra.core.cql.session.init;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.ClassPathResource;
@@ -189,6 +192,54 @@ class ScriptUtilsUnitTests {
 		assertThat(statements).containsExactly(statement1, statement2);
 	}
 
+	@Test
+	void streamScriptShouldApplySplitRules() throws Exception {
+
+		for (String path : List.of("test-data-with-comments.cql", "test-data-with-multi-line-comments.cql",
+				"test-data-with-multi-line-nested-comments.cql", "test-data-with-comments-and-leading-tabs.cql")) {
+
+			EncodedResource resource = new EncodedResource(new ClassPathResource(path, getClass()));
+			List<String> expected = new ArrayList<>();
+			ScriptUtils.splitCqlScript(resource, readScript(path), ";", ScriptUtils.DEFAULT_COMMENT_PREFIXES,
+					ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, expected);
+
+			try (Reader reader = resource.getReader()) {
+
+				List<String> statements = ScriptUtils.streamCqlScript(resource, reader, ";",
+						ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+						ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER).toList();
+
+				assertThat(statements).describedAs(path).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void streamScriptShouldSplitStatementsSpanningBufferBoundaries() {
+
+		StringBuilder script = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			script.append("INSERT INTO users(id, name) VALUES(").append(i).append(", 'a;b')/* c;\n */;\n-- ;\n");
+		}
+
+		List<String> statements = ScriptUtils.streamCqlScript(null, new StringReader(script.toString()), ";",
+				ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER).toList();
+
+		assertThat(statements).hasSize(2000).startsWith("INSERT INTO users(id, name) VALUES(0, 'a;b')")
+				.endsWith("INSERT INTO users(id, name) VALUES(1999, 'a;b')");
+	}
+
+	@Test
+	void streamScriptShouldRejectUnterminatedBlockComment() {
+
+		Stream<String> statements = ScriptUtils.streamCqlScript(null, new StringReader("select 1; /* select 2;"), ";",
+				ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+
+		assertThatExceptionOfType(ScriptParseException.class).isThrownBy(statements::toList);
+	}
+
 	@Test // DATACASS-704
 	void containsDelimiters() {
 
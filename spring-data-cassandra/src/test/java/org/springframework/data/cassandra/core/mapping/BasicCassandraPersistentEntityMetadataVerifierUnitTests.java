@@ -118,8 +118,41 @@ class BasicCassandraPersistentEntityMetadataVerifierUnitTests {
 		}
 	}
 
+	@Test
+	void shouldAllowChunkedProperties() {
+		verifier.verify(context.getRequiredPersistentEntity(ChunkedDocument.class));
+	}
+
+	@Test
+	void shouldFailOnInvalidChunkedProperties() {
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> verifier.verify(context.getRequiredPersistentEntity(InvalidChunkedDocument.class)))
+				.withMessageContaining("Primary key property [id] cannot be @Chunked")
+				.withMessageContaining("@Chunked property [pages] must be of type byte[], ByteBuffer or String")
+				.withMessageContaining("Chunk size of property [content] must be greater than zero");
+	}
+
 	private interface MyInterface {}
 
+	@Table
+	static class ChunkedDocument {
+
+		@Id String id;
+
+		@Chunked String content;
+		@Chunked(size = 1024) byte[] attachment;
+	}
+
+	@Table
+	static class InvalidChunkedDocument {
+
+		@Id @Chunked String id;
+
+		@Chunked(size = 0) String content;
+		@Chunked int pages;
+	}
+
 	private static class NonPersistentClass {
 
 		@Id String id;
@@ -26,14 +26,18 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.convert.CassandraCustomConversions;
 import org.springframework.data.cassandra.core.cql.Ordering;
 import org.springframework.data.cassandra.core.cql.PrimaryKeyType;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateIndexSpecification;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.ManagedTypes;
 import org.springframework.data.mapping.MappingException;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
@@ -383,6 +387,66 @@ public class CassandraMappingContextUnitTests {
 		assertThat(property.getColumnName()).isEqualTo(CqlIdentifier.fromCql("\"_ent1\""));
 	}
 
+	@Test
+	void parallelInitializationShouldCreateManagedEntities() {
+
+		mappingContext.setManagedTypes(ManagedTypes.fromIterable(List.of(X.class, Y.class, WithUdt.class)));
+		mappingContext.setParallelInitialization(true);
+		mappingContext.initialize();
+
+		assertThat(mappingContext.hasPersistentEntityFor(X.class)).isTrue();
+		assertThat(mappingContext.hasPersistentEntityFor(Y.class)).isTrue();
+		assertThat(mappingContext.hasPersistentEntityFor(WithUdt.class)).isTrue();
+		assertThat(mappingContext.getTableEntities()).hasSize(3);
+		assertThat(mappingContext.getUserDefinedTypeEntities()).hasSize(2);
+	}
+
+	@Test
+	void parallelInitializationShouldCreateUserDefinedTypesFirst() {
+
+		ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+		StartupStep step = mock(StartupStep.class);
+		when(applicationStartup.start(anyString())).thenReturn(step);
+		when(step.tag(anyString(), anyString())).thenReturn(step);
+
+		mappingContext.setApplicationStartup(applicationStartup);
+		mappingContext.setManagedTypes(ManagedTypes.fromIterable(List.of(WithUdt.class, Nested.class)));
+		mappingContext.setParallelInitialization(true);
+		mappingContext.initialize();
+
+		InOrder inOrder = inOrder(step);
+		inOrder.verify(step).tag("type", AnotherNested.class.getName());
+		inOrder.verify(step).tag("type", Nested.class.getName());
+		inOrder.verify(step).tag("type", WithUdt.class.getName());
+	}
+
+	@Test
+	void parallelInitializationShouldVerifyEntities() {
+
+		mappingContext.setManagedTypes(ManagedTypes.fromIterable(List.of(InvalidEntityWithIdAndPrimaryKeyColumn.class)));
+		mappingContext.setParallelInitialization(true);
+
+		assertThatExceptionOfType(MappingException.class).isThrownBy(mappingContext::initialize)
+				.withCauseInstanceOf(VerifierMappingExceptions.class);
+	}
+
+	@Test
+	void shouldRecordStartupStepPerEntity() {
+
+		ApplicationStartup applicationStartup = mock(ApplicationStartup.class);
+		StartupStep step = mock(StartupStep.class);
+		when(applicationStartup.start(anyString())).thenReturn(step);
+		when(step.tag(anyString(), anyString())).thenReturn(step);
+
+		mappingContext.setApplicationStartup(applicationStartup);
+		mappingContext.getRequiredPersistentEntity(X.class);
+		mappingContext.getRequiredPersistentEntity(X.class);
+
+		verify(applicationStartup).start("spring.data.cassandra.mapping-context.entity");
+		verify(step).tag("type", X.class.getName());
+		verify(step).end();
+	}
+
 	@Table
 	private static class InvalidEntityWithIdAndPrimaryKeyColumn {
 		@Id String foo;
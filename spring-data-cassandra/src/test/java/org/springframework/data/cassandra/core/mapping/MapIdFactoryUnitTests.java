@@ -21,6 +21,8 @@ import static org.springframework.data.cassandra.core.mapping.IdInterfaceValidat
 import static org.springframework.data.cassandra.core.mapping.MapIdFactory.*;
 
 import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.Map;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
@@ -205,6 +207,77 @@ public class MapIdFactoryUnitTests {
 		assertThat(mapid.get("number")).isNull();
 	}
 
+	interface PrimitiveId {
+
+		int getPartition();
+
+		PrimitiveId withPartition(int partition);
+
+		long bucket();
+
+		void bucket(long bucket);
+	}
+
+	@Test
+	void shouldGenerateFieldBackedImplementation() {
+
+		HappyExtendingNothing id = id(HappyExtendingNothing.class);
+
+		assertThat(id).isInstanceOf(FieldBackedMapId.class);
+		assertThat(Proxy.isProxyClass(id.getClass())).isFalse();
+		assertThat(id(HappyExtendingNothing.class).getClass()).isSameAs(id.getClass());
+	}
+
+	@Test
+	void generatedImplementationShouldRetainMapIdSemantics() {
+
+		HappyExtendingMapIdAndSerializable id = id(HappyExtendingMapIdAndSerializable.class);
+
+		assertThat(id).isEmpty();
+
+		id.setString("foo");
+		id.put("unknown", "bar");
+
+		assertThat(id).hasSize(2).containsEntry("string", "foo").containsEntry("unknown", "bar")
+				.doesNotContainKey("number");
+		assertThat(id).isEqualTo(BasicMapId.id("string", "foo").with("unknown", "bar"));
+		assertThat(id.hashCode()).isEqualTo(BasicMapId.id("string", "foo").with("unknown", "bar").hashCode());
+
+		id.setNumber(null);
+		assertThat(id).containsEntry("number", null).hasSize(3);
+
+		id.remove("string");
+		assertThat(id.getString()).isNull();
+		assertThat(id).doesNotContainKey("string").hasSize(2);
+
+		id.clear();
+		assertThat(id).isEmpty();
+		assertThat(id.getNumber()).isNull();
+	}
+
+	@Test
+	void generatedImplementationShouldBoxPrimitives() {
+
+		PrimitiveId id = id(PrimitiveId.class);
+
+		assertThat(id.withPartition(42)).isSameAs(id);
+		id.bucket(7L);
+
+		assertThat(id.getPartition()).isEqualTo(42);
+		assertThat(id.bucket()).isEqualTo(7L);
+		assertThat((Map<String, Object>) id).containsEntry("partition", 42).containsEntry("bucket", 7L);
+	}
+
+	@Test
+	void shouldFallBackToProxyForForeignClassLoader() {
+
+		ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+
+		HappyExtendingNothing id = id(HappyExtendingNothing.class, classLoader);
+
+		assertThat(Proxy.isProxyClass(id.getClass())).isTrue();
+	}
+
 	private class IdClass {}
 
 	interface Foo {}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link PagingStateCache}.
+ *
+ * @author Mark Paluch
+ */
+class PagingStateCacheUnitTests {
+
+	private final List<Integer> requestedPages = new ArrayList<>();
+
+	@Test
+	void shouldExpireEntries() {
+
+		MutableClock clock = new MutableClock();
+		PagingStateCache cache = new PagingStateCache(10, Duration.ofSeconds(1), clock);
+
+		cache.put("query", 10, 1, pagingState(1));
+
+		assertThat(cache.get("query", 10, 1)).isEqualTo(pagingState(1));
+		assertThat(cache.get("query", 20, 1)).isNull();
+
+		clock.advance(Duration.ofSeconds(1));
+
+		assertThat(cache.get("query", 10, 1)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntries() {
+
+		PagingStateCache cache = new PagingStateCache(2, Duration.ofMinutes(1));
+
+		cache.put("query", 10, 1, pagingState(1));
+		cache.put("query", 10, 2, pagingState(2));
+		cache.get("query", 10, 1);
+		cache.put("query", 10, 3, pagingState(3));
+
+		assertThat(cache.get("query", 10, 1)).isNotNull();
+		assertThat(cache.get("query", 10, 2)).isNull();
+		assertThat(cache.get("query", 10, 3)).isNotNull();
+	}
+
+	@Test
+	void shouldWalkForwardAndRecordPagingStates() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+
+		Slice<Integer> slice = cache.getSlice("query", PageRequest.of(3, 10), this::fetchSlice);
+
+		assertThat(slice.getContent()).containsOnly(3);
+		assertThat(slice.getNumber()).isEqualTo(3);
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(requestedPages).containsExactly(0, 1, 2, 3);
+		assertThat(cache.get("query", 10, 4)).isEqualTo(pagingState(4));
+	}
+
+	@Test
+	void shouldResumeFromClosestKnownPage() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+		cache.put("query", 10, 2, pagingState(2));
+
+		Slice<Integer> slice = cache.getSlice("query", PageRequest.of(4, 10), this::fetchSlice);
+
+		assertThat(slice.getContent()).containsOnly(4);
+		assertThat(requestedPages).containsExactly(2, 3, 4);
+	}
+
+	@Test
+	void shouldResumeDirectlyFromKnownPage() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+		cache.getSlice("query", PageRequest.of(2, 10), this::fetchSlice);
+		requestedPages.clear();
+
+		Slice<Integer> slice = cache.getSlice("query", PageRequest.of(2, 10), this::fetchSlice);
+
+		assertThat(slice.getContent()).containsOnly(2);
+		assertThat(requestedPages).containsExactly(2);
+	}
+
+	@Test
+	void shouldReturnEmptySliceBeyondLastPage() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+
+		Slice<Integer> slice = cache.getSlice("query", PageRequest.of(9, 10), this::fetchSlice);
+
+		assertThat(slice.getContent()).isEmpty();
+		assertThat(slice.getNumber()).isEqualTo(9);
+		assertThat(slice.hasNext()).isFalse();
+		assertThat(requestedPages).containsExactly(0, 1, 2, 3, 4, 5);
+	}
+
+	@Test
+	void shouldRejectPagesBeyondMaxPageWalk() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1), 2);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> cache.getSlice("query", PageRequest.of(3, 10), this::fetchSlice));
+		assertThat(requestedPages).isEmpty();
+
+		cache.put("query", 10, 2, pagingState(2));
+
+		assertThat(cache.getSlice("query", PageRequest.of(4, 10), this::fetchSlice).getContent()).containsOnly(4);
+		assertThat(requestedPages).containsExactly(2, 3, 4);
+	}
+
+	@Test
+	void shouldFingerprintSimpleStatements() {
+
+		Object fingerprint = PagingStateCache.fingerprint(SimpleStatement.newInstance("SELECT * FROM person WHERE id=?", 1));
+
+		assertThat(fingerprint)
+				.isEqualTo(PagingStateCache.fingerprint(SimpleStatement.newInstance("SELECT * FROM person WHERE id=?", 1)
+						.setPageSize(10).setPagingState(pagingState(1))));
+		assertThat(fingerprint)
+				.isNotEqualTo(PagingStateCache.fingerprint(SimpleStatement.newInstance("SELECT * FROM person WHERE id=?", 2)));
+	}
+
+	/**
+	 * Simulates a result of six pages where the paging state encodes the next page number.
+	 */
+	private Slice<Integer> fetchSlice(Pageable pageable) {
+
+		int page = 0;
+
+		if (pageable instanceof CassandraPageRequest pageRequest && pageRequest.getPagingState() != null) {
+			page = pageRequest.getPagingState().getInt(0);
+		}
+
+		requestedPages.add(page);
+
+		ByteBuffer next = page < 5 ? pagingState(page + 1) : null;
+		return new SliceImpl<>(List.of(page), CassandraPageRequest.of(PageRequest.of(0, pageable.getPageSize()), next),
+				next != null);
+	}
+
+	private static ByteBuffer pagingState(int page) {
+		return ByteBuffer.allocate(4).putInt(0, page);
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.now();
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.systemDefault();
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.observability;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+import java.net.InetSocketAddress;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.cql.StatementOperation;
+import org.springframework.data.cassandra.core.cql.StatementOperations;
+import org.springframework.data.cassandra.observability.CassandraObservation.HighCardinalityKeyNames;
+import org.springframework.data.cassandra.observability.CassandraObservation.LowCardinalityKeyNames;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.EndPoint;
+import com.datastax.oss.driver.api.core.metadata.Node;
+
+/**
+ * Unit tests for {@link DefaultCassandraObservationConvention}.
+ *
+ * @author Mark Paluch
+ */
+class DefaultCassandraObservationConventionUnitTests {
+
+	DefaultCassandraObservationConvention convention = new DefaultCassandraObservationConvention();
+
+	@Test
+	void shouldUseStatementOperationForLowCardinalityKeyValues() {
+
+		StatementOperation operation = StatementOperation.of(CqlIdentifier.fromCql("tenant"),
+				CqlIdentifier.fromCql("users"), "SELECT");
+		SimpleStatement statement = attach(operation, SimpleStatement.newInstance("SELECT * FROM tenant.users"));
+
+		KeyValues keyValues = convention.getLowCardinalityKeyValues(createContext(statement, false));
+
+		assertThat(keyValues).contains(LowCardinalityKeyNames.TABLE_NAME.withValue("users"),
+				LowCardinalityKeyNames.DB_OPERATION.withValue("SELECT"),
+				LowCardinalityKeyNames.KEYSPACE_NAME.withValue("tenant"));
+		assertThat(convention.getKeyValues(operation)).isSameAs(convention.getKeyValues(operation));
+	}
+
+	@Test
+	void shouldFallBackToCqlWithoutStatementOperation() {
+
+		KeyValues keyValues = convention
+				.getLowCardinalityKeyValues(createContext(SimpleStatement.newInstance("INSERT INTO users (id) VALUES (1)"),
+						false));
+
+		assertThat(keyValues).contains(LowCardinalityKeyNames.TABLE_NAME.withValue(KeyValue.NONE_VALUE),
+				LowCardinalityKeyNames.DB_OPERATION.withValue("INSERT"),
+				LowCardinalityKeyNames.KEYSPACE_NAME.withValue("session-keyspace"));
+	}
+
+	@Test
+	void shouldReportPrepareOperation() {
+
+		StatementOperation operation = StatementOperation.of(null, CqlIdentifier.fromCql("users"), "SELECT");
+		SimpleStatement statement = attach(operation, SimpleStatement.newInstance("SELECT * FROM users"));
+
+		CassandraObservationContext context = createContext(statement, true);
+
+		assertThat(convention.getLowCardinalityKeyValues(context)).contains(
+				LowCardinalityKeyNames.TABLE_NAME.withValue("users"), LowCardinalityKeyNames.DB_OPERATION.withValue("PREPARE"));
+		assertThat(convention.getContextualName(context)).isEqualTo("PREPARE: SELECT");
+	}
+
+	@Test
+	void shouldSummarizeBatchStatements() {
+
+		BatchStatement batch = BatchStatement.newInstance(DefaultBatchType.UNLOGGED,
+				SimpleStatement.newInstance("INSERT INTO users (id) VALUES (1)"),
+				SimpleStatement.newInstance("INSERT INTO users (id) VALUES (2)"),
+				SimpleStatement.newInstance("INSERT INTO users (id) VALUES (1)"));
+
+		CassandraObservationContext context = createContext(batch, false);
+
+		assertThat(convention.getHighCardinalityKeyValues(context))
+				.contains(HighCardinalityKeyNames.BATCH_TYPE.withValue("UNLOGGED"),
+						HighCardinalityKeyNames.BATCH_SIZE.withValue("3"))
+				.extracting(KeyValue::getKey).doesNotContain(HighCardinalityKeyNames.DB_STATEMENT.asString(),
+						HighCardinalityKeyNames.BATCH_DISTINCT_QUERIES.asString());
+		assertThat(convention.getLowCardinalityKeyValues(context))
+				.contains(LowCardinalityKeyNames.DB_OPERATION.withValue("INSERT"));
+
+		convention.setIncludeBatchStatements(true);
+
+		assertThat(convention.getHighCardinalityKeyValues(context)).contains(
+				HighCardinalityKeyNames.BATCH_DISTINCT_QUERIES.withValue("2"), HighCardinalityKeyNames.DB_STATEMENT.withValue(
+						"INSERT INTO users (id) VALUES (1);INSERT INTO users (id) VALUES (2);INSERT INTO users (id) VALUES (1)"));
+	}
+
+	@Test
+	void shouldCacheNodeKeyValues() {
+
+		UUID hostId = UUID.randomUUID();
+		EndPoint endPoint = mock(EndPoint.class);
+		when(endPoint.resolve()).thenReturn(new InetSocketAddress("127.0.0.1", 9042));
+		when(endPoint.toString()).thenReturn("localhost/127.0.0.1:9042");
+
+		Node node = mock(Node.class);
+		when(node.getEndPoint()).thenReturn(endPoint);
+		when(node.getHostId()).thenReturn(hostId);
+		when(node.getDatacenter()).thenReturn("dc1");
+
+		KeyValues keyValues = convention.getKeyValues(node);
+
+		assertThat(keyValues).contains(LowCardinalityKeyNames.COORDINATOR.withValue(hostId.toString()),
+				LowCardinalityKeyNames.COORDINATOR_DC.withValue("dc1"),
+				LowCardinalityKeyNames.NET_PEER_NAME.withValue("localhost/127.0.0.1:9042"),
+				LowCardinalityKeyNames.NET_SOCK_PEER_PORT.withValue("9042"));
+		assertThat(convention.getKeyValues(node)).isSameAs(keyValues);
+		verify(endPoint).resolve();
+
+		when(node.getDatacenter()).thenReturn("dc2");
+
+		assertThat(convention.getKeyValues(node)).isNotSameAs(keyValues)
+				.contains(LowCardinalityKeyNames.COORDINATOR_DC.withValue("dc2"));
+	}
+
+	private static CassandraObservationContext createContext(Statement<?> statement, boolean prepare) {
+		return new CassandraObservationContext(statement, "cassandra", prepare, "execute", "s0", "session-keyspace");
+	}
+
+	private static SimpleStatement attach(StatementOperation operation, SimpleStatement statement) {
+
+		DriverContext context = mock(DriverContext.class);
+		DriverConfig config = mock(DriverConfig.class);
+		when(context.getConfig()).thenReturn(config);
+		when(config.getDefaultProfile()).thenReturn(mock(DriverExecutionProfile.class));
+
+		StatementOperations operations = new StatementOperations();
+
+		return operations.attach(operations.register(statement, operation), context);
+	}
+}
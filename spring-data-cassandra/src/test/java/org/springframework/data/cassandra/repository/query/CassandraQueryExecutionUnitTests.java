@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link CassandraQueryExecution}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CassandraQueryExecutionUnitTests {
+
+	private final List<Statement<?>> statements = new ArrayList<>();
+
+	private final SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM person WHERE lastname = ?",
+			"White");
+
+	@Mock CassandraOperations operations;
+	@Mock CqlOperations cqlOperations;
+	@Mock CqlSession session;
+
+	@BeforeEach
+	void setUp() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> invocation.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(operations.slice(any(Statement.class), eq(Person.class))).thenAnswer(invocation -> {
+
+			Statement<?> statement = invocation.getArgument(0);
+			statements.add(statement);
+
+			ByteBuffer pagingState = statement.getPagingState();
+			int page = pagingState != null ? pagingState.getInt(0) : 0;
+			ByteBuffer next = ByteBuffer.allocate(4).putInt(0, page + 1);
+
+			return new SliceImpl<>(List.of(page), CassandraPageRequest.of(PageRequest.of(page, 10), next), true);
+		});
+
+		routeTo("tenant1");
+	}
+
+	@Test
+	void slicedExecutionShouldApplyPageSize() {
+
+		Slice<?> slice = new SlicedExecution(operations, CassandraPageRequest.first(10)).execute(statement, Person.class);
+
+		assertThat(slice.getContent()).containsOnly(0);
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).getPageSize()).isEqualTo(10);
+		verifyNoInteractions(cqlOperations);
+	}
+
+	@Test
+	void slicedExecutionShouldResumeFromCachedPagingState() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+
+		new SlicedExecution(operations, PageRequest.of(2, 10), cache).execute(statement, Person.class);
+		assertThat(statements).hasSize(3);
+		statements.clear();
+
+		Slice<?> slice = new SlicedExecution(operations, PageRequest.of(2, 10), cache).execute(statement, Person.class);
+
+		assertThat(slice.getContent()).containsOnly(2);
+		assertThat(slice.getNumber()).isEqualTo(2);
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).getPagingState().getInt(0)).isEqualTo(2);
+	}
+
+	@Test
+	void slicedExecutionShouldNotSharePagingStatesAcrossSessions() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1));
+
+		new SlicedExecution(operations, PageRequest.of(2, 10), cache).execute(statement, Person.class);
+		statements.clear();
+		routeTo("tenant2");
+
+		new SlicedExecution(operations, PageRequest.of(2, 10), cache).execute(statement, Person.class);
+
+		assertThat(statements).hasSize(3);
+	}
+
+	@Test
+	void slicedExecutionShouldRejectPagesBeyondMaxPageWalk() {
+
+		PagingStateCache cache = new PagingStateCache(100, Duration.ofMinutes(1), 2);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> new SlicedExecution(operations, PageRequest.of(5, 10), cache).execute(statement,
+						Person.class));
+		assertThat(statements).isEmpty();
+	}
+
+	private void routeTo(String keyspace) {
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql(keyspace)));
+	}
+}
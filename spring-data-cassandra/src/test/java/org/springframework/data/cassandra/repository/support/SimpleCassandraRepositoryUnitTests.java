@@ -15,9 +15,14 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,20 +30,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.PagingStateCache;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort.Direction;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+
 /**
  * Unit tests for {@link SimpleCassandraRepository}.
  *
@@ -58,6 +73,10 @@ class SimpleCassandraRepositoryUnitTests {
 
 	@Mock EntityWriteResult writeResult;
 
+	@Mock CqlOperations cqlOperations;
+
+	@Mock CqlSession session;
+
 	@BeforeEach
 	void before() {
 		when(cassandraOperations.getConverter()).thenReturn(converter);
@@ -188,6 +207,72 @@ class SimpleCassandraRepositoryUnitTests {
 				SimplePerson.class);
 	}
 
+	@Test
+	void findAllShouldResumeFromCachedPagingState() {
+
+		repository = pagingRepository(new PagingStateCache(100, Duration.ofMinutes(1)));
+		routeTo("tenant1");
+
+		repository.findAll(PageRequest.of(2, 10));
+
+		Slice<Object> slice = repository.findAll(PageRequest.of(2, 10));
+
+		assertThat(slice.getContent()).containsOnly(2);
+		verify(cassandraOperations, times(4)).slice(any(Query.class), eq(SimplePerson.class));
+	}
+
+	@Test
+	void findAllShouldNotSharePagingStatesAcrossSessions() {
+
+		repository = pagingRepository(new PagingStateCache(100, Duration.ofMinutes(1)));
+		routeTo("tenant1");
+		repository.findAll(PageRequest.of(2, 10));
+
+		routeTo("tenant2");
+		Slice<Object> slice = repository.findAll(PageRequest.of(2, 10));
+
+		assertThat(slice.getContent()).containsOnly(2);
+		verify(cassandraOperations, times(6)).slice(any(Query.class), eq(SimplePerson.class));
+	}
+
+	@Test
+	void findAllShouldRejectPagesBeyondMaxPageWalk() {
+
+		repository = pagingRepository(new PagingStateCache(100, Duration.ofMinutes(1), 2));
+		routeTo("tenant1");
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> repository.findAll(PageRequest.of(5, 10)));
+		verify(cassandraOperations, never()).slice(any(Query.class), any(Class.class));
+	}
+
+	private SimpleCassandraRepository<Object, String> pagingRepository(PagingStateCache cache) {
+
+		SimpleCassandraRepository<Object, String> cachingRepository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(
+						converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class), converter),
+				cassandraOperations);
+		cachingRepository.setPagingStateCache(cache);
+
+		when(cassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> invocation.<SessionCallback<?>> getArgument(0).doInSession(session));
+		lenient().when(cassandraOperations.slice(any(Query.class), eq(SimplePerson.class))).thenAnswer(invocation -> {
+
+			Query query = invocation.getArgument(0);
+			int page = query.getPagingState().map(it -> it.getInt(0)).orElse(0);
+			ByteBuffer next = ByteBuffer.allocate(4).putInt(0, page + 1);
+
+			return new SliceImpl<>(List.of(page), CassandraPageRequest.of(PageRequest.of(page, 10), next), true);
+		});
+
+		return cachingRepository;
+	}
+
+	private void routeTo(String keyspace) {
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql(keyspace)));
+	}
+
 	record SimplePerson(@Id String id) {
 
 	}
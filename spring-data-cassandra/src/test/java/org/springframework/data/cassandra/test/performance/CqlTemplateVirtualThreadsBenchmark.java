@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.test.performance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.test.util.AbstractKeyspaceCreatingIntegrationTests;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Benchmark harness comparing throughput of blocking {@link CqlTemplate} calls issued by {@value #CALLERS} concurrent
+ * callers running on a bounded platform thread pool versus virtual threads. Located in the {@code test.performance}
+ * package that is excluded from the Surefire and Failsafe runs. Run it explicitly through
+ * {@code mvn verify -Dit.test=CqlTemplateVirtualThreadsBenchmark}.
+ *
+ * @author Mark Paluch
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class CqlTemplateVirtualThreadsBenchmark extends AbstractKeyspaceCreatingIntegrationTests {
+
+	private static final Logger log = LoggerFactory.getLogger(CqlTemplateVirtualThreadsBenchmark.class);
+
+	private static final int CALLERS = 10_000;
+
+	private static final int PLATFORM_THREADS = 200;
+
+	private static final int ROWS = 100;
+
+	private CqlTemplate template;
+
+	@BeforeEach
+	void before() {
+
+		session.execute("CREATE TABLE IF NOT EXISTS benchmark (id int, seq int, value text, PRIMARY KEY (id, seq))");
+
+		for (int i = 0; i < ROWS; i++) {
+			session.execute(SimpleStatement.newInstance("INSERT INTO benchmark (id, seq, value) VALUES (1, ?, 'value')", i));
+		}
+
+		template = new CqlTemplate(session);
+		template.setPageSize(10);
+	}
+
+	@Test
+	void platformThreads() throws Exception {
+
+		template.setAsyncPaging(false);
+		run("platform threads, blocking paging", Executors.newFixedThreadPool(PLATFORM_THREADS));
+
+		template.setAsyncPaging(true);
+		run("platform threads, async paging", Executors.newFixedThreadPool(PLATFORM_THREADS));
+	}
+
+	@Test
+	void virtualThreads() throws Exception {
+
+		template.setAsyncPaging(false);
+		run("virtual threads, blocking paging", newVirtualThreadPerTaskExecutor());
+
+		template.setAsyncPaging(true);
+		run("virtual threads, async paging", newVirtualThreadPerTaskExecutor());
+	}
+
+	private void run(String name, ExecutorService executor) throws Exception {
+
+		List<Future<Integer>> futures = new ArrayList<>(CALLERS);
+		long start = System.nanoTime();
+
+		try {
+			for (int i = 0; i < CALLERS; i++) {
+				futures.add(executor.submit(() -> template.queryForList("SELECT * FROM benchmark WHERE id = 1").size()));
+			}
+
+			for (Future<Integer> future : futures) {
+				assertThat(future.get()).isEqualTo(ROWS);
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+
+		long durationNanos = System.nanoTime() - start;
+
+		log.info("{}: {} callers in {} ms ({} ops/s)", name, CALLERS, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+				String.format("%.1f", CALLERS / (durationNanos / 1_000_000_000d)));
+	}
+
+	/**
+	 * Obtain a virtual thread executor reflectively as the build baseline does not provide virtual threads.
+	 */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+		return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+	}
+}
@@ -15,13 +15,24 @@
  */
 package org.springframework.data.cassandra.core
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet
+import com.datastax.oss.driver.api.core.cql.BatchStatement
+import com.datastax.oss.driver.api.core.cql.BatchType
+import com.datastax.oss.driver.api.core.cql.Row
 import com.datastax.oss.driver.api.core.cql.SimpleStatement
+import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatIllegalArgumentException
 import org.junit.jupiter.api.Test
+import org.springframework.data.cassandra.core.cql.RowMapper
 import org.springframework.data.cassandra.core.query.Query
 import org.springframework.data.cassandra.core.query.Update
 import org.springframework.data.cassandra.domain.Person
+import java.util.concurrent.CompletableFuture
 import java.util.function.Consumer
 
 /**
@@ -188,5 +199,48 @@ class AsyncCassandraOperationsExtensionsUnitTests {
 		operations.truncate<Person>()
 		verify { operations.truncate(Person::class.java) }
 	}
-}
 
+	@Test
+	fun `flow(Statement) should map rows through the template row mapper`() {
+
+		val statement = SimpleStatement.newInstance("SELECT * FROM person")
+		val person = mockk<Person>()
+		val resultSet = mockk<AsyncResultSet>()
+		val template = mockk<AsyncCassandraTemplate>()
+
+		every { template.getRowMapper(Person::class.java, statement) } returns RowMapper { _, _ -> person }
+		every { template.execute(statement) } returns CompletableFuture.completedFuture(resultSet)
+		every { resultSet.currentPage() } returns listOf(mockk<Row>())
+		every { resultSet.hasMorePages() } returns false
+
+		val result = runBlocking { template.flow<Person>(statement).toList() }
+
+		assertThat(result).containsExactly(person)
+		verify(exactly = 0) { template.converter }
+	}
+
+	@Test
+	fun `flow(Statement) should reject other implementations`() {
+
+		val statement = SimpleStatement.newInstance("SELECT * FROM person")
+
+		assertThatIllegalArgumentException().isThrownBy { operations.flow<Person>(statement) }
+		verify(exactly = 0) { operations.select(statement, Person::class.java) }
+	}
+
+	@Test
+	fun `awaitBatch(statements) should execute a batch statement`() {
+
+		val insert = SimpleStatement.newInstance("INSERT INTO person (id) VALUES ('walter')")
+		val resultSet = mockk<AsyncResultSet>()
+
+		every { operations.execute(any<BatchStatement>()) } returns CompletableFuture.completedFuture(resultSet)
+
+		val result = runBlocking { operations.awaitBatch(listOf(insert), BatchType.UNLOGGED) }
+
+		assertThat(result).isSameAs(resultSet)
+		verify {
+			operations.execute(match<BatchStatement> { it.batchType == BatchType.UNLOGGED && it.size() == 1 })
+		}
+	}
+}
@@ -15,10 +15,16 @@
  */
 package org.springframework.data.cassandra.core.cql
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet
 import com.datastax.oss.driver.api.core.cql.Row
 import com.datastax.oss.driver.api.core.cql.SimpleStatement
+import io.mockk.every
 import io.mockk.mockk
 import io.mockk.verify
+import kotlinx.coroutines.flow.take
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.Test
 import org.springframework.data.cassandra.domain.Person
 import java.util.concurrent.CompletableFuture
@@ -105,4 +111,85 @@ class AsyncCqlOperationsExtensionsUnitTests {
 		operations.query("", 3) { row, _ -> row.columnDefinitions }
 		verify { operations.query(eq(""), any<RowMapper<Person>>(), eq(3)) }
 	}
+
+	@Test
+	fun `queryForFlow(Statement) should emit rows of all pages`() {
+
+		val statement = SimpleStatement.newInstance("SELECT * FROM person")
+		every { operations.queryForResultSet(statement) } returns CompletableFuture.completedFuture(pages("a", "b", "c"))
+
+		runBlocking {
+			assertThat(operations.queryForFlow(statement) { row, i -> row.getString(0) + i }.toList())
+				.containsExactly("a0", "b1", "c2")
+		}
+	}
+
+	@Test
+	fun `queryForFlow(Statement) without prefetch should fetch pages on demand`() {
+
+		val statement = SimpleStatement.newInstance("SELECT * FROM person")
+		val first = pages("a", "b", "c")
+		every { operations.queryForResultSet(statement) } returns CompletableFuture.completedFuture(first)
+
+		runBlocking {
+			assertThat(operations.queryForFlow(statement, prefetch = 0) { row, _ -> row.getString(0) }.take(1).toList())
+				.containsExactly("a")
+		}
+
+		verify(exactly = 0) { first.fetchNextPage() }
+	}
+
+	@Test
+	fun `queryForFlow(Statement) with prefetch should request pages ahead`() {
+
+		val statement = SimpleStatement.newInstance("SELECT * FROM person")
+		val first = pages("a", "b", "c")
+		every { operations.queryForResultSet(statement) } returns CompletableFuture.completedFuture(first)
+
+		runBlocking {
+			assertThat(operations.queryForFlow(statement, prefetch = 1) { row, _ -> row.getString(0) }.take(1).toList())
+				.containsExactly("a")
+		}
+
+		verify(exactly = 1) { first.fetchNextPage() }
+	}
+
+	@Test
+	fun `awaitExecute(Statement) should call its Java counterpart`() {
+
+		val statement = SimpleStatement.newInstance("INSERT INTO person (id) VALUES ('walter')")
+		every { operations.execute(statement) } returns CompletableFuture.completedFuture(true)
+
+		runBlocking {
+			assertThat(operations.awaitExecute(statement)).isTrue()
+		}
+	}
+
+	/**
+	 * Create a chain of [AsyncResultSet] pages with one row per page.
+	 */
+	private fun pages(vararg values: String): AsyncResultSet {
+
+		val resultSets = values.map { value ->
+
+			val row = mockk<Row>()
+			every { row.getString(0) } returns value
+
+			val resultSet = mockk<AsyncResultSet>()
+			every { resultSet.currentPage() } returns listOf(row)
+			resultSet
+		}
+
+		resultSets.forEachIndexed { index, resultSet ->
+
+			val hasMorePages = index < resultSets.size - 1
+			every { resultSet.hasMorePages() } returns hasMorePages
+
+			if (hasMorePages) {
+				every { resultSet.fetchNextPage() } returns CompletableFuture.completedFuture(resultSets[index + 1])
+			}
+		}
+
+		return resultSets.first()
+	}
 }